@@ -0,0 +1,58 @@
+package com.ecclesiaflow.application.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Timeout of the streamed member export ({@code GET /ecclesiaflow/members/export}).
+ *
+ * <p>The export body is written asynchronously; a large directory needs longer than
+ * the container default. The longer timeout is applied to that endpoint only, just
+ * before its asynchronous processing starts; every other asynchronous request keeps
+ * the default.</p>
+ */
+@Configuration
+public class MemberExportConfig implements WebMvcConfigurer {
+
+    static final String EXPORT_PATH = "/ecclesiaflow/members/export";
+
+    private final Duration exportTimeout;
+
+    public MemberExportConfig(@Value("${ecclesiaflow.members.export.timeout:30m}") Duration exportTimeout) {
+        this.exportTimeout = exportTimeout;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new ExportTimeoutInterceptor(exportTimeout));
+    }
+
+    /** Sets the export timeout on the export request before it goes asynchronous. */
+    static final class ExportTimeoutInterceptor implements CallableProcessingInterceptor {
+
+        private final Duration timeout;
+
+        ExportTimeoutInterceptor(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        @Override
+        public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+            HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+            if (request instanceof AsyncWebRequest asyncRequest
+                    && servletRequest != null
+                    && servletRequest.getRequestURI().endsWith(EXPORT_PATH)) {
+                asyncRequest.setTimeout(timeout.toMillis());
+            }
+        }
+    }
+}
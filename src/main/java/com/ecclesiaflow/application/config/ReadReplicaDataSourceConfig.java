@@ -0,0 +1,77 @@
+package com.ecclesiaflow.application.config;
+
+import com.ecclesiaflow.io.persistence.datasource.ReadOnlyRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Splits database traffic between the primary and a read replica.
+ *
+ * <p>Read-only transactions ({@code @Transactional(readOnly = true)}) use the
+ * replica, everything else the primary. Each side has its own Hikari pool, named
+ * {@code primary} and {@code replica}, so pool metrics ({@code hikaricp.*}) are
+ * tagged per pool. Active with {@code ecclesiaflow.datasource.replica.enabled=true};
+ * otherwise Spring Boot's single {@code spring.datasource} is used as before.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "ecclesiaflow.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    static final String PRIMARY_POOL = "primary";
+    static final String REPLICA_POOL = "replica";
+
+    /** Primary pool, configured by {@code spring.datasource.*} like the default one. */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(PRIMARY_POOL);
+        return dataSource;
+    }
+
+    /** Replica pool; credentials default to the primary's. */
+    @Bean
+    @ConfigurationProperties("ecclesiaflow.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${ecclesiaflow.datasource.replica.url}") String url,
+            @Value("${ecclesiaflow.datasource.replica.username:}") String username,
+            @Value("${ecclesiaflow.datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username.isEmpty() ? properties.determineUsername() : username)
+                .password(password.isEmpty() ? properties.determinePassword() : password)
+                .build();
+        dataSource.setPoolName(REPLICA_POOL);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Data source used by JPA and JDBC. Connections are only fetched on first use,
+     * once the transaction's read-only flag is known.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReadOnlyRoutingDataSource(primary, replica));
+        return dataSource;
+    }
+}
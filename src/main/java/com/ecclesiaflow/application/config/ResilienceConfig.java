@@ -1,14 +1,17 @@
 package com.ecclesiaflow.application.config;
 
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
-import io.github.resilience4j.retry.RetryConfig;
-import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
 import io.grpc.StatusRuntimeException;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Resilience4j configuration for gRPC clients.
@@ -17,7 +20,8 @@ import java.time.Duration;
 public class ResilienceConfig {
 
     public static final String EMAIL_SERVICE_CB = "emailService";
-    public static final String EMAIL_SERVICE_RETRY = "emailServiceRetry";
+    public static final String EMAIL_SERVICE_BULKHEAD = "emailServiceBulkhead";
+    public static final String EMAIL_SERVICE_TIME_LIMITER = "emailServiceTimeLimiter";
 
     @Bean
     public CircuitBreakerRegistry circuitBreakerRegistry() {
@@ -30,21 +34,36 @@ public class ResilienceConfig {
                 .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
                 .slidingWindowSize(10)
                 .minimumNumberOfCalls(5)
-                .recordExceptions(StatusRuntimeException.class)
+                .recordExceptions(StatusRuntimeException.class, TimeoutException.class)
                 .build();
 
         return CircuitBreakerRegistry.of(config);
     }
 
+    /**
+     * Calls in flight at once; a call beyond the limit fails immediately instead of waiting.
+     */
     @Bean
-    public RetryRegistry retryRegistry() {
-        RetryConfig config = RetryConfig.custom()
-                .maxAttempts(3)
-                .waitDuration(Duration.ofMillis(500))
-                .retryExceptions(StatusRuntimeException.class)
-                .ignoreExceptions(IllegalArgumentException.class)
+    public BulkheadRegistry bulkheadRegistry() {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(25)
+                .maxWaitDuration(Duration.ZERO)
                 .build();
 
-        return RetryRegistry.of(config);
+        return BulkheadRegistry.of(config);
+    }
+
+    /**
+     * Bounds the future returned to the caller, in case the gRPC deadline of the call is
+     * not honoured; kept above the deadline ({@code grpc.email.deadline}).
+     */
+    @Bean
+    public TimeLimiterRegistry timeLimiterRegistry() {
+        TimeLimiterConfig config = TimeLimiterConfig.custom()
+                .timeoutDuration(Duration.ofSeconds(10))
+                .cancelRunningFuture(true)
+                .build();
+
+        return TimeLimiterRegistry.of(config);
     }
 }
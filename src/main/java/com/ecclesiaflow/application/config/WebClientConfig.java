@@ -1,10 +1,16 @@
 package com.ecclesiaflow.application.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 /**
  * Configuration des clients HTTP réactifs pour les appels inter-modules.
@@ -34,6 +40,11 @@ import org.springframework.web.reactive.function.client.WebClient;
  * <ul>
  *   <li>ecclesiaflow.auth.module.base-url : URL de base du module d'authentification</li>
  * </ul>
+ *
+ * <p><strong>Pool de connexions :</strong> les requêtes partagent un pool reactor-netty borné
+ * ({@code max-connections}) ; une requête qui n'obtient pas de connexion dans
+ * {@code pending-acquire-timeout} échoue au lieu d'attendre indéfiniment. Chaque requête est
+ * bornée par {@code connect-timeout} et {@code response-timeout}.</p>
  * 
  * <p><strong>Avantages WebClient :</strong></p>
  * <ul>
@@ -50,6 +61,26 @@ import org.springframework.web.reactive.function.client.WebClient;
 @Configuration
 public class WebClientConfig {
 
+    /**
+     * Pool de connexions partagé par les requêtes vers le module d'authentification.
+     *
+     * @param maxConnections        nombre maximal de connexions ouvertes vers le module
+     * @param pendingAcquireTimeout attente maximale d'une connexion libre
+     * @param maxIdleTime           durée après laquelle une connexion inutilisée est fermée
+     * @return le pool, libéré à l'arrêt du contexte
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider authConnectionProvider(
+            @Value("${ecclesiaflow.auth.module.max-connections:50}") int maxConnections,
+            @Value("${ecclesiaflow.auth.module.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+            @Value("${ecclesiaflow.auth.module.max-idle-time:30s}") Duration maxIdleTime) {
+        return ConnectionProvider.builder("auth-module")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .build();
+    }
+
     /**
      * Configure le client HTTP pour communiquer avec le module d'authentification.
      * <p>
@@ -59,12 +90,22 @@ public class WebClientConfig {
      * </p>
      * 
      * @param baseUrl l'URL de base du module d'authentification (depuis les propriétés)
+     * @param authConnectionProvider le pool de connexions du module d'authentification
+     * @param connectTimeout délai maximal d'établissement d'une connexion
+     * @param responseTimeout délai maximal d'attente de la réponse, une fois la requête envoyée
      * @return client WebClient configuré pour le module d'authentification
      */
     @Bean
-    public WebClient authWebClient(@Value("${ecclesiaflow.auth.module.base-url}") String baseUrl) {
+    public WebClient authWebClient(@Value("${ecclesiaflow.auth.module.base-url}") String baseUrl,
+                                   ConnectionProvider authConnectionProvider,
+                                   @Value("${ecclesiaflow.auth.module.connect-timeout:2s}") Duration connectTimeout,
+                                   @Value("${ecclesiaflow.auth.module.response-timeout:5s}") Duration responseTimeout) {
+        HttpClient httpClient = HttpClient.create(authConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(connectTimeout.toMillis()))
+                .responseTimeout(responseTimeout);
         return WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
 }
@@ -1,10 +1,10 @@
 package com.ecclesiaflow.application.handlers;
 
-import com.ecclesiaflow.business.domain.communication.EmailClient;
+import com.ecclesiaflow.business.domain.communication.EmailOutbox;
+import com.ecclesiaflow.business.domain.communication.OutboundEmail;
 import com.ecclesiaflow.business.domain.events.MemberRegisteredEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -13,30 +13,30 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * Handler d'événements pour l'inscription de nouveaux membres.
  * 
  * <p>Cette classe écoute les événements métier {@link MemberRegisteredEvent}
- * et orchestre les actions techniques nécessaires (construction d'URLs, envoi d'emails via gRPC).</p>
+ * et orchestre les actions techniques nécessaires (construction d'URLs, mise en boîte d'envoi de l'email).</p>
  * 
  * <p><strong>Architecture :</strong></p>
  * <pre>
  * Business (Services) → publie MemberRegisteredEvent
- *         ↓ (après transaction COMMIT)
- * Application (Handler) → écoute + transforme + orchestre
- *         ↓
- * Infrastructure (EmailGrpcClient) → appel gRPC vers Module Email
+ *         ↓ (avant COMMIT, dans la même transaction)
+ * Application (Handler) → écoute + transforme + enregistre dans email_outbox
+ *         ↓ (après COMMIT)
+ * EmailOutboxRelay → SendBulkEmails gRPC vers Module Email
  * </pre>
  * 
  * <p><strong>Responsabilités :</strong></p>
  * <ul>
  *   <li>Transformation des événements métier en actions techniques</li>
  *   <li>Construction des URLs de confirmation (concerne Application/Web)</li>
- *   <li>Orchestration des appels vers l'infrastructure (EmailClient)</li>
- *   <li>Exécution asynchrone APRÈS commit pour ne pas bloquer les transactions</li>
+ *   <li>Enregistrement de l'email dans la boîte d'envoi ({@link EmailOutbox})</li>
  * </ul>
  * 
  * <p><strong>Garanties transactionnelles :</strong></p>
  * <ul>
- *   <li>Utilise {@code @TransactionalEventListener(AFTER_COMMIT)}</li>
+ *   <li>Utilise {@code @TransactionalEventListener(BEFORE_COMMIT)}</li>
  *   <li>Email envoyé UNIQUEMENT si la transaction d'inscription réussit</li>
- *   <li>Si rollback → handler jamais appelé, pas d'email parasite envoyé</li>
+ *   <li>Si rollback → ligne d'outbox annulée avec le reste, pas d'email parasite envoyé</li>
+ *   <li>Module Email indisponible → l'email attend dans l'outbox, il n'est pas perdu</li>
  * </ul>
  * 
  * <p><strong>Note :</strong> Similaire à {@code PasswordEventHandler} du module Auth
@@ -45,14 +45,14 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * @author EcclesiaFlow Team
  * @since 1.0.0
  * @see MemberRegisteredEvent
- * @see EmailClient
+ * @see EmailOutbox
  * @see TransactionalEventListener
  */
 @Component
 @RequiredArgsConstructor
 public class MemberRegistrationEventHandler {
 
-    private final EmailClient emailClient;
+    private final EmailOutbox emailOutbox;
     
     @Value("${ecclesiaflow.members.base-url:http://localhost:8080}")
     private String baseUrl;
@@ -66,34 +66,24 @@ public class MemberRegistrationEventHandler {
      * <p>Processus :</p>
      * <ol>
      *   <li>Construction du lien de confirmation avec token UUID</li>
-     *   <li>Envoi de l'email de confirmation via EmailClient (gRPC)</li>
+     *   <li>Enregistrement de l'email de confirmation dans l'outbox</li>
      * </ol>
      * 
      * <p><strong>Garanties transactionnelles :</strong></p>
      * <ul>
-     *   <li>Exécuté UNIQUEMENT après commit réussi de la transaction</li>
-     *   <li>Si rollback → méthode jamais appelée, pas d'email envoyé</li>
+     *   <li>Exécuté juste avant le commit, dans la transaction de l'inscription</li>
+     *   <li>Si l'enregistrement échoue → l'inscription est annulée avec lui</li>
      * </ul>
      * 
-     * <p><strong>Exécution asynchrone :</strong> Utilise le pool de threads
-     * {@code emailTaskExecutor} pour ne pas bloquer le thread principal.</p>
-     * 
-     * <p><strong>Gestion des erreurs :</strong> Les exceptions sont capturées
-     * pour ne pas impacter la transaction métier (déjà committée). Le logging
-     * est géré par les aspects AOP.</p>
+     * <p>Aucun appel réseau n'est fait ici : l'envoi est assuré par {@code EmailOutboxRelay}.
+     * Le logging est géré par les aspects AOP.</p>
      * 
      * @param event événement contenant email, token et prénom du membre
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Async("emailTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleMemberRegistered(MemberRegisteredEvent event) {
-        try {
-            String confirmationUrl = buildConfirmationUrl(event.confirmationToken().toString());
-            emailClient.sendConfirmationEmail(event.email(), confirmationUrl, event.firstName());
-        } catch (Exception e) {
-            // Exception captured to not impact the business transaction
-            // Logging is handled by AOP aspects
-        }
+        String confirmationUrl = buildConfirmationUrl(event.confirmationToken().toString());
+        emailOutbox.enqueue(OutboundEmail.confirmation(event.email(), confirmationUrl, event.firstName()));
     }
 
     /**
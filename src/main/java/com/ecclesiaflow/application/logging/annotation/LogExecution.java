@@ -51,7 +51,8 @@ public @interface LogExecution {
      * Niveau de log pour cette exécution.
      * <p>
      * Détermine l'importance du message de log. Les valeurs supportées
-     * sont : INFO, WARN, ERROR, DEBUG.
+     * sont : TRACE, DEBUG, INFO, WARN, ERROR (une autre valeur vaut INFO).
+     * Si ce niveau n'est pas actif, rien n'est formaté ni loggé, sauf un échec.
      * </p>
      * 
      * @return le niveau de log, INFO par défaut
@@ -72,8 +73,8 @@ public @interface LogExecution {
     /**
      * Indique si la durée d'exécution doit être mesurée et loggée.
      * <p>
-     * Utile pour le monitoring des performances et l'identification
-     * des goulots d'étranglement dans l'application.
+     * Utile pour le debugging ponctuel ; la latence des services est suivie
+     * par les timers {@code ecclesiaflow.service.calls}.
      * </p>
      * 
      * @return true pour mesurer la durée, true par défaut
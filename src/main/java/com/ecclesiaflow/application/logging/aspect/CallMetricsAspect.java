@@ -0,0 +1,174 @@
+package com.ecclesiaflow.application.logging.aspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aspect AOP mesurant la latence des méthodes de service et des clients sortants.
+ * <p>
+ * Chaque appel est enregistré dans un {@link Timer} Micrometer par méthode, au lieu d'être
+ * encadré par des logs : {@code ecclesiaflow.service.calls} pour
+ * {@code com.ecclesiaflow.business.services..*} et {@code ecclesiaflow.client.calls} pour les
+ * clients Auth (gRPC et REST) et Email. Les timers portent les tags {@code class},
+ * {@code method} et {@code outcome=success|error} ; leurs histogrammes sont configurés par
+ * {@code management.metrics.distribution.*}, les quantiles étant calculés par le backend.
+ * Pour une méthode qui rend un {@link CompletionStage}, l'appel est enregistré quand le
+ * future est complété.
+ * </p>
+ *
+ * <p><strong>Rôle architectural :</strong> Aspect transversal - Métriques de latence</p>
+ *
+ * <p><strong>Appels lents :</strong> un appel plus long que {@code slow-call-threshold} est
+ * loggé en WARN, au plus une fois par méthode toutes les {@code slow-call-log-interval} ;
+ * le log indique le nombre d'appels lents depuis le précédent.</p>
+ *
+ * <p><strong>Garanties :</strong> Thread-safe. Les timers sont résolus une fois par méthode ;
+ * un appel ne coûte ensuite qu'une lecture de map, deux {@code nanoTime} et un enregistrement.</p>
+ *
+ * @author EcclesiaFlow Team
+ * @since 2.0.0
+ */
+@Slf4j
+@Aspect
+@Component
+public class CallMetricsAspect {
+
+    static final String SERVICE_CALLS = "ecclesiaflow.service.calls";
+    static final String CLIENT_CALLS = "ecclesiaflow.client.calls";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowCallThresholdNanos;
+    private final long slowCallLogIntervalNanos;
+    private final Map<Method, CallMeters> callMeters = new ConcurrentHashMap<>();
+
+    public CallMetricsAspect(
+            MeterRegistry meterRegistry,
+            @Value("${ecclesiaflow.observability.slow-call-threshold:1s}") Duration slowCallThreshold,
+            @Value("${ecclesiaflow.observability.slow-call-log-interval:10s}") Duration slowCallLogInterval) {
+        this.meterRegistry = meterRegistry;
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.slowCallLogIntervalNanos = slowCallLogInterval.toNanos();
+    }
+
+    /**
+     * Pointcut pour toutes les méthodes des services
+     */
+    @Pointcut("execution(* com.ecclesiaflow.business.services..*(..))")
+    public void serviceMethods() {}
+
+    /**
+     * Pointcut pour les appels sortants vers les modules Auth et Email
+     */
+    @Pointcut("execution(public * com.ecclesiaflow.io.grpc.client.AuthGrpcClient.*(..))"
+            + " || execution(public * com.ecclesiaflow.io.communication.email.EmailGrpcClient.*(..))"
+            + " || execution(public * com.ecclesiaflow.web.client.AuthClientImpl.*(..))")
+    public void clientCalls() {}
+
+    @Around("serviceMethods()")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, SERVICE_CALLS);
+    }
+
+    @Around("clientCalls()")
+    public Object timeClientCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, CLIENT_CALLS);
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String metricName) throws Throwable {
+        CallMeters meters = metersFor(joinPoint, metricName);
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof CompletionStage<?> pending) {
+                pending.whenComplete((value, error) -> meters.record(error == null ? meters.success : meters.error, start));
+            } else {
+                meters.record(meters.success, start);
+            }
+            return result;
+        } catch (Throwable e) {
+            meters.record(meters.error, start);
+            throw e;
+        }
+    }
+
+    private CallMeters metersFor(ProceedingJoinPoint joinPoint, String metricName) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        CallMeters meters = callMeters.get(method);
+        if (meters == null) {
+            String className = ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName();
+            meters = callMeters.computeIfAbsent(method, m -> new CallMeters(metricName, className, m.getName()));
+        }
+        return meters;
+    }
+
+    /** Timers d'une méthode et état de l'échantillonnage de ses logs d'appels lents. */
+    private final class CallMeters {
+
+        private final String layer;
+        private final String className;
+        private final String methodName;
+        private final Timer success;
+        private final Timer error;
+        private final LongAdder slowCalls = new LongAdder();
+        private final AtomicLong lastSlowLog;
+
+        CallMeters(String metricName, String className, String methodName) {
+            boolean service = SERVICE_CALLS.equals(metricName);
+            String description = service
+                    ? "Latency of service methods"
+                    : "Latency of outbound calls to the Auth and Email modules";
+            this.layer = service ? "SERVICE" : "CLIENT";
+            this.className = className;
+            this.methodName = methodName;
+            this.success = timer(metricName, description, "success");
+            this.error = timer(metricName, description, "error");
+            this.lastSlowLog = new AtomicLong(System.nanoTime() - slowCallLogIntervalNanos);
+        }
+
+        void record(Timer timer, long start) {
+            long end = System.nanoTime();
+            long elapsed = end - start;
+            timer.record(elapsed, TimeUnit.NANOSECONDS);
+            if (elapsed >= slowCallThresholdNanos) {
+                logSlowCall(elapsed, end);
+            }
+        }
+
+        private void logSlowCall(long elapsed, long now) {
+            slowCalls.increment();
+            long last = lastSlowLog.get();
+            if (now - last >= slowCallLogIntervalNanos && lastSlowLog.compareAndSet(last, now)) {
+                log.warn("{}: {}.{} - Exécution lente ({}ms, {} appel(s) lent(s) depuis le dernier signalement)",
+                        layer, className, methodName, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                        slowCalls.sumThenReset());
+            }
+        }
+
+        private Timer timer(String metricName, String description, String outcome) {
+            return Timer.builder(metricName)
+                    .description(description)
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -13,6 +13,9 @@ import org.springframework.stereotype.Component;
 
 /**
  * AOP logging aspect for Email gRPC client with circuit breaker support.
+ * <p>Only failures are logged. Successful calls are counted and timed by the
+ * {@code ecclesiaflow.client.calls} timer ({@link CallMetricsAspect}). Failures of an
+ * asynchronous call complete its future and are logged by the caller.</p>
  */
 @Slf4j
 @Aspect
@@ -23,27 +26,16 @@ public class EmailGrpcClientLoggingAspect {
     @Pointcut("execution(* com.ecclesiaflow.io.communication.email.EmailGrpcClient.*(..))")
     public void emailGrpcClientCalls() {}
 
-    @Before("emailGrpcClientCalls()")
-    public void logBeforeEmailRpcCall(JoinPoint joinPoint) {
-        String methodName = joinPoint.getSignature().getName();
-        log.debug("GRPC-EMAIL: Calling EmailService.{}", methodName);
-    }
-
-    @AfterReturning(pointcut = "emailGrpcClientCalls()", returning = "result")
-    public void logAfterSuccessfulEmailRpcCall(JoinPoint joinPoint, Object result) {
-        String methodName = joinPoint.getSignature().getName();
-        String maskedResult = result != null ? SecurityMaskingUtils.maskId(result) : "void";
-        log.info("GRPC-EMAIL: EmailService.{} completed - result={}", methodName, maskedResult);
-    }
-
     @AfterThrowing(pointcut = "emailGrpcClientCalls()", throwing = "exception")
     public void logEmailRpcCallError(JoinPoint joinPoint, Exception exception) {
-        String methodName = joinPoint.getSignature().getName();
+        logError(joinPoint.getSignature().getName(), exception);
+    }
 
+    private void logError(String methodName, Throwable exception) {
         if (exception instanceof CallNotPermittedException) {
             log.warn("GRPC-EMAIL: Circuit breaker OPEN for EmailService.{}", methodName);
         } else if (exception instanceof EmailServiceUnavailableException) {
-            log.error("GRPC-EMAIL: Service unavailable during {} - fallback triggered", methodName);
+            log.error("GRPC-EMAIL: Service unavailable during {} - call not attempted", methodName);
         } else if (exception instanceof EmailServiceException ese) {
             log.error("GRPC-EMAIL: Failed {} for {} - operation={}", 
                     methodName, 
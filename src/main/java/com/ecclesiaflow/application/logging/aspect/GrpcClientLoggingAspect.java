@@ -10,8 +10,12 @@ import org.springframework.stereotype.Component;
  * Aspect AOP dédié au logging des appels gRPC sortants du module Members.
  * <p>
  * Cette classe implémente un aspect spécialisé dans le logging des communications
- * gRPC entre le module Members et le module Auth. Elle capture les appels sortants,
- * les erreurs de communication et les métriques de performance.
+ * gRPC entre le module Members et le module Auth. Elle capture la fermeture du canal
+ * et les erreurs de communication.
+ * </p>
+ * <p>
+ * Les appels réussis ne sont plus loggés : leur latence est publiée par le timer
+ * {@code ecclesiaflow.client.calls} ({@link CallMetricsAspect}).
  * </p>
  *
  * <p><strong>Rôle architectural :</strong> Aspect infrastructure - Audit des communications gRPC</p>
@@ -26,7 +30,6 @@ import org.springframework.stereotype.Component;
  *
  * <p><strong>Responsabilités principales :</strong></p>
  * <ul>
- *   <li>Logging des appels RPC sortants (GenerateTemporaryToken, ValidateToken)</li>
  *   <li>Capture des erreurs de communication gRPC</li>
  *   <li>Audit des interactions avec le module Auth</li>
  *   <li>Traçabilité des timeouts et problèmes réseau</li>
@@ -37,7 +40,6 @@ import org.springframework.stereotype.Component;
  * <ul>
  *   <li>Audit de sécurité des communications inter-services</li>
  *   <li>Debugging des problèmes de communication</li>
- *   <li>Monitoring de la latence des appels gRPC</li>
  *   <li>Détection proactive des pannes du service Auth</li>
  * </ul>
  *
@@ -113,49 +115,9 @@ public class GrpcClientLoggingAspect {
     }
 
     // ========================================================================
-    // Advices - Appels RPC sortants
+    // Advices - Erreurs des appels RPC sortants
     // ========================================================================
 
-    /**
-     * Log avant chaque appel RPC sortant vers le module Auth.
-     * <p>
-     * Capture les informations de base de l'appel pour traçabilité inter-modules.
-     * </p>
-     *
-     * @param joinPoint point de jonction contenant le nom de la méthode
-     */
-    @Before("grpcClientCalls()")
-    public void logBeforeRpcCall(JoinPoint joinPoint) {
-        String methodName = joinPoint.getSignature().getName();
-        
-        // Log selon le type de RPC
-        if ("generateTemporaryToken".equals(methodName)) {
-            log.info("GRPC-CLIENT: Calling Auth.{} via gRPC", methodName);
-        } else {
-            log.debug("GRPC-CLIENT: Calling Auth.{} via gRPC", methodName);
-        }
-    }
-
-    /**
-     * Log après succès d'un appel RPC.
-     * <p>
-     * Confirme que l'appel vers le module Auth s'est terminé avec succès.
-     * </p>
-     *
-     * @param joinPoint point de jonction
-     * @param result le résultat retourné par la méthode
-     */
-    @AfterReturning(pointcut = "grpcClientCalls()", returning = "result")
-    public void logAfterSuccessfulRpcCall(JoinPoint joinPoint, Object result) {
-        String methodName = joinPoint.getSignature().getName();
-        
-        if ("generateTemporaryToken".equals(methodName)) {
-            log.info("GRPC-CLIENT: Auth.{} completed successfully", methodName);
-        } else {
-            log.debug("GRPC-CLIENT: Auth.{} completed successfully", methodName);
-        }
-    }
-
     /**
      * Log des erreurs lors des appels RPC.
      * <p>
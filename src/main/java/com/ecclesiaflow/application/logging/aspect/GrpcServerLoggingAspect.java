@@ -10,8 +10,13 @@ import org.springframework.stereotype.Component;
  * Aspect AOP dédié au logging des opérations gRPC serveur du module Members.
  * <p>
  * Cette classe implémente un aspect spécialisé dans le logging des communications
- * gRPC entrantes sur le module Members. Elle capture les appels RPC depuis d'autres
- * modules (Auth, etc.), les erreurs de traitement et les métriques de performance.
+ * gRPC entrantes sur le module Members. Elle capture le cycle de vie du serveur et
+ * les erreurs de traitement des appels RPC venant d'autres modules (Auth, etc.).
+ * </p>
+ * <p>
+ * Les appels eux-mêmes ne sont plus loggés : leur nombre, leur statut et leur latence
+ * sont publiés par {@code grpc.server.processing.duration} (intercepteur Micrometer
+ * installé par {@code GrpcServerConfig}).
  * </p>
  *
  * <p><strong>Rôle architectural :</strong> Aspect infrastructure - Audit des communications gRPC</p>
@@ -19,7 +24,6 @@ import org.springframework.stereotype.Component;
  * <p><strong>Responsabilités principales :</strong></p>
  * <ul>
  *   <li>Logging des démarrages/arrêts du serveur gRPC Members</li>
- *   <li>Audit des appels RPC entrants (GetMemberConfirmationStatus, CheckMemberExists)</li>
  *   <li>Capture des erreurs de traitement gRPC</li>
  *   <li>Traçabilité inter-modules (Auth → Members)</li>
  * </ul>
@@ -81,31 +85,9 @@ public class GrpcServerLoggingAspect {
     }
 
     // ========================================================================
-    // Advices - Appels RPC entrants
+    // Advices - Erreurs des appels RPC entrants
     // ========================================================================
 
-    @Before("grpcServiceCalls()")
-    public void logBeforeRpcCall(JoinPoint joinPoint) {
-        String methodName = joinPoint.getSignature().getName();
-        
-        if ("getMemberConfirmationStatus".equals(methodName)) {
-            log.info("GRPC-RPC: Received {} request from Auth module", methodName);
-        } else {
-            log.debug("GRPC-RPC: Received {} request", methodName);
-        }
-    }
-
-    @AfterReturning("grpcServiceCalls()")
-    public void logAfterSuccessfulRpcCall(JoinPoint joinPoint) {
-        String methodName = joinPoint.getSignature().getName();
-        
-        if ("getMemberConfirmationStatus".equals(methodName)) {
-            log.info("GRPC-RPC: {} completed successfully", methodName);
-        } else {
-            log.debug("GRPC-RPC: {} completed successfully", methodName);
-        }
-    }
-
     @AfterThrowing(pointcut = "grpcServiceCalls()", throwing = "exception")
     public void logRpcCallError(JoinPoint joinPoint, Exception exception) {
         String methodName = joinPoint.getSignature().getName();
@@ -5,16 +5,24 @@ import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
+import org.slf4j.event.Level;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Aspect AOP responsable du logging automatique des opérations critiques EcclesiaFlow.
  * <p>
  * Cette classe implémente la programmation orientée aspect pour capturer automatiquement
- * les appels de méthodes dans les services et contrôleurs, et générer des logs détaillés
- * pour le monitoring, le debugging et l'audit des opérations système.
+ * les exceptions des services et contrôleurs, et les exécutions des méthodes annotées
+ * {@link LogExecution}, pour le debugging et l'audit des opérations système.
+ * </p>
+ * <p>
+ * La latence des services et des clients sortants n'est plus mesurée par des logs mais par
+ * des timers Micrometer ({@link CallMetricsAspect}), et celle des contrôleurs par
+ * {@code http.server.requests}.
  * </p>
  * 
  * <p><strong>Rôle architectural :</strong> Aspect transversal - Logging automatique</p>
@@ -28,16 +36,13 @@ import java.util.Arrays;
  * 
  * <p><strong>Responsabilités principales :</strong></p>
  * <ul>
- *   <li>Logging automatique des entrées/sorties de méthodes</li>
  *   <li>Capture des exceptions et erreurs système</li>
- *   <li>Mesure des temps d'exécution pour le monitoring</li>
  *   <li>Logging configurable via annotation @LogExecution</li>
  * </ul>
  * 
  * <p><strong>Cas d'utilisation typiques :</strong></p>
  * <ul>
  *   <li>Debugging des flux d'authentification</li>
- *   <li>Monitoring des performances des services</li>
  *   <li>Audit des opérations sensibles (inscription, connexion)</li>
  *   <li>Traçabilité des erreurs en production</li>
  * </ul>
@@ -71,87 +76,69 @@ public class LoggingAspect {
     public void logExecutionAnnotatedMethods() {}
 
     /**
-     * Log générique pour les méthodes de service avec gestion des performances
-     */
-    @Around("serviceMethods()")
-    public Object logServiceMethods(ProceedingJoinPoint joinPoint) throws Throwable {
-        return logMethodExecution(joinPoint, "SERVICE");
-    }
-
-    /**
-     * Log pour les méthodes annotées avec @LogExecution (configuration flexible)
+     * Log pour les méthodes annotées avec @LogExecution (configuration flexible).
+     * <p>
+     * Le niveau de {@link LogExecution#level()} est respecté : quand il n'est pas actif, le
+     * message n'est pas construit et seul un échec est loggé (en ERROR).
+     * </p>
      */
     @Around("logExecutionAnnotatedMethods() && @annotation(logExecution)")
     public Object logAnnotatedMethods(ProceedingJoinPoint joinPoint, LogExecution logExecution) throws Throwable {
-        String methodName = joinPoint.getSignature().getName();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        long startTime = System.currentTimeMillis();
-        
-        String message = logExecution.value().isEmpty() ? 
-            String.format("%s.%s", className, methodName) : logExecution.value();
-        
-        // Log des paramètres si demandé
-        if (logExecution.includeParams()) {
-            Object[] args = joinPoint.getArgs();
-            log.info("Début: {} - Paramètres: {}", message, Arrays.toString(args));
-        } else {
-            log.info("Début: {}", message);
+        Level level = levelOf(logExecution.level());
+        boolean enabled = log.isEnabledForLevel(level);
+        String message = enabled ? describe(joinPoint, logExecution) : null;
+
+        if (enabled) {
+            // Log des paramètres si demandé
+            if (logExecution.includeParams()) {
+                log.atLevel(level).log("Début: {} - Paramètres: {}", message, Arrays.toString(joinPoint.getArgs()));
+            } else {
+                log.atLevel(level).log("Début: {}", message);
+            }
         }
-        
+
+        long startTime = System.nanoTime();
         try {
             Object result = joinPoint.proceed();
-            
-            if (logExecution.includeExecutionTime()) {
-                long executionTime = System.currentTimeMillis() - startTime;
-                log.info("Succès: {} ({}ms)", message, executionTime);
-            } else {
-                log.info("Succès: {}", message);
+
+            if (enabled) {
+                if (logExecution.includeExecutionTime()) {
+                    log.atLevel(level).log("Succès: {} ({}ms)", message, elapsedMillis(startTime));
+                } else {
+                    log.atLevel(level).log("Succès: {}", message);
+                }
             }
-            
+
             return result;
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("Échec: {} ({}ms) - {}", message, executionTime, e.getMessage());
+            log.error("Échec: {} ({}ms) - {}", message != null ? message : describe(joinPoint, logExecution),
+                    elapsedMillis(startTime), e.getMessage());
             throw e;
         }
     }
 
-    /**
-     * Log des appels aux contrôleurs (niveau DEBUG pour éviter le spam)
-     */
-    @Before("controllerMethods()")
-    public void logControllerAccess(JoinPoint joinPoint) {
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
-        log.debug("API: {}.{}", className, methodName);
+    private static String describe(ProceedingJoinPoint joinPoint, LogExecution logExecution) {
+        if (!logExecution.value().isEmpty()) {
+            return logExecution.value();
+        }
+        return joinPoint.getTarget().getClass().getSimpleName() + "." + joinPoint.getSignature().getName();
     }
 
-    /**
-     * Méthode utilitaire pour le logging générique des méthodes
-     */
-    private Object logMethodExecution(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
-        long startTime = System.currentTimeMillis();
-        
-        log.debug("{}: Début {}.{}", layer, className, methodName);
-        
-        try {
-            Object result = joinPoint.proceed();
-            long executionTime = System.currentTimeMillis() - startTime;
-            
-            if (executionTime > 1000) { // Log si > 1 seconde
-                log.warn("{}: {}.{} - Exécution lente ({}ms)", layer, className, methodName, executionTime);
-            } else {
-                log.debug("{}: {}.{} - Succès ({}ms)", layer, className, methodName, executionTime);
-            }
-            
-            return result;
-        } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("{}: {}.{} - Échec ({}ms): {}", layer, className, methodName, executionTime, e.getMessage());
-            throw e;
+    private static Level levelOf(String name) {
+        if (name == null) {
+            return Level.INFO;
         }
+        return switch (name.toUpperCase(Locale.ROOT)) {
+            case "TRACE" -> Level.TRACE;
+            case "DEBUG" -> Level.DEBUG;
+            case "WARN" -> Level.WARN;
+            case "ERROR" -> Level.ERROR;
+            default -> Level.INFO;
+        };
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
     }
 
     /**
@@ -0,0 +1,227 @@
+package com.ecclesiaflow.application.scheduler;
+
+import com.ecclesiaflow.application.logging.SecurityMaskingUtils;
+import com.ecclesiaflow.business.domain.communication.AsyncEmailClient;
+import com.ecclesiaflow.business.domain.communication.EmailOutbox;
+import com.ecclesiaflow.business.domain.communication.EmailSendResult;
+import com.ecclesiaflow.business.domain.communication.OutboxEntry;
+import com.ecclesiaflow.business.domain.communication.OutboxOutcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scheduled task that sends the emails of the {@link EmailOutbox}.
+ *
+ * <p>Polls every {@code poll-interval}, on every node. Each node claims batches of up to
+ * {@code batch-size} due emails ({@code SELECT ... FOR UPDATE SKIP LOCKED}, then a claim
+ * lease of {@code claim-lease}), so several nodes share the outbox instead of sending an
+ * email twice. Each batch is sent with one non-blocking {@code SendBulkEmails} call
+ * ({@link AsyncEmailClient}), outside any transaction; up to {@code max-in-flight-batches}
+ * calls are in flight while the next batches are claimed, and the outcome of every email is
+ * recorded in one short transaction per batch, in claim order. A run stops claiming after
+ * {@code max-batches-per-run} batches, when a batch comes back partial, or when a whole
+ * batch could not be sent.</p>
+ *
+ * <p>Emails that were not accepted are retried after an exponential backoff starting at
+ * {@code retry-backoff} and capped at {@code max-retry-backoff}; after
+ * {@code max-attempts} attempts they are marked FAILED and logged. Emails claimed by a
+ * node that stopped are retried once their lease expires.</p>
+ *
+ * <p>Metrics, tagged {@code node}: {@code ecclesiaflow.email.outbox.emails} (emails
+ * processed, tag {@code outcome=sent|retried|failed}; its rate is the relay throughput),
+ * {@code ecclesiaflow.email.outbox.batch} (latency of each {@code SendBulkEmails} call),
+ * {@code ecclesiaflow.email.outbox.depth} (PENDING emails) and
+ * {@code ecclesiaflow.email.outbox.age} (age of the oldest PENDING email, in seconds),
+ * both refreshed after each run.</p>
+ */
+@Slf4j
+@Component
+public class EmailOutboxRelay {
+
+    private final EmailOutbox emailOutbox;
+    private final AsyncEmailClient emailClient;
+    private final String nodeId;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxInFlightBatches;
+    private final int maxAttempts;
+    private final Duration claimLease;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Timer batchLatency;
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong ageSeconds = new AtomicLong();
+
+    public EmailOutboxRelay(
+            EmailOutbox emailOutbox,
+            AsyncEmailClient emailClient,
+            MeterRegistry meterRegistry,
+            @Value("${ecclesiaflow.cluster.node-id:${HOSTNAME:local}}") String nodeId,
+            @Value("${ecclesiaflow.email.outbox.batch-size:100}") int batchSize,
+            @Value("${ecclesiaflow.email.outbox.max-batches-per-run:50}") int maxBatchesPerRun,
+            @Value("${ecclesiaflow.email.outbox.max-in-flight-batches:4}") int maxInFlightBatches,
+            @Value("${ecclesiaflow.email.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${ecclesiaflow.email.outbox.claim-lease:2m}") Duration claimLease,
+            @Value("${ecclesiaflow.email.outbox.retry-backoff:30s}") Duration retryBackoff,
+            @Value("${ecclesiaflow.email.outbox.max-retry-backoff:1h}") Duration maxRetryBackoff) {
+        if (batchSize <= 0 || maxBatchesPerRun <= 0 || maxInFlightBatches <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException(
+                    "Outbox batch size, max batches per run, max in-flight batches and max attempts must be greater than zero");
+        }
+        this.emailOutbox = emailOutbox;
+        this.emailClient = emailClient;
+        this.nodeId = nodeId;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.maxAttempts = maxAttempts;
+        this.claimLease = claimLease;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.sentCounter = emailsCounter(meterRegistry, "sent");
+        this.retriedCounter = emailsCounter(meterRegistry, "retried");
+        this.failedCounter = emailsCounter(meterRegistry, "failed");
+        this.batchLatency = Timer.builder("ecclesiaflow.email.outbox.batch")
+                .description("Duration of one SendBulkEmails call made by the outbox relay")
+                .tag("node", nodeId)
+                .register(meterRegistry);
+        Gauge.builder("ecclesiaflow.email.outbox.depth", depth, AtomicLong::get)
+                .description("Emails waiting in the outbox (PENDING) after the last relay run")
+                .tag("node", nodeId)
+                .register(meterRegistry);
+        Gauge.builder("ecclesiaflow.email.outbox.age", ageSeconds, AtomicLong::get)
+                .description("Age of the oldest email waiting in the outbox after the last relay run")
+                .baseUnit("seconds")
+                .tag("node", nodeId)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${ecclesiaflow.email.outbox.poll-interval:1s}")
+    public void relay() {
+        Deque<InFlightBatch> inFlight = new ArrayDeque<>(maxInFlightBatches);
+        try {
+            int batches = 0;
+            boolean more = true;
+            do {
+                while (more && inFlight.size() < maxInFlightBatches && batches < maxBatchesPerRun) {
+                    List<OutboxEntry> batch = emailOutbox.claimDue(batchSize, claimLease);
+                    if (batch.isEmpty()) {
+                        more = false;
+                        break;
+                    }
+                    inFlight.addLast(send(batch));
+                    more = batch.size() == batchSize;
+                    batches++;
+                }
+                if (!inFlight.isEmpty() && !record(inFlight.removeFirst())) {
+                    more = false;
+                }
+            } while (!inFlight.isEmpty() || (more && batches < maxBatchesPerRun));
+
+            depth.set(emailOutbox.countPending());
+            ageSeconds.set(emailOutbox.oldestPendingCreatedAt()
+                    .map(createdAt -> Math.max(0, Duration.between(createdAt, LocalDateTime.now()).toSeconds()))
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.error("Email outbox relay: failed on node {}; claimed emails are retried when their lease expires",
+                    nodeId, e);
+        }
+    }
+
+    /** Starts the {@code SendBulkEmails} call of one claimed batch, without waiting for it. */
+    private InFlightBatch send(List<OutboxEntry> batch) {
+        Timer.Sample sample = Timer.start();
+        CompletableFuture<List<EmailSendResult>> call;
+        try {
+            call = emailClient.sendBatchAsync(batch.stream().map(OutboxEntry::email).toList());
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        return new InFlightBatch(batch, call.whenComplete((results, error) -> sample.stop(batchLatency)));
+    }
+
+    /**
+     * Waits for the call of one batch, at most its deadline, and records the outcome of each email.
+     *
+     * @return false if the call itself failed, so no email of the batch was accepted
+     */
+    private boolean record(InFlightBatch inFlight) {
+        List<OutboxEntry> batch = inFlight.batch();
+        List<OutboundEmailResult> results = new ArrayList<>(batch.size());
+        boolean delivered;
+        try {
+            List<EmailSendResult> sendResults = inFlight.call().join();
+            for (int i = 0; i < batch.size(); i++) {
+                results.add(new OutboundEmailResult(batch.get(i), sendResults.get(i)));
+            }
+            delivered = true;
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            EmailSendResult rejected = EmailSendResult.rejected(SecurityMaskingUtils.rootMessage(cause));
+            batch.forEach(entry -> results.add(new OutboundEmailResult(entry, rejected)));
+            log.warn("Email outbox relay: batch of {} email(s) not sent on node {} - {}",
+                    batch.size(), nodeId, rejected.error());
+            delivered = false;
+        }
+
+        emailOutbox.recordOutcomes(results.stream().map(this::outcome).toList());
+        return delivered;
+    }
+
+    private OutboxOutcome outcome(OutboundEmailResult result) {
+        OutboxEntry entry = result.entry();
+        if (result.sendResult().isAccepted()) {
+            sentCounter.increment();
+            return OutboxOutcome.sent(entry.id(), result.sendResult().emailId());
+        }
+        String error = result.sendResult().error();
+        if (entry.attempts() >= maxAttempts) {
+            failedCounter.increment();
+            log.error("Email outbox relay: giving up on {} email to {} after {} attempt(s) - {}",
+                    entry.email().operation(), SecurityMaskingUtils.maskEmail(entry.email().recipient()),
+                    entry.attempts(), error);
+            return OutboxOutcome.failed(entry.id(), error);
+        }
+        retriedCounter.increment();
+        return OutboxOutcome.retry(entry.id(), LocalDateTime.now().plus(backoff(entry.attempts())), error);
+    }
+
+    /** {@code retry-backoff × 2^(attempts - 1)}, capped at {@code max-retry-backoff}. */
+    Duration backoff(int attempts) {
+        Duration delay = retryBackoff.multipliedBy(1L << Math.clamp(attempts - 1, 0, 20));
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+
+    private Counter emailsCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("ecclesiaflow.email.outbox.emails")
+                .description("Outbox emails processed by the relay on this node")
+                .tag("node", nodeId)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private record InFlightBatch(List<OutboxEntry> batch, CompletableFuture<List<EmailSendResult>> call) {
+    }
+
+    private record OutboundEmailResult(OutboxEntry entry, EmailSendResult sendResult) {
+    }
+}
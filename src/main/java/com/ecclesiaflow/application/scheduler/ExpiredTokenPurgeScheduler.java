@@ -0,0 +1,143 @@
+package com.ecclesiaflow.application.scheduler;
+
+import com.ecclesiaflow.business.domain.communication.EmailOutbox;
+import com.ecclesiaflow.business.domain.confirmation.MemberConfirmationRepository;
+import com.ecclesiaflow.business.domain.emailchange.PendingEmailChangeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongSupplier;
+
+/**
+ * Scheduled task that purges expired confirmation tokens and pending email changes, and
+ * the outbox emails sent more than {@code email.outbox.retention} ago.
+ *
+ * <p>Rows are deleted in chunks of {@code chunk-size}, each in its own short
+ * transaction, so row locks are released between chunks. A run stops after
+ * {@code max-chunks-per-run} chunks and leaves the rest to the next run. Each chunk is
+ * locked with {@code SELECT ... FOR UPDATE SKIP LOCKED}, so when every node runs the
+ * job at the same time they delete disjoint chunks instead of waiting on each other.</p>
+ *
+ * <p>Metrics, tagged {@code table=member_confirmations|pending_email_changes|email_outbox} and {@code node}:
+ * {@code ecclesiaflow.purge.rows} (rows deleted), {@code ecclesiaflow.purge.chunk}
+ * (latency of each chunk) and {@code ecclesiaflow.purge.backlog} (expired rows
+ * still present after the last run).</p>
+ */
+@Slf4j
+@Component
+public class ExpiredTokenPurgeScheduler {
+
+    static final String CONFIRMATIONS = "member_confirmations";
+    static final String EMAIL_CHANGES = "pending_email_changes";
+    static final String EMAIL_OUTBOX = "email_outbox";
+
+    private final MemberConfirmationRepository confirmationRepository;
+    private final PendingEmailChangeRepository pendingEmailChangeRepository;
+    private final EmailOutbox emailOutbox;
+    private final Duration outboxRetention;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final PurgeMeters confirmationMeters;
+    private final PurgeMeters emailChangeMeters;
+    private final PurgeMeters outboxMeters;
+
+    public ExpiredTokenPurgeScheduler(
+            MemberConfirmationRepository confirmationRepository,
+            PendingEmailChangeRepository pendingEmailChangeRepository,
+            EmailOutbox emailOutbox,
+            MeterRegistry meterRegistry,
+            @Value("${ecclesiaflow.cluster.node-id:${HOSTNAME:local}}") String nodeId,
+            @Value("${ecclesiaflow.purge.chunk-size:1000}") int chunkSize,
+            @Value("${ecclesiaflow.purge.max-chunks-per-run:500}") int maxChunksPerRun,
+            @Value("${ecclesiaflow.email.outbox.retention:7d}") Duration outboxRetention) {
+        if (chunkSize <= 0 || maxChunksPerRun <= 0) {
+            throw new IllegalArgumentException("Purge chunk size and max chunks per run must be greater than zero");
+        }
+        this.confirmationRepository = confirmationRepository;
+        this.pendingEmailChangeRepository = pendingEmailChangeRepository;
+        this.emailOutbox = emailOutbox;
+        this.outboxRetention = outboxRetention;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.confirmationMeters = new PurgeMeters(meterRegistry, nodeId, CONFIRMATIONS);
+        this.emailChangeMeters = new PurgeMeters(meterRegistry, nodeId, EMAIL_CHANGES);
+        this.outboxMeters = new PurgeMeters(meterRegistry, nodeId, EMAIL_OUTBOX);
+    }
+
+    @Scheduled(cron = "${ecclesiaflow.purge.cron:0 15 * * * ?}")
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        purge(confirmationMeters,
+                limit -> confirmationRepository.deleteExpiredConfirmations(cutoff, limit),
+                () -> confirmationRepository.countExpiredConfirmations(cutoff));
+        purge(emailChangeMeters,
+                limit -> pendingEmailChangeRepository.deleteExpired(cutoff, limit),
+                () -> pendingEmailChangeRepository.countExpired(cutoff));
+        LocalDateTime sentCutoff = cutoff.minus(outboxRetention);
+        purge(outboxMeters,
+                limit -> emailOutbox.deleteSentBefore(sentCutoff, limit),
+                () -> emailOutbox.countSentBefore(sentCutoff));
+    }
+
+    private void purge(PurgeMeters meters, IntUnaryOperator deleteChunk, LongSupplier countRemaining) {
+        long purged = 0;
+        int chunks = 0;
+        try {
+            int deleted;
+            do {
+                deleted = meters.chunkLatency.record(() -> deleteChunk.applyAsInt(chunkSize));
+                meters.rows.increment(deleted);
+                purged += deleted;
+                chunks++;
+            } while (deleted == chunkSize && chunks < maxChunksPerRun);
+
+            meters.backlog.set(countRemaining.getAsLong());
+        } catch (Exception e) {
+            log.error("Expired token purge: failed on {} after {} row(s)", meters.table, purged, e);
+            return;
+        }
+
+        if (meters.backlog.get() > 0) {
+            log.warn("Expired token purge: {} — {} purged, {} expired row(s) left for the next run",
+                    meters.table, purged, meters.backlog.get());
+        } else if (purged > 0) {
+            log.info("Expired token purge: {} — {} purged in {} chunk(s)", meters.table, purged, chunks);
+        }
+    }
+
+    private static final class PurgeMeters {
+        private final String table;
+        private final Counter rows;
+        private final Timer chunkLatency;
+        private final AtomicLong backlog = new AtomicLong();
+
+        PurgeMeters(MeterRegistry registry, String nodeId, String table) {
+            this.table = table;
+            this.rows = Counter.builder("ecclesiaflow.purge.rows")
+                    .description("Expired rows deleted by the purge job on this node")
+                    .tag("table", table)
+                    .tag("node", nodeId)
+                    .register(registry);
+            this.chunkLatency = Timer.builder("ecclesiaflow.purge.chunk")
+                    .description("Duration of one purge chunk (one SKIP LOCKED select and DELETE transaction)")
+                    .tag("table", table)
+                    .tag("node", nodeId)
+                    .register(registry);
+            Gauge.builder("ecclesiaflow.purge.backlog", backlog, AtomicLong::get)
+                    .description("Expired rows still present after the last purge run")
+                    .tag("table", table)
+                    .tag("node", nodeId)
+                    .register(registry);
+        }
+    }
+}
@@ -1,81 +1,228 @@
 package com.ecclesiaflow.application.scheduler;
 
-import com.ecclesiaflow.business.domain.auth.AuthClient;
+import com.ecclesiaflow.business.domain.auth.AsyncAuthClient;
 import com.ecclesiaflow.business.domain.member.Member;
 import com.ecclesiaflow.business.domain.member.MemberRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsDelta;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsRepository;
 import com.ecclesiaflow.business.domain.member.MemberStatus;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
 
 /**
  * Scheduled task that anonymizes DEACTIVATED members after the grace period.
  *
- * <p>Runs daily at 02:00. For each expired member:
- * deletes the Keycloak user, scrubs PII, and sets status to INACTIVE.</p>
+ * <p>Runs daily at 02:00 by default, on every node. Each node claims chunks of
+ * {@code chunk-size} members ({@code SELECT ... FOR UPDATE SKIP LOCKED}, then a claim
+ * lease of {@code claim-lease}), so several nodes share the work instead of repeating it.
+ * Each chunk is first anonymized (PII scrubbed, status INACTIVE) with one UPDATE in its
+ * own transaction, restricted to the members still DEACTIVATED, and the member statistics
+ * move them from DEACTIVATED to INACTIVE in the same transaction. Only then are their Keycloak users deleted
+ * through {@link AsyncAuthClient}, with at most {@code keycloak-concurrency} calls in
+ * flight and no thread waiting on each call, and the keycloakUserId of the deleted ones
+ * cleared. A member reactivated concurrently is therefore never left without its
+ * Keycloak account.</p>
+ *
+ * <p>A member whose Keycloak deletion failed stays INACTIVE with its keycloakUserId, so
+ * the member status filter keeps refusing its tokens; it is claimed again, like the
+ * members of a node that stopped, once its lease expires.</p>
+ *
+ * <p>A member left DELETING by an interrupted {@code deleteMember} is claimed once it has
+ * not changed for a lease: its Keycloak user is deleted like the others, then the member
+ * itself.</p>
+ *
+ * <p>Metrics, tagged {@code node}: {@code ecclesiaflow.cleanup.members} (members processed,
+ * tag {@code outcome=anonymized|deleted|failed}) and {@code ecclesiaflow.cleanup.chunk} (latency
+ * of each chunk).</p>
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class MemberCleanupScheduler {
 
     private final MemberRepository memberRepository;
-    private final AuthClient authClient;
+    private final AsyncAuthClient authClient;
+    private final MemberStatisticsRepository statisticsRepository;
+    private final TransactionTemplate transaction;
+    private final String nodeId;
+    private final int gracePeriodDays;
+    private final int chunkSize;
+    private final Duration claimLease;
+    private final Semaphore keycloakPermits;
+    private final Counter anonymizedCounter;
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+    private final Timer chunkLatency;
 
-    @Value("${ecclesiaflow.members.deactivation.grace-period-days:30}")
-    private int gracePeriodDays;
+    public MemberCleanupScheduler(
+            MemberRepository memberRepository,
+            AsyncAuthClient authClient,
+            MemberStatisticsRepository statisticsRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${ecclesiaflow.cluster.node-id:${HOSTNAME:local}}") String nodeId,
+            @Value("${ecclesiaflow.members.deactivation.grace-period-days:30}") int gracePeriodDays,
+            @Value("${ecclesiaflow.members.cleanup.chunk-size:200}") int chunkSize,
+            @Value("${ecclesiaflow.members.cleanup.keycloak-concurrency:8}") int keycloakConcurrency,
+            @Value("${ecclesiaflow.members.cleanup.claim-lease:15m}") Duration claimLease) {
+        if (chunkSize <= 0 || keycloakConcurrency <= 0) {
+            throw new IllegalArgumentException("Cleanup chunk size and Keycloak concurrency must be greater than zero");
+        }
+        this.memberRepository = memberRepository;
+        this.authClient = authClient;
+        this.statisticsRepository = statisticsRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.nodeId = nodeId;
+        this.gracePeriodDays = gracePeriodDays;
+        this.chunkSize = chunkSize;
+        this.claimLease = claimLease;
+        this.keycloakPermits = new Semaphore(keycloakConcurrency);
+        this.anonymizedCounter = membersCounter(meterRegistry, "anonymized");
+        this.deletedCounter = membersCounter(meterRegistry, "deleted");
+        this.failedCounter = membersCounter(meterRegistry, "failed");
+        this.chunkLatency = Timer.builder("ecclesiaflow.cleanup.chunk")
+                .description("Duration of one anonymization chunk (claim, Keycloak deletions, UPDATE)")
+                .tag("node", nodeId)
+                .register(meterRegistry);
+    }
 
-    @Scheduled(cron = "0 0 2 * * ?")
+    @Scheduled(cron = "${ecclesiaflow.members.cleanup.cron:0 0 2 * * ?}")
     public void anonymizeExpiredDeactivatedMembers() {
         LocalDateTime cutoff = LocalDateTime.now().minusDays(gracePeriodDays);
-        List<Member> expired = memberRepository.findDeactivatedBefore(cutoff);
+        long anonymized = 0;
+        long removed = 0;
+        long failures = 0;
+        try {
+            int claimed;
+            do {
+                Timer.Sample sample = Timer.start();
+                List<Member> chunk = memberRepository.claimDeactivatedBefore(cutoff, nodeId, claimLease, chunkSize);
+                claimed = chunk.size();
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                List<Member> done = transaction.execute(status -> {
+                    List<Member> anonymizedChunk = memberRepository.anonymizeDeactivated(chunk, LocalDateTime.now());
+                    statisticsRepository.apply(MemberStatisticsDelta.statusChanged(
+                            MemberStatus.DEACTIVATED, MemberStatus.INACTIVE, anonymizedChunk.size()));
+                    return anonymizedChunk;
+                });
 
-        if (expired.isEmpty()) {
-            log.info("Member cleanup: no expired deactivated members found");
+                // Keycloak users of the members just anonymized, of those left over by a failed
+                // deletion, and of interrupted member deletions
+                List<Member> toDelete = new ArrayList<>(done);
+                chunk.stream()
+                        .filter(member -> member.getStatus() == MemberStatus.INACTIVE
+                                || member.getStatus() == MemberStatus.DELETING)
+                        .forEach(toDelete::add);
+                List<Member> withAccount = toDelete.stream()
+                        .filter(member -> member.getKeycloakUserId() != null)
+                        .toList();
+                List<Member> deleted = deleteKeycloakUsers(withAccount);
+                memberRepository.clearKeycloakUserIds(deleted.stream()
+                        .filter(member -> member.getStatus() != MemberStatus.DELETING)
+                        .toList());
+                List<Member> deletedMembers = removeDeleting(chunk, deleted);
+                sample.stop(chunkLatency);
+                anonymizedCounter.increment(done.size());
+                deletedCounter.increment(deletedMembers.size());
+                failedCounter.increment(withAccount.size() - deleted.size());
+                anonymized += done.size();
+                removed += deletedMembers.size();
+                failures += withAccount.size() - deleted.size();
+            } while (claimed == chunkSize);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("Member cleanup: interrupted on node {} after {} anonymized; "
+                    + "claimed members are released when their lease expires", nodeId, anonymized, e);
             return;
         }
 
-        log.info("Member cleanup: processing {} expired deactivated member(s)", expired.size());
-        int success = 0;
-        int failures = 0;
+        if (anonymized == 0 && removed == 0 && failures == 0) {
+            log.info("Member cleanup: no expired deactivated members left to claim on node {}", nodeId);
+        } else {
+            log.info("Member cleanup: done on node {} — {} anonymized, {} deleted, {} failed",
+                    nodeId, anonymized, removed, failures);
+        }
+    }
+
+    /**
+     * Finishes the interrupted deletions of the chunk whose Keycloak user is gone, in one
+     * transaction.
+     *
+     * @return the members deleted
+     */
+    private List<Member> removeDeleting(List<Member> chunk, List<Member> keycloakDeleted) {
+        List<Member> removable = chunk.stream()
+                .filter(member -> member.getStatus() == MemberStatus.DELETING)
+                .filter(member -> member.getKeycloakUserId() == null || keycloakDeleted.contains(member))
+                .toList();
+        if (!removable.isEmpty()) {
+            transaction.executeWithoutResult(status -> removable.forEach(member -> {
+                memberRepository.delete(member);
+                statisticsRepository.apply(MemberStatisticsDelta.removed(member));
+            }));
+        }
+        return removable;
+    }
+
+    /**
+     * Deletes the Keycloak users of {@code members} concurrently. A call is issued once a
+     * permit is free, and releases it when it completes.
+     *
+     * @return the members whose Keycloak user was deleted
+     */
+    private List<Member> deleteKeycloakUsers(List<Member> members) throws InterruptedException {
+        List<CompletableFuture<Void>> deletions = new ArrayList<>(members.size());
+        for (Member member : members) {
+            deletions.add(deleteKeycloakUser(member.getKeycloakUserId()));
+        }
 
-        for (Member member : expired) {
+        List<Member> deleted = new ArrayList<>(members.size());
+        for (int i = 0; i < deletions.size(); i++) {
             try {
-                anonymizeMember(member);
-                success++;
-            } catch (Exception e) {
-                failures++;
-                log.error("Member cleanup: failed to anonymize member (id={})", member.getId(), e);
+                deletions.get(i).join();
+                deleted.add(members.get(i));
+            } catch (CompletionException e) {
+                log.error("Member cleanup: failed to delete Keycloak user of member (id={})",
+                        members.get(i).getId(), e.getCause());
             }
         }
-
-        log.info("Member cleanup: done — {} anonymized, {} failed", success, failures);
+        return deleted;
     }
 
-    @Transactional
-    protected void anonymizeMember(Member member) {
-        if (member.getKeycloakUserId() != null) {
-            authClient.deleteKeycloakUser(member.getKeycloakUserId());
+    private CompletableFuture<Void> deleteKeycloakUser(String keycloakUserId) throws InterruptedException {
+        keycloakPermits.acquire();
+        CompletableFuture<Void> deletion;
+        try {
+            deletion = authClient.deleteKeycloakUserAsync(keycloakUserId);
+        } catch (RuntimeException e) {
+            deletion = CompletableFuture.failedFuture(e);
         }
+        return deletion.whenComplete((ignored, error) -> keycloakPermits.release());
+    }
 
-        Member anonymized = member.toBuilder()
-                .firstName("DELETED")
-                .lastName("DELETED")
-                .email("deleted+" + UUID.randomUUID() + "@anonymized.local")
-                .address(null)
-                .phoneNumber(null)
-                .keycloakUserId(null)
-                .status(MemberStatus.INACTIVE)
-                .anonymizedAt(LocalDateTime.now())
-                .build();
-
-        memberRepository.save(anonymized);
+    private Counter membersCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("ecclesiaflow.cleanup.members")
+                .description("Members processed by the anonymization job on this node")
+                .tag("node", nodeId)
+                .tag("outcome", outcome)
+                .register(registry);
     }
 }
@@ -0,0 +1,49 @@
+package com.ecclesiaflow.business.domain.auth;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Variante non bloquante de {@link AuthClient}.
+ * <p>
+ * Les méthodes rendent la main dès que l'appel au module Auth est parti : l'appelant peut
+ * poursuivre son travail (écritures en base, autres appels) et n'attendre la réponse
+ * qu'au moment où il en a besoin. Chaque future est complété au plus tard à l'expiration
+ * du délai de l'appel.
+ * </p>
+ *
+ * <p><strong>Implémentations :</strong></p>
+ * <ul>
+ *   <li>{@code AuthClientImpl} - WebClient réactif ({@code Mono} converti en future)</li>
+ *   <li>{@code AuthGrpcClient} - Stub gRPC asynchrone (si grpc.enabled=true)</li>
+ * </ul>
+ *
+ * <p><strong>Erreurs :</strong> les futures échouent avec les mêmes exceptions que les
+ * méthodes correspondantes de {@link AuthClient}.</p>
+ *
+ * @author EcclesiaFlow Team
+ * @since 2.0.0
+ * @see AuthClient
+ */
+public interface AsyncAuthClient {
+
+    /**
+     * @see AuthClient#retrievePostActivationToken(String, UUID)
+     */
+    CompletableFuture<PasswordSetupTokenResponse> retrievePostActivationTokenAsync(String email, UUID memberId);
+
+    /**
+     * @see AuthClient#deleteKeycloakUser(String)
+     */
+    CompletableFuture<Void> deleteKeycloakUserAsync(String keycloakUserId);
+
+    /**
+     * @see AuthClient#disableKeycloakUser(String)
+     */
+    CompletableFuture<Void> disableKeycloakUserAsync(String keycloakUserId);
+
+    /**
+     * @see AuthClient#updateKeycloakUserEmail(String, String)
+     */
+    CompletableFuture<Void> updateKeycloakUserEmailAsync(String keycloakUserId, String newEmail);
+}
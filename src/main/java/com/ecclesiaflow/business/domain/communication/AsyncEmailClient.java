@@ -0,0 +1,40 @@
+package com.ecclesiaflow.business.domain.communication;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Port (interface) non bloquant pour l'envoi d'emails - Architecture Hexagonale.
+ *
+ * <p>Variante de {@link EmailClient} dont les méthodes rendent la main immédiatement :
+ * aucun thread n'attend la réponse du module Email. Chaque future est complété quand le
+ * module Email a répondu, ou en erreur au plus tard après le délai de l'appel.</p>
+ *
+ * <p><strong>Rôle architectural :</strong> Port de sortie (Output Port) du domaine</p>
+ *
+ * <p><strong>Implémentation :</strong></p>
+ * <ul>
+ *   <li>{@code EmailGrpcClient} - Communication gRPC avec le module Email (stub asynchrone)</li>
+ * </ul>
+ *
+ * <p><strong>Erreurs :</strong> les futures échouent avec
+ * {@link com.ecclesiaflow.business.exceptions.EmailServiceException} si l'appel a échoué ou
+ * dépassé son délai, et avec
+ * {@link com.ecclesiaflow.business.exceptions.EmailServiceUnavailableException} si l'appel n'a
+ * pas été tenté (circuit ouvert, trop d'appels en cours).</p>
+ *
+ * @author EcclesiaFlow Team
+ * @since 2.0.0
+ * @see EmailClient
+ */
+public interface AsyncEmailClient {
+
+    /**
+     * Sends {@code emails} in a single call to the Email module, without retrying.
+     *
+     * @param emails emails to send, at least one
+     * @return one result per email, in the same order; fails if the call itself failed, in
+     *         which case none of the emails was accepted
+     */
+    CompletableFuture<List<EmailSendResult>> sendBatchAsync(List<OutboundEmail> emails);
+}
@@ -1,6 +1,6 @@
 package com.ecclesiaflow.business.domain.communication;
 
-import java.util.UUID;
+import java.util.List;
 
 /**
  * Port (interface) pour l'envoi d'emails - Architecture Hexagonale.
@@ -20,14 +20,15 @@ import java.util.UUID;
  * @Autowired
  * private EmailClient emailClient;
  * 
- * UUID emailId = emailClient.sendConfirmationEmail(
- *     "user@example.com",
- *     "https://app.com/confirm?token=abc123"
- * );
+ * List<EmailSendResult> results = emailClient.sendBatch(List.of(
+ *     OutboundEmail.confirmation("user@example.com", "https://app.com/confirm?token=abc123", "Jean")
+ * ));
  * }</pre>
  * 
- * <p><strong>Note :</strong> Les implémentations peuvent être synchrones ou asynchrones.
- * Le retour UUID permet le tracking de l'email envoyé.</p>
+ * <p><strong>Note :</strong> Les méthodes de ce port attendent la réponse du module Email,
+ * au plus le délai de l'appel ; {@link AsyncEmailClient} est la variante non bloquante.
+ * Les emails applicatifs passent par la boîte d'envoi ({@link EmailOutbox}), que
+ * {@code EmailOutboxRelay} vide par lots.</p>
  * 
  * @author EcclesiaFlow Team
  * @since 1.0.0
@@ -35,34 +36,15 @@ import java.util.UUID;
 public interface EmailClient {
 
     /**
-     * Sends an email confirmation to verify the user's email address.
-     * 
-     * @param email recipient email address
-     * @param confirmationUrl complete confirmation link with token
-     * @param firstName recipient's first name for personalization
-     * @return UUID of the sent email (for tracking)
-     * @throws com.ecclesiaflow.business.exceptions.EmailServiceException if sending fails
-     */
-    UUID sendConfirmationEmail(String email, String confirmationUrl, String firstName);
-
-    /**
-     * Sends a welcome email after account activation.
-     * 
-     * @param email recipient email address
-     * @param firstName recipient's first name for personalization
-     * @return UUID of the sent email (for tracking)
-     * @throws com.ecclesiaflow.business.exceptions.EmailServiceException if sending fails
-     */
-    UUID sendWelcomeEmail(String email, String firstName);
-
-    /**
-     * Notifies the old email address that the account email has been changed.
+     * Sends {@code emails} in a single call to the Email module, without retrying.
      *
-     * @param oldEmail  the previous email address
-     * @param firstName recipient's first name for personalization
-     * @return UUID of the sent email (for tracking)
-     * @throws com.ecclesiaflow.business.exceptions.EmailServiceException if sending fails
+     * @param emails emails to send, at least one
+     * @return one result per email, in the same order
+     * @throws com.ecclesiaflow.business.exceptions.EmailServiceException if the call itself fails,
+     *         in which case none of the emails was accepted
+     * @throws com.ecclesiaflow.business.exceptions.EmailServiceUnavailableException if the
+     *         Email module is considered down and the call was not attempted
      */
-    UUID sendEmailChangedNotification(String oldEmail, String firstName);
+    List<EmailSendResult> sendBatch(List<OutboundEmail> emails);
 
 }
@@ -0,0 +1,57 @@
+package com.ecclesiaflow.business.domain.communication;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port (interface) de la boîte d'envoi transactionnelle des emails - Architecture Hexagonale.
+ *
+ * <p>Les emails sont enregistrés dans la même transaction que la modification du membre
+ * qui les déclenche : ils ne partent que si elle est committée, et ne sont pas perdus si
+ * le module Email est indisponible à ce moment-là. Un relais les envoie ensuite par lots.</p>
+ *
+ * <p><strong>Implémentation :</strong> {@code EmailOutboxRepositoryImpl} (table {@code email_outbox})</p>
+ *
+ * @author EcclesiaFlow Team
+ * @since 2.0.0
+ */
+public interface EmailOutbox {
+
+    /**
+     * Adds {@code email} to the outbox, due now, in the caller's transaction.
+     */
+    void enqueue(OutboundEmail email);
+
+    /**
+     * Claims up to {@code limit} due PENDING emails, oldest first, in a short transaction of
+     * its own, and counts the attempt. Rows locked by a concurrent claim ({@code SKIP LOCKED})
+     * are skipped, and claimed rows are not due again before {@code lease} from now, so
+     * concurrent callers get disjoint emails. A claim whose outcome is never recorded is
+     * retried once its lease expires.
+     *
+     * @return the claimed emails, oldest first
+     */
+    List<OutboxEntry> claimDue(int limit, Duration lease);
+
+    /**
+     * Records the outcome of the claimed emails in one transaction.
+     */
+    void recordOutcomes(List<OutboxOutcome> outcomes);
+
+    long countPending();
+
+    Optional<LocalDateTime> oldestPendingCreatedAt();
+
+    /**
+     * Deletes at most {@code limit} emails sent before {@code cutoff}, in a transaction of
+     * its own; callers loop while full chunks come back. Rows locked by a concurrent purge
+     * on another node are skipped, so each node deletes a disjoint chunk.
+     *
+     * @return the number of rows deleted
+     */
+    int deleteSentBefore(LocalDateTime cutoff, int limit);
+
+    long countSentBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,24 @@
+package com.ecclesiaflow.business.domain.communication;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one email of a {@link EmailClient#sendBatch} call.
+ *
+ * @param emailId id assigned by the Email module when the email was accepted, {@code null} otherwise
+ * @param error reason given by the Email module when the email was rejected, {@code null} otherwise
+ */
+public record EmailSendResult(UUID emailId, String error) {
+
+    public static EmailSendResult accepted(UUID emailId) {
+        return new EmailSendResult(emailId, null);
+    }
+
+    public static EmailSendResult rejected(String error) {
+        return new EmailSendResult(null, error);
+    }
+
+    public boolean isAccepted() {
+        return emailId != null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.ecclesiaflow.business.domain.communication;
+
+import com.ecclesiaflow.business.exceptions.EmailServiceException.EmailOperation;
+
+/**
+ * Email to send to a member, as stored in the {@link EmailOutbox} and handed to
+ * {@link EmailClient#sendBatch}.
+ *
+ * @param operation kind of email, which selects its template
+ * @param recipient recipient email address
+ * @param firstName recipient's first name for personalization, may be {@code null}
+ * @param link confirmation link for {@link EmailOperation#CONFIRMATION}, {@code null} otherwise
+ */
+public record OutboundEmail(EmailOperation operation, String recipient, String firstName, String link) {
+
+    public static OutboundEmail confirmation(String recipient, String confirmationUrl, String firstName) {
+        return new OutboundEmail(EmailOperation.CONFIRMATION, recipient, firstName, confirmationUrl);
+    }
+
+    public static OutboundEmail welcome(String recipient, String firstName) {
+        return new OutboundEmail(EmailOperation.WELCOME, recipient, firstName, null);
+    }
+
+    public static OutboundEmail emailChanged(String oldEmail, String firstName) {
+        return new OutboundEmail(EmailOperation.EMAIL_CHANGED, oldEmail, firstName, null);
+    }
+}
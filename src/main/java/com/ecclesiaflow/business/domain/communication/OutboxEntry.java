@@ -0,0 +1,13 @@
+package com.ecclesiaflow.business.domain.communication;
+
+import java.util.UUID;
+
+/**
+ * Email claimed from the {@link EmailOutbox} for sending.
+ *
+ * @param id outbox row id
+ * @param email the email to send
+ * @param attempts send attempts so far, including the current one
+ */
+public record OutboxEntry(UUID id, OutboundEmail email, int attempts) {
+}
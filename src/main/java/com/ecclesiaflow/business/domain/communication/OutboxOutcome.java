@@ -0,0 +1,28 @@
+package com.ecclesiaflow.business.domain.communication;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Result of a send attempt, recorded on its {@link EmailOutbox} row.
+ *
+ * @param id outbox row id
+ * @param status new state of the row
+ * @param emailId id assigned by the Email module, for {@link OutboxStatus#SENT}
+ * @param nextAttemptAt when to retry, for {@link OutboxStatus#PENDING}
+ * @param error reason of the failure, for {@link OutboxStatus#PENDING} and {@link OutboxStatus#FAILED}
+ */
+public record OutboxOutcome(UUID id, OutboxStatus status, UUID emailId, LocalDateTime nextAttemptAt, String error) {
+
+    public static OutboxOutcome sent(UUID id, UUID emailId) {
+        return new OutboxOutcome(id, OutboxStatus.SENT, emailId, null, null);
+    }
+
+    public static OutboxOutcome retry(UUID id, LocalDateTime nextAttemptAt, String error) {
+        return new OutboxOutcome(id, OutboxStatus.PENDING, null, nextAttemptAt, error);
+    }
+
+    public static OutboxOutcome failed(UUID id, String error) {
+        return new OutboxOutcome(id, OutboxStatus.FAILED, null, null, error);
+    }
+}
@@ -0,0 +1,13 @@
+package com.ecclesiaflow.business.domain.communication;
+
+/**
+ * State of an {@link EmailOutbox} row.
+ */
+public enum OutboxStatus {
+    /** Waiting to be sent, or to be retried. */
+    PENDING,
+    /** Accepted by the Email module. */
+    SENT,
+    /** Given up after the maximum number of attempts. */
+    FAILED
+}
@@ -62,6 +62,8 @@ public class ConfirmationTokenGenerator {
      * @implNote Utilise java.util.UUID qui génère des UUIDs v4 avec
      *           java.security.SecureRandom pour une entropie cryptographique.
      *           La probabilité de collision est négligeable (2^122 tokens possibles).
+     *           Ne pas utiliser {@link com.ecclesiaflow.business.domain.identity.UuidV7} ici :
+     *           ses 48 premiers bits sont l'horodatage, donc prévisibles.
      */
     public UUID generateToken() {
         return UUID.randomUUID();
@@ -1,5 +1,6 @@
 package com.ecclesiaflow.business.domain.confirmation;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -121,6 +122,14 @@ public interface MemberConfirmationRepository {
      */
     MemberConfirmation save(MemberConfirmation confirmation);
 
+    /**
+     * Persiste plusieurs confirmations en une seule opération (inserts JDBC groupés).
+     *
+     * @param confirmations les confirmations à créer, non null
+     * @return les confirmations persistées, dans le même ordre
+     */
+    List<MemberConfirmation> saveAll(List<MemberConfirmation> confirmations);
+
     /**
      * Supprime une confirmation.
      *
@@ -138,4 +147,27 @@ public interface MemberConfirmationRepository {
      * @return le nombre de confirmations supprimées
      */
     int deleteExpiredConfirmations();
+
+    /**
+     * Supprime au plus {@code limit} confirmations expirées avant {@code cutoff}.
+     * <p>
+     * Chaque appel s'exécute dans sa propre transaction courte, afin qu'une purge
+     * volumineuse ne verrouille jamais la table longtemps : l'appelant boucle tant
+     * qu'un lot complet a été supprimé. Les lignes verrouillées par une purge concurrente
+     * (autre nœud) sont ignorées : chaque nœud supprime un lot disjoint.
+     * </p>
+     *
+     * @param cutoff date d'expiration en deçà de laquelle une confirmation est purgée
+     * @param limit nombre maximal de lignes supprimées, strictement positif
+     * @return le nombre de confirmations supprimées
+     */
+    int deleteExpiredConfirmations(LocalDateTime cutoff, int limit);
+
+    /**
+     * Compte les confirmations expirées avant {@code cutoff}, c'est-à-dire restant à purger.
+     *
+     * @param cutoff date d'expiration de référence
+     * @return le nombre de confirmations expirées
+     */
+    long countExpiredConfirmations(LocalDateTime cutoff);
 }
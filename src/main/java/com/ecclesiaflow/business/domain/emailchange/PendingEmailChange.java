@@ -16,6 +16,8 @@ public class PendingEmailChange {
     private final UUID token;
     private final LocalDateTime createdAt;
     private final LocalDateTime expiresAt;
+    /** End of the claim of the confirmation in progress, or null when none is. */
+    private final LocalDateTime confirmingUntil;
 
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(expiresAt);
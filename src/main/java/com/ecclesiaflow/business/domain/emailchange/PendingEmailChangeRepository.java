@@ -1,5 +1,7 @@
 package com.ecclesiaflow.business.domain.emailchange;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,4 +16,27 @@ public interface PendingEmailChangeRepository {
     void delete(PendingEmailChange pendingChange);
 
     void deleteByMemberId(UUID memberId);
+
+    /**
+     * Claims the change for the confirmation in progress, for {@code lease}, unless another
+     * confirmation holds an unexpired claim on it. Only the holder of the claim may update
+     * Keycloak and then apply the change.
+     *
+     * @return true if the change was claimed
+     */
+    boolean claimForConfirmation(UUID id, Duration lease);
+
+    /** Releases the claim after a confirmation that failed, so the link can be used again. */
+    void releaseConfirmationClaim(UUID id);
+
+    /**
+     * Deletes at most {@code limit} changes that expired before {@code cutoff}, in a
+     * transaction of its own; callers loop while full chunks come back. Rows locked by a
+     * concurrent purge on another node are skipped, so each node deletes a disjoint chunk.
+     *
+     * @return the number of rows deleted
+     */
+    int deleteExpired(LocalDateTime cutoff, int limit);
+
+    long countExpired(LocalDateTime cutoff);
 }
@@ -86,6 +86,9 @@ public class Member {
     // Suppression du @Getter redondant - déjà présent au niveau classe
     private final UUID id;
 
+    /** Version de la ligne lue, utilisée pour le verrouillage optimiste (null si jamais persisté). */
+    private final Long version;
+
     /**
      * Crée une nouvelle instance de Member avec les champs mis à jour.
      * <p>
@@ -0,0 +1,36 @@
+package com.ecclesiaflow.business.domain.member;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk member import.
+ *
+ * <p>{@code errors} is capped to keep the report bounded on very large files;
+ * {@code rejectedRows} always carries the full count.</p>
+ *
+ * @param totalRows rows read from the file
+ * @param importedRows members created
+ * @param rejectedRows rows skipped (invalid, duplicate or failed to persist)
+ * @param durationMillis wall-clock duration of the import
+ * @param errors per-row errors sorted by row number, at most the reporting cap
+ */
+public record MemberImportReport(
+        long totalRows,
+        long importedRows,
+        long rejectedRows,
+        long durationMillis,
+        List<RowError> errors) {
+
+    /** Rows processed per second over the whole import. */
+    public double rowsPerSecond() {
+        return durationMillis > 0 ? totalRows * 1000.0 / durationMillis : totalRows;
+    }
+
+    /**
+     * @param rowNumber 1-based row in the uploaded file
+     * @param email the row's email, when it could be read
+     * @param message why the row was rejected
+     */
+    public record RowError(long rowNumber, String email, String message) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.ecclesiaflow.business.domain.member;
+
+/**
+ * One parsed row of a bulk member import.
+ *
+ * <p>Either {@code registration} is set, or {@code error} describes why the row
+ * could not be parsed or validated.</p>
+ *
+ * @param rowNumber 1-based position of the row in the uploaded file (header excluded)
+ * @param registration the registration data, null when the row is invalid
+ * @param email the row's email as read, possibly null on invalid rows
+ * @param error validation or parse error, null when the row is valid
+ */
+public record MemberImportRow(long rowNumber, MembershipRegistration registration, String email, String error) {
+
+    public static MemberImportRow valid(long rowNumber, MembershipRegistration registration) {
+        return new MemberImportRow(rowNumber, registration, registration.email(), null);
+    }
+
+    public static MemberImportRow invalid(long rowNumber, String email, String error) {
+        return new MemberImportRow(rowNumber, null, email, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
@@ -0,0 +1,48 @@
+package com.ecclesiaflow.business.domain.member;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only view of a member, limited to what listing and profile responses show.
+ *
+ * <p>Loaded by projection queries that select these columns only, without going
+ * through a managed entity or the full {@link Member} aggregate. Use {@link Member}
+ * for anything that modifies the member.</p>
+ *
+ * @param id primary key, used to keep search-index order when loading by ids
+ */
+public record MemberProfile(
+        UUID id,
+        String firstName,
+        String lastName,
+        String email,
+        String address,
+        String phoneNumber,
+        MemberStatus status,
+        boolean hasLocalCredentials,
+        SocialProvider socialProvider,
+        LocalDateTime createdAt,
+        LocalDateTime confirmedAt) {
+
+    /** Same rule as {@link Member#isConfirmed()}. */
+    public boolean isConfirmed() {
+        return status != MemberStatus.PENDING;
+    }
+
+    /** Builds the view from an already loaded member (paths that cannot use a projection query). */
+    public static MemberProfile of(Member member) {
+        return new MemberProfile(
+                member.getId(),
+                member.getFirstName(),
+                member.getLastName(),
+                member.getEmail(),
+                member.getAddress(),
+                member.getPhoneNumber(),
+                member.getStatus(),
+                member.isHasLocalCredentials(),
+                member.getSocialProvider(),
+                member.getCreatedAt(),
+                member.getConfirmedAt());
+    }
+}
@@ -1,12 +1,19 @@
 package com.ecclesiaflow.business.domain.member;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Domain repository port for member persistence.
@@ -20,21 +27,70 @@ public interface MemberRepository {
 
     Optional<Member> getByKeycloakUserId(String keycloakUserId);
 
+    /**
+     * Returns only the status of the member linked to this Keycloak user, without
+     * loading the member. Served from a short-lived cache when enabled.
+     */
+    Optional<MemberStatus> getStatusByKeycloakUserId(String keycloakUserId);
+
     boolean existsByEmail(String email);
 
     boolean existsByKeycloakUserId(String keycloakUserId);
 
+    /**
+     * Returns which of {@code emails} already belong to a member, in a single query.
+     * Comparison follows the database collation (case-insensitive on MySQL).
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
     List<Member> findAll();
 
+    /**
+     * Streams every member (optionally filtered by status) to {@code action}, one at a time,
+     * without materializing the whole directory. Runs in its own read-only transaction
+     * when none is active; exceptions thrown by {@code action} abort the iteration.
+     *
+     * @return the number of members passed to {@code action}
+     */
+    long forEachMember(MemberStatus status, Consumer<Member> action);
+
     long countByStatus(MemberStatus status);
 
     Member save(Member member);
 
-    void delete(Member member);
+    /**
+     * Persists the changes from {@code original}, as read from this repository, to
+     * {@code updated} with a single UPDATE of the changed columns, without reading
+     * the row first. Does nothing when no field changed.
+     *
+     * @return the updated member
+     * @throws IllegalArgumentException if the two members do not share the same id
+     * @throws com.ecclesiaflow.business.exceptions.MemberNotFoundException if the row no longer exists
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the row changed since
+     *         {@code original} was read
+     */
+    Member update(Member original, Member updated);
+
+    /**
+     * Applies a status transition with a single conditional UPDATE
+     * ({@code ... WHERE member_id = ? AND status = ?}); the affected row count decides
+     * whether it happened, so concurrent transitions cannot both succeed.
+     *
+     * @param member the member to transition, as read from this repository
+     * @return the transitioned member, or empty if its status is no longer
+     *         {@code change.from()} or it no longer exists
+     */
+    Optional<Member> transitionStatus(Member member, MemberStatusChange change);
 
-    Page<Member> getAll(Pageable pageable);
+    /**
+     * Inserts or updates several members in one flush, so that Hibernate can group
+     * the statements into JDBC batches.
+     *
+     * @return the persisted members, in the same order
+     */
+    List<Member> saveAll(List<Member> members);
 
-    Page<Member> getByStatus(MemberStatus status, Pageable pageable);
+    void delete(Member member);
 
     /**
      * Searches members by first name, last name, or email (case-insensitive LIKE).
@@ -47,6 +103,63 @@ public interface MemberRepository {
     Page<Member> getMembersBySearchTermAndStatus(
         String searchTerm, MemberStatus status, Pageable pageable);
 
-    /** Returns DEACTIVATED members whose deactivatedAt is before the given cutoff date. */
-    List<Member> findDeactivatedBefore(LocalDateTime cutoffDate);
+    /**
+     * Searches members through the full-text index, ranked by relevance then id.
+     * Any sort carried by {@code pageable} is ignored; {@code status} may be null.
+     */
+    Page<Member> searchMembersByRelevance(String searchTerm, MemberStatus status, Pageable pageable);
+
+    /**
+     * Read-only listing of member profiles, optionally filtered by search term
+     * (case-insensitive LIKE on names and email) and status. Only the profile
+     * columns are selected.
+     */
+    Page<MemberProfile> getProfiles(String searchTerm, MemberStatus status, Pageable pageable);
+
+    /**
+     * Loads member profiles by primary key ({@link Member#getId()}), preserving the order of {@code ids}.
+     * Ids that no longer exist are skipped.
+     */
+    List<MemberProfile> getProfilesByIds(List<UUID> ids);
+
+    Optional<MemberProfile> getProfileByMemberId(UUID memberId);
+
+    Optional<MemberProfile> getProfileByKeycloakUserId(String keycloakUserId);
+
+    /**
+     * Keyset (seek) listing: returns up to {@code limit} members strictly after
+     * {@code position} in {@code sort} order, optionally filtered by search term and status.
+     * The member id is used as tie-breaker; no count query is issued.
+     */
+    Window<Member> scrollMembers(String searchTerm, MemberStatus status,
+                                 KeysetScrollPosition position, Sort sort, int limit);
+
+    /**
+     * Claims up to {@code limit} DEACTIVATED members whose deactivatedAt is before
+     * {@code cutoffDate} for {@code owner}, until {@code lease} from now, in a short
+     * transaction of its own. Anonymized (INACTIVE) members that still carry a
+     * keycloakUserId, i.e. whose Keycloak deletion failed, are claimed again as well, and so
+     * are DELETING members left unchanged for longer than {@code lease}, i.e. whose deletion
+     * was interrupted. Rows locked by a concurrent claim ({@code SKIP LOCKED}) and
+     * members still claimed by anyone are skipped, so concurrent callers get disjoint members.
+     * A claim is released only by its expiry.
+     *
+     * @return the claimed members, in primary key order
+     */
+    List<Member> claimDeactivatedBefore(LocalDateTime cutoffDate, String owner, Duration lease, int limit);
+
+    /**
+     * Scrubs the PII of {@code members} and marks them INACTIVE with a single UPDATE,
+     * in a transaction of its own. Members that are no longer DEACTIVATED are left untouched.
+     * The keycloakUserId is kept until {@link #clearKeycloakUserIds(List)}.
+     *
+     * @return the members anonymized, as given
+     */
+    List<Member> anonymizeDeactivated(List<Member> members, LocalDateTime anonymizedAt);
+
+    /**
+     * Clears the keycloakUserId of {@code members} once their Keycloak account is deleted,
+     * in a transaction of its own.
+     */
+    void clearKeycloakUserIds(List<Member> members);
 }
@@ -0,0 +1,36 @@
+package com.ecclesiaflow.business.domain.member;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Domain port for an in-process substring search index over member names and emails.
+ *
+ * <p>The index resolves which members match a search term and in which order,
+ * so that only the requested page has to be loaded from the database by primary key.
+ * Callers must fall back to a database search whenever {@link #search} returns empty.</p>
+ */
+public interface MemberSearchIndex {
+
+    /**
+     * Resolves the primary keys ({@link Member#getId()}) of the requested page of
+     * members whose first name, last name or email contains {@code searchTerm}
+     * (case-insensitive).
+     *
+     * @param searchTerm normalized search term, non null
+     * @param status     optional status filter (null = all)
+     * @param pageable   page and sort requested by the caller
+     * @return the page of member ids, or empty if the index cannot answer
+     *         (not loaded yet, term too short, unsupported sort)
+     */
+    Optional<Page<UUID>> search(String searchTerm, MemberStatus status, Pageable pageable);
+
+    /** Adds or replaces the indexed entry of a persisted member. */
+    void index(Member member);
+
+    /** Removes the entry of a member by primary key, if present. */
+    void remove(UUID id);
+}
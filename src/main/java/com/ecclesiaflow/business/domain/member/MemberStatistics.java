@@ -0,0 +1,37 @@
+package com.ecclesiaflow.business.domain.member;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Member counts for the admin dashboard.
+ *
+ * <p>Every {@link MemberStatus} and {@link SocialProvider} has an entry, zero included.</p>
+ *
+ * @param byStatus members per status
+ * @param bySocialProvider members linked to each social provider
+ * @param withLocalCredentials members who have set a password in Keycloak
+ */
+public record MemberStatistics(
+        Map<MemberStatus, Long> byStatus,
+        Map<SocialProvider, Long> bySocialProvider,
+        long withLocalCredentials) {
+
+    public MemberStatistics {
+        byStatus = complete(byStatus, MemberStatus.class);
+        bySocialProvider = complete(bySocialProvider, SocialProvider.class);
+    }
+
+    /** Total number of members, whatever their status. */
+    public long total() {
+        return byStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static <K extends Enum<K>> Map<K, Long> complete(Map<K, Long> counts, Class<K> type) {
+        Map<K, Long> complete = new EnumMap<>(type);
+        for (K key : type.getEnumConstants()) {
+            complete.put(key, counts == null ? 0L : counts.getOrDefault(key, 0L));
+        }
+        return Map.copyOf(complete);
+    }
+}
@@ -0,0 +1,105 @@
+package com.ecclesiaflow.business.domain.member;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Change to apply to the {@link MemberStatistics} after a member write.
+ *
+ * <p>Built from the member before and after the write, so a caller never has to
+ * work out which counters move: a registration adds the new member, a status
+ * transition or a social-account link removes the old state and adds the new one.
+ * Counters that end up unchanged are dropped.</p>
+ */
+public final class MemberStatisticsDelta {
+
+    private static final MemberStatisticsDelta NONE = new MemberStatisticsDelta();
+
+    private final Map<MemberStatus, Long> byStatus = new EnumMap<>(MemberStatus.class);
+    private final Map<SocialProvider, Long> bySocialProvider = new EnumMap<>(SocialProvider.class);
+    private long withLocalCredentials;
+
+    private MemberStatisticsDelta() {
+    }
+
+    /** Nothing to change. */
+    public static MemberStatisticsDelta none() {
+        return NONE;
+    }
+
+    /** A member was created. */
+    public static MemberStatisticsDelta added(Member member) {
+        return changed(null, member);
+    }
+
+    /** Members were created. */
+    public static MemberStatisticsDelta added(Collection<Member> members) {
+        MemberStatisticsDelta delta = new MemberStatisticsDelta();
+        members.forEach(member -> delta.count(member, 1));
+        return delta.compact();
+    }
+
+    /** A member was deleted. */
+    public static MemberStatisticsDelta removed(Member member) {
+        return changed(member, null);
+    }
+
+    /**
+     * A member went from {@code before} to {@code after}.
+     *
+     * @param before the member as it was, or {@code null} if it was just created
+     * @param after the member as it is now, or {@code null} if it was deleted
+     */
+    public static MemberStatisticsDelta changed(Member before, Member after) {
+        MemberStatisticsDelta delta = new MemberStatisticsDelta();
+        if (before != null) {
+            delta.count(before, -1);
+        }
+        if (after != null) {
+            delta.count(after, 1);
+        }
+        return delta.compact();
+    }
+
+    /** {@code count} members moved from one status to another, nothing else changed. */
+    public static MemberStatisticsDelta statusChanged(MemberStatus from, MemberStatus to, long count) {
+        MemberStatisticsDelta delta = new MemberStatisticsDelta();
+        delta.byStatus.merge(from, -count, Long::sum);
+        delta.byStatus.merge(to, count, Long::sum);
+        return delta.compact();
+    }
+
+    public Map<MemberStatus, Long> byStatus() {
+        return Collections.unmodifiableMap(byStatus);
+    }
+
+    public Map<SocialProvider, Long> bySocialProvider() {
+        return Collections.unmodifiableMap(bySocialProvider);
+    }
+
+    public long withLocalCredentials() {
+        return withLocalCredentials;
+    }
+
+    public boolean isEmpty() {
+        return byStatus.isEmpty() && bySocialProvider.isEmpty() && withLocalCredentials == 0;
+    }
+
+    private void count(Member member, long sign) {
+        byStatus.merge(member.getStatus(), sign, Long::sum);
+        if (member.getSocialProvider() != null) {
+            bySocialProvider.merge(member.getSocialProvider(), sign, Long::sum);
+        }
+        if (member.isHasLocalCredentials()) {
+            withLocalCredentials += sign;
+        }
+    }
+
+    private MemberStatisticsDelta compact() {
+        byStatus.values().removeIf(value -> value == 0);
+        bySocialProvider.values().removeIf(value -> value == 0);
+        return isEmpty() ? NONE : this;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ecclesiaflow.business.domain.member;
+
+/**
+ * Port for the member counters shown on the admin dashboard.
+ *
+ * <p>The counters are kept in an aggregate table. Writers apply a
+ * {@link MemberStatisticsDelta} in the transaction of the member write, so reading
+ * them costs the same whatever the number of members. {@link #reconcile()} recounts the members
+ * table and overwrites the counters, repairing any drift.</p>
+ */
+public interface MemberStatisticsRepository {
+
+    /** Reads the current counters. */
+    MemberStatistics get();
+
+    /** Adds {@code delta} to the counters, in the caller's transaction. */
+    void apply(MemberStatisticsDelta delta);
+
+    /**
+     * Recounts the members table and stores the result as the new counters,
+     * holding off concurrent deltas and reconciliations until it is done.
+     *
+     * @return the recounted statistics
+     */
+    MemberStatistics reconcile();
+}
@@ -32,5 +32,10 @@ public enum MemberStatus {
     /**
      * Member data has been anonymized (post-grace-period GDPR cleanup).
      */
-    INACTIVE
+    INACTIVE,
+
+    /**
+     * Member deletion in progress: its Keycloak user is deleted, then the member itself.
+     */
+    DELETING
 }
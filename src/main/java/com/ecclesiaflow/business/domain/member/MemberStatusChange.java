@@ -0,0 +1,60 @@
+package com.ecclesiaflow.business.domain.member;
+
+import java.time.LocalDateTime;
+
+/**
+ * A status transition applied with {@link MemberRepository#transitionStatus}: the
+ * member moves to {@code to} only if its status is still {@code from}.
+ *
+ * <p>{@code confirmedAt} and {@code keycloakUserId} are written only when set;
+ * {@code deactivatedAt} is always written, so a reactivation clears it.</p>
+ *
+ * @param from status the member must currently have
+ * @param to status to move to
+ * @param confirmedAt confirmation timestamp to record, or null to keep the current one
+ * @param keycloakUserId Keycloak account to link, or null to keep the current one
+ * @param deactivatedAt deactivation timestamp, null once the member is no longer deactivated
+ */
+public record MemberStatusChange(MemberStatus from, MemberStatus to, LocalDateTime confirmedAt,
+                                 String keycloakUserId, LocalDateTime deactivatedAt) {
+
+    /** PENDING → CONFIRMED, once the email address is verified. */
+    public static MemberStatusChange confirm(LocalDateTime confirmedAt) {
+        return new MemberStatusChange(MemberStatus.PENDING, MemberStatus.CONFIRMED, confirmedAt, null, null);
+    }
+
+    /** CONFIRMED → ACTIVE, once the Keycloak account exists. */
+    public static MemberStatusChange activate(String keycloakUserId) {
+        return new MemberStatusChange(MemberStatus.CONFIRMED, MemberStatus.ACTIVE, null, keycloakUserId, null);
+    }
+
+    /** {@code from} → DEACTIVATED, starting the grace period before anonymization. */
+    public static MemberStatusChange deactivate(MemberStatus from, LocalDateTime deactivatedAt) {
+        return new MemberStatusChange(from, MemberStatus.DEACTIVATED, null, null, deactivatedAt);
+    }
+
+    /** DEACTIVATED → ACTIVE, within the grace period. */
+    public static MemberStatusChange reactivate() {
+        return new MemberStatusChange(MemberStatus.DEACTIVATED, MemberStatus.ACTIVE, null, null, null);
+    }
+
+    /** {@code member}'s status → DELETING, while its Keycloak user is deleted. */
+    public static MemberStatusChange startDeletion(Member member) {
+        return new MemberStatusChange(member.getStatus(), MemberStatus.DELETING, null, null, member.getDeactivatedAt());
+    }
+
+    /** DELETING → {@code member}'s status, when its Keycloak user could not be deleted. */
+    public static MemberStatusChange cancelDeletion(Member member) {
+        return new MemberStatusChange(MemberStatus.DELETING, member.getStatus(), null, null, member.getDeactivatedAt());
+    }
+
+    /** Returns {@code member} as it is once this change is applied. */
+    public Member applyTo(Member member) {
+        return member.toBuilder()
+                .status(to)
+                .confirmedAt(confirmedAt != null ? confirmedAt : member.getConfirmedAt())
+                .keycloakUserId(keycloakUserId != null ? keycloakUserId : member.getKeycloakUserId())
+                .deactivatedAt(deactivatedAt)
+                .build();
+    }
+}
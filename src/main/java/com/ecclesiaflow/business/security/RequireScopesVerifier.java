@@ -0,0 +1,72 @@
+package com.ecclesiaflow.business.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves every {@link RequireScopes} declaration of the application beans against
+ * {@link ScopeRegistry} once all singletons are created.
+ *
+ * <p>An empty or unknown scope fails the startup, listing every offending method,
+ * instead of failing the first request to that method with a 500.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequireScopesVerifier implements SmartInitializingSingleton {
+
+    private final ListableBeanFactory beanFactory;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Set<Class<?>> scanned = new HashSet<>();
+        List<String> errors = new ArrayList<>();
+        int declarations = 0;
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            Class<?> type = beanFactory.getType(beanName, false);
+            if (type == null || !scanned.add(ClassUtils.getUserClass(type))) {
+                continue;
+            }
+            Map<Method, RequireScopes> annotated = MethodIntrospector.selectMethods(ClassUtils.getUserClass(type),
+                    (MethodIntrospector.MetadataLookup<RequireScopes>) method ->
+                            AnnotatedElementUtils.findMergedAnnotation(method, RequireScopes.class));
+            for (Map.Entry<Method, RequireScopes> entry : annotated.entrySet()) {
+                declarations++;
+                String error = check(entry.getValue());
+                if (error != null) {
+                    errors.add(entry.getKey().toGenericString() + ": " + error);
+                }
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Invalid @RequireScopes declarations: " + String.join("; ", errors));
+        }
+        log.debug("Scopes: {} @RequireScopes declarations resolved", declarations);
+    }
+
+    /** @return why the declaration can never be satisfied, or null if it is valid */
+    private static String check(RequireScopes annotation) {
+        if (annotation.value().length == 0) {
+            return "no scope declared";
+        }
+        try {
+            ScopeRegistry.requiredMaskOf(annotation.value());
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.ecclesiaflow.business.security;
 
-import org.springframework.stereotype.Component;
-
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -16,8 +14,7 @@ import java.util.stream.Collectors;
  * <p>Role hierarchy: USER has own-resource scopes, ADMIN and SUPER_ADMIN
  * have full access (own + all).</p>
  */
-@Component
-public class RoleToScopeMapper {
+public final class RoleToScopeMapper {
 
     private static final Map<String, Set<String>> ROLE_SCOPE_MAPPING = Map.of(
             "USER", Set.of(
@@ -37,16 +34,23 @@ public class RoleToScopeMapper {
             )
     );
 
+    private static final Map<String, Long> ROLE_SCOPE_MASKS = ROLE_SCOPE_MAPPING.entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> ScopeRegistry.maskOf(entry.getValue())));
+
+    private RoleToScopeMapper() {
+    }
+
     /**
-     * Derives scopes from the user's Keycloak roles (union of all role mappings).
+     * Derives the {@link ScopeRegistry} mask granted by the user's Keycloak roles.
      *
-     * @param roles set of role names (without ROLE_ prefix)
-     * @return union of scopes granted by all matching roles
+     * @param roles role names (without ROLE_ prefix)
+     * @return union of the masks of all matching roles
      */
-    public Set<String> getScopesForRoles(Set<String> roles) {
-        return roles.stream()
-                .map(role -> ROLE_SCOPE_MAPPING.getOrDefault(role, Set.of()))
-                .flatMap(Set::stream)
-                .collect(Collectors.toSet());
+    public static long getScopeMaskForRoles(Iterable<String> roles) {
+        long mask = 0;
+        for (String role : roles) {
+            mask |= ROLE_SCOPE_MASKS.getOrDefault(role, 0L);
+        }
+        return mask;
     }
 }
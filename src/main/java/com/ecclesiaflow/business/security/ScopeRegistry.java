@@ -0,0 +1,84 @@
+package com.ecclesiaflow.business.security;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of the application scopes, each assigned one bit of a {@code long}.
+ *
+ * <p>The scopes a caller holds (JWT {@code scope} claim plus role-derived scopes) are
+ * resolved into a mask once per authenticated token; {@link RequireScopes} checks are
+ * then bit tests against the mask of the required scopes. Scopes outside the registry
+ * (e.g. {@code openid}) have no bit and are ignored when resolving a caller's mask.</p>
+ */
+public final class ScopeRegistry {
+
+    public static final String MEMBERS_READ_OWN = "ef:members:read:own";
+    public static final String MEMBERS_READ_ALL = "ef:members:read:all";
+    public static final String MEMBERS_WRITE_OWN = "ef:members:write:own";
+    public static final String MEMBERS_WRITE_ALL = "ef:members:write:all";
+    public static final String MEMBERS_DELETE_OWN = "ef:members:delete:own";
+    public static final String MEMBERS_DELETE_ALL = "ef:members:delete:all";
+
+    /** Bit order; append only, at most 64 scopes. */
+    private static final List<String> SCOPES = List.of(
+            MEMBERS_READ_OWN, MEMBERS_READ_ALL,
+            MEMBERS_WRITE_OWN, MEMBERS_WRITE_ALL,
+            MEMBERS_DELETE_OWN, MEMBERS_DELETE_ALL
+    );
+
+    private static final Map<String, Long> BITS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < SCOPES.size(); i++) {
+            BITS.put(SCOPES.get(i), 1L << i);
+        }
+    }
+
+    private ScopeRegistry() {
+    }
+
+    /** Returns the bit of a scope, or 0 if the scope is not registered. */
+    public static long bitOf(String scope) {
+        return BITS.getOrDefault(scope, 0L);
+    }
+
+    /** Returns the mask of the registered scopes among {@code scopes}, ignoring the others. */
+    public static long maskOf(Iterable<String> scopes) {
+        long mask = 0;
+        for (String scope : scopes) {
+            mask |= bitOf(scope);
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the mask of scopes required by a {@link RequireScopes} declaration.
+     *
+     * @throws IllegalArgumentException if a scope is not registered, since it could never be granted
+     */
+    public static long requiredMaskOf(String... scopes) {
+        long mask = 0;
+        for (String scope : scopes) {
+            long bit = bitOf(scope);
+            if (bit == 0) {
+                throw new IllegalArgumentException("Unknown scope: " + scope);
+            }
+            mask |= bit;
+        }
+        return mask;
+    }
+
+    /** Returns the names of the scopes set in {@code mask}, in registry order (for logs and messages). */
+    public static List<String> namesOf(long mask) {
+        List<String> names = new ArrayList<>(Long.bitCount(mask));
+        for (int i = 0; i < SCOPES.size(); i++) {
+            if ((mask & (1L << i)) != 0) {
+                names.add(SCOPES.get(i));
+            }
+        }
+        return names;
+    }
+}
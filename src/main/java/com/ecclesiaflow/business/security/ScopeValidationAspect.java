@@ -11,17 +11,17 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * AOP aspect that enforces {@link RequireScopes} annotations.
  *
- * <p>Merges JWT scopes with role-derived scopes (via {@link RoleToScopeMapper})
- * before delegating to {@link ScopeValidator}. Can be disabled with
- * {@code ecclesiaflow.scopes.enabled=false}.</p>
+ * <p>The user's scopes (JWT scopes merged with role-derived scopes) are resolved into a
+ * {@link ScopeRegistry} mask once per authenticated token; each annotation is read once
+ * per method into a required mask. A check is then a bit test, delegated to
+ * {@link ScopeValidator}. Can be disabled with {@code ecclesiaflow.scopes.enabled=false}.
+ * The declarations are checked against the registry at startup by {@link RequireScopesVerifier}.</p>
  */
 @Aspect
 @Component
@@ -31,7 +31,8 @@ public class ScopeValidationAspect {
 
     private final ScopeValidator scopeValidator;
     private final AuthenticatedUserService authenticatedUserService;
-    private final RoleToScopeMapper roleToScopeMapper;
+
+    private final Map<Method, RequiredScopeMask> requiredMasks = new ConcurrentHashMap<>();
 
     @Value("${ecclesiaflow.scopes.enabled:true}")
     private boolean scopesEnabled;
@@ -44,36 +45,30 @@ public class ScopeValidationAspect {
             return;
         }
 
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-
-        RequireScopes annotation = method.getAnnotation(RequireScopes.class);
-
-        if (annotation == null) {
-            log.warn("@RequireScopes annotation not found on method: {}", method.getName());
-            return;
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        RequiredScopeMask required = requiredMasks.get(method);
+        if (required == null) {
+            RequireScopes annotation = method.getAnnotation(RequireScopes.class);
+            if (annotation == null) {
+                log.warn("@RequireScopes annotation not found on method: {}", method.getName());
+                return;
+            }
+            required = requiredMasks.computeIfAbsent(method, m -> RequiredScopeMask.of(annotation));
         }
 
-        String[] requiredScopes = annotation.value();
-        boolean requireAll = annotation.requireAll();
-
-        log.debug("Validating scopes for method: {} - Required scopes: {}, Require all: {}",
-                method.getName(), requiredScopes, requireAll);
-
-        // Merge JWT scopes (claim 'scope') with role-derived scopes
-        Set<String> jwtScopes = authenticatedUserService.getScopes();
-        Set<String> roleScopes = roleToScopeMapper.getScopesForRoles(
-                authenticatedUserService.getRoles());
-
-        Set<String> allScopes = new HashSet<>(jwtScopes);
-        allScopes.addAll(roleScopes);
-
-        List<String> userScopes = new ArrayList<>(allScopes);
-
-        log.debug("User scopes (JWT + role-derived): {}", userScopes);
+        scopeValidator.validateScopes(authenticatedUserService.getScopeMask(),
+                required.mask(), required.scopes(), required.requireAll());
+    }
 
-        scopeValidator.validateScopes(userScopes, requiredScopes, requireAll);
+    /** Scopes declared by one {@link RequireScopes} annotation, resolved against {@link ScopeRegistry}. */
+    private record RequiredScopeMask(long mask, String[] scopes, boolean requireAll) {
 
-        log.debug("Scope validation successful for method: {}", method.getName());
+        static RequiredScopeMask of(RequireScopes annotation) {
+            String[] scopes = annotation.value();
+            if (scopes.length == 0) {
+                throw new IllegalArgumentException("Required scopes cannot be null or empty");
+            }
+            return new RequiredScopeMask(ScopeRegistry.requiredMaskOf(scopes), scopes, annotation.requireAll());
+        }
     }
 }
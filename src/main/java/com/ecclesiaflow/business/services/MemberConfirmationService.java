@@ -10,6 +10,7 @@ import com.ecclesiaflow.business.exceptions.MemberAlreadyConfirmedException;
 import com.ecclesiaflow.business.exceptions.MemberNotFoundException;
 import com.ecclesiaflow.business.exceptions.EmailServiceException;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -91,6 +92,19 @@ public interface MemberConfirmationService {
      */
     void sendConfirmationLink(Member member);
 
+    /**
+     * Génère les liens de confirmation d'un lot de membres nouvellement créés.
+     * <p>
+     * Variante groupée de {@link #sendConfirmationLink(Member)} pour l'import en masse :
+     * les tokens sont insérés en une seule opération et aucune recherche de token
+     * existant n'est faite, les membres venant d'être créés. Les emails partent
+     * après le commit de la transaction englobante.
+     * </p>
+     *
+     * @param members les membres nouvellement créés, non null
+     */
+    void sendConfirmationLinks(List<Member> members);
+
     /**
      * Génère et envoie un nouveau lien de confirmation pour un membre.
      * <p>
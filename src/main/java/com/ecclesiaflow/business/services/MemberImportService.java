@@ -0,0 +1,19 @@
+package com.ecclesiaflow.business.services;
+
+import com.ecclesiaflow.business.domain.member.MemberImportReport;
+import com.ecclesiaflow.business.domain.member.MemberImportRow;
+
+import java.util.Iterator;
+
+/** Bulk creation of members from an uploaded file, with per-row error reporting. */
+public interface MemberImportService {
+
+    /**
+     * Imports the given rows in fixed-size batches, each committed on its own.
+     *
+     * <p>Rows are consumed lazily, so the whole file is never held in memory.
+     * Invalid rows, duplicates within the file and emails already in use are
+     * reported and skipped; every imported member is sent a confirmation link.</p>
+     */
+    MemberImportReport importMembers(Iterator<MemberImportRow> rows);
+}
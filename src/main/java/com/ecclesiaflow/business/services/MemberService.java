@@ -1,15 +1,21 @@
 package com.ecclesiaflow.business.services;
 
 import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberProfile;
 import com.ecclesiaflow.business.domain.member.MemberRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatistics;
 import com.ecclesiaflow.business.domain.member.MembershipRegistration;
 import com.ecclesiaflow.business.domain.member.MembershipUpdate;
 import com.ecclesiaflow.business.domain.member.SocialProvider;
 import com.ecclesiaflow.business.exceptions.MemberNotFoundException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service de domaine pour la gestion complète des membres EcclesiaFlow.
@@ -131,6 +137,29 @@ public interface MemberService {
      */
     Member getByKeycloakUserId(String keycloakUserId);
     
+    /**
+     * Variante lecture seule de {@link #findByMemberId(UUID)} pour l'affichage d'un membre.
+     * <p>
+     * Charge uniquement les colonnes du profil, sans passer par l'entité ni l'agrégat
+     * {@link Member}.
+     * </p>
+     *
+     * @param memberId l'UUID partagé du membre, non null
+     * @return le profil du membre, jamais null
+     * @throws MemberNotFoundException si aucun membre n'existe avec ce memberId
+     */
+    MemberProfile findProfileByMemberId(UUID memberId);
+
+    /**
+     * Variante lecture seule de {@link #getByKeycloakUserId(String)} pour l'affichage du profil.
+     *
+     * @param keycloakUserId l'identifiant Keycloak de l'utilisateur, non null
+     * @return le profil du membre, jamais null
+     * @throws MemberNotFoundException si aucun membre n'existe avec ce keycloakUserId
+     * @throws IllegalArgumentException si keycloakUserId est null ou vide
+     */
+    MemberProfile getProfileByKeycloakUserId(String keycloakUserId);
+
     /**
      * Met à jour les informations d'un membre existant.
      * <p>
@@ -153,6 +182,8 @@ public interface MemberService {
      *
      * @param memberId the member's shared UUID
      * @throws MemberNotFoundException if no member exists with this memberId
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the member's status
+     *         changed concurrently
      */
     void deactivateMember(UUID memberId);
 
@@ -183,12 +214,48 @@ public interface MemberService {
      * @param pageable les paramètres de pagination (page, taille, tri), non null
      * @param search terme de recherche optionnel pour filtrer par nom ou email
      * @param status filtre optionnel par statut (null = tous)
-     * @return une page de membres correspondant aux critères
+     * @return une page de profils membres correspondant aux critères
      * @throws IllegalArgumentException si pageable est null
-     * @implNote Opération de lecture optimisée avec index sur email et nom
+     * @implNote Lecture par projection : seules les colonnes de {@link MemberProfile} sont chargées
      * @since 1.0.0
      */
-    Page<Member> getAllMembers(Pageable pageable, String search, com.ecclesiaflow.business.domain.member.MemberStatus status);
+    Page<MemberProfile> getAllMembers(Pageable pageable, String search, com.ecclesiaflow.business.domain.member.MemberStatus status);
+
+    /**
+     * Récupère une tranche de membres par pagination keyset (seek).
+     * <p>
+     * Contrairement à la variante paginée par offset, aucune requête de comptage
+     * n'est exécutée et le coût d'une page ne dépend pas de sa profondeur :
+     * la requête reprend strictement après la position fournie, dans l'ordre
+     * {@code (sort, id)}.
+     * </p>
+     *
+     * @param position position de reprise ({@link org.springframework.data.domain.ScrollPosition#keyset()} pour la première page), non null
+     * @param sort critère de tri, non null
+     * @param size nombre maximal de membres à retourner (&gt; 0)
+     * @param search terme de recherche optionnel pour filtrer par nom ou email
+     * @param status filtre optionnel par statut (null = tous)
+     * @return la fenêtre de membres, avec la position du dernier élément pour la page suivante
+     * @throws IllegalArgumentException si position ou sort est null, ou si size &lt;= 0
+     */
+    Window<Member> getAllMembers(KeysetScrollPosition position, Sort sort, int size, String search,
+                                 com.ecclesiaflow.business.domain.member.MemberStatus status);
+
+    /**
+     * Exporte l'annuaire des membres en flux, un membre à la fois.
+     * <p>
+     * Les membres sont lus via un curseur JDBC dans une transaction en lecture seule
+     * et transmis à {@code consumer} au fil de l'eau : la mémoire utilisée ne dépend
+     * pas de la taille de l'annuaire. Une exception levée par {@code consumer}
+     * (ex. client déconnecté) interrompt l'export.
+     * </p>
+     *
+     * @param status filtre optionnel par statut (null = tous)
+     * @param consumer destinataire de chaque membre, non null
+     * @return le nombre de membres exportés
+     * @throws IllegalArgumentException si consumer est null
+     */
+    long exportMembers(com.ecclesiaflow.business.domain.member.MemberStatus status, Consumer<Member> consumer);
 
     /**
      * Registers a member via social login (Google/Facebook/Microsoft).
@@ -214,4 +281,12 @@ public interface MemberService {
      * @throws IllegalStateException if the member is not in DEACTIVATED status
      */
     Member reactivateMember(UUID memberId);
+
+    /**
+     * Returns the member counts per status, per social provider and with local credentials.
+     * Read from the aggregate counters, not by counting the members table.
+     *
+     * @return the current member statistics
+     */
+    MemberStatistics getStatistics();
 }
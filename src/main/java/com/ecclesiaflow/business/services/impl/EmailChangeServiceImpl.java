@@ -17,27 +17,37 @@ import com.ecclesiaflow.business.exceptions.LocalCredentialsRequiredException;
 import com.ecclesiaflow.business.services.EmailChangeService;
 import com.ecclesiaflow.business.services.MemberService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
  * Handles the email change flow: request → confirmation email → verify token → update.
- * Keycloak email is updated before DB save so that a Keycloak failure triggers rollback.
+ * Keycloak email is updated before the new email is saved, outside any transaction; the
+ * pending change is claimed meanwhile so that only one confirmation updates Keycloak.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailChangeServiceImpl implements EmailChangeService {
 
+    /** Longer than the deadline of the Keycloak call, so a claim never expires under its holder. */
+    static final Duration CONFIRMATION_LEASE = Duration.ofMinutes(1);
+
     private final MemberService memberService;
     private final MemberRepository memberRepository;
     private final PendingEmailChangeRepository pendingEmailChangeRepository;
     private final ConfirmationTokenGenerator tokenGenerator;
     private final AuthClient authClient;
     private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
 
     @Override
     @Transactional
@@ -72,9 +82,46 @@ public class EmailChangeServiceImpl implements EmailChangeService {
                 new PendingEmailChangeRequestedEvent(newEmail, pendingChange.getToken(), existing.getFirstName()));
     }
 
+    /**
+     * Confirms the change in three steps, so that no database connection is held while
+     * Keycloak is called:
+     * <ol>
+     *   <li>short transaction: checks the token and claims the pending change;</li>
+     *   <li>Keycloak update, outside any transaction;</li>
+     *   <li>short transaction: applies the new email and deletes the pending change.</li>
+     * </ol>
+     * If Keycloak fails, the claim is released and nothing has changed. If step 3 fails,
+     * Keycloak is set back to the old email before the claim is released.
+     */
     @Override
-    @Transactional
     public Member confirmEmailChange(UUID token) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        ClaimedChange claimed = transaction.execute(status -> claim(token));
+        PendingEmailChange pendingChange = claimed.pendingChange();
+        Member member = claimed.member();
+        String keycloakUserId = member.getKeycloakUserId();
+
+        if (keycloakUserId != null) {
+            try {
+                authClient.updateKeycloakUserEmail(keycloakUserId, pendingChange.getNewEmail());
+            } catch (RuntimeException e) {
+                releaseClaim(transaction, pendingChange, e);
+                throw e;
+            }
+        }
+
+        try {
+            return transaction.execute(status -> apply(pendingChange, member));
+        } catch (RuntimeException e) {
+            if (keycloakUserId != null) {
+                restoreKeycloakEmail(keycloakUserId, member.getEmail(), e);
+            }
+            releaseClaim(transaction, pendingChange, e);
+            throw e;
+        }
+    }
+
+    private ClaimedChange claim(UUID token) {
         PendingEmailChange pendingChange = pendingEmailChangeRepository.getByToken(token)
                 .orElseThrow(() -> new InvalidConfirmationCodeException("Invalid or expired email change token"));
 
@@ -84,24 +131,46 @@ public class EmailChangeServiceImpl implements EmailChangeService {
         if (memberRepository.existsByEmail(pendingChange.getNewEmail())) {
             throw new EmailAlreadyUsedException("Email is now taken by another account.");
         }
-
-        Member member = memberService.findByMemberId(pendingChange.getMemberId());
-        String oldEmail = member.getEmail();
-
-        // Update Keycloak FIRST — rollback on failure
-        if (member.getKeycloakUserId() != null) {
-            authClient.updateKeycloakUserEmail(member.getKeycloakUserId(), pendingChange.getNewEmail());
+        if (!pendingEmailChangeRepository.claimForConfirmation(pendingChange.getId(), CONFIRMATION_LEASE)) {
+            throw new InvalidConfirmationCodeException("Email change is already being confirmed");
         }
+        return new ClaimedChange(pendingChange, memberService.findByMemberId(pendingChange.getMemberId()));
+    }
 
+    private Member apply(PendingEmailChange pendingChange, Member member) {
         Member updated = member.toBuilder()
                 .email(pendingChange.getNewEmail())
-                .updatedAt(LocalDateTime.now())
                 .build();
-        Member saved = memberRepository.save(updated);
+        Member saved = memberRepository.update(member, updated);
 
         pendingEmailChangeRepository.delete(pendingChange);
 
-        eventPublisher.publishEvent(new EmailChangedEvent(oldEmail, saved.getFirstName()));
+        eventPublisher.publishEvent(new EmailChangedEvent(member.getEmail(), saved.getFirstName()));
         return saved;
     }
+
+    /** Compensation: the email change was not applied, so Keycloak goes back to the old email. */
+    private void restoreKeycloakEmail(String keycloakUserId, String oldEmail, RuntimeException cause) {
+        try {
+            authClient.updateKeycloakUserEmail(keycloakUserId, oldEmail);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            log.error("Email change: failed to restore the Keycloak email of user {} after a failed update",
+                    keycloakUserId, e);
+        }
+    }
+
+    /** Without this, the link could not be used again before the lease expires. */
+    private void releaseClaim(TransactionTemplate transaction, PendingEmailChange pendingChange,
+                              RuntimeException cause) {
+        try {
+            transaction.executeWithoutResult(status ->
+                    pendingEmailChangeRepository.releaseConfirmationClaim(pendingChange.getId()));
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private record ClaimedChange(PendingEmailChange pendingChange, Member member) {
+    }
 }
@@ -7,6 +7,9 @@ import com.ecclesiaflow.business.domain.confirmation.MembershipConfirmationResul
 import com.ecclesiaflow.business.domain.events.MemberRegisteredEvent;
 import com.ecclesiaflow.business.domain.member.Member;
 import com.ecclesiaflow.business.domain.member.MemberRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsDelta;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatusChange;
 import com.ecclesiaflow.business.services.MemberConfirmationService;
 import com.ecclesiaflow.business.exceptions.ExpiredConfirmationCodeException;
 import com.ecclesiaflow.business.exceptions.InvalidConfirmationCodeException;
@@ -17,9 +20,12 @@ import com.ecclesiaflow.business.domain.auth.PasswordSetupTokenResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -31,32 +37,35 @@ public class MemberConfirmationServiceImpl implements MemberConfirmationService
     private final AuthClient authClient;
     private final ApplicationEventPublisher eventPublisher;
     private final ConfirmationTokenGenerator tokenGenerator;
-
+    private final MemberStatisticsRepository statisticsRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Confirms the member without holding a database connection while the Auth module is
+     * called: the token is checked in a short transaction, the password-setup token is then
+     * requested outside any transaction, and the confirmation is written in a second short
+     * transaction. A failed Auth call leaves nothing written, so the link can be used again;
+     * a concurrent confirmation that wins the status transition makes this one fail.
+     */
     @Override
-    @Transactional
     public MembershipConfirmationResult confirmMemberByToken(UUID token) {
         if (token == null) {
             throw new IllegalArgumentException("Le token ne peut pas être null");
         }
-        MemberConfirmation confirmation = confirmationRepository.getByToken(token)
-                .orElseThrow(() -> new InvalidConfirmationCodeException("Token de confirmation invalide ou déjà utilisé"));
-
-        if (confirmation.isExpired()) {
-            throw new ExpiredConfirmationCodeException("Token de confirmation expiré");
-        }
-        Member member = getMemberOrThrow(confirmation.getMemberId());
-        
-        if (member.isConfirmed()) {
-            throw new MemberAlreadyConfirmedException("Le compte est déjà confirmé");
-        }
-        Member confirmedMember = member.confirm();
-        memberRepository.save(confirmedMember);
-
-        confirmationRepository.delete(confirmation);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        PendingConfirmation pending = transaction.execute(status -> checkConfirmation(token));
+        Member member = pending.member();
 
         PasswordSetupTokenResponse tokenResponse = authClient.retrievePostActivationToken(
                 member.getEmail(), member.getMemberId());
 
+        transaction.executeWithoutResult(status -> {
+            Member confirmed = memberRepository.transitionStatus(member, MemberStatusChange.confirm(LocalDateTime.now()))
+                    .orElseThrow(() -> new MemberAlreadyConfirmedException("Le compte est déjà confirmé"));
+            statisticsRepository.apply(MemberStatisticsDelta.changed(member, confirmed));
+            confirmationRepository.delete(pending.confirmation());
+        });
+
         return MembershipConfirmationResult.builder()
                 .message("Compte confirmé avec succès. Vous pouvez maintenant définir votre mot de passe.")
                 .temporaryToken(tokenResponse.token())
@@ -65,6 +74,21 @@ public class MemberConfirmationServiceImpl implements MemberConfirmationService
                 .build();
     }
 
+    private PendingConfirmation checkConfirmation(UUID token) {
+        MemberConfirmation confirmation = confirmationRepository.getByToken(token)
+                .orElseThrow(() -> new InvalidConfirmationCodeException("Token de confirmation invalide ou déjà utilisé"));
+
+        if (confirmation.isExpired()) {
+            throw new ExpiredConfirmationCodeException("Token de confirmation expiré");
+        }
+        Member member = getMemberOrThrow(confirmation.getMemberId());
+
+        if (member.isConfirmed()) {
+            throw new MemberAlreadyConfirmedException("Le compte est déjà confirmé");
+        }
+        return new PendingConfirmation(confirmation, member);
+    }
+
 
     @Override
     @Transactional
@@ -87,24 +111,45 @@ public class MemberConfirmationServiceImpl implements MemberConfirmationService
         generateAndSaveToken(member);
     }
 
+    @Override
+    @Transactional
+    public void sendConfirmationLinks(List<Member> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        var now = LocalDateTime.now();
+        List<MemberConfirmation> confirmations = members.stream()
+                .map(member -> newConfirmation(member, now))
+                .toList();
+        confirmationRepository.saveAll(confirmations);
+
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            eventPublisher.publishEvent(new MemberRegisteredEvent(
+                    member.getEmail(), confirmations.get(i).getToken(), member.getFirstName()));
+        }
+    }
+
     private void generateAndSaveToken(Member member) {
         deleteExistingConfirmationToken(member.getMemberId());
-        UUID newToken = tokenGenerator.generateToken();
-        var now = LocalDateTime.now();
-        MemberConfirmation confirmation = MemberConfirmation.builder()
-                .memberId(member.getMemberId())
-                .token(newToken)
-                .createdAt(now)
-                .expiresAt(now.plusHours(24))
-                .build();
+        MemberConfirmation confirmation = newConfirmation(member, LocalDateTime.now());
         confirmationRepository.save(confirmation);
         
         // L'email sera envoyé APRÈS le commit via @TransactionalEventListener
         eventPublisher.publishEvent(
-            new MemberRegisteredEvent(member.getEmail(), newToken, member.getFirstName())
+            new MemberRegisteredEvent(member.getEmail(), confirmation.getToken(), member.getFirstName())
         );
     }
 
+    private MemberConfirmation newConfirmation(Member member, LocalDateTime now) {
+        return MemberConfirmation.builder()
+                .memberId(member.getMemberId())
+                .token(tokenGenerator.generateToken())
+                .createdAt(now)
+                .expiresAt(now.plusHours(24))
+                .build();
+    }
+
 
     private Member getMemberOrThrow(UUID memberId) throws MemberNotFoundException, MemberAlreadyConfirmedException {
         return memberRepository.getByMemberId(memberId)
@@ -115,4 +160,7 @@ public class MemberConfirmationServiceImpl implements MemberConfirmationService
         confirmationRepository.getByMemberId(memberId)
                 .ifPresent(confirmationRepository::delete);
     }
+
+    private record PendingConfirmation(MemberConfirmation confirmation, Member member) {
+    }
 }
\ No newline at end of file
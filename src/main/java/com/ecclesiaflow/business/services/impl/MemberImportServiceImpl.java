@@ -0,0 +1,180 @@
+package com.ecclesiaflow.business.services.impl;
+
+import com.ecclesiaflow.business.domain.identity.UuidV7;
+import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberImportReport;
+import com.ecclesiaflow.business.domain.member.MemberImportRow;
+import com.ecclesiaflow.business.domain.member.MemberRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsDelta;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsRepository;
+import com.ecclesiaflow.business.domain.member.MembershipRegistration;
+import com.ecclesiaflow.business.services.MemberConfirmationService;
+import com.ecclesiaflow.business.services.MemberImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Batched member import.
+ *
+ * <p>Each batch costs one email lookup, one batched insert of members and one of
+ * confirmation tokens, in a single transaction. Confirmation emails are queued
+ * through the usual after-commit listener. When a batch fails on a constraint
+ * (typically an email registered concurrently), its rows are retried one by one
+ * so that only the offending rows are rejected.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberImportServiceImpl implements MemberImportService {
+
+    static final int MAX_REPORTED_ERRORS = 1_000;
+    static final String DUPLICATE_IN_FILE = "Duplicate email in file";
+    static final String EMAIL_ALREADY_USED = "An account with this email already exists.";
+    static final String ROW_REJECTED = "The row could not be saved (invalid or too long value).";
+
+    private final MemberRepository memberRepository;
+    private final MemberConfirmationService confirmationService;
+    private final PlatformTransactionManager transactionManager;
+    private final MemberStatisticsRepository statisticsRepository;
+
+    @Value("${ecclesiaflow.members.import.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public MemberImportReport importMembers(Iterator<MemberImportRow> rows) {
+        long start = System.currentTimeMillis();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Progress progress = new Progress();
+        Set<String> seenEmails = new HashSet<>();
+        List<MemberImportRow> batch = new ArrayList<>(batchSize);
+
+        while (rows.hasNext()) {
+            MemberImportRow row = rows.next();
+            progress.total++;
+            if (!row.isValid()) {
+                progress.reject(row, row.error());
+            } else if (!seenEmails.add(normalize(row.email()))) {
+                progress.reject(row, DUPLICATE_IN_FILE);
+            } else {
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    importBatch(batch, transaction, progress);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch, transaction, progress);
+        }
+
+        MemberImportReport report = progress.toReport(System.currentTimeMillis() - start);
+        log.info("Member import: {} rows, {} imported, {} rejected in {} ms ({} rows/s)",
+                report.totalRows(), report.importedRows(), report.rejectedRows(),
+                report.durationMillis(), Math.round(report.rowsPerSecond()));
+        return report;
+    }
+
+    private void importBatch(List<MemberImportRow> batch, TransactionTemplate transaction, Progress progress) {
+        Set<String> existing = new HashSet<>();
+        for (String email : memberRepository.findExistingEmails(batch.stream().map(MemberImportRow::email).toList())) {
+            existing.add(normalize(email));
+        }
+
+        List<MemberImportRow> fresh = new ArrayList<>(batch.size());
+        for (MemberImportRow row : batch) {
+            if (existing.contains(normalize(row.email()))) {
+                progress.reject(row, EMAIL_ALREADY_USED);
+            } else {
+                fresh.add(row);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        try {
+            transaction.executeWithoutResult(status -> persist(fresh));
+            progress.imported += fresh.size();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Member import: batch of {} rows failed, retrying row by row", fresh.size());
+            for (MemberImportRow row : fresh) {
+                try {
+                    transaction.executeWithoutResult(status -> persist(List.of(row)));
+                    progress.imported++;
+                } catch (DataIntegrityViolationException rowFailure) {
+                    progress.reject(row, rejectionReason(row, rowFailure));
+                }
+            }
+        }
+    }
+
+    /**
+     * A row alone can fail on any constraint (NOT NULL, column length, unique email...).
+     * It is reported as a duplicate only if its email is registered now, which the
+     * batch lookup did not see; any other failure gets a generic message.
+     */
+    private String rejectionReason(MemberImportRow row, DataIntegrityViolationException failure) {
+        if (memberRepository.existsByEmail(row.email())) {
+            return EMAIL_ALREADY_USED;
+        }
+        log.warn("Member import: row {} rejected by the database: {}",
+                row.rowNumber(), failure.getMostSpecificCause().getMessage());
+        return ROW_REJECTED;
+    }
+
+    private void persist(List<MemberImportRow> rows) {
+        List<Member> members = rows.stream()
+                .map(row -> createMemberFromRegistration(row.registration()))
+                .toList();
+        List<Member> saved = memberRepository.saveAll(members);
+        statisticsRepository.apply(MemberStatisticsDelta.added(saved));
+        confirmationService.sendConfirmationLinks(saved);
+    }
+
+    private Member createMemberFromRegistration(MembershipRegistration registration) {
+        return Member.builder()
+                .memberId(UuidV7.generate())
+                .firstName(registration.firstName())
+                .lastName(registration.lastName())
+                .email(registration.email())
+                .address(registration.address())
+                .phoneNumber(registration.phoneNumber())
+                .build();
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Progress {
+        private long total;
+        private long imported;
+        private long rejected;
+        private final List<MemberImportReport.RowError> errors = new ArrayList<>();
+
+        void reject(MemberImportRow row, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new MemberImportReport.RowError(row.rowNumber(), row.email(), message));
+            }
+        }
+
+        MemberImportReport toReport(long durationMillis) {
+            errors.sort(Comparator.comparingLong(MemberImportReport.RowError::rowNumber));
+            return new MemberImportReport(total, imported, rejected, durationMillis, List.copyOf(errors));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.ecclesiaflow.business.services.impl;
 
 import com.ecclesiaflow.business.domain.auth.AuthClient;
+import com.ecclesiaflow.business.domain.identity.UuidV7;
 import com.ecclesiaflow.business.domain.member.*;
 import com.ecclesiaflow.business.exceptions.EmailAlreadyUsedException;
 import com.ecclesiaflow.business.services.MemberConfirmationService;
@@ -8,16 +9,26 @@ import com.ecclesiaflow.business.services.MemberService;
 import com.ecclesiaflow.business.exceptions.MemberNotFoundException;
 import com.ecclesiaflow.business.exceptions.SocialAccountAlreadyExistsException;
 import com.ecclesiaflow.business.domain.events.MemberActivatedEvent;
+import com.ecclesiaflow.business.transaction.ReadFromPrimary;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Core member management service.
@@ -33,6 +44,12 @@ public class MemberServiceImpl implements MemberService {
     private final MemberConfirmationService confirmationService;
     private final AuthClient authClient;
     private final ApplicationEventPublisher eventPublisher;
+    private final MemberSearchIndex searchIndex;
+    private final MemberStatisticsRepository statisticsRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${ecclesiaflow.members.search.full-text-enabled:false}")
+    private boolean fullTextSearchEnabled;
 
     @Override
     @Transactional
@@ -43,6 +60,7 @@ public class MemberServiceImpl implements MemberService {
         }
         Member member = createMemberFromRegistration(registration);
         Member savedMember = memberRepository.save(member);
+        statisticsRepository.apply(MemberStatisticsDelta.added(savedMember));
         confirmationService.sendConfirmationLink(savedMember);
         
         return savedMember;
@@ -53,6 +71,7 @@ public class MemberServiceImpl implements MemberService {
     }
 
     @Override
+    @ReadFromPrimary
     @Transactional(readOnly = true)
     public boolean isEmailConfirmed(String email) {
         return memberRepository.getByEmail(email)
@@ -62,7 +81,7 @@ public class MemberServiceImpl implements MemberService {
 
     private Member createMemberFromRegistration(MembershipRegistration registration) {
         return Member.builder().
-                memberId(UUID.randomUUID()).
+                memberId(UuidV7.generate()).
                 firstName(registration.firstName()).
                 lastName(registration.lastName()).
                 email(registration.email()).
@@ -87,38 +106,89 @@ public class MemberServiceImpl implements MemberService {
                 .orElseThrow(() -> new MemberNotFoundException("Member not found for keycloakUserId: " + keycloakUserId));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public MemberProfile findProfileByMemberId(UUID memberId) {
+        return memberRepository.getProfileByMemberId(memberId)
+                .orElseThrow(() -> new MemberNotFoundException("Member not found"));
+    }
+
+    @Override
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public MemberProfile getProfileByKeycloakUserId(String keycloakUserId) {
+        if (keycloakUserId == null || keycloakUserId.isBlank()) {
+            throw new IllegalArgumentException("keycloakUserId must not be null or blank");
+        }
+        return memberRepository.getProfileByKeycloakUserId(keycloakUserId)
+                .orElseThrow(() -> new MemberNotFoundException("Member not found for keycloakUserId: " + keycloakUserId));
+    }
+
     @Override
     @Transactional
     public Member updateMember(MembershipUpdate update) {
         Member existing = findByMemberId(update.getMemberId());
         Member updatedMember = existing.withUpdatedFields(update);
-        return memberRepository.save(updatedMember);
+        Member saved = memberRepository.update(existing, updatedMember);
+        statisticsRepository.apply(MemberStatisticsDelta.changed(existing, updatedMember));
+        return saved;
     }
 
     @Override
     @Transactional
     public void deactivateMember(UUID memberId) {
         Member member = findByMemberId(memberId);
-        Member deactivated = member.toBuilder()
-                .status(MemberStatus.DEACTIVATED)
-                .deactivatedAt(LocalDateTime.now())
-                .build();
-        memberRepository.save(deactivated);
+        transition(member, MemberStatusChange.deactivate(member.getStatus(), LocalDateTime.now()));
     }
 
+    /**
+     * Deletes the member and its Keycloak user without holding a database connection while
+     * Keycloak is called. The member is first moved to DELETING in a short transaction, which
+     * the member status filter refuses, then the Keycloak user is deleted, then the member in
+     * a second short transaction. If Keycloak fails, the previous status is restored. A member
+     * left DELETING by a failure in between keeps its Keycloak user id, and the cleanup job
+     * finishes its deletion.
+     */
     @Override
-    @Transactional
     public void deleteMember(UUID memberId) {
-        Member member = findByMemberId(memberId);
-        if (member.getKeycloakUserId() != null) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Member member = transaction.execute(status -> findByMemberId(memberId));
+        if (member.getKeycloakUserId() == null) {
+            transaction.executeWithoutResult(status -> remove(member));
+            return;
+        }
+
+        Member deleting = transaction.execute(status -> transition(member, MemberStatusChange.startDeletion(member)));
+        try {
             authClient.deleteKeycloakUser(member.getKeycloakUserId());
+        } catch (RuntimeException e) {
+            try {
+                transaction.executeWithoutResult(status ->
+                        transition(deleting, MemberStatusChange.cancelDeletion(member)));
+            } catch (RuntimeException restoreFailure) {
+                e.addSuppressed(restoreFailure);
+            }
+            throw e;
         }
+        transaction.executeWithoutResult(status -> remove(deleting));
+    }
+
+    private Member transition(Member member, MemberStatusChange change) {
+        Member transitioned = memberRepository.transitionStatus(member, change)
+                .orElseThrow(() -> new OptimisticLockingFailureException(
+                        "Member " + member.getMemberId() + " was modified concurrently"));
+        statisticsRepository.apply(MemberStatisticsDelta.changed(member, transitioned));
+        return transitioned;
+    }
+
+    private void remove(Member member) {
         memberRepository.delete(member);
+        statisticsRepository.apply(MemberStatisticsDelta.removed(member));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Member> getAllMembers(Pageable pageable, String search, com.ecclesiaflow.business.domain.member.MemberStatus status) {
+    public Page<MemberProfile> getAllMembers(Pageable pageable, String search, com.ecclesiaflow.business.domain.member.MemberStatus status) {
         if (pageable == null) {
             throw new IllegalArgumentException("Pageable cannot be null");
         }
@@ -126,18 +196,42 @@ public class MemberServiceImpl implements MemberService {
         return findMembersWithCriteria(pageable, normalizeSearch(search), status);
     }
 
-    // --- Private helpers ---
-    private Page<Member> findMembersWithCriteria(Pageable pageable, String normalizedSearch, com.ecclesiaflow.business.domain.member.MemberStatus status) {
-        if (normalizedSearch != null && status != null) {
-            return memberRepository.getMembersBySearchTermAndStatus(normalizedSearch, status, pageable);
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Member> getAllMembers(KeysetScrollPosition position, Sort sort, int size, String search,
+                                        com.ecclesiaflow.business.domain.member.MemberStatus status) {
+        if (position == null || sort == null) {
+            throw new IllegalArgumentException("Scroll position and sort cannot be null");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be greater than zero");
         }
+
+        return memberRepository.scrollMembers(normalizeSearch(search), status, position, sort, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportMembers(com.ecclesiaflow.business.domain.member.MemberStatus status, Consumer<Member> consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        }
+        return memberRepository.forEachMember(status, consumer);
+    }
+
+    // --- Private helpers ---
+    private Page<MemberProfile> findMembersWithCriteria(Pageable pageable, String normalizedSearch, com.ecclesiaflow.business.domain.member.MemberStatus status) {
         if (normalizedSearch != null) {
-            return memberRepository.getMembersBySearchTerm(normalizedSearch, pageable);
+            Optional<Page<UUID>> indexed = searchIndex.search(normalizedSearch, status, pageable);
+            if (indexed.isPresent()) {
+                Page<UUID> ids = indexed.get();
+                return new PageImpl<>(memberRepository.getProfilesByIds(ids.getContent()), pageable, ids.getTotalElements());
+            }
         }
-        if (status != null) {
-            return memberRepository.getByStatus(status, pageable);
+        if (normalizedSearch != null && fullTextSearchEnabled) {
+            return memberRepository.searchMembersByRelevance(normalizedSearch, status, pageable).map(MemberProfile::of);
         }
-        return memberRepository.getAll(pageable);
+        return memberRepository.getProfiles(normalizedSearch, status, pageable);
     }
 
     @Override
@@ -159,11 +253,13 @@ public class MemberServiceImpl implements MemberService {
                     .keycloakUserId(keycloakUserId)
                     .socialProvider(socialProvider)
                     .build();
-            return memberRepository.save(linked);
+            Member saved = memberRepository.update(existing, linked);
+            statisticsRepository.apply(MemberStatisticsDelta.changed(existing, linked));
+            return saved;
         }
 
         Member member = Member.builder()
-                .memberId(UUID.randomUUID())
+                .memberId(UuidV7.generate())
                 .firstName(registration.firstName())
                 .lastName(registration.lastName())
                 .email(registration.email())
@@ -177,6 +273,7 @@ public class MemberServiceImpl implements MemberService {
                 .build();
 
         Member savedMember = memberRepository.save(member);
+        statisticsRepository.apply(MemberStatisticsDelta.added(savedMember));
         eventPublisher.publishEvent(new MemberActivatedEvent(savedMember.getEmail(), savedMember.getFirstName()));
         return savedMember;
     }
@@ -188,11 +285,16 @@ public class MemberServiceImpl implements MemberService {
         if (member.getStatus() != MemberStatus.DEACTIVATED) {
             throw new IllegalStateException("Only DEACTIVATED accounts can be reactivated");
         }
-        Member reactivated = member.toBuilder()
-                .status(MemberStatus.ACTIVE)
-                .deactivatedAt(null)
-                .build();
-        return memberRepository.save(reactivated);
+        Member reactivated = memberRepository.transitionStatus(member, MemberStatusChange.reactivate())
+                .orElseThrow(() -> new IllegalStateException("Only DEACTIVATED accounts can be reactivated"));
+        statisticsRepository.apply(MemberStatisticsDelta.changed(member, reactivated));
+        return reactivated;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MemberStatistics getStatistics() {
+        return statisticsRepository.get();
     }
 
     private String normalizeSearch(String search) {
@@ -0,0 +1,23 @@
+package com.ecclesiaflow.business.transaction;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sends the read-only transactions of a method to the primary database instead of
+ * the read replica, for reads that must see a write made just before (possibly by
+ * a previous request) despite replication lag.
+ *
+ * <p>Intercepted by {@code ReadFromPrimaryAspect}. The choice is made when the
+ * transaction first touches the database, so the annotation has no effect inside
+ * a transaction that has already done so; put it on the outermost method. No-op
+ * when no replica is configured.</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadFromPrimary {
+}
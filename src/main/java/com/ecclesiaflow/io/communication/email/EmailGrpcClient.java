@@ -1,134 +1,247 @@
 package com.ecclesiaflow.io.communication.email;
 
 import com.ecclesiaflow.application.config.ResilienceConfig;
+import com.ecclesiaflow.business.domain.communication.AsyncEmailClient;
 import com.ecclesiaflow.business.domain.communication.EmailClient;
+import com.ecclesiaflow.business.domain.communication.EmailSendResult;
+import com.ecclesiaflow.business.domain.communication.OutboundEmail;
 import com.ecclesiaflow.business.exceptions.EmailServiceException;
 import com.ecclesiaflow.business.exceptions.EmailServiceException.EmailOperation;
 import com.ecclesiaflow.business.exceptions.EmailServiceUnavailableException;
 import com.ecclesiaflow.business.exceptions.GrpcCommunicationException;
 import com.ecclesiaflow.grpc.email.*;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.retry.annotation.Retry;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
 import io.grpc.ManagedChannel;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
- * gRPC adapter implementing {@link EmailClient} port with circuit breaker.
+ * gRPC adapter implementing {@link EmailClient} and {@link AsyncEmailClient} ports with circuit breaker.
+ *
+ * <p>Every call to the Email module is a {@code SendBulkEmails} call made on the async stub,
+ * with a deadline of {@code grpc.email.deadline}, guarded by the
+ * {@link ResilienceConfig#EMAIL_SERVICE_BULKHEAD} bulkhead (calls in flight),
+ * {@link ResilienceConfig#EMAIL_SERVICE_TIME_LIMITER} time limiter and
+ * {@link ResilienceConfig#EMAIL_SERVICE_CB} circuit breaker, which therefore counts one
+ * success or failure per batch. No thread waits for the response; the synchronous
+ * {@link EmailClient} methods wait on the future, at most until the deadline.</p>
  */
 @Component
-public class EmailGrpcClient implements EmailClient {
+public class EmailGrpcClient implements EmailClient, AsyncEmailClient {
 
     private static final String SERVICE_NAME = "EmailService";
 
-    private final EmailServiceGrpc.EmailServiceBlockingStub stub;
+    private final EmailServiceGrpc.EmailServiceFutureStub stub;
+    private final Duration deadline;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final TimeLimiter timeLimiter;
+    private final ScheduledExecutorService timeLimiterScheduler;
 
-    public EmailGrpcClient(ManagedChannel emailGrpcChannel) {
-        this.stub = EmailServiceGrpc.newBlockingStub(emailGrpcChannel)
+    public EmailGrpcClient(ManagedChannel emailGrpcChannel,
+                           CircuitBreakerRegistry circuitBreakerRegistry,
+                           BulkheadRegistry bulkheadRegistry,
+                           TimeLimiterRegistry timeLimiterRegistry,
+                           @Value("${grpc.email.deadline:5s}") Duration deadline) {
+        this.stub = EmailServiceGrpc.newFutureStub(emailGrpcChannel)
                 .withCompression("gzip");
+        this.deadline = deadline;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(ResilienceConfig.EMAIL_SERVICE_CB);
+        this.bulkhead = bulkheadRegistry.bulkhead(ResilienceConfig.EMAIL_SERVICE_BULKHEAD);
+        this.timeLimiter = timeLimiterRegistry.timeLimiter(ResilienceConfig.EMAIL_SERVICE_TIME_LIMITER);
+        this.timeLimiterScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("email-time-limiter").daemon().factory());
     }
 
+    /**
+     * Sends the emails with one {@code SendBulkEmails} call. Not retried here: the outbox
+     * relay retries the emails that were not accepted, with its own backoff.
+     */
     @Override
-    @CircuitBreaker(name = ResilienceConfig.EMAIL_SERVICE_CB, fallbackMethod = "sendConfirmationEmailFallback")
-    @Retry(name = ResilienceConfig.EMAIL_SERVICE_RETRY)
-    public UUID sendConfirmationEmail(String email, String confirmationUrl, String firstName) {
-        Map<String, String> variables = Map.of(
-            "email", email,
-            "confirmationLink", confirmationUrl,
-            "firstName", firstName != null ? firstName : "Membre"
-        );
+    public List<EmailSendResult> sendBatch(List<OutboundEmail> emails) {
+        return await(sendBatchAsync(emails));
+    }
 
-        return sendEmail(
-            email,
-            EmailTemplateType.EMAIL_TEMPLATE_EMAIL_CONFIRMATION,
-            "Confirmez votre adresse email — EcclesiaFlow",
-            variables,
-            Priority.PRIORITY_HIGH,
-            EmailOperation.CONFIRMATION
-        );
+    /** @see #sendBatch(List) */
+    @Override
+    public CompletableFuture<List<EmailSendResult>> sendBatchAsync(List<OutboundEmail> emails) {
+        return sendBulk(emails);
     }
 
-    @SuppressWarnings("unused")
-    private UUID sendConfirmationEmailFallback(String email, String confirmationUrl, String firstName, Throwable t) {
-        throw new EmailServiceUnavailableException(SERVICE_NAME, t);
+    @PreDestroy
+    public void close() {
+        timeLimiterScheduler.shutdownNow();
     }
 
-    @Override
-    @CircuitBreaker(name = ResilienceConfig.EMAIL_SERVICE_CB, fallbackMethod = "sendWelcomeEmailFallback")
-    @Retry(name = ResilienceConfig.EMAIL_SERVICE_RETRY)
-    public UUID sendWelcomeEmail(String email, String firstName) {
-        Map<String, String> variables = Map.of(
-            "email", email,
-            "firstName", firstName != null ? firstName : "Membre"
-        );
+    /**
+     * One {@code SendBulkEmails} call through the bulkhead, time limiter and circuit breaker;
+     * results are mapped by position.
+     *
+     * @return the results; fails with {@link EmailServiceException} if the call failed or timed
+     *         out, with {@link EmailServiceUnavailableException} if it was not attempted
+     */
+    private CompletableFuture<List<EmailSendResult>> sendBulk(List<OutboundEmail> emails) {
+        SendBulkEmailsRequest.Builder request = SendBulkEmailsRequest.newBuilder();
+        emails.forEach(email -> request.addEmails(toRequest(email)));
 
-        return sendEmail(
-            email,
-            EmailTemplateType.EMAIL_TEMPLATE_WELCOME,
-            "Bienvenue sur EcclesiaFlow",
-            variables,
-            Priority.PRIORITY_NORMAL,
-            EmailOperation.WELCOME
-        );
-    }
+        if (!bulkhead.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(new EmailServiceUnavailableException(SERVICE_NAME,
+                    BulkheadFullException.createBulkheadFullException(bulkhead)));
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.onComplete();
+            return CompletableFuture.failedFuture(new EmailServiceUnavailableException(SERVICE_NAME,
+                    CallNotPermittedException.createCallNotPermittedException(circuitBreaker)));
+        }
 
-    @SuppressWarnings("unused")
-    private UUID sendWelcomeEmailFallback(String email, String firstName, Throwable t) {
-        throw new EmailServiceUnavailableException(SERVICE_NAME, t);
+        long start = System.nanoTime();
+        return timeLimiter.executeCompletionStage(timeLimiterScheduler, () -> call(request.build()))
+                .toCompletableFuture()
+                .handle((response, error) -> {
+                    bulkhead.onComplete();
+                    long elapsed = System.nanoTime() - start;
+                    if (error != null) {
+                        Throwable cause = unwrap(error);
+                        circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, cause);
+                        throw toBulkFailure(emails, cause);
+                    }
+                    circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+
+                    List<EmailSendResult> results = new ArrayList<>(emails.size());
+                    for (int i = 0; i < emails.size(); i++) {
+                        results.add(i < response.getResultsCount()
+                                ? toResult(response.getResults(i))
+                                : EmailSendResult.rejected("No result returned by " + SERVICE_NAME));
+                    }
+                    return results;
+                });
     }
 
-    @Override
-    @CircuitBreaker(name = ResilienceConfig.EMAIL_SERVICE_CB, fallbackMethod = "sendEmailChangedNotificationFallback")
-    @Retry(name = ResilienceConfig.EMAIL_SERVICE_RETRY)
-    public UUID sendEmailChangedNotification(String oldEmail, String firstName) {
-        Map<String, String> variables = Map.of(
-            "email", oldEmail,
-            "firstName", firstName != null ? firstName : "Membre"
-        );
+    /**
+     * Starts the call with its deadline. The call is cancelled if the returned future is
+     * completed first (time limiter).
+     */
+    private CompletableFuture<SendBulkEmailsResponse> call(SendBulkEmailsRequest request) {
+        CompletableFuture<SendBulkEmailsResponse> future = new CompletableFuture<>();
+        ListenableFuture<SendBulkEmailsResponse> call;
+        try {
+            call = stub.withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS).sendBulkEmails(request);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+        Futures.addCallback(call, new FutureCallback<>() {
+            @Override
+            public void onSuccess(SendBulkEmailsResponse response) {
+                future.complete(response);
+            }
 
-        return sendEmail(
-            oldEmail,
-            EmailTemplateType.EMAIL_TEMPLATE_PROFILE_UPDATED,
-            "Your email address has been changed — EcclesiaFlow",
-            variables,
-            Priority.PRIORITY_NORMAL,
-            EmailOperation.EMAIL_CHANGED
-        );
+            @Override
+            public void onFailure(Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }, MoreExecutors.directExecutor());
+        future.whenComplete((response, error) -> {
+            if (error != null) {
+                call.cancel(false);
+            }
+        });
+        return future;
     }
 
-    @SuppressWarnings("unused")
-    private UUID sendEmailChangedNotificationFallback(String oldEmail, String firstName, Throwable t) {
-        throw new EmailServiceUnavailableException(SERVICE_NAME, t);
+    private RuntimeException toBulkFailure(List<OutboundEmail> emails, Throwable cause) {
+        OutboundEmail first = emails.getFirst();
+        String message = String.format("Bulk email sending failed (%d emails)", emails.size());
+        return switch (cause) {
+            case StatusRuntimeException e ->
+                    mapToEmailServiceException(e, "sendBulkEmails", message, first.recipient(), first.operation());
+            case TimeoutException e -> mapToEmailServiceException(
+                    Status.DEADLINE_EXCEEDED.withDescription("No response within the time limit").withCause(e)
+                            .asRuntimeException(),
+                    "sendBulkEmails", message, first.recipient(), first.operation());
+            case RuntimeException e -> e;
+            default -> new EmailServiceException(message, first.recipient(), first.operation(), cause);
+        };
     }
 
-    private UUID sendEmail(String toEmail,
-                          EmailTemplateType templateType,
-                          String subject,
-                          Map<String, String> variables,
-                          Priority priority,
-                          EmailOperation operation) {
+    private static <T> T await(CompletableFuture<T> future) {
         try {
-            SendEmailRequest request = SendEmailRequest.newBuilder()
-                    .addTo(toEmail)
-                    .setSubject(subject)
-                    .setTemplateType(templateType)
-                    .putAllVariables(variables)
-                    .setPriority(priority)
-                    .build();
-
-            SendEmailResponse response = stub.sendEmail(request);
-            return UUID.fromString(response.getEmailId());
-            
-        } catch (StatusRuntimeException e) {
-            throw mapToEmailServiceException(e, toEmail, operation);
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static SendEmailRequest toRequest(OutboundEmail email) {
+        String firstName = email.firstName() != null ? email.firstName() : "Membre";
+        SendEmailRequest.Builder request = SendEmailRequest.newBuilder()
+                .addTo(email.recipient())
+                .putVariables("email", email.recipient())
+                .putVariables("firstName", firstName);
+
+        switch (email.operation()) {
+            case CONFIRMATION -> request
+                    .setTemplateType(EmailTemplateType.EMAIL_TEMPLATE_EMAIL_CONFIRMATION)
+                    .setSubject("Confirmez votre adresse email — EcclesiaFlow")
+                    .putVariables("confirmationLink", email.link())
+                    .setPriority(Priority.PRIORITY_HIGH);
+            case WELCOME -> request
+                    .setTemplateType(EmailTemplateType.EMAIL_TEMPLATE_WELCOME)
+                    .setSubject("Bienvenue sur EcclesiaFlow")
+                    .setPriority(Priority.PRIORITY_NORMAL);
+            case EMAIL_CHANGED -> request
+                    .setTemplateType(EmailTemplateType.EMAIL_TEMPLATE_PROFILE_UPDATED)
+                    .setSubject("Your email address has been changed — EcclesiaFlow")
+                    .setPriority(Priority.PRIORITY_NORMAL);
+        }
+        return request.build();
+    }
+
+    private static EmailSendResult toResult(SendEmailResponse response) {
+        if (response.getStatus() == com.ecclesiaflow.grpc.email.Status.STATUS_FAILED
+                || response.getEmailId().isEmpty()) {
+            return EmailSendResult.rejected(response.hasMessage()
+                    ? response.getMessage()
+                    : "Rejected by " + SERVICE_NAME + " (" + response.getStatus() + ")");
         }
+        return EmailSendResult.accepted(UUID.fromString(response.getEmailId()));
     }
 
     private EmailServiceException mapToEmailServiceException(StatusRuntimeException e,
+                                                           String method,
+                                                           String message,
                                                            String toEmail,
                                                            EmailOperation operation) {
         Status.Code statusCode = e.getStatus().getCode();
@@ -136,14 +249,14 @@ public class EmailGrpcClient implements EmailClient {
 
         GrpcCommunicationException grpcException = new GrpcCommunicationException(
                 SERVICE_NAME,
-                "sendEmail",
+                method,
                 statusCode,
                 description != null ? description : "No description provided",
                 e
         );
 
         return new EmailServiceException(
-                String.format("Email sending failed (%s): %s", operation.name(), statusCode),
+                String.format("%s: %s", message, statusCode),
                 toEmail,
                 operation,
                 grpcException
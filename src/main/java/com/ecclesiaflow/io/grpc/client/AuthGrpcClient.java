@@ -1,17 +1,24 @@
 package com.ecclesiaflow.io.grpc.client;
 
+import com.ecclesiaflow.business.domain.auth.AsyncAuthClient;
 import com.ecclesiaflow.business.domain.auth.AuthClient;
 import com.ecclesiaflow.business.domain.auth.PasswordSetupTokenResponse;
 import com.ecclesiaflow.grpc.auth.*;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.grpc.ManagedChannel;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
-import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Client gRPC pour communiquer avec le module d'authentification.
@@ -22,6 +29,10 @@ import java.util.concurrent.TimeUnit;
  * et type-safe pour les services métier.
  * </p>
  *
+ * <p>Les appels passent par le stub asynchrone, créé une seule fois ; chaque appel porte
+ * son propre délai ({@value #DEFAULT_TIMEOUT_SECONDS} s). Les méthodes de
+ * {@link AsyncAuthClient} rendent la main immédiatement, celles de {@link AuthClient}
+ * attendent la réponse.</p>
  *
  * @author EcclesiaFlow Team
  * @since 1.0.0
@@ -29,15 +40,18 @@ import java.util.concurrent.TimeUnit;
  * @see GrpcClientConfig
  */
 @Service
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "grpc.enabled", havingValue = "true", matchIfMissing = false)
-public class AuthGrpcClient implements AuthClient {
-
-    private final ManagedChannel authGrpcChannel;
+public class AuthGrpcClient implements AuthClient, AsyncAuthClient {
 
     // Timeout par défaut pour les appels gRPC
     private static final int DEFAULT_TIMEOUT_SECONDS = 5;
 
+    private final AuthServiceGrpc.AuthServiceFutureStub stub;
+
+    public AuthGrpcClient(ManagedChannel authGrpcChannel) {
+        this.stub = AuthServiceGrpc.newFutureStub(authGrpcChannel);
+    }
+
     /**
      * Génère un token temporaire JWT via gRPC pour permettre la définition du mot de passe.
      *
@@ -50,86 +64,107 @@ public class AuthGrpcClient implements AuthClient {
      */
     @Override
     public PasswordSetupTokenResponse retrievePostActivationToken(String email, UUID memberId) {
-        // Création du stub avec timeout
-        AuthServiceGrpc.AuthServiceBlockingStub stub = AuthServiceGrpc
-                .newBlockingStub(authGrpcChannel)
-                .withDeadlineAfter(DEFAULT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-
-        try {
-            // Construction de la requête Protobuf
-            TemporaryTokenRequest request = TemporaryTokenRequest.newBuilder()
-                    .setEmail(email)
-                    .setMemberId(memberId.toString())
-                    .build();
-
-            // Appel RPC synchrone
-            TemporaryTokenResponse response = stub.generateTemporaryToken(request);
-
-            // Return response with token and password endpoint
-            return new PasswordSetupTokenResponse(
-                    response.getTemporaryToken(),
-                    response.getExpiresInSeconds(),
-                    response.getPasswordEndpoint()
-            );
-
-        } catch (StatusRuntimeException e) {
-            // Conversion des erreurs gRPC en exceptions métier
-            throw handleGrpcException(e, "generateTemporaryToken");
-        }
+        return await(retrievePostActivationTokenAsync(email, memberId));
     }
 
     @Override
     public void deleteKeycloakUser(String keycloakUserId) {
-        AuthServiceGrpc.AuthServiceBlockingStub stub = AuthServiceGrpc
-                .newBlockingStub(authGrpcChannel)
-                .withDeadlineAfter(DEFAULT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        await(deleteKeycloakUserAsync(keycloakUserId));
+    }
 
-        try {
-            DeleteKeycloakUserRequest request = DeleteKeycloakUserRequest.newBuilder()
-                    .setKeycloakUserId(keycloakUserId)
-                    .build();
+    @Override
+    public void disableKeycloakUser(String keycloakUserId) {
+        await(disableKeycloakUserAsync(keycloakUserId));
+    }
 
-            stub.deleteKeycloakUser(request);
+    @Override
+    public void updateKeycloakUserEmail(String keycloakUserId, String newEmail) {
+        await(updateKeycloakUserEmailAsync(keycloakUserId, newEmail));
+    }
 
-        } catch (StatusRuntimeException e) {
-            throw handleGrpcException(e, "deleteKeycloakUser");
-        }
+    @Override
+    public CompletableFuture<PasswordSetupTokenResponse> retrievePostActivationTokenAsync(String email, UUID memberId) {
+        // Construction de la requête Protobuf
+        TemporaryTokenRequest request = TemporaryTokenRequest.newBuilder()
+                .setEmail(email)
+                .setMemberId(memberId.toString())
+                .build();
+
+        return call("generateTemporaryToken", withDeadline().generateTemporaryToken(request),
+                response -> new PasswordSetupTokenResponse(
+                        response.getTemporaryToken(),
+                        response.getExpiresInSeconds(),
+                        response.getPasswordEndpoint()
+                ));
     }
 
     @Override
-    public void disableKeycloakUser(String keycloakUserId) {
-        AuthServiceGrpc.AuthServiceBlockingStub stub = AuthServiceGrpc
-                .newBlockingStub(authGrpcChannel)
-                .withDeadlineAfter(DEFAULT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    public CompletableFuture<Void> deleteKeycloakUserAsync(String keycloakUserId) {
+        DeleteKeycloakUserRequest request = DeleteKeycloakUserRequest.newBuilder()
+                .setKeycloakUserId(keycloakUserId)
+                .build();
 
-        try {
-            DisableKeycloakUserRequest request = DisableKeycloakUserRequest.newBuilder()
-                    .setKeycloakUserId(keycloakUserId)
-                    .build();
+        return call("deleteKeycloakUser", withDeadline().deleteKeycloakUser(request), response -> null);
+    }
 
-            stub.disableKeycloakUser(request);
+    @Override
+    public CompletableFuture<Void> disableKeycloakUserAsync(String keycloakUserId) {
+        DisableKeycloakUserRequest request = DisableKeycloakUserRequest.newBuilder()
+                .setKeycloakUserId(keycloakUserId)
+                .build();
 
-        } catch (StatusRuntimeException e) {
-            throw handleGrpcException(e, "disableKeycloakUser");
-        }
+        return call("disableKeycloakUser", withDeadline().disableKeycloakUser(request), response -> null);
     }
 
     @Override
-    public void updateKeycloakUserEmail(String keycloakUserId, String newEmail) {
-        AuthServiceGrpc.AuthServiceBlockingStub stub = AuthServiceGrpc
-                .newBlockingStub(authGrpcChannel)
-                .withDeadlineAfter(DEFAULT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    public CompletableFuture<Void> updateKeycloakUserEmailAsync(String keycloakUserId, String newEmail) {
+        UpdateKeycloakUserEmailRequest request = UpdateKeycloakUserEmailRequest.newBuilder()
+                .setKeycloakUserId(keycloakUserId)
+                .setNewEmail(newEmail)
+                .build();
 
-        try {
-            UpdateKeycloakUserEmailRequest request = UpdateKeycloakUserEmailRequest.newBuilder()
-                    .setKeycloakUserId(keycloakUserId)
-                    .setNewEmail(newEmail)
-                    .build();
+        return call("updateKeycloakUserEmail", withDeadline().updateKeycloakUserEmail(request), response -> null);
+    }
 
-            stub.updateKeycloakUserEmail(request);
+    /** Le délai est absolu : il est posé au moment de chaque appel. */
+    private AuthServiceGrpc.AuthServiceFutureStub withDeadline() {
+        return stub.withDeadlineAfter(DEFAULT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
 
-        } catch (StatusRuntimeException e) {
-            throw handleGrpcException(e, "updateKeycloakUserEmail");
+    /**
+     * Convertit l'appel gRPC en {@link CompletableFuture}, les erreurs gRPC étant converties
+     * en exceptions métier. La réponse est traitée sur le thread gRPC qui la reçoit.
+     */
+    private <R, T> CompletableFuture<T> call(String methodName, ListenableFuture<R> call, Function<R, T> mapper) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Futures.addCallback(call, new FutureCallback<>() {
+            @Override
+            public void onSuccess(R response) {
+                try {
+                    future.complete(mapper.apply(response));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                future.completeExceptionally(t instanceof StatusRuntimeException e
+                        ? handleGrpcException(e, methodName)
+                        : t);
+            }
+        }, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
     }
 
@@ -2,6 +2,9 @@ package com.ecclesiaflow.io.grpc.server;
 
 import io.grpc.Server;
 import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptors;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.grpc.MetricCollectingServerInterceptor;
 import io.grpc.protobuf.services.HealthStatusManager;
 import io.grpc.protobuf.services.ProtoReflectionService;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +43,10 @@ import java.util.concurrent.TimeUnit;
  *   <li>grpc.server.shutdown-timeout-seconds - Timeout pour shutdown graceful (défaut: 30s)</li>
  * </ul>
  *
+ * <p><strong>Métriques :</strong> les appels à MembersService passent par un
+ * {@link MetricCollectingServerInterceptor} : latence par méthode et code de statut
+ * ({@code grpc.server.processing.duration}), requêtes reçues et réponses envoyées.</p>
+ *
  * <p><strong>Sécurité :</strong></p>
  * <ul>
  *   <li>Utilise plaintext pour développement local (à remplacer par TLS en production)</li>
@@ -58,6 +65,7 @@ import java.util.concurrent.TimeUnit;
 public class GrpcServerConfig {
 
     private final MembersGrpcServiceImpl membersGrpcService;
+    private final MeterRegistry meterRegistry;
 
     @Value("${grpc.server.port:9091}")
     private int grpcServerPort;
@@ -80,8 +88,9 @@ public class GrpcServerConfig {
         grpcServer = ServerBuilder
                 .forPort(grpcServerPort)
                 
-                // Service métier Members
-                .addService(membersGrpcService)
+                // Service métier Members, instrumenté par méthode et code de statut
+                .addService(ServerInterceptors.intercept(membersGrpcService,
+                        new MetricCollectingServerInterceptor(meterRegistry)))
                 
                 // Health check service (pour Kubernetes, load balancers, etc.)
                 .addService(healthStatusManager.getHealthService())
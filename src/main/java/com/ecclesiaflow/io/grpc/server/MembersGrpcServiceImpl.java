@@ -3,16 +3,26 @@ package com.ecclesiaflow.io.grpc.server;
 import com.ecclesiaflow.business.domain.events.MemberActivatedEvent;
 import com.ecclesiaflow.business.domain.member.Member;
 import com.ecclesiaflow.business.domain.member.MemberRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsDelta;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsRepository;
 import com.ecclesiaflow.business.domain.member.MemberStatus;
+import com.ecclesiaflow.business.domain.member.MemberStatusChange;
 import com.ecclesiaflow.grpc.members.*;
 import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -36,8 +46,12 @@ import java.util.UUID;
 @ConditionalOnProperty(name = "grpc.enabled", havingValue = "true", matchIfMissing = false)
 public class MembersGrpcServiceImpl extends MembersServiceGrpc.MembersServiceImplBase {
 
+    static final int EXPORT_PAGE_SIZE = 500;
+    private static final Sort EXPORT_ORDER = Sort.by("id");
+
     private final MemberRepository memberRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final MemberStatisticsRepository statisticsRepository;
 
     /**
      * Récupère le statut de confirmation d'un membre par son email.
@@ -150,7 +164,9 @@ public class MembersGrpcServiceImpl extends MembersServiceGrpc.MembersServiceImp
             );
         }
 
-        activateMember(member, keycloakUserId);
+        if (!activateMember(member, keycloakUserId)) {
+            return buildActivationFailureResponse("Member is not in CONFIRMED status anymore");
+        }
         return buildActivationSuccessResponse();
     }
 
@@ -158,17 +174,17 @@ public class MembersGrpcServiceImpl extends MembersServiceGrpc.MembersServiceImp
         return member.getStatus() == MemberStatus.CONFIRMED;
     }
 
-    private void activateMember(Member member, String keycloakUserId) {
-        Member updatedMember = member.toBuilder()
-                .status(MemberStatus.ACTIVE)
-                .keycloakUserId(keycloakUserId)
-                .build();
-
-        memberRepository.save(updatedMember);
-
-        eventPublisher.publishEvent(
-                new MemberActivatedEvent(updatedMember.getEmail(), updatedMember.getFirstName())
-        );
+    /** @return false if another request changed the member's status first */
+    private boolean activateMember(Member member, String keycloakUserId) {
+        Optional<Member> activated = memberRepository.transitionStatus(
+                member, MemberStatusChange.activate(keycloakUserId));
+
+        activated.ifPresent(updatedMember -> {
+            statisticsRepository.apply(MemberStatisticsDelta.changed(member, updatedMember));
+            eventPublisher.publishEvent(
+                    new MemberActivatedEvent(updatedMember.getEmail(), updatedMember.getFirstName()));
+        });
+        return activated.isPresent();
     }
 
     private AccountActivatedResponse buildActivationSuccessResponse() {
@@ -212,7 +228,8 @@ public class MembersGrpcServiceImpl extends MembersServiceGrpc.MembersServiceImp
 
             Member member = memberOpt.get();
             Member updated = member.toBuilder().hasLocalCredentials(true).build();
-            memberRepository.save(updated);
+            memberRepository.update(member, updated);
+            statisticsRepository.apply(MemberStatisticsDelta.changed(member, updated));
 
             responseObserver.onNext(LocalCredentialsAddedResponse.newBuilder()
                     .setSuccess(true)
@@ -229,6 +246,130 @@ public class MembersGrpcServiceImpl extends MembersServiceGrpc.MembersServiceImp
         }
     }
 
+    // ========================================================================
+    // ExportMembers (server streaming)
+    // ========================================================================
+
+    /**
+     * Streams the member directory, one {@link MemberRecord} per member.
+     * <p>
+     * Flow control follows the client: members are read by keyset pages of
+     * {@value #EXPORT_PAGE_SIZE}, each in its own short read, and sent from the
+     * call's on-ready handler while the transport accepts messages. When the
+     * client's window is full the handler returns and resumes on the next
+     * on-ready signal, so no thread, cursor or transaction is held while the
+     * client catches up. The export stops when the client cancels the call.
+     * </p>
+     *
+     * @param request          optional status filter
+     * @param responseObserver observer receiving the stream of members
+     */
+    @Override
+    public void exportMembers(ExportMembersRequest request, StreamObserver<MemberRecord> responseObserver) {
+        MemberStatus status;
+        try {
+            status = parseExportStatus(request.getStatus());
+        } catch (IllegalArgumentException e) {
+            handleInvalidArgument(responseObserver, e);
+            return;
+        }
+
+        if (responseObserver instanceof ServerCallStreamObserver<MemberRecord> serverCall) {
+            ExportStream stream = new ExportStream(status, serverCall);
+            serverCall.setOnCancelHandler(stream::cancel);
+            // gRPC runs the handler once the call is ready, then after each window update
+            serverCall.setOnReadyHandler(stream);
+        } else {
+            new ExportStream(status, responseObserver).run();
+        }
+    }
+
+    private MemberStatus parseExportStatus(String status) {
+        return status.isBlank() ? null : MemberStatus.valueOf(status.toUpperCase());
+    }
+
+    /**
+     * Export state carried between on-ready signals: the keyset position of the
+     * last page read and the members of that page not sent yet.
+     */
+    private final class ExportStream implements Runnable {
+
+        private final MemberStatus status;
+        private final StreamObserver<MemberRecord> observer;
+        private final ServerCallStreamObserver<MemberRecord> serverCall;
+
+        private KeysetScrollPosition position = ScrollPosition.keyset();
+        private Iterator<Member> page = Collections.emptyIterator();
+        private boolean lastPage;
+        private boolean done;
+
+        ExportStream(MemberStatus status, StreamObserver<MemberRecord> observer) {
+            this.status = status;
+            this.observer = observer;
+            this.serverCall = observer instanceof ServerCallStreamObserver<MemberRecord> call ? call : null;
+        }
+
+        @Override
+        public synchronized void run() {
+            if (done) {
+                return;
+            }
+            try {
+                while (serverCall == null || serverCall.isReady()) {
+                    if (!page.hasNext()) {
+                        if (lastPage) {
+                            done = true;
+                            observer.onCompleted();
+                            return;
+                        }
+                        nextPage();
+                        continue;
+                    }
+                    observer.onNext(toMemberRecord(page.next()));
+                }
+            } catch (Exception e) {
+                done = true;
+                observer.onError(Status.INTERNAL
+                        .withDescription("Failed to export members")
+                        .asRuntimeException());
+            }
+        }
+
+        synchronized void cancel() {
+            done = true;
+        }
+
+        private void nextPage() {
+            Window<Member> window = memberRepository.scrollMembers(null, status, position, EXPORT_ORDER, EXPORT_PAGE_SIZE);
+            page = window.iterator();
+            lastPage = !window.hasNext();
+            if (!window.isEmpty()) {
+                position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            }
+        }
+    }
+
+    private MemberRecord toMemberRecord(Member member) {
+        return MemberRecord.newBuilder()
+                .setMemberId(toStringOrEmpty(member.getMemberId()))
+                .setFirstName(toStringOrEmpty(member.getFirstName()))
+                .setLastName(toStringOrEmpty(member.getLastName()))
+                .setEmail(toStringOrEmpty(member.getEmail()))
+                .setAddress(toStringOrEmpty(member.getAddress()))
+                .setPhoneNumber(toStringOrEmpty(member.getPhoneNumber()))
+                .setStatus(toStringOrEmpty(member.getStatus()))
+                .setConfirmed(member.isConfirmed())
+                .setHasLocalCredentials(member.isHasLocalCredentials())
+                .setSocialProvider(toStringOrEmpty(member.getSocialProvider()))
+                .setCreatedAt(toStringOrEmpty(member.getCreatedAt()))
+                .setConfirmedAt(toStringOrEmpty(member.getConfirmedAt()))
+                .build();
+    }
+
+    private static String toStringOrEmpty(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
     // ========================================================================
     // Validation methods
     // ========================================================================
@@ -0,0 +1,177 @@
+package com.ecclesiaflow.io.persistence.cache;
+
+import com.ecclesiaflow.business.domain.member.Member;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of {@link Member} lookups by natural key: member id, email and
+ * Keycloak user id.
+ *
+ * <p>Members are stored once, keyed by member id; the email and Keycloak id
+ * caches only map to a member id. An alias is trusted only if the cached member
+ * still carries that email or Keycloak id, so an alias left over from before an
+ * update falls through to the database instead of returning the wrong member.</p>
+ *
+ * <p>{@link #evict} is called on every write. It evicts the member immediately and
+ * again when the transaction completes, and the writing transaction bypasses the
+ * cache from then on, so uncommitted or rolled-back state is never cached.
+ * Changes made by another instance are only seen once the entry expires, which
+ * is why the TTL is kept short.</p>
+ *
+ * <p>Hit, miss and eviction counts are published as the {@code cache.*} meters
+ * tagged {@code cache=members.lookup}; a lookup counts once whichever key it
+ * uses. With {@code ecclesiaflow.members.cache.enabled=false} every lookup goes
+ * to the loader.</p>
+ */
+@Component
+public class MemberLookupCache {
+
+    static final String CACHE_NAME = "members.lookup";
+
+    private final boolean enabled;
+    private final StatsCounter stats = new ConcurrentStatsCounter();
+    private final Cache<UUID, Member> byMemberId;
+    private final Cache<String, UUID> emailIndex;
+    private final Cache<String, UUID> keycloakIndex;
+
+    public MemberLookupCache(
+            @Value("${ecclesiaflow.members.cache.enabled:true}") boolean enabled,
+            @Value("${ecclesiaflow.members.cache.max-size:10000}") long maxSize,
+            @Value("${ecclesiaflow.members.cache.ttl:60s}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.byMemberId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats(() -> stats)
+                .build();
+        this.emailIndex = aliasCache(maxSize, ttl);
+        this.keycloakIndex = aliasCache(maxSize, ttl);
+        if (enabled) {
+            CaffeineCacheMetrics.monitor(meterRegistry, byMemberId, CACHE_NAME);
+        }
+    }
+
+    /** Returns the member with this member id, loading and caching it on a miss. */
+    public Optional<Member> getByMemberId(UUID memberId, Function<UUID, Optional<Member>> loader) {
+        if (!isUsable() || memberId == null) {
+            return loader.apply(memberId);
+        }
+        return hitOrLoad(byMemberId.asMap().get(memberId), member -> true, () -> loader.apply(memberId));
+    }
+
+    /** Returns the member with this email (case-insensitive), loading and caching it on a miss. */
+    public Optional<Member> getByEmail(String email, Function<String, Optional<Member>> loader) {
+        if (!isUsable() || email == null) {
+            return loader.apply(email);
+        }
+        return hitOrLoad(resolve(emailIndex, email.toLowerCase(Locale.ROOT)),
+                member -> email.equalsIgnoreCase(member.getEmail()),
+                () -> loader.apply(email));
+    }
+
+    /** Returns the member linked to this Keycloak user, loading and caching it on a miss. */
+    public Optional<Member> getByKeycloakUserId(String keycloakUserId, Function<String, Optional<Member>> loader) {
+        if (!isUsable() || keycloakUserId == null) {
+            return loader.apply(keycloakUserId);
+        }
+        return hitOrLoad(resolve(keycloakIndex, keycloakUserId),
+                member -> keycloakUserId.equals(member.getKeycloakUserId()),
+                () -> loader.apply(keycloakUserId));
+    }
+
+    /**
+     * Evicts a member that is being written, now and again when the current
+     * transaction completes.
+     */
+    public void evict(Member member) {
+        if (!enabled || member == null || member.getMemberId() == null) {
+            return;
+        }
+        UUID memberId = member.getMemberId();
+        byMemberId.invalidate(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingEvictions().add(memberId);
+        }
+    }
+
+    /**
+     * Members are read through {@code asMap()}, which records no statistics, so that
+     * hits and misses are counted here once per lookup.
+     */
+    private Optional<Member> hitOrLoad(Member cached, Predicate<Member> matches, Supplier<Optional<Member>> loader) {
+        if (cached != null && matches.test(cached)) {
+            stats.recordHits(1);
+            return Optional.of(cached);
+        }
+        stats.recordMisses(1);
+        return cache(loader.get());
+    }
+
+    private Member resolve(Cache<String, UUID> index, String key) {
+        UUID memberId = index.getIfPresent(key);
+        return memberId != null ? byMemberId.asMap().get(memberId) : null;
+    }
+
+    private Optional<Member> cache(Optional<Member> loaded) {
+        loaded.filter(member -> member.getMemberId() != null).ifPresent(member -> {
+            byMemberId.put(member.getMemberId(), member);
+            if (member.getEmail() != null) {
+                emailIndex.put(member.getEmail().toLowerCase(Locale.ROOT), member.getMemberId());
+            }
+            if (member.getKeycloakUserId() != null) {
+                keycloakIndex.put(member.getKeycloakUserId(), member.getMemberId());
+            }
+        });
+        return loaded;
+    }
+
+    /** A transaction that has written members must read its own, uncommitted, state. */
+    private boolean isUsable() {
+        return enabled && !TransactionSynchronizationManager.hasResource(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<UUID> pendingEvictions() {
+        Set<UUID> pending = (Set<UUID>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<UUID> evictions = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, evictions);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(MemberLookupCache.this);
+                    byMemberId.invalidateAll(evictions);
+                }
+            });
+            pending = evictions;
+        }
+        return pending;
+    }
+
+    private static Cache<String, UUID> aliasCache(long maxSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+}
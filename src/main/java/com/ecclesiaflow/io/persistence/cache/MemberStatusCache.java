@@ -0,0 +1,110 @@
+package com.ecclesiaflow.io.persistence.cache;
+
+import com.ecclesiaflow.business.domain.member.MemberStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of member statuses by Keycloak user id, read on every authenticated
+ * request by the member status filter.
+ *
+ * <p>Each entry is a Keycloak id and a {@link MemberStatus} constant, nothing else.
+ * Unknown users are not cached: they are mid-onboarding, and their member row is
+ * about to appear.</p>
+ *
+ * <p>{@link #evict} is called on every member write, with the Keycloak id the member
+ * had before and after. It evicts the entry immediately and again when the
+ * transaction completes, so a status read concurrently with the write, before its
+ * commit, does not outlive it. The writing transaction bypasses the cache from
+ * then on. Writes made by another instance are only seen once the entry expires,
+ * hence the short TTL.</p>
+ *
+ * <p>Hit, miss and eviction counts are published as the {@code cache.*} meters
+ * tagged {@code cache=members.status}. With
+ * {@code ecclesiaflow.members.status-cache.enabled=false} every lookup goes to the
+ * database.</p>
+ */
+@Component
+public class MemberStatusCache {
+
+    static final String CACHE_NAME = "members.status";
+
+    private final boolean enabled;
+    private final Cache<String, MemberStatus> byKeycloakUserId;
+
+    public MemberStatusCache(
+            @Value("${ecclesiaflow.members.status-cache.enabled:true}") boolean enabled,
+            @Value("${ecclesiaflow.members.status-cache.max-size:50000}") long maxSize,
+            @Value("${ecclesiaflow.members.status-cache.ttl:10s}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.byKeycloakUserId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        if (enabled) {
+            CaffeineCacheMetrics.monitor(meterRegistry, byKeycloakUserId, CACHE_NAME);
+        }
+    }
+
+    /**
+     * Returns the status of the member linked to this Keycloak user, loading and
+     * caching it on a miss. Concurrent misses on the same user share one load.
+     */
+    public Optional<MemberStatus> get(String keycloakUserId, Function<String, Optional<MemberStatus>> loader) {
+        if (!isUsable() || keycloakUserId == null) {
+            return loader.apply(keycloakUserId);
+        }
+        return Optional.ofNullable(byKeycloakUserId.get(keycloakUserId, key -> loader.apply(key).orElse(null)));
+    }
+
+    /**
+     * Evicts the status of a member that is being written, now and again when the
+     * current transaction completes.
+     */
+    public void evict(String keycloakUserId) {
+        if (!enabled || keycloakUserId == null) {
+            return;
+        }
+        byKeycloakUserId.invalidate(keycloakUserId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingEvictions().add(keycloakUserId);
+        }
+    }
+
+    /** A transaction that has written members must read its own, uncommitted, state. */
+    private boolean isUsable() {
+        return enabled && !TransactionSynchronizationManager.hasResource(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> pendingEvictions() {
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<String> evictions = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, evictions);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(MemberStatusCache.this);
+                    byKeycloakUserId.invalidateAll(evictions);
+                }
+            });
+            pending = evictions;
+        }
+        return pending;
+    }
+}
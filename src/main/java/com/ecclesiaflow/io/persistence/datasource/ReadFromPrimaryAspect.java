@@ -0,0 +1,24 @@
+package com.ecclesiaflow.io.persistence.datasource;
+
+import com.ecclesiaflow.business.transaction.ReadFromPrimary;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/** AOP aspect that enforces {@link ReadFromPrimary} annotations. */
+@Aspect
+@Component
+public class ReadFromPrimaryAspect {
+
+    /** Routes read-only connections opened during the method to the primary database. */
+    @Around("@annotation(com.ecclesiaflow.business.transaction.ReadFromPrimary)")
+    public Object readFromPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = ReadOnlyRoutingDataSource.forcePrimary(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReadOnlyRoutingDataSource.forcePrimary(previous);
+        }
+    }
+}
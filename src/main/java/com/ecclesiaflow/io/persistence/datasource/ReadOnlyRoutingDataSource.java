@@ -0,0 +1,50 @@
+package com.ecclesiaflow.io.persistence.datasource;
+
+import com.ecclesiaflow.business.transaction.ReadFromPrimary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Target of read-only connections when a read replica is configured: the replica,
+ * unless the current thread runs a {@link ReadFromPrimary} method.
+ *
+ * <p>Plugged in as the read-only data source of a {@link LazyConnectionDataSourceProxy},
+ * which only asks for a connection once the transaction is known to be read-only,
+ * i.e. for {@code @Transactional(readOnly = true)} methods and Spring Data's own
+ * read methods. Every other connection goes to the primary.</p>
+ */
+public class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Route { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = ThreadLocal.withInitial(() -> false);
+
+    public ReadOnlyRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(replica);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Sets whether read-only connections opened by the current thread go to the primary.
+     *
+     * @return the previous setting, to be restored afterwards
+     */
+    static boolean forcePrimary(boolean forced) {
+        boolean previous = PRIMARY_FORCED.get();
+        if (forced) {
+            PRIMARY_FORCED.set(true);
+        } else {
+            PRIMARY_FORCED.remove();
+        }
+        return previous;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return PRIMARY_FORCED.get() ? Route.PRIMARY : Route.REPLICA;
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecclesiaflow.io.persistence.jpa;
+
+import com.ecclesiaflow.business.domain.communication.OutboxStatus;
+import com.ecclesiaflow.business.exceptions.EmailServiceException.EmailOperation;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Email waiting in the transactional outbox, written in the same transaction as the
+ * member change that triggers it. The index on {@code (status, next_attempt_at)} serves
+ * the relay's claim query and the depth/age gauges.
+ */
+@Entity
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailOutboxEntity {
+
+    @Id
+    @GeneratedValue(generator = "uuid2")
+    @UuidGenerator(algorithm = UuidV7ValueGenerator.class)
+    @Column(name = "id", columnDefinition = "BINARY(16)", updatable = false, nullable = false)
+    private UUID id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 20)
+    private EmailOperation operation;
+
+    @NotBlank
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "first_name")
+    private String firstName;
+
+    @Column(name = "link", length = 1024)
+    private String link;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @NotNull
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "email_id", columnDefinition = "BINARY(16)")
+    private UUID emailId;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
@@ -0,0 +1,20 @@
+package com.ecclesiaflow.io.persistence.jpa;
+
+import org.hibernate.LockOptions;
+
+/**
+ * Query hint values for pessimistic locks, usable in {@code @QueryHints} annotations.
+ */
+public final class JpaLockHints {
+
+    /**
+     * Value of {@code jakarta.persistence.lock.timeout} that makes Hibernate append
+     * {@code SKIP LOCKED} to {@code SELECT ... FOR UPDATE}: rows already locked by another
+     * transaction are skipped instead of waited for, so concurrent nodes claim disjoint rows.
+     * Must stay equal to {@link LockOptions#SKIP_LOCKED}.
+     */
+    public static final String SKIP_LOCKED = "-2";
+
+    private JpaLockHints() {
+    }
+}
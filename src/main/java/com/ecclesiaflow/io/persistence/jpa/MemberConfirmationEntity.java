@@ -33,7 +33,7 @@ import java.util.UUID;
  *   <li>Token UUID obligatoire et unique</li>
  *   <li>MemberId obligatoire avec contrainte de clé étrangère</li>
  *   <li>Identifiant UUID pour la scalabilité</li>
- *   <li>Dates d'expiration obligatoires</li>
+ *   <li>Dates d'expiration obligatoires, indexées pour la purge des confirmations expirées</li>
  * </ul>
  * 
  * <p><strong>Cycle de vie JPA :</strong></p>
@@ -50,7 +50,9 @@ import java.util.UUID;
  * @since 1.0.0
  */
 @Entity
-@Table(name = "member_confirmations")
+@Table(name = "member_confirmations", indexes = {
+        @Index(name = "idx_member_confirmations_expires_at", columnList = "expires_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -59,11 +61,11 @@ public class MemberConfirmationEntity {
 
     /**
      * Identifiant unique de la confirmation.
-     * Généré automatiquement par Hibernate avec un UUID.
+     * Généré automatiquement par Hibernate (UUIDv7, ordonné dans le temps).
      */
     @Id
     @GeneratedValue(generator = "uuid2")
-    @UuidGenerator
+    @UuidGenerator(algorithm = UuidV7ValueGenerator.class)
     @Column(name = "id", columnDefinition = "BINARY(16)", updatable = false, nullable = false)
     private UUID id;
 
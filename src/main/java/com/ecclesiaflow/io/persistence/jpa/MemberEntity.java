@@ -5,6 +5,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
 
@@ -13,9 +14,28 @@ import com.ecclesiaflow.business.domain.member.SocialProvider;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-/** JPA entity for the {@code member} table. */
+/**
+ * JPA entity for the {@code member} table.
+ *
+ * <p>The secondary indexes back the admin listing sort keys. InnoDB appends the
+ * primary key to every secondary index, so each one already serves the
+ * {@code (sortKey, id)} keyset predicate used by cursor pagination.
+ * {@code idx_member_status_id} serves the claim query of the anonymization job,
+ * which walks deactivated members in primary key order.</p>
+ *
+ * <p>{@code @DynamicUpdate}: UPDATEs only write the columns that changed.
+ * {@code version} is incremented on every write, so an update based on a stale
+ * read fails instead of silently overwriting the newer row.</p>
+ */
 @Entity
-@Table(name = "member")
+@DynamicUpdate
+@Table(name = "member", indexes = {
+        @Index(name = "idx_member_first_name", columnList = "first_name"),
+        @Index(name = "idx_member_last_name", columnList = "last_name"),
+        @Index(name = "idx_member_created_at", columnList = "created_at"),
+        @Index(name = "idx_member_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_member_status_id", columnList = "status, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -23,7 +43,7 @@ import java.util.UUID;
 public class MemberEntity {
     @Id
     @GeneratedValue(generator = "uuid2")
-    @UuidGenerator
+    @UuidGenerator(algorithm = UuidV7ValueGenerator.class)
     @Column(name = "id", columnDefinition = "BINARY(16)", updatable = false, nullable = false)
     private UUID id;
 
@@ -74,6 +94,14 @@ public class MemberEntity {
     @Column(name = "anonymized_at")
     private LocalDateTime anonymizedAt;
 
+    /** Node currently anonymizing this member; not part of the domain model. */
+    @Column(name = "cleanup_claimed_by", length = 100)
+    private String cleanupClaimedBy;
+
+    /** End of the claim; once past, another node may claim the member again. */
+    @Column(name = "cleanup_claimed_until")
+    private LocalDateTime cleanupClaimedUntil;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -81,4 +109,8 @@ public class MemberEntity {
     @UpdateTimestamp
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -0,0 +1,50 @@
+package com.ecclesiaflow.io.persistence.jpa;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the MySQL FULLTEXT index used by relevance search, when missing.
+ *
+ * <p>Hibernate's schema tooling cannot declare FULLTEXT indexes, so the index is
+ * added once at startup. The ngram parser tokenizes names and emails into
+ * overlapping fragments, which lets {@code MATCH ... AGAINST} serve substring
+ * searches from the index instead of a {@code LIKE '%term%'} table scan.</p>
+ *
+ * <p>Only active with {@code ecclesiaflow.members.search.full-text-enabled=true}
+ * (MySQL 5.7.6+).</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ecclesiaflow.members.search.full-text-enabled", havingValue = "true")
+public class MemberFullTextIndexInitializer implements ApplicationRunner {
+
+    static final String INDEX_NAME = "ft_member_search";
+
+    private static final String INDEX_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = 'member' AND index_name = ?";
+
+    private static final String CREATE_INDEX_SQL =
+            "ALTER TABLE member ADD FULLTEXT INDEX " + INDEX_NAME +
+            " (first_name, last_name, email) WITH PARSER ngram";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, Integer.class, INDEX_NAME);
+        if (existing != null && existing > 0) {
+            log.debug("Full-text search: index {} already present", INDEX_NAME);
+            return;
+        }
+        log.info("Full-text search: creating index {} on member(first_name, last_name, email)", INDEX_NAME);
+        jdbcTemplate.execute(CREATE_INDEX_SQL);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecclesiaflow.io.persistence.jpa;
+
+import com.ecclesiaflow.business.domain.member.MemberStatus;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reusable JPA {@link Specification}s over {@link MemberEntity}.
+ *
+ * <p>Used by the keyset listing path, where Spring Data appends the
+ * {@code (sortKey, id)} seek predicate to the filter built here.</p>
+ */
+public final class MemberSpecifications {
+
+    private MemberSpecifications() {
+    }
+
+    /**
+     * Matches members by optional search term (first name, last name or email,
+     * case-insensitive LIKE) and optional status.
+     *
+     * @param searchTerm normalized search term, or null to skip the filter
+     * @param status     status filter, or null to skip the filter
+     * @return a specification combining the non-null criteria
+     */
+    public static Specification<MemberEntity> matching(String searchTerm, MemberStatus status) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(2);
+            if (searchTerm != null && !searchTerm.isBlank()) {
+                String pattern = "%" + searchTerm.toLowerCase(Locale.ROOT) + "%";
+                predicates.add(cb.or(
+                        cb.like(cb.lower(root.get("firstName")), pattern),
+                        cb.like(cb.lower(root.get("lastName")), pattern),
+                        cb.like(cb.lower(root.get("email")), pattern)));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
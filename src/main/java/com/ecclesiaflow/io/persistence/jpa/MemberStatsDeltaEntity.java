@@ -0,0 +1,35 @@
+package com.ecclesiaflow.io.persistence.jpa;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.util.UUID;
+
+/**
+ * JPA entity for the {@code member_stats_delta} journal.
+ *
+ * <p>One row per counter changed by a member write, inserted in the transaction of
+ * that write: concurrent writers only append rows and never update the same one.
+ * The reconciliation folds the journal into {@code member_stats} and empties it.</p>
+ */
+@Entity
+@Table(name = "member_stats_delta")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberStatsDeltaEntity {
+
+    @Id
+    @GeneratedValue(generator = "uuid2")
+    @UuidGenerator(algorithm = UuidV7ValueGenerator.class)
+    @Column(name = "id", columnDefinition = "BINARY(16)", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "stat_key", length = 64, nullable = false, updatable = false)
+    private String statKey;
+
+    @Column(name = "count_delta", nullable = false, updatable = false)
+    private long countDelta;
+}
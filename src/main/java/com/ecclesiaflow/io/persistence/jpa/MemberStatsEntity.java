@@ -0,0 +1,33 @@
+package com.ecclesiaflow.io.persistence.jpa;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity for the {@code member_stats} aggregate table.
+ *
+ * <p>One row per counter, keyed by {@code stat_key} ({@code status:ACTIVE},
+ * {@code provider:GOOGLE}, {@code local_credentials}). Member writes add to
+ * {@code member_count} in place; the reconciliation job rewrites every row and
+ * records when it did in {@code reconciled_at}.</p>
+ */
+@Entity
+@Table(name = "member_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberStatsEntity {
+
+    @Id
+    @Column(name = "stat_key", length = 64, nullable = false, updatable = false)
+    private String statKey;
+
+    @Column(name = "member_count", nullable = false)
+    private long memberCount;
+
+    @Column(name = "reconciled_at")
+    private LocalDateTime reconciledAt;
+}
@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "pending_email_changes")
+@Table(name = "pending_email_changes", indexes = {
+        @Index(name = "idx_pending_email_changes_expires_at", columnList = "expires_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -20,7 +22,7 @@ public class PendingEmailChangeEntity {
 
     @Id
     @GeneratedValue(generator = "uuid2")
-    @UuidGenerator
+    @UuidGenerator(algorithm = UuidV7ValueGenerator.class)
     @Column(name = "id", columnDefinition = "BINARY(16)", updatable = false, nullable = false)
     private UUID id;
 
@@ -43,4 +45,8 @@ public class PendingEmailChangeEntity {
     @NotNull
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
+
+    /** End of the claim of the confirmation in progress; once past, the change may be claimed again. */
+    @Column(name = "confirming_until")
+    private LocalDateTime confirmingUntil;
 }
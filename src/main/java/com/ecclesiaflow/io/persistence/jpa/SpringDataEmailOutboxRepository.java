@@ -0,0 +1,47 @@
+package com.ecclesiaflow.io.persistence.jpa;
+
+import com.ecclesiaflow.business.domain.communication.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SpringDataEmailOutboxRepository extends JpaRepository<EmailOutboxEntity, UUID> {
+
+    /** {@code FOR UPDATE SKIP LOCKED}: concurrent relays lock disjoint batches of due emails. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = JpaLockHints.SKIP_LOCKED))
+    @Query("SELECT e FROM EmailOutboxEntity e WHERE e.status = :status AND e.nextAttemptAt <= :now " +
+           "ORDER BY e.nextAttemptAt, e.id")
+    List<EmailOutboxEntity> findDueForUpdate(
+        @Param("status") OutboxStatus status,
+        @Param("now") LocalDateTime now,
+        Limit limit);
+
+    /** {@code FOR UPDATE SKIP LOCKED}: concurrent nodes lock disjoint chunks of sent emails. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = JpaLockHints.SKIP_LOCKED))
+    @Query("SELECT e FROM EmailOutboxEntity e WHERE e.status = :status AND e.sentAt < :cutoff ORDER BY e.sentAt")
+    List<EmailOutboxEntity> findSentBeforeForUpdate(
+        @Param("status") OutboxStatus status,
+        @Param("cutoff") LocalDateTime cutoff,
+        Limit limit);
+
+    long countByStatus(OutboxStatus status);
+
+    long countByStatusAndSentAtBefore(OutboxStatus status, LocalDateTime cutoff);
+
+    @Query("SELECT MIN(e.createdAt) FROM EmailOutboxEntity e WHERE e.status = :status")
+    LocalDateTime findOldestCreatedAt(@Param("status") OutboxStatus status);
+}
@@ -1,8 +1,14 @@
 package com.ecclesiaflow.io.persistence.jpa;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -115,6 +121,32 @@ public interface SpringDataMemberConfirmationRepository extends JpaRepository<Me
     @Query("DELETE FROM MemberConfirmationEntity c WHERE c.expiresAt < :now")
     int deleteExpiredConfirmations(@Param("now") LocalDateTime now);
 
+    /**
+     * Verrouille au plus {@code limit} confirmations expirées.
+     * <p>
+     * {@code SELECT ... FOR UPDATE SKIP LOCKED} : les lignes déjà verrouillées par la purge
+     * d'un autre nœud sont ignorées, si bien que des nœuds concurrents suppriment des lots
+     * disjoints au lieu de s'attendre. L'index sur {@code expires_at} borne le nombre de
+     * lignes lues au lot.
+     * </p>
+     *
+     * @param cutoff date d'expiration de référence
+     * @param limit taille maximale du lot
+     * @return les confirmations verrouillées
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = JpaLockHints.SKIP_LOCKED))
+    @Query("SELECT c FROM MemberConfirmationEntity c WHERE c.expiresAt < :cutoff ORDER BY c.expiresAt")
+    List<MemberConfirmationEntity> findExpiredForUpdate(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    /**
+     * Compte les confirmations expirées avant {@code cutoff}.
+     *
+     * @param cutoff date d'expiration de référence
+     * @return le nombre de confirmations expirées
+     */
+    long countByExpiresAtBefore(LocalDateTime cutoff);
+
     /**
      * Supprime toutes les confirmations d'un membre spécifique.
      * <p>
@@ -1,17 +1,29 @@
 package com.ecclesiaflow.io.persistence.jpa;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.ecclesiaflow.business.domain.member.MemberProfile;
 import com.ecclesiaflow.business.domain.member.MemberStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository Spring Data JPA pour la gestion des entités MemberEntity.
@@ -28,6 +40,7 @@ import java.util.UUID;
  *   <li>Opérations CRUD automatiques via JpaRepository</li>
  *   <li>Requêtes de recherche personnalisées par méthodes nommées</li>
  *   <li>Opérations de comptage optimisées</li>
+ *   <li>Parcours keyset (sans COUNT) via {@link JpaSpecificationExecutor} et {@link MemberSpecifications}</li>
  *   <li>Gestion des contraintes d'unicité (email)</li>
  * </ul>
  * 
@@ -50,7 +63,24 @@ import java.util.UUID;
  * @see com.ecclesiaflow.io.persistence.repositories.impl.MemberRepositoryImpl
  */
 @Repository
-public interface SpringDataMemberRepository extends JpaRepository<MemberEntity, UUID> {
+public interface SpringDataMemberRepository extends JpaRepository<MemberEntity, UUID>,
+        JpaSpecificationExecutor<MemberEntity> {
+
+    /**
+     * Clause SELECT des requêtes de projection {@link MemberProfile} : seules les colonnes
+     * affichées par les réponses de liste et de profil sont lues, et aucune entité
+     * n'est placée dans le contexte de persistance.
+     */
+    String PROFILE_SELECT = "SELECT new com.ecclesiaflow.business.domain.member.MemberProfile(" +
+            "m.id, m.firstName, m.lastName, m.email, m.address, m.phoneNumber, m.status, " +
+            "m.hasLocalCredentials, m.socialProvider, m.createdAt, m.confirmedAt) FROM MemberEntity m ";
+
+    /** Filtre commun de la liste paginée (recherche LIKE et statut, tous deux optionnels). */
+    String PROFILE_FILTER = "WHERE (:searchTerm IS NULL OR " +
+            " LOWER(m.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            " LOWER(m.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            " LOWER(m.email) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
+            "AND (:status IS NULL OR m.status = :status)";
     
     /**
      * Recherche une entité membre par son memberId (UUID du module auth).
@@ -88,6 +118,19 @@ public interface SpringDataMemberRepository extends JpaRepository<MemberEntity,
      */
     Optional<MemberEntity> findByKeycloakUserId(String keycloakUserId);
 
+    /**
+     * Lit uniquement le statut du membre lié à un utilisateur Keycloak.
+     * <p>
+     * Projection sur une seule colonne : ni entité chargée ni mapping, pour le
+     * filtre de statut appelé à chaque requête authentifiée.
+     * </p>
+     *
+     * @param keycloakUserId l'identifiant Keycloak (claim {@code sub})
+     * @return le statut du membre, vide si aucun membre n'est lié
+     */
+    @Query("SELECT m.status FROM MemberEntity m WHERE m.keycloakUserId = :keycloakUserId")
+    Optional<MemberStatus> findStatusByKeycloakUserId(@Param("keycloakUserId") String keycloakUserId);
+
     /**
      * Vérifie l'existence d'un membre avec l'email spécifié.
      * <p>
@@ -103,17 +146,17 @@ public interface SpringDataMemberRepository extends JpaRepository<MemberEntity,
     boolean existsByKeycloakUserId(String keycloakUserId);
 
     /**
-     * Recherche toutes les entités membres par statut.
+     * Retourne, parmi les emails fournis, ceux déjà utilisés par un membre.
      * <p>
-     * Requête dérivée : SELECT * FROM member WHERE status = ?
-     * Utilise l'index sur la colonne status pour les performances.
+     * Une seule requête {@code IN} servie par l'index unique sur email, au lieu
+     * d'un {@code existsByEmail} par adresse lors d'un import en masse.
      * </p>
-     * 
-     * @param status le statut recherché (PENDING, CONFIRMED, ACTIVE, etc.)
-     * @param pageable les paramètres de pagination et de tri, non null
-     * @return la liste des entités correspondantes (peut être vide)
+     *
+     * @param emails les adresses à vérifier, non vide
+     * @return les adresses déjà présentes en base (casse telle que stockée)
      */
-    Page<MemberEntity> findByStatus(com.ecclesiaflow.business.domain.member.MemberStatus status, Pageable pageable);
+    @Query("SELECT m.email FROM MemberEntity m WHERE m.email IN :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
 
     /**
      * Compte le nombre de membres actifs.
@@ -126,6 +169,34 @@ public interface SpringDataMemberRepository extends JpaRepository<MemberEntity,
      */
     long countByStatus(com.ecclesiaflow.business.domain.member.MemberStatus status);
 
+    /**
+     * Compte les membres de chaque statut en une seule requête.
+     * <p>
+     * Utilisée par la réconciliation des statistiques ; les statuts sans membre
+     * n'apparaissent pas.
+     * </p>
+     *
+     * @return des paires (statut, nombre)
+     */
+    @Query("SELECT m.status, COUNT(m) FROM MemberEntity m GROUP BY m.status")
+    List<Object[]> countGroupedByStatus();
+
+    /**
+     * Compte les membres liés à chaque fournisseur social en une seule requête.
+     *
+     * @return des paires (fournisseur, nombre)
+     */
+    @Query("SELECT m.socialProvider, COUNT(m) FROM MemberEntity m " +
+           "WHERE m.socialProvider IS NOT NULL GROUP BY m.socialProvider")
+    List<Object[]> countGroupedBySocialProvider();
+
+    /**
+     * Compte les membres ayant défini un mot de passe local.
+     *
+     * @return le nombre de membres avec identifiants locaux (≥ 0)
+     */
+    long countByHasLocalCredentialsTrue();
+
 
     /**
      * Recherche des membres par prénom, nom ou email (insensible à la casse) avec pagination.
@@ -166,5 +237,182 @@ public interface SpringDataMemberRepository extends JpaRepository<MemberEntity,
         Pageable pageable
     );
 
-    List<MemberEntity> findByStatusAndDeactivatedAtBefore(MemberStatus status, LocalDateTime cutoff);
+    /**
+     * Liste paginée des profils membres, filtrée par terme de recherche et/ou statut.
+     * <p>
+     * Projection en lecture seule : seules les colonnes de {@link MemberProfile} sont
+     * sélectionnées. Le tri du {@link Pageable} porte sur les propriétés de l'entité.
+     * </p>
+     *
+     * @param searchTerm terme appliqué au prénom, nom et email (LIKE), ou null pour ignorer le filtre
+     * @param status statut recherché, ou null pour ignorer le filtre
+     * @param pageable les paramètres de pagination et de tri
+     * @return une page de profils correspondant aux critères
+     */
+    @Query(value = PROFILE_SELECT + PROFILE_FILTER,
+           countQuery = "SELECT COUNT(m) FROM MemberEntity m " + PROFILE_FILTER)
+    Page<MemberProfile> findProfiles(
+        @Param("searchTerm") String searchTerm,
+        @Param("status") MemberStatus status,
+        Pageable pageable
+    );
+
+    /**
+     * Charge les profils des membres dont la clé primaire figure dans {@code ids}, sans ordre garanti.
+     *
+     * @param ids les clés primaires recherchées
+     * @return les profils trouvés
+     */
+    @Query(PROFILE_SELECT + "WHERE m.id IN :ids")
+    List<MemberProfile> findProfilesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Charge le profil d'un membre par son memberId (index unique sur member_id).
+     *
+     * @param memberId l'UUID partagé du membre
+     * @return le profil s'il existe
+     */
+    @Query(PROFILE_SELECT + "WHERE m.memberId = :memberId")
+    Optional<MemberProfile> findProfileByMemberId(@Param("memberId") UUID memberId);
+
+    /**
+     * Charge le profil d'un membre par son keycloakUserId (claim 'sub' du JWT).
+     *
+     * @param keycloakUserId l'identifiant Keycloak du membre
+     * @return le profil s'il existe
+     */
+    @Query(PROFILE_SELECT + "WHERE m.keycloakUserId = :keycloakUserId")
+    Optional<MemberProfile> findProfileByKeycloakUserId(@Param("keycloakUserId") String keycloakUserId);
+
+    /**
+     * Recherche plein texte classée par pertinence (MySQL FULLTEXT, parser ngram).
+     * <p>
+     * S'appuie sur l'index {@code ft_member_search} (first_name, last_name, email)
+     * créé par {@link MemberFullTextIndexInitializer}, au lieu d'un balayage complet
+     * par {@code LIKE '%terme%'}. Les résultats sont triés par score de pertinence
+     * décroissant, puis par id ; le tri du {@link Pageable} doit donc être vide.
+     * </p>
+     *
+     * @param booleanQuery requête en mode BOOLEAN déjà assainie (ex. {@code "jean"} entre guillemets)
+     * @param status nom du statut recherché, ou null pour ignorer le filtre
+     * @param pageable pagination sans tri
+     * @return une page d'entités membres classées par pertinence
+     */
+    @Query(value = "SELECT * FROM member m " +
+                   "WHERE MATCH(m.first_name, m.last_name, m.email) AGAINST (:booleanQuery IN BOOLEAN MODE) " +
+                   "AND (:status IS NULL OR m.status = :status) " +
+                   "ORDER BY MATCH(m.first_name, m.last_name, m.email) AGAINST (:booleanQuery IN BOOLEAN MODE) DESC, m.id",
+           countQuery = "SELECT COUNT(*) FROM member m " +
+                   "WHERE MATCH(m.first_name, m.last_name, m.email) AGAINST (:booleanQuery IN BOOLEAN MODE) " +
+                   "AND (:status IS NULL OR m.status = :status)",
+           nativeQuery = true)
+    Page<MemberEntity> findMembersByFullTextSearch(
+        @Param("booleanQuery") String booleanQuery,
+        @Param("status") String status,
+        Pageable pageable
+    );
+
+    /**
+     * Verrouille les {@code limit} premiers membres d'un statut, désactivés avant {@code cutoff}
+     * et sans réservation en cours, par ordre de clé primaire. Les membres déjà anonymisés
+     * dont le compte Keycloak n'a pas pu être supprimé (statut {@code anonymizedStatus},
+     * identifiant Keycloak encore renseigné) sont repris de la même façon, ainsi que les
+     * suppressions interrompues (statut {@code deletingStatus}, inchangées depuis {@code staleBefore}).
+     * <p>
+     * {@code SELECT ... FOR UPDATE SKIP LOCKED} : les lignes déjà verrouillées par un autre
+     * nœud sont ignorées au lieu d'être attendues, si bien que des nœuds concurrents
+     * obtiennent des lots disjoints. Servie par l'index {@code idx_member_status_id}.
+     * </p>
+     *
+     * @param status le statut recherché
+     * @param anonymizedStatus le statut des membres anonymisés
+     * @param deletingStatus le statut des membres en cours de suppression
+     * @param cutoff date de désactivation de référence
+     * @param staleBefore date de dernière modification au-delà de laquelle une suppression est reprise
+     * @param now instant de référence pour l'expiration des réservations
+     * @param limit taille maximale du lot
+     * @return les entités verrouillées, triées par id
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = JpaLockHints.SKIP_LOCKED))
+    @Query("SELECT m FROM MemberEntity m WHERE ((m.status = :status AND m.deactivatedAt < :cutoff) " +
+           "OR (m.status = :anonymizedStatus AND m.anonymizedAt IS NOT NULL AND m.keycloakUserId IS NOT NULL) " +
+           "OR (m.status = :deletingStatus AND m.updatedAt < :staleBefore)) " +
+           "AND (m.cleanupClaimedUntil IS NULL OR m.cleanupClaimedUntil < :now) ORDER BY m.id")
+    List<MemberEntity> findUnclaimedForUpdate(
+        @Param("status") MemberStatus status,
+        @Param("anonymizedStatus") MemberStatus anonymizedStatus,
+        @Param("deletingStatus") MemberStatus deletingStatus,
+        @Param("cutoff") LocalDateTime cutoff,
+        @Param("staleBefore") LocalDateTime staleBefore,
+        @Param("now") LocalDateTime now,
+        Limit limit
+    );
+
+    /**
+     * Réserve des membres pour l'anonymisation au nom d'un nœud, jusqu'à {@code until}.
+     * <p>
+     * La version n'est pas incrémentée : une réservation n'est pas une modification du membre.
+     * </p>
+     *
+     * @param ids les clés primaires à réserver
+     * @param owner l'identifiant du nœud
+     * @param until fin de la réservation
+     * @return le nombre de membres réservés
+     */
+    @Modifying
+    @Query("UPDATE MemberEntity m SET m.cleanupClaimedBy = :owner, m.cleanupClaimedUntil = :until WHERE m.id IN :ids")
+    int claimForCleanup(
+        @Param("ids") Collection<UUID> ids,
+        @Param("owner") String owner,
+        @Param("until") LocalDateTime until
+    );
+
+    /**
+     * Verrouille ceux des membres donnés qui ont encore le statut {@code status}.
+     * <p>
+     * Une transition concurrente (réactivation) attend la fin de la transaction,
+     * puis ne trouve plus le statut qu'elle attendait.
+     * </p>
+     *
+     * @param ids les clés primaires candidates
+     * @param status le statut attendu
+     * @return les entités verrouillées qui ont ce statut
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM MemberEntity m WHERE m.id IN :ids AND m.status = :status")
+    List<MemberEntity> findByIdInAndStatusForUpdate(
+        @Param("ids") Collection<UUID> ids,
+        @Param("status") MemberStatus status
+    );
+
+    /**
+     * Efface l'identifiant Keycloak des membres donnés, une fois leur compte Keycloak supprimé.
+     *
+     * @param ids les clés primaires des membres
+     * @return le nombre de membres modifiés
+     */
+    @Modifying
+    @Query("UPDATE MemberEntity m SET m.keycloakUserId = NULL, m.version = m.version + 1 WHERE m.id IN :ids")
+    int clearKeycloakUserIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Parcourt les entités membres en flux, éventuellement filtrées par statut,
+     * sans les charger en une seule liste.
+     * <p>
+     * Le fetch size fait lire le curseur JDBC par lots et les entités sont chargées
+     * en lecture seule (pas d'instantané pour le dirty checking). L'appelant doit
+     * consommer le flux dans une transaction et vider régulièrement le contexte
+     * de persistance.
+     * </p>
+     *
+     * @param status le statut recherché, ou null pour tous les membres
+     * @return un flux à fermer après usage
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM MemberEntity m WHERE (:status IS NULL OR m.status = :status)")
+    Stream<MemberEntity> streamByStatus(@Param("status") MemberStatus status);
 }
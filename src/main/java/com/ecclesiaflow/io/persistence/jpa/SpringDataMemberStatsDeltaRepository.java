@@ -0,0 +1,20 @@
+package com.ecclesiaflow.io.persistence.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SpringDataMemberStatsDeltaRepository extends JpaRepository<MemberStatsDeltaEntity, UUID> {
+
+    /**
+     * Sums the journal per counter.
+     *
+     * @return rows of {@code [statKey, sum]}
+     */
+    @Query("SELECT d.statKey, SUM(d.countDelta) FROM MemberStatsDeltaEntity d GROUP BY d.statKey")
+    List<Object[]> sumByStatKey();
+}
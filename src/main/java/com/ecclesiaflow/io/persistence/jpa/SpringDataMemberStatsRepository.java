@@ -0,0 +1,29 @@
+package com.ecclesiaflow.io.persistence.jpa;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SpringDataMemberStatsRepository extends JpaRepository<MemberStatsEntity, String> {
+
+    /**
+     * Takes a shared lock on one row until the end of the transaction
+     * ({@code SELECT ... FOR SHARE}): shared locks do not wait for each other,
+     * only for {@link #findAllForUpdate()}.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT s FROM MemberStatsEntity s WHERE s.statKey = :statKey")
+    Optional<MemberStatsEntity> findForShare(@Param("statKey") String statKey);
+
+    /** Locks every counter row, in key order, until the end of the transaction. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM MemberStatsEntity s ORDER BY s.statKey")
+    List<MemberStatsEntity> findAllForUpdate();
+}
@@ -1,11 +1,19 @@
 package com.ecclesiaflow.io.persistence.jpa;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,4 +27,23 @@ public interface SpringDataPendingEmailChangeRepository extends JpaRepository<Pe
     @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("DELETE FROM PendingEmailChangeEntity p WHERE p.memberId = :memberId")
     void deleteByMemberId(@Param("memberId") UUID memberId);
+
+    /** Claims the change unless an unexpired claim is held on it. */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PendingEmailChangeEntity p SET p.confirmingUntil = :until " +
+           "WHERE p.id = :id AND (p.confirmingUntil IS NULL OR p.confirmingUntil < :now)")
+    int claimForConfirmation(@Param("id") UUID id, @Param("now") LocalDateTime now,
+                             @Param("until") LocalDateTime until);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PendingEmailChangeEntity p SET p.confirmingUntil = NULL WHERE p.id = :id")
+    void releaseConfirmationClaim(@Param("id") UUID id);
+
+    /** {@code FOR UPDATE SKIP LOCKED}: concurrent nodes lock disjoint chunks of expired changes. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = JpaLockHints.SKIP_LOCKED))
+    @Query("SELECT p FROM PendingEmailChangeEntity p WHERE p.expiresAt < :cutoff ORDER BY p.expiresAt")
+    List<PendingEmailChangeEntity> findExpiredForUpdate(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    long countByExpiresAtBefore(LocalDateTime cutoff);
 }
@@ -0,0 +1,20 @@
+package com.ecclesiaflow.io.persistence.jpa;
+
+import com.ecclesiaflow.business.domain.identity.UuidV7;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.util.UUID;
+
+/**
+ * Hibernate algorithm for {@code @UuidGenerator} producing time-ordered
+ * {@link UuidV7} primary keys, stored as {@code BINARY(16)} in big-endian order so
+ * that InnoDB inserts are appended to the clustered index.
+ */
+public class UuidV7ValueGenerator implements UuidValueGenerator {
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return UuidV7.generate();
+    }
+}
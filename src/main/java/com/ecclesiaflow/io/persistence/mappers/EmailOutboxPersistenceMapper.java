@@ -0,0 +1,38 @@
+package com.ecclesiaflow.io.persistence.mappers;
+
+import com.ecclesiaflow.business.domain.communication.OutboundEmail;
+import com.ecclesiaflow.business.domain.communication.OutboxEntry;
+import com.ecclesiaflow.business.domain.communication.OutboxStatus;
+import com.ecclesiaflow.io.persistence.jpa.EmailOutboxEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+public class EmailOutboxPersistenceMapper {
+
+    public OutboxEntry toEntry(EmailOutboxEntity entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("Entity must not be null");
+        }
+        OutboundEmail email = new OutboundEmail(
+                entity.getOperation(), entity.getRecipient(), entity.getFirstName(), entity.getLink());
+        return new OutboxEntry(entity.getId(), email, entity.getAttempts());
+    }
+
+    /** A new PENDING row, due at {@code dueAt}. */
+    public EmailOutboxEntity toEntity(OutboundEmail email, LocalDateTime dueAt) {
+        if (email == null) {
+            throw new IllegalArgumentException("Domain object must not be null");
+        }
+        return EmailOutboxEntity.builder()
+                .operation(email.operation())
+                .recipient(email.recipient())
+                .firstName(email.firstName())
+                .link(email.link())
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(dueAt)
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package com.ecclesiaflow.io.persistence.mappers;
 import com.ecclesiaflow.business.domain.member.Member;
 import com.ecclesiaflow.io.persistence.jpa.MemberEntity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 /** MapStruct mapper for Member domain object and MemberEntity JPA entity conversion. */
 @Mapper(componentModel = "spring")
@@ -10,6 +11,8 @@ public interface MemberPersistenceMapper {
 
     Member toDomain(MemberEntity entity);
 
+    @Mapping(target = "cleanupClaimedBy", ignore = true)
+    @Mapping(target = "cleanupClaimedUntil", ignore = true)
     MemberEntity toEntity(Member domain);
 
     default Member toDomainOrThrow(MemberEntity entity) {
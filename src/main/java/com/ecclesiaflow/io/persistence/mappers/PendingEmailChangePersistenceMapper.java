@@ -18,6 +18,7 @@ public class PendingEmailChangePersistenceMapper {
                 .token(entity.getToken())
                 .createdAt(entity.getCreatedAt())
                 .expiresAt(entity.getExpiresAt())
+                .confirmingUntil(entity.getConfirmingUntil())
                 .build();
     }
 
@@ -32,6 +33,7 @@ public class PendingEmailChangePersistenceMapper {
                 .token(domain.getToken())
                 .createdAt(domain.getCreatedAt())
                 .expiresAt(domain.getExpiresAt())
+                .confirmingUntil(domain.getConfirmingUntil())
                 .build();
     }
 }
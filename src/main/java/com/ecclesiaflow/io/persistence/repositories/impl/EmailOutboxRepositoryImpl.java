@@ -0,0 +1,117 @@
+package com.ecclesiaflow.io.persistence.repositories.impl;
+
+import com.ecclesiaflow.business.domain.communication.EmailOutbox;
+import com.ecclesiaflow.business.domain.communication.OutboundEmail;
+import com.ecclesiaflow.business.domain.communication.OutboxEntry;
+import com.ecclesiaflow.business.domain.communication.OutboxOutcome;
+import com.ecclesiaflow.business.domain.communication.OutboxStatus;
+import com.ecclesiaflow.io.persistence.jpa.EmailOutboxEntity;
+import com.ecclesiaflow.io.persistence.jpa.SpringDataEmailOutboxRepository;
+import com.ecclesiaflow.io.persistence.mappers.EmailOutboxPersistenceMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class EmailOutboxRepositoryImpl implements EmailOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final SpringDataEmailOutboxRepository springDataRepo;
+    private final EmailOutboxPersistenceMapper mapper;
+
+    @Override
+    @Transactional
+    public void enqueue(OutboundEmail email) {
+        springDataRepo.save(mapper.toEntity(email, LocalDateTime.now()));
+    }
+
+    /**
+     * The claimed rows stay managed until the commit, which flushes their new attempt
+     * count and {@code next_attempt_at} as one batched UPDATE.
+     */
+    @Override
+    @Transactional
+    public List<OutboxEntry> claimDue(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxEntity> due = springDataRepo.findDueForUpdate(OutboxStatus.PENDING, now, Limit.of(limit));
+        for (EmailOutboxEntity entity : due) {
+            entity.setAttempts(entity.getAttempts() + 1);
+            entity.setNextAttemptAt(now.plus(lease));
+        }
+        return due.stream()
+                .map(mapper::toEntry)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void recordOutcomes(List<OutboxOutcome> outcomes) {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+        Map<UUID, EmailOutboxEntity> entities = springDataRepo.findAllById(
+                        outcomes.stream().map(OutboxOutcome::id).toList()).stream()
+                .collect(Collectors.toMap(EmailOutboxEntity::getId, Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxOutcome outcome : outcomes) {
+            EmailOutboxEntity entity = entities.get(outcome.id());
+            if (entity == null) {
+                continue;
+            }
+            entity.setStatus(outcome.status());
+            switch (outcome.status()) {
+                case SENT -> {
+                    entity.setSentAt(now);
+                    entity.setEmailId(outcome.emailId());
+                    entity.setLastError(null);
+                }
+                case PENDING -> {
+                    entity.setNextAttemptAt(outcome.nextAttemptAt());
+                    entity.setLastError(truncate(outcome.error()));
+                }
+                case FAILED -> entity.setLastError(truncate(outcome.error()));
+            }
+        }
+    }
+
+    @Override
+    public long countPending() {
+        return springDataRepo.countByStatus(OutboxStatus.PENDING);
+    }
+
+    @Override
+    public Optional<LocalDateTime> oldestPendingCreatedAt() {
+        return Optional.ofNullable(springDataRepo.findOldestCreatedAt(OutboxStatus.PENDING));
+    }
+
+    @Override
+    @Transactional
+    public int deleteSentBefore(LocalDateTime cutoff, int limit) {
+        List<UUID> ids = springDataRepo.findSentBeforeForUpdate(OutboxStatus.SENT, cutoff, Limit.of(limit)).stream()
+                .map(EmailOutboxEntity::getId)
+                .toList();
+        springDataRepo.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+
+    @Override
+    public long countSentBefore(LocalDateTime cutoff) {
+        return springDataRepo.countByStatusAndSentAtBefore(OutboxStatus.SENT, cutoff);
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
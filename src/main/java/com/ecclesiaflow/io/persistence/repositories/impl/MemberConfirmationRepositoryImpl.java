@@ -6,6 +6,7 @@ import com.ecclesiaflow.io.persistence.jpa.MemberConfirmationEntity;
 import com.ecclesiaflow.io.persistence.mappers.MemberConfirmationPersistenceMapper;
 import com.ecclesiaflow.io.persistence.jpa.SpringDataMemberConfirmationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -90,6 +91,16 @@ public class MemberConfirmationRepositoryImpl implements MemberConfirmationRepos
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<MemberConfirmation> saveAll(List<MemberConfirmation> confirmations) {
+        List<MemberConfirmationEntity> entities = confirmations.stream()
+                .map(mapper::toEntity)
+                .toList();
+        return springDataRepo.saveAll(entities).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public void delete(MemberConfirmation confirmation) {
         springDataRepo.delete(mapper.toEntity(confirmation));
@@ -100,4 +111,19 @@ public class MemberConfirmationRepositoryImpl implements MemberConfirmationRepos
     public int deleteExpiredConfirmations() {
         return springDataRepo.deleteExpiredConfirmations(LocalDateTime.now());
     }
+
+    @Override
+    @Transactional
+    public int deleteExpiredConfirmations(LocalDateTime cutoff, int limit) {
+        List<UUID> ids = springDataRepo.findExpiredForUpdate(cutoff, Limit.of(limit)).stream()
+                .map(MemberConfirmationEntity::getId)
+                .toList();
+        springDataRepo.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+
+    @Override
+    public long countExpiredConfirmations(LocalDateTime cutoff) {
+        return springDataRepo.countByExpiresAtBefore(cutoff);
+    }
 }
@@ -1,20 +1,55 @@
 package com.ecclesiaflow.io.persistence.repositories.impl;
 
 import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberProfile;
 import com.ecclesiaflow.business.domain.member.MemberRepository;
+import com.ecclesiaflow.business.domain.member.MemberSearchIndex;
 import com.ecclesiaflow.business.domain.member.MemberStatus;
+import com.ecclesiaflow.business.domain.member.MemberStatusChange;
+import com.ecclesiaflow.business.domain.member.SocialProvider;
+import com.ecclesiaflow.business.exceptions.MemberNotFoundException;
+import com.ecclesiaflow.business.transaction.ReadFromPrimary;
+import com.ecclesiaflow.io.persistence.cache.MemberLookupCache;
+import com.ecclesiaflow.io.persistence.cache.MemberStatusCache;
 import com.ecclesiaflow.io.persistence.jpa.MemberEntity;
+import com.ecclesiaflow.io.persistence.jpa.MemberSpecifications;
 import com.ecclesiaflow.io.persistence.mappers.MemberPersistenceMapper;
 import com.ecclesiaflow.io.persistence.jpa.SpringDataMemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adapts the domain {@link MemberRepository} port to Spring Data JPA,
@@ -24,22 +59,70 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class MemberRepositoryImpl implements MemberRepository {
 
+    private static final String ID_PROPERTY = "id";
+    private static final String VERSION_PROPERTY = "version";
+    /** Rows streamed between two persistence context clears. */
+    static final int STREAM_CLEAR_INTERVAL = 1_000;
+    /** Must match the server's {@code ngram_token_size} (MySQL default: 2). */
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    /** Member fields that can change after creation, with the entity attribute each maps to. */
+    private static final List<UpdatableField<?>> UPDATABLE_FIELDS = List.of(
+            new UpdatableField<>("firstName", String.class, Member::getFirstName, MemberEntity::setFirstName),
+            new UpdatableField<>("lastName", String.class, Member::getLastName, MemberEntity::setLastName),
+            new UpdatableField<>("email", String.class, Member::getEmail, MemberEntity::setEmail),
+            new UpdatableField<>("address", String.class, Member::getAddress, MemberEntity::setAddress),
+            new UpdatableField<>("phoneNumber", String.class, Member::getPhoneNumber, MemberEntity::setPhoneNumber),
+            new UpdatableField<>("status", MemberStatus.class, Member::getStatus, MemberEntity::setStatus),
+            new UpdatableField<>("confirmedAt", LocalDateTime.class, Member::getConfirmedAt, MemberEntity::setConfirmedAt),
+            new UpdatableField<>("keycloakUserId", String.class, Member::getKeycloakUserId, MemberEntity::setKeycloakUserId),
+            new UpdatableField<>("socialProvider", SocialProvider.class,
+                    Member::getSocialProvider, MemberEntity::setSocialProvider),
+            new UpdatableField<>("hasLocalCredentials", Boolean.class,
+                    Member::isHasLocalCredentials, MemberEntity::setHasLocalCredentials),
+            new UpdatableField<>("deactivatedAt", LocalDateTime.class,
+                    Member::getDeactivatedAt, MemberEntity::setDeactivatedAt),
+            new UpdatableField<>("anonymizedAt", LocalDateTime.class,
+                    Member::getAnonymizedAt, MemberEntity::setAnonymizedAt));
+    private static final String ANONYMIZED_NAME = "DELETED";
+    private static final String ANONYMIZED_EMAIL_PREFIX = "deleted+";
+    private static final String ANONYMIZED_EMAIL_DOMAIN = "@anonymized.local";
+    private static final Pattern BOOLEAN_MODE_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+
     private final SpringDataMemberRepository springDataRepo;
     private final MemberPersistenceMapper mapper;
+    private final MemberSearchIndex searchIndex;
+    private final EntityManager entityManager;
+    private final MemberLookupCache lookupCache;
+    private final MemberStatusCache statusCache;
 
+    /**
+     * The cached lookups read from the primary: a lagging replica row would otherwise be
+     * cached right after a write evicted it, and the next write would be checked against
+     * its stale version.
+     */
     @Override
+    @ReadFromPrimary
     public Optional<Member> getByMemberId(UUID memberId) {
-        return springDataRepo.findByMemberId(memberId).map(mapper::toDomain);
+        return lookupCache.getByMemberId(memberId, id -> springDataRepo.findByMemberId(id).map(mapper::toDomain));
     }
 
     @Override
+    @ReadFromPrimary
     public Optional<Member> getByEmail(String email) {
-        return springDataRepo.findByEmail(email).map(mapper::toDomain);
+        return lookupCache.getByEmail(email, key -> springDataRepo.findByEmail(key).map(mapper::toDomain));
     }
 
     @Override
+    @ReadFromPrimary
     public Optional<Member> getByKeycloakUserId(String keycloakUserId) {
-        return springDataRepo.findByKeycloakUserId(keycloakUserId).map(mapper::toDomain);
+        return lookupCache.getByKeycloakUserId(keycloakUserId,
+                key -> springDataRepo.findByKeycloakUserId(key).map(mapper::toDomain));
+    }
+
+    @Override
+    @ReadFromPrimary
+    public Optional<MemberStatus> getStatusByKeycloakUserId(String keycloakUserId) {
+        return statusCache.get(keycloakUserId, springDataRepo::findStatusByKeycloakUserId);
     }
 
     @Override
@@ -52,6 +135,14 @@ public class MemberRepositoryImpl implements MemberRepository {
         return springDataRepo.existsByKeycloakUserId(keycloakUserId);
     }
 
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails == null || emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(springDataRepo.findEmailsIn(emails));
+    }
+
     @Override
     public long countByStatus(MemberStatus status) {
         return springDataRepo.countByStatus(status);
@@ -61,12 +152,137 @@ public class MemberRepositoryImpl implements MemberRepository {
     public Member save(Member member) {
         MemberEntity entity = mapper.toEntity(member);
         MemberEntity savedEntity = springDataRepo.save(entity);
-        return mapper.toDomain(savedEntity);
+        Member saved = mapper.toDomain(savedEntity);
+        evict(saved);
+        searchIndex.index(saved);
+        return saved;
+    }
+
+    /**
+     * If the entity is already managed (read earlier in this transaction), the changed
+     * fields are set on it and dirty checking flushes them ({@code @DynamicUpdate}).
+     * Otherwise a bulk UPDATE is issued directly, instead of {@code merge} reading the
+     * row back first. Either way the row must still carry {@code original}'s version.
+     * Joins the caller's transaction; a caller without one (a scheduler, say) gets its
+     * own, since a bulk UPDATE cannot run outside a transaction.
+     */
+    @Override
+    @Transactional
+    public Member update(Member original, Member updated) {
+        if (original.getId() == null || !original.getId().equals(updated.getId())) {
+            throw new IllegalArgumentException("original and updated must be the same persisted member");
+        }
+        List<UpdatableField<?>> changed = UPDATABLE_FIELDS.stream()
+                .filter(field -> field.changed(original, updated))
+                .toList();
+        if (changed.isEmpty()) {
+            return updated;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Long version = original.getVersion();
+        MemberEntity reference = entityManager.getReference(MemberEntity.class, original.getId());
+        if (Hibernate.isInitialized(reference)) {
+            if (version != null && !version.equals(reference.getVersion())) {
+                throw staleMember(original);
+            }
+            changed.forEach(field -> field.copy(updated, reference));
+            version = reference.getVersion() + 1;
+        } else {
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            CriteriaUpdate<MemberEntity> statement = cb.createCriteriaUpdate(MemberEntity.class);
+            Root<MemberEntity> root = statement.from(MemberEntity.class);
+            changed.forEach(field -> field.set(statement, root, cb, updated));
+            statement.set(root.<LocalDateTime>get("updatedAt"), now);
+            Path<Long> versionPath = root.get(VERSION_PROPERTY);
+            statement.set(versionPath, cb.sum(versionPath, 1L));
+            statement.where(version == null
+                    ? cb.equal(root.get(ID_PROPERTY), original.getId())
+                    : cb.and(cb.equal(root.get(ID_PROPERTY), original.getId()), cb.equal(versionPath, version)));
+            if (entityManager.createQuery(statement).executeUpdate() == 0) {
+                if (version != null && springDataRepo.existsById(original.getId())) {
+                    throw staleMember(original);
+                }
+                throw new MemberNotFoundException("Member not found");
+            }
+            version = version != null ? version + 1 : null;
+        }
+
+        Member saved = updated.toBuilder().updatedAt(now).version(version).build();
+        evict(saved);
+        statusCache.evict(original.getKeycloakUserId());
+        searchIndex.index(saved);
+        return saved;
+    }
+
+    /**
+     * Issues the transition as one bulk UPDATE guarded by the expected status. A copy
+     * of the entity already loaded in this persistence context would be stale
+     * afterwards, so it is detached. Like {@link #update}, joins or opens a transaction.
+     */
+    @Override
+    @Transactional
+    public Optional<Member> transitionStatus(Member member, MemberStatusChange change) {
+        LocalDateTime now = LocalDateTime.now();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<MemberEntity> statement = cb.createCriteriaUpdate(MemberEntity.class);
+        Root<MemberEntity> root = statement.from(MemberEntity.class);
+        statement.set(root.<MemberStatus>get("status"), change.to());
+        if (change.confirmedAt() != null) {
+            statement.set(root.<LocalDateTime>get("confirmedAt"), change.confirmedAt());
+        }
+        if (change.keycloakUserId() != null) {
+            statement.set(root.<String>get("keycloakUserId"), change.keycloakUserId());
+        }
+        if (change.deactivatedAt() != null) {
+            statement.set(root.<LocalDateTime>get("deactivatedAt"), change.deactivatedAt());
+        } else {
+            statement.set(root.<LocalDateTime>get("deactivatedAt"), cb.nullLiteral(LocalDateTime.class));
+        }
+        statement.set(root.<LocalDateTime>get("updatedAt"), now);
+        Path<Long> versionPath = root.get(VERSION_PROPERTY);
+        statement.set(versionPath, cb.sum(versionPath, 1L));
+        statement.where(cb.equal(root.get("memberId"), member.getMemberId()),
+                cb.equal(root.get("status"), change.from()));
+
+        int updatedRows = entityManager.createQuery(statement).executeUpdate();
+        if (member.getId() != null) {
+            MemberEntity loaded = entityManager.getReference(MemberEntity.class, member.getId());
+            if (Hibernate.isInitialized(loaded)) {
+                entityManager.detach(loaded);
+            }
+        }
+        evict(member);
+        statusCache.evict(change.keycloakUserId());
+        if (updatedRows == 0) {
+            return Optional.empty();
+        }
+
+        Member transitioned = change.applyTo(member).toBuilder()
+                .updatedAt(now)
+                .version(member.getVersion() != null ? member.getVersion() + 1 : null)
+                .build();
+        searchIndex.index(transitioned);
+        return Optional.of(transitioned);
+    }
+
+    @Override
+    public List<Member> saveAll(List<Member> members) {
+        List<MemberEntity> entities = members.stream()
+                .map(mapper::toEntity)
+                .toList();
+        List<Member> saved = springDataRepo.saveAll(entities).stream()
+                .map(mapper::toDomain)
+                .toList();
+        saved.forEach(searchIndex::index);
+        return saved;
     }
 
     @Override
     public void delete(Member member) {
         springDataRepo.delete(mapper.toEntity(member));
+        evict(member);
+        searchIndex.remove(member.getId());
     }
 
     @Override
@@ -77,48 +293,248 @@ public class MemberRepositoryImpl implements MemberRepository {
     }
 
     @Override
-    public Page<Member> getAll(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public long forEachMember(MemberStatus status, Consumer<Member> action) {
+        long count = 0;
+        try (Stream<MemberEntity> entities = springDataRepo.streamByStatus(status)) {
+            Iterator<MemberEntity> it = entities.iterator();
+            while (it.hasNext()) {
+                action.accept(mapper.toDomain(it.next()));
+                if (++count % STREAM_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public Page<Member> getMembersBySearchTerm(String searchTerm, Pageable pageable) {
         if (pageable == null) {
             throw new IllegalArgumentException("Pageable cannot be null");
         }
-        return springDataRepo.findAll(pageable)
+        return springDataRepo.findMembersBySearchTerm(searchTerm, pageable)
                 .map(mapper::toDomain);
     }
 
     @Override
-    public Page<Member> getByStatus(MemberStatus status, Pageable pageable) {
+    public Page<Member> getMembersBySearchTermAndStatus(
+            String searchTerm, MemberStatus status, Pageable pageable) {
         if (pageable == null) {
             throw new IllegalArgumentException("Pageable cannot be null");
         }
-        return springDataRepo.findByStatus(status, pageable)
+        return springDataRepo.findMembersBySearchTermAndStatus(
+                searchTerm, status, pageable)
                 .map(mapper::toDomain);
     }
 
     @Override
-    public Page<Member> getMembersBySearchTerm(String searchTerm, Pageable pageable) {
+    public Page<Member> searchMembersByRelevance(String searchTerm, MemberStatus status, Pageable pageable) {
         if (pageable == null) {
             throw new IllegalArgumentException("Pageable cannot be null");
         }
-        return springDataRepo.findMembersBySearchTerm(searchTerm, pageable)
+        String booleanQuery = toBooleanModePhrase(searchTerm);
+        if (booleanQuery == null) {
+            // Below the ngram token size the FULLTEXT index cannot match; keep the LIKE semantics.
+            return status == null
+                    ? getMembersBySearchTerm(searchTerm, pageable)
+                    : getMembersBySearchTermAndStatus(searchTerm, status, pageable);
+        }
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return springDataRepo.findMembersByFullTextSearch(
+                        booleanQuery, status != null ? status.name() : null, unsorted)
                 .map(mapper::toDomain);
     }
 
     @Override
-    public Page<Member> getMembersBySearchTermAndStatus(
-            String searchTerm, MemberStatus status, Pageable pageable) {
+    public Page<MemberProfile> getProfiles(String searchTerm, MemberStatus status, Pageable pageable) {
         if (pageable == null) {
             throw new IllegalArgumentException("Pageable cannot be null");
         }
-        return springDataRepo.findMembersBySearchTermAndStatus(
-                searchTerm, status, pageable)
+        return springDataRepo.findProfiles(searchTerm, status, pageable);
+    }
+
+    @Override
+    public List<MemberProfile> getProfilesByIds(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, MemberProfile> byId = springDataRepo.findProfilesByIdIn(ids).stream()
+                .collect(Collectors.toMap(MemberProfile::id, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public Optional<MemberProfile> getProfileByMemberId(UUID memberId) {
+        return springDataRepo.findProfileByMemberId(memberId);
+    }
+
+    @Override
+    public Optional<MemberProfile> getProfileByKeycloakUserId(String keycloakUserId) {
+        return springDataRepo.findProfileByKeycloakUserId(keycloakUserId);
+    }
+
+    /**
+     * Strips MySQL BOOLEAN MODE operators and wraps the term in double quotes so that
+     * the ngram parser matches it as a contiguous substring.
+     *
+     * @return the quoted phrase, or null when the cleaned term is shorter than the ngram token size
+     */
+    static String toBooleanModePhrase(String searchTerm) {
+        if (searchTerm == null) {
+            return null;
+        }
+        String cleaned = BOOLEAN_MODE_OPERATORS.matcher(searchTerm).replaceAll(" ")
+                .trim()
+                .replaceAll("\\s+", " ");
+        if (cleaned.length() < NGRAM_TOKEN_SIZE) {
+            return null;
+        }
+        return "\"" + cleaned + "\"";
+    }
+
+    @Override
+    public Window<Member> scrollMembers(String searchTerm, MemberStatus status,
+                                        KeysetScrollPosition position, Sort sort, int limit) {
+        if (position == null || sort == null) {
+            throw new IllegalArgumentException("Scroll position and sort cannot be null");
+        }
+        Sort seekSort = withIdTieBreaker(sort);
+        return springDataRepo.findBy(MemberSpecifications.matching(searchTerm, status),
+                        query -> query.sortBy(seekSort).limit(limit).scroll(position))
                 .map(mapper::toDomain);
     }
 
+    /**
+     * Appends {@code id} in the same direction as the primary sort key so that the
+     * seek predicate is a uniform {@code (sortKey, id) > (?, ?)} comparison.
+     */
+    private Sort withIdTieBreaker(Sort sort) {
+        if (sort.getOrderFor(ID_PROPERTY) != null) {
+            return sort;
+        }
+        Sort.Direction direction = sort.stream()
+                .findFirst()
+                .map(Sort.Order::getDirection)
+                .orElse(Sort.Direction.ASC);
+        return sort.and(Sort.by(direction, ID_PROPERTY));
+    }
+
     @Override
-    public List<Member> findDeactivatedBefore(LocalDateTime cutoffDate) {
-        return springDataRepo.findByStatusAndDeactivatedAtBefore(MemberStatus.DEACTIVATED, cutoffDate)
-                .stream()
+    @Transactional
+    public List<Member> claimDeactivatedBefore(LocalDateTime cutoffDate, String owner, Duration lease, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MemberEntity> claimed = springDataRepo.findUnclaimedForUpdate(
+                MemberStatus.DEACTIVATED, MemberStatus.INACTIVE, MemberStatus.DELETING,
+                cutoffDate, now.minus(lease), now, Limit.of(limit));
+        if (claimed.isEmpty()) {
+            return List.of();
+        }
+        springDataRepo.claimForCleanup(claimed.stream().map(MemberEntity::getId).toList(), owner, now.plus(lease));
+        return claimed.stream()
                 .map(mapper::toDomain)
                 .toList();
     }
+
+    /**
+     * The rows still DEACTIVATED are locked first, so a concurrent reactivation either
+     * commits before (and the member is skipped) or waits for this transaction. The email
+     * column is unique, so each member gets its own placeholder address through a
+     * {@code CASE id WHEN ? THEN ? ...} expression and the whole chunk stays one statement.
+     * The keycloakUserId is kept: the caller clears it once the Keycloak account is gone.
+     * The search index is then refreshed from the rows as stored.
+     */
+    @Override
+    @Transactional
+    public List<Member> anonymizeDeactivated(List<Member> members, LocalDateTime anonymizedAt) {
+        if (members.isEmpty()) {
+            return List.of();
+        }
+        List<MemberEntity> locked = springDataRepo.findByIdInAndStatusForUpdate(
+                members.stream().map(Member::getId).toList(), MemberStatus.DEACTIVATED);
+        if (locked.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> ids = locked.stream().map(MemberEntity::getId).collect(Collectors.toSet());
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<MemberEntity> statement = cb.createCriteriaUpdate(MemberEntity.class);
+        Root<MemberEntity> root = statement.from(MemberEntity.class);
+        CriteriaBuilder.SimpleCase<UUID, String> email = cb.selectCase(root.<UUID>get(ID_PROPERTY));
+        ids.forEach(id -> email.when(id, ANONYMIZED_EMAIL_PREFIX + UUID.randomUUID() + ANONYMIZED_EMAIL_DOMAIN));
+        Path<String> emailPath = root.get("email");
+        statement.set(root.<String>get("firstName"), ANONYMIZED_NAME);
+        statement.set(root.<String>get("lastName"), ANONYMIZED_NAME);
+        statement.set(emailPath, email.otherwise(emailPath));
+        statement.set(root.<String>get("address"), cb.nullLiteral(String.class));
+        statement.set(root.<String>get("phoneNumber"), cb.nullLiteral(String.class));
+        statement.set(root.<MemberStatus>get("status"), MemberStatus.INACTIVE);
+        statement.set(root.<LocalDateTime>get("anonymizedAt"), anonymizedAt);
+        statement.set(root.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+        Path<Long> versionPath = root.get(VERSION_PROPERTY);
+        statement.set(versionPath, cb.sum(versionPath, 1L));
+        statement.where(root.get(ID_PROPERTY).in(ids), cb.equal(root.get("status"), MemberStatus.DEACTIVATED));
+
+        entityManager.createQuery(statement).executeUpdate();
+        // The locked entities hold the pre-update state; read the rows back as stored
+        locked.forEach(entityManager::detach);
+        List<Member> anonymized = members.stream()
+                .filter(member -> ids.contains(member.getId()))
+                .toList();
+        anonymized.forEach(this::evict);
+        springDataRepo.findAllById(ids).stream()
+                .map(mapper::toDomain)
+                .forEach(searchIndex::index);
+        return anonymized;
+    }
+
+    @Override
+    @Transactional
+    public void clearKeycloakUserIds(List<Member> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        springDataRepo.clearKeycloakUserIds(members.stream().map(Member::getId).toList());
+        members.forEach(this::evict);
+    }
+
+    /** Drops the member from both caches; called on every write. */
+    private void evict(Member member) {
+        lookupCache.evict(member);
+        statusCache.evict(member.getKeycloakUserId());
+    }
+
+    /**
+     * The caller read {@code member} through the lookup cache, so the cached copy is
+     * outdated: it is evicted, otherwise every retry would send the same stale version
+     * until the entry expires.
+     */
+    private ObjectOptimisticLockingFailureException staleMember(Member member) {
+        evict(member);
+        return new ObjectOptimisticLockingFailureException(MemberEntity.class, member.getId());
+    }
+
+    private record UpdatableField<T>(String attribute, Class<T> type,
+                                     Function<Member, T> getter, BiConsumer<MemberEntity, T> setter) {
+
+        boolean changed(Member original, Member updated) {
+            return !Objects.equals(getter.apply(original), getter.apply(updated));
+        }
+
+        void copy(Member source, MemberEntity target) {
+            setter.accept(target, getter.apply(source));
+        }
+
+        void set(CriteriaUpdate<MemberEntity> statement, Root<MemberEntity> root, CriteriaBuilder cb, Member source) {
+            Path<T> path = root.get(attribute);
+            T value = getter.apply(source);
+            if (value == null) {
+                statement.set(path, cb.nullLiteral(type));
+            } else {
+                statement.set(path, value);
+            }
+        }
+    }
 }
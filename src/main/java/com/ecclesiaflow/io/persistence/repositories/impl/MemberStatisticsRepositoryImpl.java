@@ -0,0 +1,140 @@
+package com.ecclesiaflow.io.persistence.repositories.impl;
+
+import com.ecclesiaflow.business.domain.member.MemberStatistics;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsDelta;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatus;
+import com.ecclesiaflow.business.domain.member.SocialProvider;
+import com.ecclesiaflow.io.persistence.jpa.MemberStatsDeltaEntity;
+import com.ecclesiaflow.io.persistence.jpa.MemberStatsEntity;
+import com.ecclesiaflow.io.persistence.jpa.SpringDataMemberRepository;
+import com.ecclesiaflow.io.persistence.jpa.SpringDataMemberStatsDeltaRepository;
+import com.ecclesiaflow.io.persistence.jpa.SpringDataMemberStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Stores the {@link MemberStatistics} counters in the {@code member_stats} table.
+ *
+ * <p>A delta is appended to the {@code member_stats_delta} journal, one row per counter,
+ * in the transaction of the member write: it commits or rolls back with the write, and
+ * concurrent writers never update the same row. The counters are the {@code member_stats}
+ * rows plus the sum of the journal.</p>
+ *
+ * <p>{@link #reconcile()} recounts the member table into {@code member_stats} and empties
+ * the journal. Each delta first takes a shared lock on the {@code journal_gate} row, and
+ * the reconciliation an exclusive lock on every counter row: the writers holding a delta
+ * are committed before the recount (which then includes their members and drops their
+ * journal rows), and the ones that come after wait for the reconciliation, then journal
+ * on top of it. The counters are thus exact whatever the isolation level, and the
+ * reconciliations running on several nodes take turns. The rows are created by the first
+ * reconciliation; until then, the counters are the journal alone.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberStatisticsRepositoryImpl implements MemberStatisticsRepository {
+
+    static final String STATUS_PREFIX = "status:";
+    static final String PROVIDER_PREFIX = "provider:";
+    static final String LOCAL_CREDENTIALS_KEY = "local_credentials";
+    static final String JOURNAL_GATE_KEY = "journal_gate";
+
+    private final SpringDataMemberStatsRepository statsRepository;
+    private final SpringDataMemberStatsDeltaRepository deltaRepository;
+    private final SpringDataMemberRepository memberRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public MemberStatistics get() {
+        Map<String, Long> counts = statsRepository.findAll().stream()
+                .collect(Collectors.toMap(MemberStatsEntity::getStatKey, MemberStatsEntity::getMemberCount));
+        for (Object[] row : deltaRepository.sumByStatKey()) {
+            counts.merge((String) row[0], ((Number) row[1]).longValue(), Long::sum);
+        }
+        return toStatistics(counts);
+    }
+
+    @Override
+    @Transactional
+    public void apply(MemberStatisticsDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        List<MemberStatsDeltaEntity> rows = new ArrayList<>();
+        delta.byStatus().forEach((status, count) -> rows.add(journalRow(STATUS_PREFIX + status.name(), count)));
+        delta.bySocialProvider().forEach((provider, count) ->
+                rows.add(journalRow(PROVIDER_PREFIX + provider.name(), count)));
+        if (delta.withLocalCredentials() != 0) {
+            rows.add(journalRow(LOCAL_CREDENTIALS_KEY, delta.withLocalCredentials()));
+        }
+        // Waits while a reconciliation runs, never for other writers
+        statsRepository.findForShare(JOURNAL_GATE_KEY);
+        deltaRepository.saveAll(rows);
+    }
+
+    @Override
+    @Transactional
+    public MemberStatistics reconcile() {
+        // Locked before counting: no delta can commit until the recount is stored
+        Map<String, MemberStatsEntity> rows = statsRepository.findAllForUpdate().stream()
+                .collect(Collectors.toMap(MemberStatsEntity::getStatKey, Function.identity()));
+        Map<String, Long> counts = new TreeMap<>();
+        for (MemberStatus status : MemberStatus.values()) {
+            counts.put(STATUS_PREFIX + status.name(), 0L);
+        }
+        for (SocialProvider provider : SocialProvider.values()) {
+            counts.put(PROVIDER_PREFIX + provider.name(), 0L);
+        }
+        for (Object[] row : memberRepository.countGroupedByStatus()) {
+            counts.put(STATUS_PREFIX + ((MemberStatus) row[0]).name(), (Long) row[1]);
+        }
+        for (Object[] row : memberRepository.countGroupedBySocialProvider()) {
+            counts.put(PROVIDER_PREFIX + ((SocialProvider) row[0]).name(), (Long) row[1]);
+        }
+        counts.put(LOCAL_CREDENTIALS_KEY, memberRepository.countByHasLocalCredentialsTrue());
+
+        // Every journaled delta is now part of the recount
+        deltaRepository.deleteAllInBatch();
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Long> stored = new TreeMap<>(counts);
+        stored.put(JOURNAL_GATE_KEY, 0L);
+        List<MemberStatsEntity> updated = stored.entrySet().stream()
+                .map(count -> {
+                    MemberStatsEntity row = rows.getOrDefault(count.getKey(),
+                            MemberStatsEntity.builder().statKey(count.getKey()).build());
+                    row.setMemberCount(count.getValue());
+                    row.setReconciledAt(now);
+                    return row;
+                })
+                .toList();
+        statsRepository.saveAll(updated);
+        return toStatistics(counts);
+    }
+
+    private static MemberStatsDeltaEntity journalRow(String statKey, long count) {
+        return MemberStatsDeltaEntity.builder().statKey(statKey).countDelta(count).build();
+    }
+
+    private static MemberStatistics toStatistics(Map<String, Long> counts) {
+        Map<MemberStatus, Long> byStatus = new EnumMap<>(MemberStatus.class);
+        for (MemberStatus status : MemberStatus.values()) {
+            byStatus.put(status, counts.getOrDefault(STATUS_PREFIX + status.name(), 0L));
+        }
+        Map<SocialProvider, Long> bySocialProvider = new EnumMap<>(SocialProvider.class);
+        for (SocialProvider provider : SocialProvider.values()) {
+            bySocialProvider.put(provider, counts.getOrDefault(PROVIDER_PREFIX + provider.name(), 0L));
+        }
+        return new MemberStatistics(byStatus, bySocialProvider, counts.getOrDefault(LOCAL_CREDENTIALS_KEY, 0L));
+    }
+}
@@ -6,9 +6,13 @@ import com.ecclesiaflow.io.persistence.jpa.PendingEmailChangeEntity;
 import com.ecclesiaflow.io.persistence.jpa.SpringDataPendingEmailChangeRepository;
 import com.ecclesiaflow.io.persistence.mappers.PendingEmailChangePersistenceMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -46,4 +50,32 @@ public class PendingEmailChangeRepositoryImpl implements PendingEmailChangeRepos
     public void deleteByMemberId(UUID memberId) {
         springDataRepo.deleteByMemberId(memberId);
     }
+
+    @Override
+    @Transactional
+    public boolean claimForConfirmation(UUID id, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        return springDataRepo.claimForConfirmation(id, now, now.plus(lease)) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void releaseConfirmationClaim(UUID id) {
+        springDataRepo.releaseConfirmationClaim(id);
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(LocalDateTime cutoff, int limit) {
+        List<UUID> ids = springDataRepo.findExpiredForUpdate(cutoff, Limit.of(limit)).stream()
+                .map(PendingEmailChangeEntity::getId)
+                .toList();
+        springDataRepo.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+
+    @Override
+    public long countExpired(LocalDateTime cutoff) {
+        return springDataRepo.countByExpiresAtBefore(cutoff);
+    }
 }
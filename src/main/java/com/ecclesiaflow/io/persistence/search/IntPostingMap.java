@@ -0,0 +1,119 @@
+package com.ecclesiaflow.io.persistence.search;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from a primitive trigram key to its {@link IntPostingList}.
+ *
+ * <p>Keys are stored in an {@code int[]} next to the lists (linear probing, a
+ * {@code null} list marks a free slot), so lookups neither box the key nor
+ * allocate. Removal shifts the following entries back instead of leaving
+ * tombstones. Not thread-safe: guarded by the owning {@link MemberTrigramIndex}
+ * lock.</p>
+ */
+final class IntPostingMap {
+
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private int[] keys;
+    private IntPostingList[] values;
+    private int mask;
+    private int size;
+
+    IntPostingMap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /** Returns the list for {@code key}, or null if there is none. */
+    IntPostingList get(int key) {
+        for (int slot = slot(key); values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return null;
+    }
+
+    /** Returns the list for {@code key}, creating an empty one if needed. */
+    IntPostingList getOrCreate(int key) {
+        int slot = slot(key);
+        for (; values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        IntPostingList list = new IntPostingList();
+        keys[slot] = key;
+        values[slot] = list;
+        if (++size > (values.length >> 1)) {
+            rehash(values.length << 1);
+        }
+        return list;
+    }
+
+    /** Removes the entry for {@code key}, if present. */
+    void remove(int key) {
+        int slot = slot(key);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (values[slot] == null) {
+            return;
+        }
+        // Shift back the entries of the same probe sequence so that no lookup stops early
+        int hole = slot;
+        for (int next = (hole + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+        }
+        values[hole] = null;
+        size--;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        if (values.length == INITIAL_CAPACITY) {
+            Arrays.fill(values, null);
+            size = 0;
+        } else {
+            allocate(INITIAL_CAPACITY);
+        }
+    }
+
+    private int slot(int key) {
+        // Spread the packed chars: the low bits alone would only reflect the third one
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        IntPostingList[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = slot(oldKeys[i]);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new IntPostingList[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+}
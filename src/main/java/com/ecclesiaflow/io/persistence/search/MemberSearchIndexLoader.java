@@ -0,0 +1,44 @@
+package com.ecclesiaflow.io.persistence.search;
+
+import com.ecclesiaflow.business.domain.member.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the {@link MemberTrigramIndex} from the member table at startup.
+ *
+ * <p>Rows are streamed through {@link MemberRepository#forEachMember}, so memory
+ * stays bounded by the index itself rather than by managed entities. Writes
+ * committed during the scan are applied to the index as they happen and win
+ * over the rows being streamed.</p>
+ *
+ * <p>Only active with {@code ecclesiaflow.members.search.in-memory-index.enabled=true};
+ * otherwise the index stays empty and searches go to the database.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ecclesiaflow.members.search.in-memory-index.enabled", havingValue = "true")
+public class MemberSearchIndexLoader implements ApplicationRunner {
+
+    private final MemberTrigramIndex index;
+    private final MemberRepository memberRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        index.beginLoad();
+        try {
+            long loaded = memberRepository.forEachMember(null, index::load);
+            index.completeLoad();
+            log.info("Member search index: {} members loaded in {} ms", loaded, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            index.reset();
+            log.error("Member search index: load failed, searches will use the database", e);
+        }
+    }
+}
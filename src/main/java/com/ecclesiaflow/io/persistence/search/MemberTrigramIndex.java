@@ -0,0 +1,491 @@
+package com.ecclesiaflow.io.persistence.search;
+
+import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberSearchIndex;
+import com.ecclesiaflow.business.domain.member.MemberStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index over member first name, last name and email.
+ *
+ * <p>Each member gets an internal {@code int} document id; every trigram of its
+ * lower-cased fields maps to a sorted {@link IntPostingList} of those ids, held in
+ * a primitive {@link IntPostingMap}. Matches stay in {@code int[]} through
+ * filtering and sorting, so a search boxes no document id.
+ * A search intersects the postings of the term's trigrams, then verifies each
+ * candidate with a real substring check (trigram keys may collide outside
+ * Latin-1, and trigrams alone do not prove adjacency). Matches are filtered by
+ * status, sorted and paged in memory, so the database only serves the final
+ * page by primary key.</p>
+ *
+ * <p>The index answers nothing until {@link MemberSearchIndexLoader} has finished
+ * the initial scan. Incremental updates are applied after the surrounding
+ * transaction commits, so rolled-back writes never become visible.
+ * Reads and writes are guarded by a read/write lock.</p>
+ */
+@Component
+public class MemberTrigramIndex implements MemberSearchIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final int INITIAL_CAPACITY = 1_024;
+    private static final int COMPACTION_MIN_DEAD_DOCS = 1_024;
+
+    private enum State { EMPTY, LOADING, READY }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IntPostingMap postings = new IntPostingMap();
+    private final Map<UUID, Integer> docByMemberId = new HashMap<>();
+    private final Set<UUID> removedWhileLoading = new HashSet<>();
+
+    // Document table, indexed by document id. Dead slots are reclaimed by compaction.
+    private UUID[] ids;
+    private String[] firstNames;
+    private String[] lastNames;
+    private String[] emails;
+    private byte[] statuses;
+    private long[] createdAts;
+    private int nextDoc;
+
+    private volatile State state = State.EMPTY;
+
+    public MemberTrigramIndex() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    // --- MemberSearchIndex ---
+
+    @Override
+    public Optional<Page<UUID>> search(String searchTerm, MemberStatus status, Pageable pageable) {
+        if (state != State.READY || searchTerm == null) {
+            return Optional.empty();
+        }
+        String term = searchTerm.toLowerCase(Locale.ROOT);
+        if (term.length() < GRAM_LENGTH) {
+            return Optional.empty();
+        }
+        DocOrder order = orderFor(pageable.getSort());
+        if (order == null) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] matches = match(term, status);
+            sort(matches, order);
+
+            List<UUID> content = new ArrayList<>(pageable.getPageSize());
+            long offset = pageable.getOffset();
+            for (long i = offset; i < matches.length && content.size() < pageable.getPageSize(); i++) {
+                content.add(ids[matches[(int) i]]);
+            }
+            return Optional.of(new PageImpl<>(content, pageable, matches.length));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Member member) {
+        if (member == null || member.getId() == null) {
+            return;
+        }
+        afterCommit(() -> upsert(member));
+    }
+
+    @Override
+    public void remove(UUID id) {
+        if (id == null) {
+            return;
+        }
+        afterCommit(() -> delete(id));
+    }
+
+    // --- Bulk loading (used by MemberSearchIndexLoader) ---
+
+    /** Discards any content and starts accepting {@link #load} calls. */
+    void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            clear();
+            state = State.LOADING;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a member read by the initial scan, unless a newer write for it was
+     * already applied (or it was deleted) while the scan was running.
+     */
+    void load(Member member) {
+        lock.writeLock().lock();
+        try {
+            if (state != State.LOADING
+                    || docByMemberId.containsKey(member.getId())
+                    || removedWhileLoading.contains(member.getId())) {
+                return;
+            }
+            addDocument(member);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Makes the index searchable. */
+    void completeLoad() {
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading.clear();
+            state = State.READY;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Drops all content after a failed load; searches fall back to the database. */
+    void reset() {
+        lock.writeLock().lock();
+        try {
+            clear();
+            state = State.EMPTY;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean isReady() {
+        return state == State.READY;
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docByMemberId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- Internals ---
+
+    private void upsert(Member member) {
+        if (state == State.EMPTY) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeDocument(member.getId());
+            addDocument(member);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void delete(UUID id) {
+        if (state == State.EMPTY) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (state == State.LOADING) {
+                removedWhileLoading.add(id);
+            }
+            removeDocument(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int[] match(String term, MemberStatus status) {
+        int[] grams = distinctGrams(term);
+        IntPostingList[] lists = new IntPostingList[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            IntPostingList list = postings.get(grams[i]);
+            if (list == null) {
+                return new int[0];
+            }
+            lists[i] = list;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(IntPostingList::size));
+
+        int[] candidates = lists[0].toArray();
+        int count = candidates.length;
+        for (int l = 1; l < lists.length && count > 0; l++) {
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                if (lists[l].contains(candidates[i])) {
+                    candidates[kept++] = candidates[i];
+                }
+            }
+            count = kept;
+        }
+
+        int statusOrdinal = status != null ? status.ordinal() : -1;
+        int matches = 0;
+        for (int i = 0; i < count; i++) {
+            int doc = candidates[i];
+            if (statusOrdinal >= 0 && statuses[doc] != statusOrdinal) {
+                continue;
+            }
+            if (firstNames[doc].contains(term) || lastNames[doc].contains(term) || emails[doc].contains(term)) {
+                candidates[matches++] = doc;
+            }
+        }
+        return Arrays.copyOf(candidates, matches);
+    }
+
+    private void addDocument(Member member) {
+        MemberStatus status = member.getStatus() != null ? member.getStatus() : MemberStatus.PENDING;
+        addDocument(member.getId(), normalize(member.getFirstName()), normalize(member.getLastName()),
+                normalize(member.getEmail()), (byte) status.ordinal(), toSortableNanos(member.getCreatedAt()));
+    }
+
+    private void addDocument(UUID id, String firstName, String lastName, String email, byte status, long createdAt) {
+        if (nextDoc == ids.length) {
+            grow();
+        }
+        int doc = nextDoc++;
+        ids[doc] = id;
+        firstNames[doc] = firstName;
+        lastNames[doc] = lastName;
+        emails[doc] = email;
+        statuses[doc] = status;
+        createdAts[doc] = createdAt;
+        docByMemberId.put(id, doc);
+
+        addGrams(firstName, doc);
+        addGrams(lastName, doc);
+        addGrams(email, doc);
+    }
+
+    private void removeDocument(UUID id) {
+        Integer doc = docByMemberId.remove(id);
+        if (doc == null) {
+            return;
+        }
+        removeGrams(firstNames[doc], doc);
+        removeGrams(lastNames[doc], doc);
+        removeGrams(emails[doc], doc);
+        ids[doc] = null;
+        firstNames[doc] = null;
+        lastNames[doc] = null;
+        emails[doc] = null;
+    }
+
+    private void addGrams(String value, int doc) {
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            postings.getOrCreate(gramKey(value, i)).add(doc);
+        }
+    }
+
+    private void removeGrams(String value, int doc) {
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            int key = gramKey(value, i);
+            IntPostingList list = postings.get(key);
+            if (list != null && list.remove(doc) && list.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Renumbers live documents once dead slots outnumber them, so that repeated
+     * updates do not grow the document table without bound.
+     */
+    private void compactIfNeeded() {
+        int live = docByMemberId.size();
+        int dead = nextDoc - live;
+        if (dead < COMPACTION_MIN_DEAD_DOCS || dead <= live) {
+            return;
+        }
+        UUID[] oldIds = ids;
+        String[] oldFirstNames = firstNames;
+        String[] oldLastNames = lastNames;
+        String[] oldEmails = emails;
+        byte[] oldStatuses = statuses;
+        long[] oldCreatedAts = createdAts;
+        int oldNextDoc = nextDoc;
+
+        postings.clear();
+        docByMemberId.clear();
+        allocate(Math.max(INITIAL_CAPACITY, Integer.highestOneBit(live) << 1));
+        nextDoc = 0;
+        for (int doc = 0; doc < oldNextDoc; doc++) {
+            if (oldIds[doc] != null) {
+                addDocument(oldIds[doc], oldFirstNames[doc], oldLastNames[doc], oldEmails[doc],
+                        oldStatuses[doc], oldCreatedAts[doc]);
+            }
+        }
+    }
+
+    /** Order of two document ids, compared without boxing them. */
+    @FunctionalInterface
+    private interface DocOrder {
+
+        int compare(int a, int b);
+
+        default DocOrder reversed() {
+            return (a, b) -> compare(b, a);
+        }
+
+        default DocOrder then(DocOrder next) {
+            return (a, b) -> {
+                int result = compare(a, b);
+                return result != 0 ? result : next.compare(a, b);
+            };
+        }
+    }
+
+    private DocOrder orderFor(Sort sort) {
+        DocOrder result = null;
+        for (Sort.Order order : sort) {
+            DocOrder next = switch (order.getProperty()) {
+                case "firstName" -> (a, b) -> firstNames[a].compareTo(firstNames[b]);
+                case "lastName" -> (a, b) -> lastNames[a].compareTo(lastNames[b]);
+                case "email" -> (a, b) -> emails[a].compareTo(emails[b]);
+                case "createdAt" -> (a, b) -> Long.compare(createdAts[a], createdAts[b]);
+                case "id" -> (a, b) -> ids[a].compareTo(ids[b]);
+                default -> null;
+            };
+            if (next == null) {
+                return null;
+            }
+            next = order.isDescending() ? next.reversed() : next;
+            result = result == null ? next : result.then(next);
+        }
+        DocOrder byId = (a, b) -> ids[a].compareTo(ids[b]);
+        return result == null ? byId : result.then(byId);
+    }
+
+    /** Merge sort of document ids; the JDK only sorts primitive arrays in natural order. */
+    private static void sort(int[] docs, DocOrder order) {
+        if (docs.length > 1) {
+            mergeSort(docs.clone(), docs, 0, docs.length, order);
+        }
+    }
+
+    /** Sorts {@code dst[from, to)}, using {@code src} (same content on entry) as scratch space. */
+    private static void mergeSort(int[] src, int[] dst, int from, int to, DocOrder order) {
+        if (to - from <= 16) {
+            for (int i = from + 1; i < to; i++) {
+                int doc = dst[i];
+                int j = i - 1;
+                while (j >= from && order.compare(dst[j], doc) > 0) {
+                    dst[j + 1] = dst[j];
+                    j--;
+                }
+                dst[j + 1] = doc;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(dst, src, from, mid, order);
+        mergeSort(dst, src, mid, to, order);
+        for (int i = from, left = from, right = mid; i < to; i++) {
+            if (right >= to || (left < mid && order.compare(src[left], src[right]) <= 0)) {
+                dst[i] = src[left++];
+            } else {
+                dst[i] = src[right++];
+            }
+        }
+    }
+
+    private void clear() {
+        postings.clear();
+        docByMemberId.clear();
+        removedWhileLoading.clear();
+        allocate(INITIAL_CAPACITY);
+        nextDoc = 0;
+    }
+
+    private void allocate(int capacity) {
+        ids = new UUID[capacity];
+        firstNames = new String[capacity];
+        lastNames = new String[capacity];
+        emails = new String[capacity];
+        statuses = new byte[capacity];
+        createdAts = new long[capacity];
+    }
+
+    private void grow() {
+        int capacity = ids.length << 1;
+        ids = Arrays.copyOf(ids, capacity);
+        firstNames = Arrays.copyOf(firstNames, capacity);
+        lastNames = Arrays.copyOf(lastNames, capacity);
+        emails = Arrays.copyOf(emails, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        createdAts = Arrays.copyOf(createdAts, capacity);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static int[] distinctGrams(String term) {
+        int[] grams = new int[term.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = gramKey(term, i);
+        }
+        Arrays.sort(grams);
+        int distinct = 1;
+        for (int i = 1; i < grams.length; i++) {
+            if (grams[i] != grams[distinct - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    /**
+     * Packs three chars into an int. Exact for chars below U+0400 (10 bits each);
+     * higher code points may collide, which only adds candidates that the
+     * substring check then rejects.
+     */
+    static int gramKey(String value, int start) {
+        return (value.charAt(start) << 20) ^ (value.charAt(start + 1) << 10) ^ value.charAt(start + 2);
+    }
+
+    private static String normalize(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static long toSortableNanos(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return Long.MIN_VALUE;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + dateTime.getNano();
+    }
+}
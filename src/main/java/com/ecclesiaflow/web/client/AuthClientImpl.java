@@ -1,6 +1,7 @@
 package com.ecclesiaflow.web.client;
 
 import com.ecclesiaflow.application.config.WebClientConfig;
+import com.ecclesiaflow.business.domain.auth.AsyncAuthClient;
 import com.ecclesiaflow.business.domain.auth.AuthClient;
 import com.ecclesiaflow.business.domain.auth.PasswordSetupTokenResponse;
 import com.ecclesiaflow.web.model.TemporaryTokenRequest;
@@ -13,6 +14,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implémentation REST (WebClient) du client Auth.
@@ -69,7 +71,9 @@ import java.util.UUID;
  * <p><strong>Gestion d'erreurs :</strong> Mode dégradé avec valeurs de test en cas
  * d'indisponibilité du module d'authentification.</p>
  *
- * <p><strong>Garanties :</strong> Asynchrone non-bloquant, resilient aux pannes, configurable.</p>
+ * <p><strong>Garanties :</strong> Asynchrone non-bloquant via {@link AsyncAuthClient} (pool de
+ * connexions et délais de réponse configurés dans {@link WebClientConfig}), resilient aux
+ * pannes, configurable.</p>
  *
  * @author EcclesiaFlow Team
  * @since 1.0.0
@@ -79,7 +83,13 @@ import java.util.UUID;
 @Service
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "grpc.enabled", havingValue = "false", matchIfMissing = true)
-public class AuthClientImpl implements AuthClient {
+public class AuthClientImpl implements AuthClient, AsyncAuthClient {
+
+    private static final PasswordSetupTokenResponse DEV_FALLBACK = new PasswordSetupTokenResponse(
+            "temporary-token-mock-for-dev",
+            86400,
+            "/ecclesiaflow/auth/password/setup"
+    );
 
     private final WebClient authWebClient;
 
@@ -99,22 +109,29 @@ public class AuthClientImpl implements AuthClient {
      */
     @Override
     public PasswordSetupTokenResponse retrievePostActivationToken(String email, UUID memberId) {
-        try {
-            TemporaryTokenRequest request = new TemporaryTokenRequest(email, memberId);
-            TemporaryTokenResponse response = post(request).block();
-            return new PasswordSetupTokenResponse(
-                    response.getTemporaryToken(),
-                    response.getExpiresInSeconds() != null ? response.getExpiresInSeconds() : 86400,
-                    response.getPasswordEndpoint() != null ? response.getPasswordEndpoint() : "/ecclesiaflow/auth/password/setup"
-            );
-        } catch (Exception e) {
-            // Fallback for development
-            return new PasswordSetupTokenResponse(
-                    "temporary-token-mock-for-dev",
-                    86400,
-                    "/ecclesiaflow/auth/password/setup"
-            );
-        }
+        return retrievePostActivationTokenAsync(email, memberId).join();
+    }
+
+    /**
+     * Variante non bloquante de {@link #retrievePostActivationToken(String, UUID)} : la requête
+     * part sur le pool de connexions reactor-netty et le future est complété par la réponse.
+     *
+     * @implNote Comme la variante bloquante, retourne une valeur de test en cas d'erreur
+     *           (y compris le délai de réponse dépassé) ; le future n'échoue donc jamais.
+     */
+    @Override
+    public CompletableFuture<PasswordSetupTokenResponse> retrievePostActivationTokenAsync(String email, UUID memberId) {
+        TemporaryTokenRequest request = new TemporaryTokenRequest(email, memberId);
+        return post(request)
+                .map(response -> new PasswordSetupTokenResponse(
+                        response.getTemporaryToken(),
+                        response.getExpiresInSeconds() != null ? response.getExpiresInSeconds() : 86400,
+                        response.getPasswordEndpoint() != null ? response.getPasswordEndpoint() : "/ecclesiaflow/auth/password/setup"
+                ))
+                // Fallback for development
+                .defaultIfEmpty(DEV_FALLBACK)
+                .onErrorReturn(DEV_FALLBACK)
+                .toFuture();
     }
 
     @Override
@@ -135,6 +152,24 @@ public class AuthClientImpl implements AuthClient {
                 "updateKeycloakUserEmail requires gRPC (grpc.enabled=true)");
     }
 
+    @Override
+    public CompletableFuture<Void> deleteKeycloakUserAsync(String keycloakUserId) {
+        return CompletableFuture.failedFuture(new UnsupportedOperationException(
+                "deleteKeycloakUser requires gRPC (grpc.enabled=true)"));
+    }
+
+    @Override
+    public CompletableFuture<Void> disableKeycloakUserAsync(String keycloakUserId) {
+        return CompletableFuture.failedFuture(new UnsupportedOperationException(
+                "disableKeycloakUser requires gRPC (grpc.enabled=true)"));
+    }
+
+    @Override
+    public CompletableFuture<Void> updateKeycloakUserEmailAsync(String keycloakUserId, String newEmail) {
+        return CompletableFuture.failedFuture(new UnsupportedOperationException(
+                "updateKeycloakUserEmail requires gRPC (grpc.enabled=true)"));
+    }
+
     // === Méthodes utilitaires ===
 
     /**
@@ -10,7 +10,9 @@ import com.ecclesiaflow.web.delegate.MembersTemporaryDelegate;
 import com.ecclesiaflow.web.delegate.SocialOnboardingDelegate;
 import com.ecclesiaflow.web.model.EmailChangeResponse;
 import com.ecclesiaflow.web.model.MemberConfirmationStatusResponse;
+import com.ecclesiaflow.web.model.MemberImportResponse;
 import com.ecclesiaflow.web.model.MemberPageResponse;
+import com.ecclesiaflow.web.model.MemberStatisticsResponse;
 import com.ecclesiaflow.web.model.SignUpRequestPayload;
 import com.ecclesiaflow.web.model.SignUpResponse;
 import com.ecclesiaflow.web.model.SocialOnboardingRequest;
@@ -21,6 +23,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.UUID;
 
@@ -67,8 +71,24 @@ public class MembersController implements MembersManagementApi, MembersTemporary
     @Override
     public ResponseEntity<MemberPageResponse> _membersGetAll(
             Integer page, Integer size, @Nullable String search,
-            @Nullable String status, String sort, String direction) {
-        return membersManagementDelegate.getAllMembers(page, size, search, status, sort, direction);
+            @Nullable String status, String sort, String direction,
+            String pagination, @Nullable String cursor) {
+        return membersManagementDelegate.getAllMembers(page, size, search, status, sort, direction, pagination, cursor);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> _membersExport(String format, @Nullable String status) {
+        return membersManagementDelegate.exportMembers(format, status);
+    }
+
+    @Override
+    public ResponseEntity<MemberImportResponse> _membersImport(MultipartFile file, String format) {
+        return membersManagementDelegate.importMembers(format, file);
+    }
+
+    @Override
+    public ResponseEntity<MemberStatisticsResponse> _membersGetStatistics() {
+        return membersManagementDelegate.getStatistics();
     }
 
     @Override
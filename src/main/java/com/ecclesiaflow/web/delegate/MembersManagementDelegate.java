@@ -1,28 +1,56 @@
 package com.ecclesiaflow.web.delegate;
 
 import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberImportReport;
+import com.ecclesiaflow.business.domain.member.MemberProfile;
 import com.ecclesiaflow.business.domain.member.MemberStatus;
 import com.ecclesiaflow.business.domain.member.MembershipRegistration;
 import com.ecclesiaflow.business.domain.member.MembershipUpdate;
 import com.ecclesiaflow.business.security.RequireScopes;
+import com.ecclesiaflow.business.services.MemberImportService;
 import com.ecclesiaflow.business.services.MemberService;
+import com.ecclesiaflow.web.exception.InvalidRequestException;
+import com.ecclesiaflow.web.mappers.MemberCsvMapper;
+import com.ecclesiaflow.web.mappers.MemberCursorMapper;
+import com.ecclesiaflow.web.mappers.MemberImportReader;
 import com.ecclesiaflow.web.mappers.OpenApiModelMapper;
 import com.ecclesiaflow.web.mappers.SignUpRequestMapper;
 import com.ecclesiaflow.web.mappers.UpdateRequestMapper;
+import com.ecclesiaflow.web.model.MemberImportResponse;
 import com.ecclesiaflow.web.model.MemberPageResponse;
+import com.ecclesiaflow.web.model.MemberStatisticsResponse;
 import com.ecclesiaflow.web.model.SignUpRequestPayload;
 import com.ecclesiaflow.web.model.SignUpResponse;
 import com.ecclesiaflow.web.model.UpdateMemberRequestPayload;
 import com.ecclesiaflow.web.security.AuthenticatedUserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 /**
@@ -35,10 +63,21 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class MembersManagementDelegate {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final String DEFAULT_SORT_FIELD = "firstName";
+    private static final String EXPORT_FORMAT_NDJSON = "ndjson";
+    private static final String EXPORT_FORMAT_CSV = "csv";
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final int IMPORT_BUFFER_SIZE = 64 * 1024;
+
     private final MemberService memberService;
     private final UpdateRequestMapper updateRequestMapper;
     private final OpenApiModelMapper openApiModelMapper;
     private final AuthenticatedUserService authenticatedUserService;
+    private final ObjectMapper objectMapper;
+    private final MemberImportService memberImportService;
+    private final Validator validator;
 
     /** Registers a new member (email confirmation flow). */
     public ResponseEntity<SignUpResponse> createMember(SignUpRequestPayload signUpRequestPayload) {
@@ -51,34 +90,99 @@ public class MembersManagementDelegate {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
-    /** Returns a paginated, optionally filtered list of all members. */
+    /**
+     * Returns a paginated, optionally filtered list of all members.
+     *
+     * <p>Uses offset pagination by default. With {@code pagination=keyset} or a
+     * {@code cursor}, switches to seek pagination: no count query, and the
+     * response carries a {@code nextCursor} for the following page.</p>
+     */
     @RequireScopes("ef:members:read:all")
     public ResponseEntity<MemberPageResponse> getAllMembers(
-            Integer page, Integer size, String search, String status, String sort, String direction) {
+            Integer page, Integer size, String search, String status, String sort, String direction,
+            String pagination, String cursor) {
 
-        Pageable pageable = createPageable(page, size, sort, direction);
+        MemberStatus memberStatus = parseStatus(status);
 
-        MemberStatus memberStatus = null;
-        if (status != null && !status.isBlank()) {
-            try {
-                memberStatus = MemberStatus.valueOf(status.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                // Invalid status — ignore the filter
-            }
+        if (isKeysetMode(pagination, cursor)) {
+            return ResponseEntity.ok(getMembersByCursor(size, search, memberStatus, sort, direction, cursor));
         }
 
-        Page<Member> memberPage = memberService.getAllMembers(pageable, search, memberStatus);
+        Pageable pageable = createPageable(page, size, sort, direction);
+
+        Page<MemberProfile> memberPage = memberService.getAllMembers(pageable, search, memberStatus);
 
         MemberPageResponse response = openApiModelMapper.createMemberPageResponse(memberPage);
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Streams the whole member directory (optionally filtered by status) as NDJSON or CSV.
+     *
+     * <p>The body is written after the handler returns, straight from a database
+     * cursor into a buffered chunked response, so heap use does not depend on the
+     * number of members.</p>
+     */
+    @RequireScopes("ef:members:read:all")
+    public ResponseEntity<StreamingResponseBody> exportMembers(String format, String status) {
+        boolean csv = isCsvFormat(format);
+        MemberStatus memberStatus = parseStatus(status);
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+            if (csv) {
+                writer.write(MemberCsvMapper.HEADER_LINE);
+            }
+            memberService.exportMembers(memberStatus, member -> writeExportLine(writer, member, csv));
+            writer.flush();
+        };
+
+        String filename = "members." + (csv ? EXPORT_FORMAT_CSV : EXPORT_FORMAT_NDJSON);
+        return ResponseEntity.ok()
+                .contentType(csv ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    /**
+     * Creates members in bulk from an uploaded CSV or NDJSON file.
+     *
+     * <p>The upload is parsed as a stream and handed to the import service row by
+     * row; the response only carries counts and the rejected rows.</p>
+     */
+    @RequireScopes("ef:members:write:all")
+    public ResponseEntity<MemberImportResponse> importMembers(String format, MultipartFile file) {
+        boolean csv = isCsvFormat(format);
+        if (file == null || file.isEmpty()) {
+            throw new InvalidRequestException("Import file is empty");
+        }
+
+        try (Reader reader = new BufferedReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8), IMPORT_BUFFER_SIZE)) {
+            MemberImportReader rows = csv
+                    ? MemberImportReader.csv(reader, objectMapper, validator)
+                    : MemberImportReader.ndjson(reader, objectMapper, validator);
+            MemberImportReport report = memberImportService.importMembers(rows);
+            return ResponseEntity.ok(openApiModelMapper.createMemberImportResponse(report));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Returns the member counts per status, per social provider and with local credentials. */
+    @RequireScopes("ef:members:read:all")
+    public ResponseEntity<MemberStatisticsResponse> getStatistics() {
+        return ResponseEntity.ok(openApiModelMapper.createMemberStatisticsResponse(memberService.getStatistics()));
+    }
+
     /** Retrieves a single member by ID. */
     @RequireScopes({"ef:members:read:own", "ef:members:read:all"})
     public ResponseEntity<SignUpResponse> getMemberById(UUID memberId) {
-        Member member = memberService.findByMemberId(memberId);
-        SignUpResponse response = openApiModelMapper.createSignUpResponse(member, "Member found");
+        MemberProfile profile = memberService.findProfileByMemberId(memberId);
+        SignUpResponse response = openApiModelMapper.createSignUpResponse(profile, "Member found");
 
         return ResponseEntity.ok(response);
     }
@@ -110,8 +214,8 @@ public class MembersManagementDelegate {
     public ResponseEntity<SignUpResponse> getMyProfile() {
         String keycloakUserId = authenticatedUserService.getKeycloakUserId();
 
-        Member member = memberService.getByKeycloakUserId(keycloakUserId);
-        SignUpResponse response = openApiModelMapper.createSignUpResponse(member, "Profile retrieved");
+        MemberProfile profile = memberService.getProfileByKeycloakUserId(keycloakUserId);
+        SignUpResponse response = openApiModelMapper.createSignUpResponse(profile, "Profile retrieved");
 
         return ResponseEntity.ok(response);
     }
@@ -150,16 +254,82 @@ public class MembersManagementDelegate {
 
     // --- Private helpers ---
 
+    private MemberPageResponse getMembersByCursor(Integer size, String search, MemberStatus memberStatus,
+                                                  String sort, String direction, String cursor) {
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        String sortField = sort != null ? sort : DEFAULT_SORT_FIELD;
+        Sort.Direction dir = toDirection(direction);
+
+        if (!MemberCursorMapper.SORTABLE_FIELDS.contains(sortField)) {
+            throw new InvalidRequestException("Unsupported sort field for keyset pagination: " + sortField);
+        }
+
+        boolean firstPage = cursor == null || cursor.isBlank();
+        KeysetScrollPosition position = firstPage
+                ? ScrollPosition.keyset()
+                : MemberCursorMapper.fromCursor(cursor, sortField, dir);
+
+        Window<Member> window = memberService.getAllMembers(position, Sort.by(dir, sortField), pageSize, search, memberStatus);
+
+        String nextCursor = window.hasNext()
+                ? MemberCursorMapper.toCursor((KeysetScrollPosition) window.positionAt(window.size() - 1), sortField, dir)
+                : null;
+
+        return openApiModelMapper.createMemberPageResponse(window, pageSize, nextCursor, firstPage);
+    }
+
+    private boolean isCsvFormat(String format) {
+        if (format == null || format.isBlank() || EXPORT_FORMAT_NDJSON.equalsIgnoreCase(format)) {
+            return false;
+        }
+        if (EXPORT_FORMAT_CSV.equalsIgnoreCase(format)) {
+            return true;
+        }
+        throw new InvalidRequestException("Unsupported format: " + format);
+    }
+
+    private void writeExportLine(Writer writer, Member member, boolean csv) {
+        SignUpResponse response = openApiModelMapper.toMemberResponse(member);
+        try {
+            if (csv) {
+                writer.write(MemberCsvMapper.toCsvLine(response));
+            } else {
+                writer.write(objectMapper.writeValueAsString(response));
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isKeysetMode(String pagination, String cursor) {
+        return "keyset".equalsIgnoreCase(pagination) || (cursor != null && !cursor.isBlank());
+    }
+
+    private MemberStatus parseStatus(String status) {
+        if (status != null && !status.isBlank()) {
+            try {
+                return MemberStatus.valueOf(status.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // Invalid status — ignore the filter
+            }
+        }
+        return null;
+    }
+
     private Pageable createPageable(Integer page, Integer size, String sort, String direction) {
         int pageNumber = page != null ? page : 0;
-        int pageSize = size != null ? size : 20;
-        String sortField = sort != null ? sort : "firstName";
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        String sortField = sort != null ? sort : DEFAULT_SORT_FIELD;
+
+        return PageRequest.of(pageNumber, pageSize, Sort.by(toDirection(direction), sortField));
+    }
+
+    private Sort.Direction toDirection(String direction) {
         String sortDirection = direction != null ? direction : "asc";
 
-        Sort.Direction dir = "desc".equalsIgnoreCase(sortDirection)
+        return "desc".equalsIgnoreCase(sortDirection)
             ? Sort.Direction.DESC
             : Sort.Direction.ASC;
-
-        return PageRequest.of(pageNumber, pageSize, Sort.by(dir, sortField));
     }
 }
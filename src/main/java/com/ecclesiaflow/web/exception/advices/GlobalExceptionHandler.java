@@ -19,6 +19,7 @@ import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -198,6 +199,12 @@ public class GlobalExceptionHandler {
         return buildSimpleErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), request);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex, WebRequest request) {
+        return buildSimpleErrorResponse(HttpStatus.CONFLICT,
+                "The member was modified by another request. Please retry.", request);
+    }
+
     // --- 429 / 503 ---
 
     @ExceptionHandler(RequestNotPermitted.class)
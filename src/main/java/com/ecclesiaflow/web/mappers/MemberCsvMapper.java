@@ -0,0 +1,58 @@
+package com.ecclesiaflow.web.mappers;
+
+import com.ecclesiaflow.web.model.SignUpResponse;
+
+/**
+ * Static mapper from member response DTOs to CSV lines for the directory export.
+ *
+ * <p>Follows RFC 4180: comma separator, CRLF line endings, and fields quoted
+ * (with doubled quotes) whenever they contain a separator, quote or line break.
+ * Columns mirror the fields of {@link SignUpResponse}.</p>
+ *
+ * <p>Values starting with {@code =}, {@code +}, {@code -}, {@code @}, a tab or a
+ * carriage return are prefixed with a single quote, so that a spreadsheet opening
+ * the export shows them as text instead of evaluating them as formulas
+ * (CSV injection).</p>
+ */
+public final class MemberCsvMapper {
+
+    private static final String LINE_END = "\r\n";
+    /** Leading characters that make spreadsheet applications evaluate a cell. */
+    private static final String FORMULA_TRIGGERS = "=+-@\t\r";
+
+    public static final String HEADER_LINE = String.join(",",
+            "firstName", "lastName", "email", "address", "phoneNumber",
+            "confirmed", "hasLocalCredentials", "socialProvider", "createdAt", "confirmedAt") + LINE_END;
+
+    private MemberCsvMapper() {
+    }
+
+    /** Formats one member as a CSV line, terminator included. */
+    public static String toCsvLine(SignUpResponse member) {
+        return String.join(",",
+                escape(member.getFirstName()),
+                escape(member.getLastName()),
+                escape(member.getEmail()),
+                escape(member.getAddress()),
+                escape(member.getPhoneNumber()),
+                escape(member.getConfirmed()),
+                escape(member.getHasLocalCredentials()),
+                escape(member.getSocialProvider()),
+                escape(member.getCreatedAt()),
+                escape(member.getConfirmedAt())) + LINE_END;
+    }
+
+    private static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && FORMULA_TRIGGERS.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,83 @@
+package com.ecclesiaflow.web.mappers;
+
+import com.ecclesiaflow.web.exception.InvalidRequestException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Static mapper between keyset scroll positions and the opaque {@code cursor}
+ * continuation token of the member listing endpoint.
+ *
+ * <p>The token is a URL-safe Base64 string of {@code sortField|DIRECTION|id|sortValue}.
+ * The sort field and direction are embedded so that a cursor cannot be replayed
+ * against a different ordering.</p>
+ */
+public final class MemberCursorMapper {
+
+    /** Sort keys accepted in keyset mode (mirrors the {@code sort} enum of members.yaml). */
+    public static final Set<String> SORTABLE_FIELDS = Set.of("firstName", "lastName", "email", "createdAt");
+
+    private static final String ID_KEY = "id";
+    private static final String SEPARATOR = "|";
+    private static final int TOKEN_PARTS = 4;
+
+    private MemberCursorMapper() {
+    }
+
+    /** Encodes the last position of a window into an opaque continuation token. */
+    public static String toCursor(KeysetScrollPosition position, String sortField, Sort.Direction direction) {
+        Map<String, Object> keys = position.getKeys();
+        Object sortValue = keys.get(sortField);
+        Object id = keys.get(ID_KEY);
+        if (sortValue == null || id == null) {
+            throw new IllegalStateException("Scroll position does not contain keys for " + sortField + " and id");
+        }
+        String raw = String.join(SEPARATOR, sortField, direction.name(), id.toString(), sortValue.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token into a forward keyset position.
+     *
+     * @throws InvalidRequestException if the token is malformed or was issued for another sort order
+     */
+    public static KeysetScrollPosition fromCursor(String cursor, String sortField, Sort.Direction direction) {
+        String[] parts = decode(cursor).split("\\" + SEPARATOR, TOKEN_PARTS);
+        if (parts.length != TOKEN_PARTS) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+        if (!parts[0].equals(sortField) || !parts[1].equals(direction.name())) {
+            throw new InvalidRequestException("Cursor does not match the requested sort and direction");
+        }
+        try {
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(sortField, parseSortValue(sortField, parts[3]));
+            keys.put(ID_KEY, UUID.fromString(parts[2]));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor", e);
+        }
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor", e);
+        }
+    }
+
+    private static Object parseSortValue(String sortField, String value) {
+        return "createdAt".equals(sortField) ? LocalDateTime.parse(value) : value;
+    }
+}
@@ -0,0 +1,250 @@
+package com.ecclesiaflow.web.mappers;
+
+import com.ecclesiaflow.business.domain.member.MemberImportRow;
+import com.ecclesiaflow.web.exception.InvalidRequestException;
+import com.ecclesiaflow.web.model.SignUpRequestPayload;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming reader for bulk import files, one {@link MemberImportRow} per data line.
+ *
+ * <p>Lines are parsed on demand, so only the current row is held in memory. Each
+ * row is bound to a {@link SignUpRequestPayload} and checked against the same
+ * constraints as the sign-up endpoint; rows that fail are returned as invalid
+ * rather than aborting the import.</p>
+ *
+ * <p>CSV follows RFC 4180 (quoted fields may contain separators, quotes and line
+ * breaks) and must start with a header. Columns are matched by name and unknown
+ * ones are ignored, so a file produced by the export can be imported as is.
+ * NDJSON expects one JSON object per line; unknown properties are ignored too.</p>
+ */
+public final class MemberImportReader implements Iterator<MemberImportRow> {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("firstName", "lastName", "email");
+
+    private final BufferedReader reader;
+    private final boolean csv;
+    private final ObjectReader jsonReader;
+    private final Validator validator;
+    private final Map<String, Integer> columns = new HashMap<>();
+
+    private long rowNumber;
+    private MemberImportRow next;
+    private boolean finished;
+
+    private MemberImportReader(Reader reader, boolean csv, ObjectMapper objectMapper, Validator validator) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.csv = csv;
+        this.jsonReader = objectMapper.readerFor(SignUpRequestPayload.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.validator = validator;
+    }
+
+    /**
+     * Opens a CSV import and reads its header.
+     *
+     * @throws InvalidRequestException if the header is missing or lacks a required column
+     */
+    public static MemberImportReader csv(Reader reader, ObjectMapper objectMapper, Validator validator) {
+        MemberImportReader importReader = new MemberImportReader(reader, true, objectMapper, validator);
+        importReader.readHeader();
+        return importReader;
+    }
+
+    /** Opens an NDJSON import. */
+    public static MemberImportReader ndjson(Reader reader, ObjectMapper objectMapper, Validator validator) {
+        return new MemberImportReader(reader, false, objectMapper, validator);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            try {
+                next = csv ? readCsvRow() : readJsonRow();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public MemberImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        MemberImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    private void readHeader() {
+        List<String> header;
+        try {
+            header = readRecord();
+        } catch (MalformedRecordException e) {
+            throw new InvalidRequestException("Malformed CSV header: " + e.getMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (header == null) {
+            throw new InvalidRequestException("Import file is empty");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i);
+            if (name != null) {
+                columns.putIfAbsent(name.strip(), i);
+            }
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(name -> !columns.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidRequestException("CSV header is missing required columns: " + String.join(", ", missing));
+        }
+    }
+
+    private MemberImportRow readCsvRow() throws IOException {
+        List<String> fields;
+        try {
+            fields = readRecord();
+        } catch (MalformedRecordException e) {
+            return MemberImportRow.invalid(++rowNumber, null, e.getMessage());
+        }
+        if (fields == null) {
+            return null;
+        }
+        SignUpRequestPayload payload = new SignUpRequestPayload()
+                .firstName(column(fields, "firstName"))
+                .lastName(column(fields, "lastName"))
+                .email(column(fields, "email"))
+                .address(column(fields, "address"))
+                .phoneNumber(column(fields, "phoneNumber"));
+        return toRow(++rowNumber, payload);
+    }
+
+    private MemberImportRow readJsonRow() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        long row = ++rowNumber;
+        try {
+            return toRow(row, jsonReader.readValue(line));
+        } catch (JsonProcessingException e) {
+            return MemberImportRow.invalid(row, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private MemberImportRow toRow(long row, SignUpRequestPayload payload) {
+        Set<ConstraintViolation<SignUpRequestPayload>> violations = validator.validate(payload);
+        if (!violations.isEmpty()) {
+            String error = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return MemberImportRow.invalid(row, payload.getEmail(), error);
+        }
+        return MemberImportRow.valid(row, SignUpRequestMapper.fromSignUpRequest(payload));
+    }
+
+    private String column(List<String> fields, String name) {
+        Integer index = columns.get(name);
+        return index != null && index < fields.size() ? fields.get(index) : null;
+    }
+
+    /**
+     * Reads one CSV record, skipping blank lines. Empty fields are returned as null.
+     *
+     * @return the record's fields, or null at end of input
+     */
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldWasQuoted = false;
+        boolean empty = true;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty() && !fieldWasQuoted) {
+                quoted = true;
+                fieldWasQuoted = true;
+                empty = false;
+            } else if (c == ',') {
+                fields.add(fieldValue(field));
+                fieldWasQuoted = false;
+                empty = false;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                if (empty && field.isEmpty()) {
+                    continue;
+                }
+                fields.add(fieldValue(field));
+                return fields;
+            } else {
+                field.append((char) c);
+                empty = false;
+            }
+        }
+
+        if (quoted) {
+            throw new MalformedRecordException("Unterminated quoted field");
+        }
+        if (empty && field.isEmpty()) {
+            return null;
+        }
+        fields.add(fieldValue(field));
+        return fields;
+    }
+
+    private static String fieldValue(StringBuilder field) {
+        String value = field.isEmpty() ? null : field.toString();
+        field.setLength(0);
+        return value;
+    }
+
+    private static final class MalformedRecordException extends IOException {
+        MalformedRecordException(String message) {
+            super(message);
+        }
+    }
+}
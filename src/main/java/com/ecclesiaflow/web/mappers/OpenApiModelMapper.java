@@ -2,17 +2,27 @@ package com.ecclesiaflow.web.mappers;
 
 import com.ecclesiaflow.business.domain.confirmation.MembershipConfirmationResult;
 import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberImportReport;
+import com.ecclesiaflow.business.domain.member.MemberProfile;
+import com.ecclesiaflow.business.domain.member.MemberStatistics;
 import com.ecclesiaflow.business.domain.member.SocialProvider;
 import com.ecclesiaflow.web.model.ConfirmationResponse;
+import com.ecclesiaflow.web.model.MemberImportError;
+import com.ecclesiaflow.web.model.MemberImportResponse;
 import com.ecclesiaflow.web.model.MemberPageResponse;
+import com.ecclesiaflow.web.model.MemberStatisticsResponse;
 import com.ecclesiaflow.web.model.SignUpResponse;
 import com.ecclesiaflow.web.model.SocialOnboardingResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /** Maps domain {@link Member} objects to OpenAPI-generated response DTOs. */
@@ -55,6 +65,28 @@ public class OpenApiModelMapper {
         }
     }
 
+    private SignUpResponse toProfileResponse(MemberProfile profile) {
+        SignUpResponse response = new SignUpResponse();
+        response.setEmail(profile.email());
+        response.setFirstName(profile.firstName());
+        response.setLastName(profile.lastName());
+        response.setAddress(profile.address());
+        response.setPhoneNumber(profile.phoneNumber());
+        response.setConfirmed(profile.isConfirmed());
+        response.setHasLocalCredentials(profile.hasLocalCredentials());
+
+        if (profile.socialProvider() != null) {
+            response.setSocialProvider(mapSocialProvider(profile.socialProvider()));
+        }
+        if (profile.createdAt() != null) {
+            response.setCreatedAt(profile.createdAt().toString());
+        }
+        if (profile.confirmedAt() != null) {
+            response.setConfirmedAt(profile.confirmedAt().toString());
+        }
+        return response;
+    }
+
     private SignUpResponse.SocialProviderEnum mapSocialProvider(SocialProvider provider) {
         return switch (provider) {
             case GOOGLE -> SignUpResponse.SocialProviderEnum.GOOGLE;
@@ -63,20 +95,21 @@ public class OpenApiModelMapper {
         };
     }
 
-    /** Converts a paginated result of Members into a {@link MemberPageResponse}. */
-    public MemberPageResponse createMemberPageResponse(Page<Member> memberPage) {
-        MemberPageResponse response = new MemberPageResponse();
-        
-        List<SignUpResponse> content = memberPage.getContent().stream()
-            .map(member -> {
-                SignUpResponse memberResponse = new SignUpResponse();
-                populateSignUpResponseFromMember(member, memberResponse);
+    /** Creates a {@link SignUpResponse} from a read-only member profile and a status message. */
+    public SignUpResponse createSignUpResponse(MemberProfile profile, String message) {
+        SignUpResponse response = toProfileResponse(profile);
+        response.setMessage(message);
 
-                return memberResponse;
-            })
-            .collect(Collectors.toList());
+        return response;
+    }
+
+    /** Converts a paginated result of member profiles into a {@link MemberPageResponse}. */
+    public MemberPageResponse createMemberPageResponse(Page<MemberProfile> memberPage) {
+        MemberPageResponse response = new MemberPageResponse();
         
-        response.setContent(content);
+        response.setContent(memberPage.getContent().stream()
+            .map(this::toProfileResponse)
+            .collect(Collectors.toList()));
         response.setPage(memberPage.getNumber());
         response.setNumber(memberPage.getNumber());
         response.setSize(memberPage.getSize());
@@ -90,6 +123,70 @@ public class OpenApiModelMapper {
         return response;
     }
 
+    /**
+     * Converts a keyset window of Members into a {@link MemberPageResponse}.
+     * Page number and totals are left unset since keyset pagination never counts.
+     */
+    public MemberPageResponse createMemberPageResponse(Window<Member> memberWindow, int size,
+                                                       String nextCursor, boolean first) {
+        MemberPageResponse response = new MemberPageResponse();
+
+        response.setContent(toSignUpResponses(memberWindow.getContent()));
+        response.setSize(size);
+        response.setNumberOfElements(memberWindow.size());
+        response.setFirst(first);
+        response.setLast(memberWindow.isLast());
+        response.setEmpty(memberWindow.isEmpty());
+        response.setNextCursor(nextCursor);
+
+        return response;
+    }
+
+    /** Converts a bulk import report into a {@link MemberImportResponse}. */
+    public MemberImportResponse createMemberImportResponse(MemberImportReport report) {
+        MemberImportResponse response = new MemberImportResponse();
+
+        response.setTotalRows(report.totalRows());
+        response.setImportedRows(report.importedRows());
+        response.setRejectedRows(report.rejectedRows());
+        response.setDurationMillis(report.durationMillis());
+        response.setRowsPerSecond(report.rowsPerSecond());
+        response.setErrors(report.errors().stream()
+            .map(error -> new MemberImportError()
+                .rowNumber(error.rowNumber())
+                .email(error.email())
+                .message(error.message()))
+            .collect(Collectors.toList()));
+
+        return response;
+    }
+
+    /** Converts member statistics into a {@link MemberStatisticsResponse}, keyed by enum name. */
+    public MemberStatisticsResponse createMemberStatisticsResponse(MemberStatistics statistics) {
+        MemberStatisticsResponse response = new MemberStatisticsResponse();
+
+        response.setTotalMembers(statistics.total());
+        response.setByStatus(toCountsByName(statistics.byStatus()));
+        response.setBySocialProvider(toCountsByName(statistics.bySocialProvider()));
+        response.setWithLocalCredentials(statistics.withLocalCredentials());
+
+        return response;
+    }
+
+    /** Maps a single Member to the {@link SignUpResponse} shape used in listings and exports (no message). */
+    public SignUpResponse toMemberResponse(Member member) {
+        SignUpResponse memberResponse = new SignUpResponse();
+        populateSignUpResponseFromMember(member, memberResponse);
+
+        return memberResponse;
+    }
+
+    private List<SignUpResponse> toSignUpResponses(List<Member> members) {
+        return members.stream()
+            .map(this::toMemberResponse)
+            .collect(Collectors.toList());
+    }
+
     /** Maps a Member domain object to a SocialOnboardingResponse DTO. */
     public SocialOnboardingResponse createSocialOnboardingResponse(Member member) {
         SocialOnboardingResponse response = new SocialOnboardingResponse();
@@ -127,4 +224,11 @@ public class OpenApiModelMapper {
         
         return response;
     }
+
+    /** Keys in declaration order, so the JSON lists statuses in lifecycle order. */
+    private static <K extends Enum<K>> Map<String, Long> toCountsByName(Map<K, Long> counts) {
+        Map<String, Long> byName = new LinkedHashMap<>();
+        new TreeMap<>(counts).forEach((key, count) -> byName.put(key.name(), count));
+        return byName;
+    }
 }
@@ -1,5 +1,7 @@
 package com.ecclesiaflow.web.security;
 
+import com.ecclesiaflow.business.security.RoleToScopeMapper;
+import com.ecclesiaflow.business.security.ScopeRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -58,6 +60,23 @@ public class AuthenticatedUserService {
                 .orElse(Set.of());
     }
 
+    /**
+     * Returns the {@link ScopeRegistry} mask of the scopes held by the user (JWT + role-derived).
+     *
+     * <p>Read from the {@link ScopedJwtAuthenticationToken}, where it was resolved once when the
+     * token was authenticated; resolved here for any other JWT authentication.</p>
+     */
+    public long getScopeMask() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return 0;
+        }
+        if (authentication instanceof ScopedJwtAuthenticationToken scoped) {
+            return scoped.getScopeMask();
+        }
+        return ScopeRegistry.maskOf(getScopes()) | RoleToScopeMapper.getScopeMaskForRoles(getRoles());
+    }
+
     /** Returns the {@code identity_provider} claim from the JWT (e.g. "google", "facebook", "microsoft"). */
     public Optional<String> getIdentityProvider() {
         return getJwt().map(jwt -> jwt.getClaimAsString("identity_provider"));
@@ -0,0 +1,166 @@
+package com.ecclesiaflow.web.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Gestionnaire d'authentification Bearer qui garde en cache les JWT déjà vérifiés.
+ * <p>
+ * Remplace le {@code JwtAuthenticationProvider} de Spring Security : sur un cache miss,
+ * le token est décodé et sa signature vérifiée par le {@link JwtDecoder} (Nimbus, JWKS
+ * Keycloak), puis converti par le {@link KeycloakJwtConverter}. Le résultat (JWT,
+ * authorities et masque des scopes) est gardé, sous le SHA-256 du token, jusqu'à son
+ * {@code exp} au plus tard (et au plus {@code max-ttl}). Un client qui réutilise le même
+ * token pendant plusieurs minutes ne paie donc la vérification RSA, l'extraction des
+ * rôles et la résolution des scopes qu'une fois.
+ * </p>
+ *
+ * <p><strong>Rôle architectural :</strong> Sécurité - Authentification OAuth2 Resource Server</p>
+ *
+ * <p><strong>Garanties :</strong></p>
+ * <ul>
+ *   <li>Seuls les tokens vérifiés sont mis en cache, jamais les échecs</li>
+ *   <li>Le cache ne contient pas les tokens eux-mêmes, seulement leur empreinte comme clé</li>
+ *   <li>Chaque requête reçoit sa propre {@link ScopedJwtAuthenticationToken}, avec ses propres
+ *       détails : l'instance en cache n'est jamais exposée</li>
+ *   <li>Des requêtes concurrentes avec le même token partagent une seule vérification</li>
+ * </ul>
+ *
+ * <p>Hits, misses et évictions sont publiés par les métriques {@code cache.*}
+ * ({@code cache=security.jwt}). Avec {@code ecclesiaflow.security.jwt-cache.enabled=false},
+ * chaque requête vérifie son token.</p>
+ *
+ * @author EcclesiaFlow Team
+ * @since 2.0.0
+ */
+@Component
+public class CachingJwtAuthenticationManager implements AuthenticationManager {
+
+    static final String CACHE_NAME = "security.jwt";
+
+    private final JwtDecoder jwtDecoder;
+    private final KeycloakJwtConverter jwtConverter;
+    private final boolean enabled;
+    private final Cache<String, ScopedJwtAuthenticationToken> byTokenDigest;
+
+    @Autowired
+    public CachingJwtAuthenticationManager(
+            JwtDecoder jwtDecoder,
+            KeycloakJwtConverter jwtConverter,
+            @Value("${ecclesiaflow.security.jwt-cache.enabled:true}") boolean enabled,
+            @Value("${ecclesiaflow.security.jwt-cache.max-size:10000}") long maxSize,
+            @Value("${ecclesiaflow.security.jwt-cache.max-ttl:5m}") Duration maxTtl,
+            MeterRegistry meterRegistry) {
+        this(jwtDecoder, jwtConverter, enabled, maxSize, maxTtl, meterRegistry, Ticker.systemTicker(), Clock.systemUTC());
+    }
+
+    CachingJwtAuthenticationManager(JwtDecoder jwtDecoder, KeycloakJwtConverter jwtConverter, boolean enabled,
+                                    long maxSize, Duration maxTtl, MeterRegistry meterRegistry,
+                                    Ticker ticker, Clock clock) {
+        this.jwtDecoder = jwtDecoder;
+        this.jwtConverter = jwtConverter;
+        this.enabled = enabled;
+        this.byTokenDigest = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry(maxTtl, clock))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        if (enabled) {
+            CaffeineCacheMetrics.monitor(meterRegistry, byTokenDigest, CACHE_NAME);
+        }
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        BearerTokenAuthenticationToken bearer = (BearerTokenAuthenticationToken) authentication;
+        String token = bearer.getToken();
+        ScopedJwtAuthenticationToken verified = enabled
+                ? byTokenDigest.get(digest(token), key -> verify(token))
+                : verify(token);
+
+        ScopedJwtAuthenticationToken result = new ScopedJwtAuthenticationToken(verified.getToken(),
+                verified.getAuthorities(), verified.getName(), verified.getScopeMask());
+        result.setDetails(bearer.getDetails());
+        return result;
+    }
+
+    /**
+     * Vérifie le token comme le ferait {@code JwtAuthenticationProvider}, avec la même
+     * traduction des erreurs du décodeur.
+     */
+    private ScopedJwtAuthenticationToken verify(String token) {
+        Jwt jwt;
+        try {
+            jwt = jwtDecoder.decode(token);
+        } catch (BadJwtException e) {
+            throw new InvalidBearerTokenException(e.getMessage(), e);
+        } catch (JwtException e) {
+            throw new AuthenticationServiceException(e.getMessage(), e);
+        }
+        return jwtConverter.convert(jwt);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /** Une entrée expire à l'{@code exp} de son token, sans dépasser {@code maxTtl}. */
+    private record UntilTokenExpiry(Duration maxTtl, Clock clock)
+            implements Expiry<String, ScopedJwtAuthenticationToken> {
+
+        @Override
+        public long expireAfterCreate(String key, ScopedJwtAuthenticationToken value, long currentTime) {
+            Instant expiresAt = value.getToken().getExpiresAt();
+            if (expiresAt == null) {
+                return maxTtl.toNanos();
+            }
+            Duration remaining = Duration.between(clock.instant(), expiresAt);
+            if (remaining.isNegative()) {
+                return 0;
+            }
+            return Math.min(remaining.toNanos(), maxTtl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, ScopedJwtAuthenticationToken value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, ScopedJwtAuthenticationToken value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package com.ecclesiaflow.web.security;
 
+import com.ecclesiaflow.business.security.RoleToScopeMapper;
+import com.ecclesiaflow.business.security.ScopeRegistry;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -33,6 +36,8 @@ import java.util.stream.Stream;
  *   <li>Extraction des rôles depuis les différents claims JWT</li>
  *   <li>Ajout automatique du préfixe "ROLE_" pour Spring Security</li>
  *   <li>Création du JwtAuthenticationToken avec les authorities</li>
+ *   <li>Calcul, une fois par token, du masque des scopes ({@link ScopeRegistry}) :
+ *       claim "scope" et scopes dérivés des rôles</li>
  *   <li>Extraction du principal (email ou sub)</li>
  * </ul>
  * 
@@ -46,11 +51,30 @@ public class KeycloakJwtConverter implements Converter<Jwt, AbstractAuthenticati
     private static final String ROLES_CLAIM = "roles";
     private static final String REALM_ACCESS_CLAIM = "realm_access";
     private static final String RESOURCE_ACCESS_CLAIM = "resource_access";
+    private static final String SCOPE_CLAIM = "scope";
 
     @Override
-    public AbstractAuthenticationToken convert(Jwt jwt) {
+    public ScopedJwtAuthenticationToken convert(Jwt jwt) {
         Collection<GrantedAuthority> authorities = extractAuthorities(jwt);
-        return new JwtAuthenticationToken(jwt, authorities, extractPrincipalName(jwt));
+        return new ScopedJwtAuthenticationToken(jwt, authorities, extractPrincipalName(jwt),
+                extractScopeMask(jwt, authorities));
+    }
+
+    /**
+     * Calcule le masque des scopes accordés : scopes du claim "scope" (séparés par des espaces)
+     * et scopes dérivés des rôles par {@link RoleToScopeMapper}.
+     */
+    private long extractScopeMask(Jwt jwt, Collection<GrantedAuthority> authorities) {
+        long mask = 0;
+        String scopeClaim = jwt.getClaimAsString(SCOPE_CLAIM);
+        if (scopeClaim != null) {
+            mask |= ScopeRegistry.maskOf(Arrays.asList(scopeClaim.split(" ")));
+        }
+        List<String> roles = new ArrayList<>(authorities.size());
+        for (GrantedAuthority authority : authorities) {
+            roles.add(authority.getAuthority().substring(ROLE_PREFIX.length()));
+        }
+        return mask | RoleToScopeMapper.getScopeMaskForRoles(roles);
     }
 
     /**
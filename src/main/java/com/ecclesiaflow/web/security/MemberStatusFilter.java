@@ -1,6 +1,5 @@
 package com.ecclesiaflow.web.security;
 
-import com.ecclesiaflow.business.domain.member.Member;
 import com.ecclesiaflow.business.domain.member.MemberRepository;
 import com.ecclesiaflow.business.domain.member.MemberStatus;
 import com.ecclesiaflow.web.exception.model.ApiErrorResponse;
@@ -21,7 +20,8 @@ import java.util.Optional;
 import java.util.Set;
 
 /**
- * Application-level filter that blocks requests from deactivated, suspended, or inactive members.
+ * Application-level filter that blocks requests from deactivated, suspended, inactive or
+ * being-deleted members.
  * <p>
  * Placed after {@code BearerTokenAuthenticationFilter} in the Spring Security filter chain.
  * Instead of disabling users in Keycloak (which locks them out entirely), this filter allows
@@ -34,6 +34,11 @@ import java.util.Set;
  * resources, except the reactivation endpoint.
  * </p>
  * <p>
+ * Only the member's status is read, through {@link MemberRepository#getStatusByKeycloakUserId},
+ * which serves it from a short-lived cache evicted on every member write
+ * ({@code ecclesiaflow.members.status-cache.*}).
+ * </p>
+ * <p>
  * Not annotated with {@code @Component} — registered as a bean via {@link SecurityConfig}
  * to avoid being picked up by {@code @WebMvcTest} sliced contexts.
  * </p>
@@ -75,16 +80,15 @@ public class MemberStatusFilter extends OncePerRequestFilter {
         }
 
         String keycloakUserId = jwtAuth.getToken().getSubject();
-        Optional<Member> memberOpt = memberRepository.getByKeycloakUserId(keycloakUserId);
+        Optional<MemberStatus> statusOpt = memberRepository.getStatusByKeycloakUserId(keycloakUserId);
 
-        if (memberOpt.isEmpty()) {
+        if (statusOpt.isEmpty()) {
             // No member record yet (e.g. SSO onboarding in progress)
             filterChain.doFilter(request, response);
             return;
         }
 
-        Member member = memberOpt.get();
-        MemberStatus status = member.getStatus();
+        MemberStatus status = statusOpt.get();
 
         switch (status) {
             case DEACTIVATED -> writeErrorResponse(response, request,
@@ -96,6 +100,9 @@ public class MemberStatusFilter extends OncePerRequestFilter {
             case INACTIVE -> writeErrorResponse(response, request,
                 "ACCOUNT_INACTIVE",
                 "Your account is no longer active.");
+            case DELETING -> writeErrorResponse(response, request,
+                "ACCOUNT_DELETING",
+                "Your account is being deleted.");
             default -> filterChain.doFilter(request, response);
         }
     }
@@ -0,0 +1,220 @@
+package com.ecclesiaflow.web.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Source des clés publiques Keycloak (JWKS) préchargée au démarrage et rafraîchie en arrière-plan.
+ * <p>
+ * Le décodeur JWT de Spring Security charge normalement le JWKS au premier token reçu,
+ * puis à nouveau à l'expiration de son cache, sur le thread de la requête. Cette source
+ * charge le JWKS au démarrage, avant que l'instance ne se déclare prête (indicateur de
+ * santé {@code jwks} du groupe {@code readiness}), puis le rafraîchit toutes les
+ * {@code refresh-interval}, hors du chemin des requêtes.
+ * </p>
+ *
+ * <p><strong>Rôle architectural :</strong> Sécurité - Source de clés du décodeur JWT</p>
+ *
+ * <p><strong>Comportement :</strong></p>
+ * <ul>
+ *   <li>Si Keycloak est lent ou indisponible, le dernier JWKS chargé reste servi</li>
+ *   <li>Un {@code kid} inconnu (rotation de clé) déclenche un rechargement immédiat, au plus
+ *       un toutes les {@code min-refresh-interval} ; les requêtes concurrentes attendent ce
+ *       rechargement unique au lieu d'en lancer chacune un</li>
+ *   <li>Chaque chargement est borné par {@code connect-timeout} et {@code read-timeout}</li>
+ * </ul>
+ *
+ * <p>Métriques : {@code ecclesiaflow.jwks.refresh} (durée des chargements, tag
+ * {@code outcome=success|failure}) et {@code ecclesiaflow.jwks.age} (secondes depuis le
+ * dernier chargement réussi).</p>
+ *
+ * @author EcclesiaFlow Team
+ * @since 2.0.0
+ */
+@Slf4j
+@Component
+public class PrefetchingJwkSource implements JWKSource<SecurityContext>, ApplicationRunner {
+
+    private static final int JWKS_SIZE_LIMIT_BYTES = 512 * 1024;
+
+    private final URL jwkSetUrl;
+    private final Duration minRefreshInterval;
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+    private final Clock clock;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final Timer refreshSuccess;
+    private final Timer refreshFailure;
+
+    /** Dernier JWKS chargé et son instant, publiés ensemble ; {@code null} avant le premier chargement. */
+    private volatile LoadedJwks loaded;
+    private volatile Instant attemptedAt = Instant.MIN;
+
+    @Autowired
+    public PrefetchingJwkSource(
+            @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri,
+            @Value("${ecclesiaflow.security.jwks.min-refresh-interval:30s}") Duration minRefreshInterval,
+            @Value("${ecclesiaflow.security.jwks.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${ecclesiaflow.security.jwks.read-timeout:3s}") Duration readTimeout,
+            MeterRegistry meterRegistry) {
+        this(jwkSetUri, minRefreshInterval, connectTimeout, readTimeout, meterRegistry, Clock.systemUTC());
+    }
+
+    PrefetchingJwkSource(String jwkSetUri, Duration minRefreshInterval, Duration connectTimeout,
+                         Duration readTimeout, MeterRegistry meterRegistry, Clock clock) {
+        this.jwkSetUrl = toUrl(jwkSetUri);
+        this.minRefreshInterval = minRefreshInterval;
+        this.connectTimeoutMillis = Math.toIntExact(connectTimeout.toMillis());
+        this.readTimeoutMillis = Math.toIntExact(readTimeout.toMillis());
+        this.clock = clock;
+        this.refreshSuccess = refreshTimer(meterRegistry, "success");
+        this.refreshFailure = refreshTimer(meterRegistry, "failure");
+        Gauge.builder("ecclesiaflow.jwks.age", this, PrefetchingJwkSource::ageSeconds)
+                .description("Seconds since the JWKS was last loaded from Keycloak")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /** Précharge le JWKS au démarrage ; en cas d'échec, le rafraîchissement planifié réessaiera. */
+    @Override
+    public void run(ApplicationArguments args) {
+        refresh();
+    }
+
+    /**
+     * Recharge le JWKS, en gardant le précédent si Keycloak ne répond pas.
+     *
+     * @return {@code true} si le JWKS a été rechargé
+     */
+    @Scheduled(fixedDelayString = "${ecclesiaflow.security.jwks.refresh-interval:5m}",
+            initialDelayString = "${ecclesiaflow.security.jwks.refresh-interval:5m}")
+    public boolean refresh() {
+        refreshLock.lock();
+        try {
+            return load();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        LoadedJwks current = loaded;
+        if (current != null) {
+            List<JWK> keys = jwkSelector.select(current.jwkSet());
+            if (!keys.isEmpty()) {
+                return keys;
+            }
+        }
+
+        // kid inconnu (rotation) ou JWKS jamais chargé : un seul rechargement, partagé
+        reloadOnMiss(current);
+        current = loaded;
+        if (current == null) {
+            throw new KeySourceException("JWKS not loaded yet from " + jwkSetUrl);
+        }
+        return jwkSelector.select(current.jwkSet());
+    }
+
+    /** Indique si un JWKS a été chargé au moins une fois. */
+    public boolean isLoaded() {
+        return loaded != null;
+    }
+
+    /** Instant du dernier chargement réussi, ou {@code null} ; jamais {@code null} une fois {@link #isLoaded()} vrai. */
+    public Instant getLoadedAt() {
+        LoadedJwks current = loaded;
+        return current == null ? null : current.loadedAt();
+    }
+
+    private void reloadOnMiss(LoadedJwks seen) throws KeySourceException {
+        try {
+            if (!refreshLock.tryLock(connectTimeoutMillis + readTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KeySourceException("Interrupted while waiting for the JWKS", e);
+        }
+        try {
+            boolean reloadedMeanwhile = loaded != seen;
+            boolean throttled = attemptedAt.plus(minRefreshInterval).isAfter(clock.instant());
+            if (!reloadedMeanwhile && !throttled) {
+                load();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean load() {
+        attemptedAt = clock.instant();
+        Timer.Sample sample = Timer.start();
+        try {
+            JWKSet jwkSet = JWKSet.load(jwkSetUrl, connectTimeoutMillis, readTimeoutMillis, JWKS_SIZE_LIMIT_BYTES);
+            loaded = new LoadedJwks(jwkSet, clock.instant());
+            sample.stop(refreshSuccess);
+            log.debug("JWKS: loaded {} key(s) from {}", jwkSet.getKeys().size(), jwkSetUrl);
+            return true;
+        } catch (Exception e) {
+            sample.stop(refreshFailure);
+            LoadedJwks previous = loaded;
+            if (previous == null) {
+                log.error("JWKS: could not load keys from {}; JWT authentication is unavailable until it succeeds",
+                        jwkSetUrl, e);
+            } else {
+                log.warn("JWKS: refresh from {} failed, still serving the keys loaded at {}: {}",
+                        jwkSetUrl, previous.loadedAt(), e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private double ageSeconds() {
+        LoadedJwks current = loaded;
+        return current == null ? Double.NaN
+                : Duration.between(current.loadedAt(), clock.instant()).toMillis() / 1000.0;
+    }
+
+    private static Timer refreshTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("ecclesiaflow.jwks.refresh")
+                .description("Duration of JWKS loads from Keycloak")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private record LoadedJwks(JWKSet jwkSet, Instant loadedAt) {
+    }
+
+    private static URL toUrl(String jwkSetUri) {
+        try {
+            return URI.create(jwkSetUri).toURL();
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid JWK set URI: " + jwkSetUri, e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ecclesiaflow.web.security;
+
+import com.ecclesiaflow.business.security.ScopeRegistry;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.Collection;
+
+/**
+ * {@link JwtAuthenticationToken} portant le masque des scopes de l'appelant.
+ * <p>
+ * Le masque ({@link ScopeRegistry}) réunit les scopes du claim {@code scope} et ceux
+ * dérivés des rôles. Il est calculé une seule fois par token, à la conversion du JWT,
+ * pour que les contrôles {@code @RequireScopes} se réduisent à des tests de bits.
+ * </p>
+ *
+ * @author EcclesiaFlow Team
+ * @since 2.0.0
+ */
+public class ScopedJwtAuthenticationToken extends JwtAuthenticationToken {
+
+    private final long scopeMask;
+
+    public ScopedJwtAuthenticationToken(Jwt jwt, Collection<? extends GrantedAuthority> authorities,
+                                        String name, long scopeMask) {
+        super(jwt, authorities, name);
+        this.scopeMask = scopeMask;
+    }
+
+    /** Masque {@link ScopeRegistry} des scopes accordés à l'appelant. */
+    public long getScopeMask() {
+        return scopeMask;
+    }
+}
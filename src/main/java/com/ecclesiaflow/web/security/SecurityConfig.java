@@ -30,7 +30,7 @@ import java.util.List;
  * <ul>
  *   <li>Configure OAuth2 Resource Server with Keycloak JWT</li>
  *   <li>Define authorization rules per endpoint</li>
- *   <li>Integrate KeycloakJwtConverter for role extraction</li>
+ *   <li>Integrate KeycloakJwtConverter for role extraction, through a cache of verified tokens</li>
  *   <li>Disable CSRF for stateless REST API</li>
  * </ul>
  * 
@@ -57,7 +57,7 @@ public class SecurityConfig {
     @Value("${cors.allowed-origins:http://localhost:3000,http://localhost:4200,http://localhost:5173}")
     private String allowedOrigins;
 
-    private final KeycloakJwtConverter keycloakJwtConverter;
+    private final CachingJwtAuthenticationManager jwtAuthenticationManager;
     private final MemberRepository memberRepository;
     private final ObjectMapper objectMapper;
 
@@ -74,9 +74,9 @@ public class SecurityConfig {
             // Disable CSRF for stateless REST API
             .csrf(csrf -> csrf.disable())
             
-            // Configure OAuth2 Resource Server with Keycloak JWT
+            // Configure OAuth2 Resource Server with Keycloak JWT (verified tokens are cached until exp)
             .oauth2ResourceServer(oauth2 -> oauth2
-                .jwt(jwt -> jwt.jwtAuthenticationConverter(keycloakJwtConverter))
+                .jwt(jwt -> jwt.authenticationManager(jwtAuthenticationManager))
                 .authenticationEntryPoint((request, response, authException) -> {
                     // Handle authentication errors (expired, invalid, or missing token)
                     response.setContentType("application/json");
@@ -0,0 +1,38 @@
+package com.ecclesiaflow.application.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberExportConfigTest {
+
+    private final MemberExportConfig.ExportTimeoutInterceptor interceptor =
+            new MemberExportConfig.ExportTimeoutInterceptor(Duration.ofMinutes(30));
+
+    @Test
+    void beforeConcurrentHandling_shouldExtendTheTimeoutOfTheExportOnly() {
+        AsyncWebRequest export = asyncRequest("/ecclesiaflow/members/export");
+        AsyncWebRequest other = asyncRequest("/ecclesiaflow/members");
+
+        interceptor.beforeConcurrentHandling(export, () -> null);
+        interceptor.beforeConcurrentHandling(other, () -> null);
+
+        verify(export).setTimeout(Duration.ofMinutes(30).toMillis());
+        verify(other, never()).setTimeout(any());
+    }
+
+    private static AsyncWebRequest asyncRequest(String uri) {
+        AsyncWebRequest request = mock(AsyncWebRequest.class);
+        when(request.getNativeRequest(HttpServletRequest.class)).thenReturn(new MockHttpServletRequest("GET", uri));
+        return request;
+    }
+}
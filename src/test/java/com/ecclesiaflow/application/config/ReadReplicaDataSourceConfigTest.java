@@ -0,0 +1,53 @@
+package com.ecclesiaflow.application.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadReplicaDataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+            .withUserConfiguration(ReadReplicaDataSourceConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:primary",
+                    "spring.datasource.username=sa",
+                    "spring.datasource.hikari.maximum-pool-size=7");
+
+    @Test
+    void shouldKeepSingleDataSourceWhenReplicaIsDisabled() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(DataSource.class);
+            assertThat(context).doesNotHaveBean("replicaDataSource");
+        });
+    }
+
+    @Test
+    void shouldRouteThroughLazyProxyWithSeparatePoolsWhenReplicaIsEnabled() {
+        contextRunner
+                .withPropertyValues(
+                        "ecclesiaflow.datasource.replica.enabled=true",
+                        "ecclesiaflow.datasource.replica.url=jdbc:h2:mem:replica",
+                        "ecclesiaflow.datasource.replica.hikari.maximum-pool-size=3")
+                .run(context -> {
+                    assertThat(context.getBean(DataSource.class)).isInstanceOf(LazyConnectionDataSourceProxy.class);
+
+                    HikariDataSource primary = context.getBean("primaryDataSource", HikariDataSource.class);
+                    HikariDataSource replica = context.getBean("replicaDataSource", HikariDataSource.class);
+                    assertThat(primary.getPoolName()).isEqualTo(ReadReplicaDataSourceConfig.PRIMARY_POOL);
+                    assertThat(primary.getMaximumPoolSize()).isEqualTo(7);
+                    assertThat(replica.getPoolName()).isEqualTo(ReadReplicaDataSourceConfig.REPLICA_POOL);
+                    assertThat(replica.getMaximumPoolSize()).isEqualTo(3);
+                    assertThat(replica.getJdbcUrl()).isEqualTo("jdbc:h2:mem:replica");
+                    assertThat(replica.getUsername()).isEqualTo("sa");
+                    assertThat(replica.isReadOnly()).isTrue();
+                });
+    }
+}
@@ -1,6 +1,7 @@
 package com.ecclesiaflow.application.handlers;
 
-import com.ecclesiaflow.business.domain.communication.EmailClient;
+import com.ecclesiaflow.business.domain.communication.EmailOutbox;
+import com.ecclesiaflow.business.domain.communication.OutboundEmail;
 import com.ecclesiaflow.business.domain.events.EmailChangedEvent;
 import com.ecclesiaflow.business.domain.events.PendingEmailChangeRequestedEvent;
 import org.junit.jupiter.api.Test;
@@ -12,18 +13,19 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class EmailChangeEventHandlerTest {
 
-    @Mock private EmailClient emailClient;
+    @Mock private EmailOutbox emailOutbox;
 
     @InjectMocks
     private EmailChangeEventHandler handler;
 
     @Test
-    void handleEmailChangeRequested_sendsConfirmationEmail() {
+    void handleEmailChangeRequested_queuesConfirmationEmail() {
         ReflectionTestUtils.setField(handler, "frontendBaseUrl", "https://app.ecclesiaflow.com");
         UUID token = UUID.randomUUID();
         PendingEmailChangeRequestedEvent event = new PendingEmailChangeRequestedEvent("new@example.com", token, "Jean");
@@ -31,35 +33,23 @@ class EmailChangeEventHandlerTest {
         handler.handleEmailChangeRequested(event);
 
         String expectedUrl = "https://app.ecclesiaflow.com/email-change-confirmation?token=" + token;
-        verify(emailClient).sendConfirmationEmail("new@example.com", expectedUrl, "Jean");
+        verify(emailOutbox).enqueue(OutboundEmail.confirmation("new@example.com", expectedUrl, "Jean"));
     }
 
     @Test
-    void handleEmailChangeRequested_emailClientFailure_doesNotThrow() {
-        ReflectionTestUtils.setField(handler, "frontendBaseUrl", "https://app.ecclesiaflow.com");
-        UUID token = UUID.randomUUID();
-        PendingEmailChangeRequestedEvent event = new PendingEmailChangeRequestedEvent("new@example.com", token, "Jean");
-        doThrow(new RuntimeException("gRPC down")).when(emailClient).sendConfirmationEmail(any(), any(), any());
-
-        // Should not throw
-        handler.handleEmailChangeRequested(event);
-    }
-
-    @Test
-    void handleEmailChanged_sendsNotification() {
+    void handleEmailChanged_queuesNotification() {
         EmailChangedEvent event = new EmailChangedEvent("old@example.com", "Jean");
 
         handler.handleEmailChanged(event);
 
-        verify(emailClient).sendEmailChangedNotification("old@example.com", "Jean");
+        verify(emailOutbox).enqueue(OutboundEmail.emailChanged("old@example.com", "Jean"));
     }
 
     @Test
-    void handleEmailChanged_emailClientFailure_doesNotThrow() {
+    void handleEmailChanged_outboxFailure_propagatesToRollBackTheChange() {
         EmailChangedEvent event = new EmailChangedEvent("old@example.com", "Jean");
-        doThrow(new RuntimeException("gRPC down")).when(emailClient).sendEmailChangedNotification(any(), any());
+        doThrow(new RuntimeException("insert failed")).when(emailOutbox).enqueue(any());
 
-        // Should not throw
-        handler.handleEmailChanged(event);
+        assertThatThrownBy(() -> handler.handleEmailChanged(event)).hasMessage("insert failed");
     }
 }
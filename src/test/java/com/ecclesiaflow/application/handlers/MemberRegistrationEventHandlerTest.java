@@ -1,6 +1,7 @@
 package com.ecclesiaflow.application.handlers;
 
-import com.ecclesiaflow.business.domain.communication.EmailClient;
+import com.ecclesiaflow.business.domain.communication.EmailOutbox;
+import com.ecclesiaflow.business.domain.communication.OutboundEmail;
 import com.ecclesiaflow.business.domain.events.MemberRegisteredEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,8 +10,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.UUID;
 
-import static org.assertj.core.api.Assertions.assertThatNoException;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 
@@ -18,36 +19,33 @@ import static org.mockito.Mockito.verify;
 class MemberRegistrationEventHandlerTest {
 
     @Test
-    @DisplayName("should send confirmation email with built confirmation URL")
-    void shouldSendConfirmationEmail() {
-        EmailClient emailClient = Mockito.mock(EmailClient.class);
-        MemberRegistrationEventHandler handler = new MemberRegistrationEventHandler(emailClient);
+    @DisplayName("should queue confirmation email with built confirmation URL")
+    void shouldQueueConfirmationEmail() {
+        EmailOutbox emailOutbox = Mockito.mock(EmailOutbox.class);
+        MemberRegistrationEventHandler handler = new MemberRegistrationEventHandler(emailOutbox);
         ReflectionTestUtils.setField(handler, "frontendBaseUrl", "http://localhost:5173");
 
         UUID token = UUID.randomUUID();
         MemberRegisteredEvent event = new MemberRegisteredEvent("user@example.com", token, "John");
 
-        assertThatNoException().isThrownBy(() -> handler.handleMemberRegistered(event));
+        handler.handleMemberRegistered(event);
 
         String expectedUrl = "http://localhost:5173/confirmation?token=" + token;
-        verify(emailClient).sendConfirmationEmail(eq("user@example.com"), eq(expectedUrl), eq("John"));
+        verify(emailOutbox).enqueue(OutboundEmail.confirmation("user@example.com", expectedUrl, "John"));
     }
 
     @Test
-    @DisplayName("should swallow exceptions from EmailClient and not rethrow")
-    void shouldSwallowEmailClientExceptions() {
-        EmailClient emailClient = Mockito.mock(EmailClient.class);
-        MemberRegistrationEventHandler handler = new MemberRegistrationEventHandler(emailClient);
+    @DisplayName("should propagate outbox failures so the registration rolls back")
+    void shouldPropagateOutboxFailures() {
+        EmailOutbox emailOutbox = Mockito.mock(EmailOutbox.class);
+        MemberRegistrationEventHandler handler = new MemberRegistrationEventHandler(emailOutbox);
         ReflectionTestUtils.setField(handler, "frontendBaseUrl", "http://localhost:5173");
 
-        UUID token = UUID.randomUUID();
-        MemberRegisteredEvent event = new MemberRegisteredEvent("user@example.com", token, "John");
-
-        doThrow(new RuntimeException("service down")).when(emailClient)
-                .sendConfirmationEmail(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+        MemberRegisteredEvent event = new MemberRegisteredEvent("user@example.com", UUID.randomUUID(), "John");
+        doThrow(new RuntimeException("insert failed")).when(emailOutbox).enqueue(any());
 
-        assertThatNoException().isThrownBy(() -> handler.handleMemberRegistered(event));
-        // call attempted even though it fails
-        verify(emailClient).sendConfirmationEmail(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+        assertThatThrownBy(() -> handler.handleMemberRegistered(event))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("insert failed");
     }
 }
@@ -0,0 +1,183 @@
+package com.ecclesiaflow.application.logging.aspect;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.aspectj.MethodInvocationProceedingJoinPoint;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.io.OutputStream;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-call cost of the former service logging advice ({@code LoggingAspect.logServiceMethods}:
+ * two DEBUG logs and {@code currentTimeMillis} around every call) versus
+ * {@link CallMetricsAspect} (one timer record with the histogram configured
+ * in {@code application.properties}), both applied through a Spring AOP proxy.
+ *
+ * <p>Run with:</p>
+ * <pre>
+ * mvn verify -Dit.test=CallInstrumentationBenchmarkIT -Dbenchmark.aspects=true [-Dbenchmark.calls=2000000]
+ * </pre>
+ * <p>Log events are formatted by a pattern encoder into a discarding stream, so the figures
+ * exclude console I/O. The default profile logs {@code com.ecclesiaflow} at DEBUG; the INFO
+ * figure is the production profile, where the former advice skipped its logs.</p>
+ */
+@EnabledIfSystemProperty(named = "benchmark.aspects", matches = "true")
+class CallInstrumentationBenchmarkIT {
+
+    private static final int ROUNDS = 5;
+
+    private final int calls = Integer.getInteger("benchmark.calls", 2_000_000);
+    private final Logger legacyLogger = (Logger) LoggerFactory.getLogger(LegacyServiceLogging.class);
+    private OutputStreamAppender<ILoggingEvent> discardingAppender;
+
+    @BeforeEach
+    void routeLogsToDiscardingAppender() {
+        LoggerContext context = legacyLogger.getLoggerContext();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %5level [%thread] %logger{36} : %msg%n");
+        encoder.start();
+
+        discardingAppender = new OutputStreamAppender<>();
+        discardingAppender.setContext(context);
+        discardingAppender.setEncoder(encoder);
+        discardingAppender.setOutputStream(OutputStream.nullOutputStream());
+        discardingAppender.start();
+
+        legacyLogger.addAppender(discardingAppender);
+        legacyLogger.setAdditive(false);
+    }
+
+    @AfterEach
+    void restoreLogging() {
+        legacyLogger.detachAppender(discardingAppender);
+        legacyLogger.setAdditive(true);
+        legacyLogger.setLevel(null);
+        discardingAppender.stop();
+    }
+
+    @Test
+    void timerShouldCostLessPerCallThanServiceLogging() throws Throwable {
+        CallMetricsAspect metrics = new CallMetricsAspect(
+                configuredRegistry(), Duration.ofSeconds(1), Duration.ofSeconds(10));
+        LegacyServiceLogging legacy = new LegacyServiceLogging();
+
+        double bare = nanosPerCall(proxy(null));
+        legacyLogger.setLevel(Level.DEBUG);
+        double legacyDebug = nanosPerCall(proxy(legacy::logServiceMethods)) - bare;
+        legacyLogger.setLevel(Level.INFO);
+        double legacyInfo = nanosPerCall(proxy(legacy::logServiceMethods)) - bare;
+        double timer = nanosPerCall(proxy(metrics::timeServiceCall)) - bare;
+
+        System.out.printf("%d calls, overhead per call: logging at DEBUG %.0f ns, logging at INFO %.0f ns, "
+                + "timer %.0f ns (bare proxy call %.0f ns)%n", calls, legacyDebug, legacyInfo, timer, bare);
+        assertThat(timer).isLessThan(legacyDebug);
+    }
+
+    /** Best of {@link #ROUNDS} runs, after one warm-up run. */
+    private double nanosPerCall(SampleService service) {
+        long sink = 0;
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < calls; i++) {
+                sink += service.findMember(i).length();
+            }
+            double perCall = (double) (System.nanoTime() - start) / calls;
+            if (round > 0) {
+                best = Math.min(best, perCall);
+            }
+        }
+        assertThat(sink).isPositive();
+        return best;
+    }
+
+    private static SampleService proxy(Advice advice) {
+        ProxyFactory factory = new ProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        if (advice != null) {
+            factory.addAdvice((MethodInterceptor) invocation ->
+                    advice.around(new MethodInvocationProceedingJoinPoint((ProxyMethodInvocation) invocation)));
+        }
+        return (SampleService) factory.getProxy();
+    }
+
+    /** Same distribution settings as {@code management.metrics.distribution.*} for the call timers. */
+    private static SimpleMeterRegistry configuredRegistry() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(30).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        });
+        return registry;
+    }
+
+    @FunctionalInterface
+    private interface Advice {
+        Object around(ProceedingJoinPoint joinPoint) throws Throwable;
+    }
+
+    public static class SampleService {
+        public String findMember(int id) {
+            return "member-" + (id & 1023);
+        }
+    }
+
+    /** The service advice removed from {@code LoggingAspect}, kept here as the baseline. */
+    @Slf4j
+    static class LegacyServiceLogging {
+
+        Object logServiceMethods(ProceedingJoinPoint joinPoint) throws Throwable {
+            String layer = "SERVICE";
+            String className = joinPoint.getTarget().getClass().getSimpleName();
+            String methodName = joinPoint.getSignature().getName();
+            long startTime = System.currentTimeMillis();
+
+            log.debug("{}: Début {}.{}", layer, className, methodName);
+
+            try {
+                Object result = joinPoint.proceed();
+                long executionTime = System.currentTimeMillis() - startTime;
+
+                if (executionTime > 1000) {
+                    log.warn("{}: {}.{} - Exécution lente ({}ms)", layer, className, methodName, executionTime);
+                } else {
+                    log.debug("{}: {}.{} - Succès ({}ms)", layer, className, methodName, executionTime);
+                }
+
+                return result;
+            } catch (Exception e) {
+                long executionTime = System.currentTimeMillis() - startTime;
+                log.error("{}: {}.{} - Échec ({}ms): {}", layer, className, methodName, executionTime, e.getMessage());
+                throw e;
+            }
+        }
+    }
+}
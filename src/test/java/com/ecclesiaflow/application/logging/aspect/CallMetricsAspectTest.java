@@ -0,0 +1,169 @@
+package com.ecclesiaflow.application.logging.aspect;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CallMetricsAspect - Timers par méthode et logs d'appels lents échantillonnés")
+class CallMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ListAppender<ILoggingEvent> listAppender;
+    private Logger logger;
+    private ProceedingJoinPoint joinPoint;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+
+        logger = (Logger) LoggerFactory.getLogger(CallMetricsAspect.class);
+        listAppender = new ListAppender<>();
+        listAppender.start();
+        logger.addAppender(listAppender);
+        logger.setLevel(Level.DEBUG);
+
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(SampleService.class.getMethod("findMember", String.class));
+        joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getTarget()).thenReturn(new SampleService());
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(listAppender);
+        listAppender.stop();
+    }
+
+    private CallMetricsAspect createAspect(Duration slowCallThreshold, Duration slowCallLogInterval) {
+        return new CallMetricsAspect(meterRegistry, slowCallThreshold, slowCallLogInterval);
+    }
+
+    @Test
+    @DisplayName("devrait enregistrer un appel de service réussi par classe et méthode")
+    void shouldRecordSuccessfulServiceCall() throws Throwable {
+        CallMetricsAspect aspect = createAspect(Duration.ofSeconds(1), Duration.ofSeconds(10));
+        when(joinPoint.proceed()).thenReturn("result");
+
+        Object result = aspect.timeServiceCall(joinPoint);
+
+        assertThat(result).isEqualTo("result");
+        assertThat(timer(CallMetricsAspect.SERVICE_CALLS, "success").count()).isEqualTo(1);
+        assertThat(timer(CallMetricsAspect.SERVICE_CALLS, "error").count()).isZero();
+        assertThat(listAppender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("devrait enregistrer un échec d'appel client et propager l'exception")
+    void shouldRecordFailedClientCall() throws Throwable {
+        CallMetricsAspect aspect = createAspect(Duration.ofSeconds(1), Duration.ofSeconds(10));
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("Auth down"));
+
+        assertThatThrownBy(() -> aspect.timeClientCall(joinPoint))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Auth down");
+
+        assertThat(timer(CallMetricsAspect.CLIENT_CALLS, "error").count()).isEqualTo(1);
+        assertThat(timer(CallMetricsAspect.CLIENT_CALLS, "success").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("devrait enregistrer un appel client asynchrone quand son future est complété")
+    void shouldRecordAsyncClientCallOnCompletion() throws Throwable {
+        CallMetricsAspect aspect = createAspect(Duration.ofSeconds(1), Duration.ofSeconds(10));
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        when(joinPoint.proceed()).thenReturn(pending);
+
+        Object result = aspect.timeClientCall(joinPoint);
+
+        assertThat(result).isSameAs(pending);
+        assertThat(timer(CallMetricsAspect.CLIENT_CALLS, "success").count()).isZero();
+        pending.completeExceptionally(new IllegalStateException("Email down"));
+        assertThat(timer(CallMetricsAspect.CLIENT_CALLS, "error").count()).isEqualTo(1);
+        assertThat(timer(CallMetricsAspect.CLIENT_CALLS, "success").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("devrait résoudre les timers une seule fois par méthode")
+    void shouldResolveMetersOncePerMethod() throws Throwable {
+        CallMetricsAspect aspect = createAspect(Duration.ofSeconds(1), Duration.ofSeconds(10));
+        when(joinPoint.proceed()).thenReturn("result");
+
+        aspect.timeServiceCall(joinPoint);
+        aspect.timeServiceCall(joinPoint);
+
+        assertThat(timer(CallMetricsAspect.SERVICE_CALLS, "success").count()).isEqualTo(2);
+        Map<?, ?> callMeters = (Map<?, ?>) ReflectionTestUtils.getField(aspect, "callMeters");
+        assertThat(callMeters).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("devrait logger un appel lent au plus une fois par intervalle")
+    void shouldSampleSlowCallLogs() throws Throwable {
+        CallMetricsAspect aspect = createAspect(Duration.ZERO, Duration.ofHours(1));
+        when(joinPoint.proceed()).thenReturn("result");
+
+        for (int i = 0; i < 5; i++) {
+            aspect.timeServiceCall(joinPoint);
+        }
+
+        assertThat(timer(CallMetricsAspect.SERVICE_CALLS, "success").count()).isEqualTo(5);
+        assertThat(listAppender.list)
+                .singleElement()
+                .satisfies(log -> {
+                    assertThat(log.getLevel()).isEqualTo(Level.WARN);
+                    assertThat(log.getFormattedMessage())
+                            .contains("SERVICE: SampleService.findMember - Exécution lente", "1 appel(s) lent(s)");
+                });
+    }
+
+    @Test
+    @DisplayName("devrait compter les appels lents non loggés dans le signalement suivant")
+    void shouldReportSuppressedSlowCalls() throws Throwable {
+        CallMetricsAspect aspect = createAspect(Duration.ZERO, Duration.ofMillis(50));
+        when(joinPoint.proceed()).thenReturn("result");
+
+        aspect.timeServiceCall(joinPoint);
+        aspect.timeServiceCall(joinPoint);
+        aspect.timeServiceCall(joinPoint);
+        Thread.sleep(60);
+        aspect.timeServiceCall(joinPoint);
+
+        assertThat(listAppender.list).hasSize(2);
+        assertThat(listAppender.list.get(1).getFormattedMessage()).contains("3 appel(s) lent(s)");
+    }
+
+    private Timer timer(String name, String outcome) {
+        return meterRegistry.get(name)
+                .tag("class", "SampleService")
+                .tag("method", "findMember")
+                .tag("outcome", outcome)
+                .timer();
+    }
+
+    static class SampleService {
+        public String findMember(String email) {
+            return email;
+        }
+    }
+}
@@ -12,8 +12,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
-import java.util.UUID;
-
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -31,38 +29,7 @@ class EmailGrpcClientLoggingAspectTest {
         joinPoint = mock(JoinPoint.class);
         signature = mock(Signature.class);
         when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getName()).thenReturn("sendConfirmationEmail");
-    }
-
-    @Nested
-    @DisplayName("logBeforeEmailRpcCall")
-    class LogBeforeTests {
-
-        @Test
-        @DisplayName("should log before RPC call without error")
-        void shouldLogBeforeRpcCall() {
-            assertThatNoException().isThrownBy(() -> aspect.logBeforeEmailRpcCall(joinPoint));
-        }
-    }
-
-    @Nested
-    @DisplayName("logAfterSuccessfulEmailRpcCall")
-    class LogAfterSuccessTests {
-
-        @Test
-        @DisplayName("should log after successful call with UUID result")
-        void shouldLogAfterSuccessWithUuid() {
-            UUID result = UUID.randomUUID();
-            assertThatNoException().isThrownBy(() -> 
-                aspect.logAfterSuccessfulEmailRpcCall(joinPoint, result));
-        }
-
-        @Test
-        @DisplayName("should log after successful call with null result")
-        void shouldLogAfterSuccessWithNull() {
-            assertThatNoException().isThrownBy(() -> 
-                aspect.logAfterSuccessfulEmailRpcCall(joinPoint, null));
-        }
+        when(signature.getName()).thenReturn("sendBatch");
     }
 
     @Nested
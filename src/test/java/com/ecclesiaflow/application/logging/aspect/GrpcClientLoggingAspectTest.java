@@ -112,96 +112,6 @@ class GrpcClientLoggingAspectTest {
                 .contains("GRPC-CLIENT", "Error while closing", "RuntimeException");
     }
 
-    // ========================================================================
-    // Tests - Appels RPC (generateTemporaryToken)
-    // ========================================================================
-
-    @Test
-    @DisplayName("Doit logger avant un appel generateTemporaryToken")
-    void shouldLogBeforeGenerateTemporaryToken() {
-        // Given
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getName()).thenReturn("generateTemporaryToken");
-
-        // When
-        aspect.logBeforeRpcCall(joinPoint);
-
-        // Then
-        assertThat(listAppender.list)
-                .hasSize(1)
-                .extracting(ILoggingEvent::getLevel)
-                .containsExactly(Level.INFO);
-        
-        assertThat(listAppender.list.getFirst().getFormattedMessage())
-                .contains("GRPC-CLIENT", "Calling Auth.generateTemporaryToken");
-    }
-
-    @Test
-    @DisplayName("Doit logger après un appel generateTemporaryToken réussi")
-    void shouldLogAfterSuccessfulGenerateTemporaryToken() {
-        // Given
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getName()).thenReturn("generateTemporaryToken");
-        Object result = "token-value";
-
-        // When
-        aspect.logAfterSuccessfulRpcCall(joinPoint, result);
-
-        // Then
-        assertThat(listAppender.list)
-                .hasSize(1)
-                .extracting(ILoggingEvent::getLevel)
-                .containsExactly(Level.INFO);
-        
-        assertThat(listAppender.list.getFirst().getFormattedMessage())
-                .contains("GRPC-CLIENT", "Auth.generateTemporaryToken completed successfully");
-    }
-
-    // ========================================================================
-    // Tests - Appels RPC (autres méthodes en DEBUG)
-    // ========================================================================
-
-    @Test
-    @DisplayName("Doit logger avant un appel RPC standard en DEBUG")
-    void shouldLogBeforeStandardRpcCall() {
-        // Given
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getName()).thenReturn("validateToken");
-
-        // When
-        aspect.logBeforeRpcCall(joinPoint);
-
-        // Then
-        assertThat(listAppender.list)
-                .hasSize(1)
-                .extracting(ILoggingEvent::getLevel)
-                .containsExactly(Level.DEBUG);
-        
-        assertThat(listAppender.list.getFirst().getFormattedMessage())
-                .contains("GRPC-CLIENT", "Calling Auth.validateToken");
-    }
-
-    @Test
-    @DisplayName("Doit logger après un appel RPC standard réussi en DEBUG")
-    void shouldLogAfterSuccessfulStandardRpcCall() {
-        // Given
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getName()).thenReturn("validateToken");
-        Object result = Boolean.TRUE;
-
-        // When
-        aspect.logAfterSuccessfulRpcCall(joinPoint, result);
-
-        // Then
-        assertThat(listAppender.list)
-                .hasSize(1)
-                .extracting(ILoggingEvent::getLevel)
-                .containsExactly(Level.DEBUG);
-        
-        assertThat(listAppender.list.getFirst().getFormattedMessage())
-                .contains("GRPC-CLIENT", "Auth.validateToken completed successfully");
-    }
-
     // ========================================================================
     // Tests - Gestion des erreurs RPC
     // ========================================================================
@@ -150,94 +150,6 @@ class GrpcServerLoggingAspectTest {
                 .contains("GRPC", "stopped successfully");
     }
 
-    // ========================================================================
-    // Tests - Appels RPC entrants (getMemberConfirmationStatus)
-    // ========================================================================
-
-    @Test
-    @DisplayName("Doit logger avant getMemberConfirmationStatus")
-    void shouldLogBeforeGetMemberConfirmationStatus() {
-        // Given
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getName()).thenReturn("getMemberConfirmationStatus");
-
-        // When
-        aspect.logBeforeRpcCall(joinPoint);
-
-        // Then
-        assertThat(listAppender.list)
-                .hasSize(1)
-                .extracting(ILoggingEvent::getLevel)
-                .containsExactly(Level.INFO);
-        
-        assertThat(listAppender.list.getFirst().getFormattedMessage())
-                .contains("GRPC-RPC", "Received", "getMemberConfirmationStatus", "Auth module");
-    }
-
-    @Test
-    @DisplayName("Doit logger après getMemberConfirmationStatus réussi")
-    void shouldLogAfterSuccessfulGetMemberConfirmationStatus() {
-        // Given
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getName()).thenReturn("getMemberConfirmationStatus");
-
-        // When
-        aspect.logAfterSuccessfulRpcCall(joinPoint);
-
-        // Then
-        assertThat(listAppender.list)
-                .hasSize(1)
-                .extracting(ILoggingEvent::getLevel)
-                .containsExactly(Level.INFO);
-        
-        assertThat(listAppender.list.getFirst().getFormattedMessage())
-                .contains("GRPC-RPC", "getMemberConfirmationStatus", "completed successfully");
-    }
-
-    // ========================================================================
-    // Tests - Appels RPC entrants (autres méthodes en DEBUG)
-    // ========================================================================
-
-    @Test
-    @DisplayName("Doit logger avant un RPC standard en DEBUG")
-    void shouldLogBeforeStandardRpcCall() {
-        // Given
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getName()).thenReturn("checkMemberExists");
-
-        // When
-        aspect.logBeforeRpcCall(joinPoint);
-
-        // Then
-        assertThat(listAppender.list)
-                .hasSize(1)
-                .extracting(ILoggingEvent::getLevel)
-                .containsExactly(Level.DEBUG);
-        
-        assertThat(listAppender.list.getFirst().getFormattedMessage())
-                .contains("GRPC-RPC", "Received", "checkMemberExists");
-    }
-
-    @Test
-    @DisplayName("Doit logger après un RPC standard réussi en DEBUG")
-    void shouldLogAfterSuccessfulStandardRpcCall() {
-        // Given
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getName()).thenReturn("checkMemberExists");
-
-        // When
-        aspect.logAfterSuccessfulRpcCall(joinPoint);
-
-        // Then
-        assertThat(listAppender.list)
-                .hasSize(1)
-                .extracting(ILoggingEvent::getLevel)
-                .containsExactly(Level.DEBUG);
-        
-        assertThat(listAppender.list.getFirst().getFormattedMessage())
-                .contains("GRPC-RPC", "checkMemberExists", "completed successfully");
-    }
-
     // ========================================================================
     // Tests - Gestion des erreurs RPC
     // ========================================================================
@@ -76,73 +76,6 @@ class LoggingAspectTest {
         }
     }
 
-    // === TESTS POUR logServiceMethods ===
-
-    @Test
-    @DisplayName("logServiceMethods devrait logger l'exécution rapide")
-    void logServiceMethods_shouldLogFastExecution() throws Throwable {
-        // Given
-        when(proceedingJoinPoint.proceed()).thenReturn("result");
-
-        // When
-        Object result = aspect.logServiceMethods(proceedingJoinPoint);
-
-        // Then
-        assertThat(result).isEqualTo("result");
-        List<ILoggingEvent> logs = listAppender.list;
-        assertThat(logs).hasSizeGreaterThanOrEqualTo(2);
-
-        boolean hasStartLog = logs.stream()
-                .anyMatch(log -> log.getFormattedMessage().contains("SERVICE: Début"));
-        assertThat(hasStartLog).isTrue();
-
-        boolean hasSuccessLog = logs.stream()
-                .anyMatch(log -> log.getFormattedMessage().contains("SERVICE:")
-                        && log.getFormattedMessage().contains("Succès"));
-        assertThat(hasSuccessLog).isTrue();
-    }
-
-    @Test
-    @DisplayName("logServiceMethods devrait logger les exécutions lentes (>1s)")
-    void logServiceMethods_shouldLogSlowExecution() throws Throwable {
-        // Given
-        when(proceedingJoinPoint.proceed()).thenAnswer(invocation -> {
-            Thread.sleep(1100); // > 1 seconde
-            return "result";
-        });
-
-        // When
-        Object result = aspect.logServiceMethods(proceedingJoinPoint);
-
-        // Then
-        assertThat(result).isEqualTo("result");
-        List<ILoggingEvent> logs = listAppender.list;
-
-        boolean hasSlowWarning = logs.stream()
-                .anyMatch(log -> log.getLevel().equals(Level.WARN)
-                        && log.getFormattedMessage().contains("Exécution lente"));
-        assertThat(hasSlowWarning).isTrue();
-    }
-
-    @Test
-    @DisplayName("logServiceMethods devrait logger les exceptions")
-    void logServiceMethods_shouldLogException() throws Throwable {
-        // Given
-        Exception testException = new RuntimeException("Test error");
-        when(proceedingJoinPoint.proceed()).thenThrow(testException);
-
-        // When & Then
-        assertThatThrownBy(() -> aspect.logServiceMethods(proceedingJoinPoint))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessage("Test error");
-
-        List<ILoggingEvent> logs = listAppender.list;
-        boolean hasErrorLog = logs.stream()
-                .anyMatch(log -> log.getLevel().equals(Level.ERROR)
-                        && log.getFormattedMessage().contains("Échec"));
-        assertThat(hasErrorLog).isTrue();
-    }
-
     // === TESTS POUR logAnnotatedMethods ===
 
     @Test
@@ -302,21 +235,67 @@ class LoggingAspectTest {
         assertThat(hasErrorWithTime).isTrue();
     }
 
-    // === TESTS POUR logControllerAccess ===
+    @Test
+    @DisplayName("logAnnotatedMethods devrait logger au niveau demandé")
+    void logAnnotatedMethods_shouldUseConfiguredLevel() throws Throwable {
+        // Given
+        LogExecution logExecution = mock(LogExecution.class);
+        when(logExecution.value()).thenReturn("Operation");
+        when(logExecution.level()).thenReturn("WARN");
+        when(logExecution.includeExecutionTime()).thenReturn(false);
+        when(proceedingJoinPoint.proceed()).thenReturn("result");
+
+        // When
+        aspect.logAnnotatedMethods(proceedingJoinPoint, logExecution);
+
+        // Then
+        assertThat(listAppender.list)
+                .hasSize(2)
+                .extracting(ILoggingEvent::getLevel)
+                .containsOnly(Level.WARN);
+    }
 
     @Test
-    @DisplayName("logControllerAccess devrait logger en DEBUG")
-    void logControllerAccess_shouldLogDebug() {
+    @DisplayName("logAnnotatedMethods ne devrait rien construire si le niveau est désactivé")
+    void logAnnotatedMethods_shouldSkipDisabledLevel() throws Throwable {
+        // Given
+        logger.setLevel(Level.INFO);
+        LogExecution logExecution = mock(LogExecution.class);
+        when(logExecution.value()).thenReturn("");
+        when(logExecution.level()).thenReturn("DEBUG");
+        when(logExecution.includeParams()).thenReturn(true);
+        when(proceedingJoinPoint.proceed()).thenReturn("result");
+
         // When
-        aspect.logControllerAccess(joinPoint);
+        Object result = aspect.logAnnotatedMethods(proceedingJoinPoint, logExecution);
 
         // Then
-        List<ILoggingEvent> logs = listAppender.list;
-        assertThat(logs).hasSize(1);
-        assertThat(logs.getFirst().getLevel()).isEqualTo(Level.DEBUG);
-        assertThat(logs.getFirst().getFormattedMessage())
-                .contains("API:")
-                .contains("testMethod");
+        assertThat(result).isEqualTo("result");
+        assertThat(listAppender.list).isEmpty();
+        verify(proceedingJoinPoint, never()).getArgs();
+        verify(proceedingJoinPoint, never()).getTarget();
+    }
+
+    @Test
+    @DisplayName("logAnnotatedMethods devrait logger un échec même si le niveau est désactivé")
+    void logAnnotatedMethods_shouldLogFailureWhenLevelDisabled() throws Throwable {
+        // Given
+        logger.setLevel(Level.INFO);
+        LogExecution logExecution = mock(LogExecution.class);
+        when(logExecution.value()).thenReturn("Operation");
+        when(logExecution.level()).thenReturn("DEBUG");
+        when(proceedingJoinPoint.proceed()).thenThrow(new IllegalStateException("Boom"));
+
+        // When & Then
+        assertThatThrownBy(() -> aspect.logAnnotatedMethods(proceedingJoinPoint, logExecution))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(listAppender.list)
+                .singleElement()
+                .satisfies(log -> {
+                    assertThat(log.getLevel()).isEqualTo(Level.ERROR);
+                    assertThat(log.getFormattedMessage()).contains("Échec: Operation", "Boom");
+                });
     }
 
     // === TESTS POUR logUnhandledException ===
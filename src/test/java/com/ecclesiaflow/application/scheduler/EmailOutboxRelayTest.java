@@ -0,0 +1,202 @@
+package com.ecclesiaflow.application.scheduler;
+
+import com.ecclesiaflow.business.domain.communication.AsyncEmailClient;
+import com.ecclesiaflow.business.domain.communication.EmailOutbox;
+import com.ecclesiaflow.business.domain.communication.EmailSendResult;
+import com.ecclesiaflow.business.domain.communication.OutboundEmail;
+import com.ecclesiaflow.business.domain.communication.OutboxEntry;
+import com.ecclesiaflow.business.domain.communication.OutboxOutcome;
+import com.ecclesiaflow.business.domain.communication.OutboxStatus;
+import com.ecclesiaflow.business.exceptions.EmailServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxRelayTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    @Mock
+    private EmailOutbox emailOutbox;
+
+    @Mock
+    private AsyncEmailClient emailClient;
+
+    @Captor
+    private ArgumentCaptor<List<OutboxOutcome>> outcomes;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new EmailOutboxRelay(emailOutbox, emailClient, meterRegistry, "node-1",
+                2, 5, 1, 3, LEASE, Duration.ofSeconds(30), Duration.ofMinutes(5));
+    }
+
+    @Test
+    void shouldSendClaimedBatchesUntilOneComesBackPartial() {
+        OutboxEntry first = entry(1);
+        OutboxEntry second = entry(1);
+        OutboxEntry third = entry(1);
+        when(emailOutbox.claimDue(2, LEASE)).thenReturn(List.of(first, second), List.of(third));
+        UUID emailId = UUID.randomUUID();
+        when(emailClient.sendBatchAsync(any())).thenReturn(
+                completedFuture(List.of(EmailSendResult.accepted(emailId), EmailSendResult.accepted(UUID.randomUUID()))),
+                completedFuture(List.of(EmailSendResult.accepted(UUID.randomUUID()))));
+
+        relay.relay();
+
+        verify(emailClient).sendBatchAsync(List.of(first.email(), second.email()));
+        verify(emailClient).sendBatchAsync(List.of(third.email()));
+        verify(emailOutbox, times(2)).recordOutcomes(outcomes.capture());
+        assertThat(outcomes.getAllValues().getFirst().getFirst()).isEqualTo(OutboxOutcome.sent(first.id(), emailId));
+        assertThat(emails("sent")).isEqualTo(3);
+        assertThat(meterRegistry.get("ecclesiaflow.email.outbox.batch").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRetryRejectedEmailsWithBackoffAndFailThemAfterMaxAttempts() {
+        OutboxEntry secondAttempt = entry(2);
+        OutboxEntry lastAttempt = entry(3);
+        when(emailOutbox.claimDue(2, LEASE)).thenReturn(List.of(secondAttempt, lastAttempt), List.of());
+        when(emailClient.sendBatchAsync(any())).thenReturn(completedFuture(
+                List.of(EmailSendResult.rejected("mailbox full"), EmailSendResult.rejected("invalid address"))));
+
+        LocalDateTime before = LocalDateTime.now();
+        relay.relay();
+
+        verify(emailOutbox).recordOutcomes(outcomes.capture());
+        OutboxOutcome retry = outcomes.getValue().get(0);
+        assertThat(retry.status()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(retry.error()).isEqualTo("mailbox full");
+        assertThat(retry.nextAttemptAt()).isAfterOrEqualTo(before.plusMinutes(1));
+        assertThat(outcomes.getValue().get(1)).isEqualTo(OutboxOutcome.failed(lastAttempt.id(), "invalid address"));
+        assertThat(emails("retried")).isEqualTo(1);
+        assertThat(emails("failed")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRetryWholeBatchAndStopWhenTheCallFails() {
+        when(emailOutbox.claimDue(2, LEASE)).thenReturn(List.of(entry(1), entry(1)));
+        when(emailClient.sendBatchAsync(any())).thenReturn(failedFuture(
+                new EmailServiceUnavailableException("EmailService", new RuntimeException("circuit open"))));
+
+        relay.relay();
+
+        verify(emailOutbox, times(1)).claimDue(anyInt(), any());
+        verify(emailOutbox).recordOutcomes(outcomes.capture());
+        assertThat(outcomes.getValue())
+                .extracting(OutboxOutcome::status)
+                .containsOnly(OutboxStatus.PENDING);
+        assertThat(outcomes.getValue().getFirst().error()).isEqualTo("circuit open");
+        assertThat(emails("retried")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldStopAfterMaxBatchesPerRun() {
+        when(emailOutbox.claimDue(2, LEASE)).thenAnswer(invocation -> List.of(entry(1), entry(1)));
+        when(emailClient.sendBatchAsync(any())).thenAnswer(invocation -> completedFuture(
+                List.of(EmailSendResult.accepted(UUID.randomUUID()), EmailSendResult.accepted(UUID.randomUUID()))));
+
+        relay.relay();
+
+        verify(emailOutbox, times(5)).claimDue(2, LEASE);
+        assertThat(emails("sent")).isEqualTo(10);
+    }
+
+    @Test
+    void shouldClaimAndSendNextBatchWhileACallIsInFlight() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        EmailOutboxRelay pipelined = new EmailOutboxRelay(emailOutbox, emailClient, registry, "node-1",
+                2, 5, 2, 3, LEASE, Duration.ofSeconds(30), Duration.ofMinutes(5));
+        CompletableFuture<List<EmailSendResult>> firstCall = new CompletableFuture<>();
+        when(emailOutbox.claimDue(2, LEASE)).thenReturn(List.of(entry(1), entry(1)), List.of(entry(1)));
+        when(emailClient.sendBatchAsync(any())).thenAnswer(invocation -> {
+            if (invocation.<List<OutboundEmail>>getArgument(0).size() == 2) {
+                return firstCall;
+            }
+            assertThat(firstCall).isNotDone();
+            firstCall.complete(List.of(EmailSendResult.accepted(UUID.randomUUID()),
+                    EmailSendResult.accepted(UUID.randomUUID())));
+            return completedFuture(List.of(EmailSendResult.accepted(UUID.randomUUID())));
+        });
+
+        pipelined.relay();
+
+        verify(emailOutbox, times(2)).recordOutcomes(any());
+        assertThat(registry.get("ecclesiaflow.email.outbox.emails").tag("outcome", "sent").counter().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void shouldPublishDepthAndAgeOfPendingEmails() {
+        when(emailOutbox.claimDue(2, LEASE)).thenReturn(List.of());
+        when(emailOutbox.countPending()).thenReturn(42L);
+        when(emailOutbox.oldestPendingCreatedAt()).thenReturn(Optional.of(LocalDateTime.now().minusMinutes(3)));
+
+        relay.relay();
+
+        verifyNoInteractions(emailClient);
+        assertThat(meterRegistry.get("ecclesiaflow.email.outbox.depth").tag("node", "node-1").gauge().value())
+                .isEqualTo(42);
+        assertThat(meterRegistry.get("ecclesiaflow.email.outbox.age").gauge().value())
+                .isBetween(179.0, 181.0);
+    }
+
+    @Test
+    void shouldNotPropagateOutboxFailures() {
+        when(emailOutbox.claimDue(anyInt(), any())).thenThrow(new RuntimeException("lock wait timeout"));
+
+        relay.relay();
+
+        verify(emailOutbox, never()).recordOutcomes(any());
+    }
+
+    @Test
+    void backoffShouldDoubleAndBeCapped() {
+        assertThat(relay.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(relay.backoff(2)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(relay.backoff(4)).isEqualTo(Duration.ofMinutes(4));
+        assertThat(relay.backoff(5)).isEqualTo(Duration.ofMinutes(5));
+        assertThat(relay.backoff(60)).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    void shouldRejectNonPositiveBatchSize() {
+        assertThatThrownBy(() -> new EmailOutboxRelay(emailOutbox, emailClient, meterRegistry, "node-1",
+                0, 5, 1, 3, LEASE, Duration.ofSeconds(30), Duration.ofMinutes(5)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static OutboxEntry entry(int attempts) {
+        return new OutboxEntry(UUID.randomUUID(),
+                OutboundEmail.welcome(UUID.randomUUID() + "@example.com", "Jean"), attempts);
+    }
+
+    private double emails(String outcome) {
+        return meterRegistry.get("ecclesiaflow.email.outbox.emails").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,133 @@
+package com.ecclesiaflow.application.scheduler;
+
+import com.ecclesiaflow.business.domain.communication.EmailOutbox;
+import com.ecclesiaflow.business.domain.confirmation.MemberConfirmationRepository;
+import com.ecclesiaflow.business.domain.emailchange.PendingEmailChangeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiredTokenPurgeSchedulerTest {
+
+    @Mock
+    private MemberConfirmationRepository confirmationRepository;
+
+    @Mock
+    private PendingEmailChangeRepository pendingEmailChangeRepository;
+
+    @Mock
+    private EmailOutbox emailOutbox;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExpiredTokenPurgeScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new ExpiredTokenPurgeScheduler(confirmationRepository, pendingEmailChangeRepository,
+                emailOutbox, meterRegistry, "node-1", 100, 3, Duration.ofDays(7));
+    }
+
+    @Test
+    void shouldDeleteChunksUntilOneComesBackPartial() {
+        when(confirmationRepository.deleteExpiredConfirmations(any(LocalDateTime.class), eq(100)))
+                .thenReturn(100, 100, 40);
+        when(pendingEmailChangeRepository.deleteExpired(any(LocalDateTime.class), eq(100))).thenReturn(5);
+
+        scheduler.purgeExpired();
+
+        verify(confirmationRepository, times(3)).deleteExpiredConfirmations(any(LocalDateTime.class), eq(100));
+        verify(pendingEmailChangeRepository, times(1)).deleteExpired(any(LocalDateTime.class), eq(100));
+        assertThat(rows(ExpiredTokenPurgeScheduler.CONFIRMATIONS)).isEqualTo(240);
+        assertThat(rows(ExpiredTokenPurgeScheduler.EMAIL_CHANGES)).isEqualTo(5);
+        assertThat(meterRegistry.get("ecclesiaflow.purge.chunk")
+                .tag("table", ExpiredTokenPurgeScheduler.CONFIRMATIONS).timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldStopAfterMaxChunksAndReportBacklog() {
+        when(confirmationRepository.deleteExpiredConfirmations(any(LocalDateTime.class), anyInt())).thenReturn(100);
+        when(confirmationRepository.countExpiredConfirmations(any(LocalDateTime.class))).thenReturn(1_234L);
+
+        scheduler.purgeExpired();
+
+        verify(confirmationRepository, times(3)).deleteExpiredConfirmations(any(LocalDateTime.class), anyInt());
+        assertThat(rows(ExpiredTokenPurgeScheduler.CONFIRMATIONS)).isEqualTo(300);
+        assertThat(backlog(ExpiredTokenPurgeScheduler.CONFIRMATIONS)).isEqualTo(1_234);
+        assertThat(backlog(ExpiredTokenPurgeScheduler.EMAIL_CHANGES)).isZero();
+    }
+
+    @Test
+    void shouldUseSameCutoffForEveryChunk() {
+        when(confirmationRepository.deleteExpiredConfirmations(any(LocalDateTime.class), anyInt()))
+                .thenReturn(100, 0);
+
+        scheduler.purgeExpired();
+
+        verify(confirmationRepository, times(2)).deleteExpiredConfirmations(
+                argThat(cutoff -> !cutoff.isAfter(LocalDateTime.now())), eq(100));
+        verify(confirmationRepository).countExpiredConfirmations(any(LocalDateTime.class));
+    }
+
+    @Test
+    void failureOnOneTableShouldNotSkipTheOther() {
+        when(confirmationRepository.deleteExpiredConfirmations(any(LocalDateTime.class), anyInt()))
+                .thenThrow(new RuntimeException("lock wait timeout"));
+        when(pendingEmailChangeRepository.deleteExpired(any(LocalDateTime.class), anyInt())).thenReturn(2);
+
+        scheduler.purgeExpired();
+
+        assertThat(rows(ExpiredTokenPurgeScheduler.EMAIL_CHANGES)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPurgeOutboxEmailsSentBeforeRetention() {
+        when(emailOutbox.deleteSentBefore(any(LocalDateTime.class), eq(100))).thenReturn(12);
+
+        scheduler.purgeExpired();
+
+        verify(emailOutbox).deleteSentBefore(
+                argThat(cutoff -> !cutoff.isAfter(LocalDateTime.now().minusDays(7))), eq(100));
+        assertThat(rows(ExpiredTokenPurgeScheduler.EMAIL_OUTBOX)).isEqualTo(12);
+    }
+
+    @Test
+    void shouldTagMetricsWithNode() {
+        when(confirmationRepository.deleteExpiredConfirmations(any(LocalDateTime.class), anyInt())).thenReturn(7);
+
+        scheduler.purgeExpired();
+
+        assertThat(meterRegistry.get("ecclesiaflow.purge.rows")
+                .tags("table", ExpiredTokenPurgeScheduler.CONFIRMATIONS, "node", "node-1").counter().count())
+                .isEqualTo(7);
+    }
+
+    @Test
+    void shouldRejectNonPositiveChunkSize() {
+        assertThatThrownBy(() -> new ExpiredTokenPurgeScheduler(confirmationRepository,
+                pendingEmailChangeRepository, emailOutbox, meterRegistry, "node-1", 0, 3, Duration.ofDays(7)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private double rows(String table) {
+        return meterRegistry.get("ecclesiaflow.purge.rows").tag("table", table).counter().count();
+    }
+
+    private double backlog(String table) {
+        return meterRegistry.get("ecclesiaflow.purge.backlog").tag("table", table).gauge().value();
+    }
+}
@@ -0,0 +1,116 @@
+package com.ecclesiaflow.application.scheduler;
+
+import com.ecclesiaflow.business.domain.auth.AsyncAuthClient;
+import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberSearchIndex;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatus;
+import com.ecclesiaflow.io.persistence.cache.MemberLookupCache;
+import com.ecclesiaflow.io.persistence.cache.MemberStatusCache;
+import com.ecclesiaflow.io.persistence.jpa.MemberEntity;
+import com.ecclesiaflow.io.persistence.jpa.SpringDataMemberRepository;
+import com.ecclesiaflow.io.persistence.mappers.MemberPersistenceMapperImpl;
+import com.ecclesiaflow.io.persistence.repositories.impl.MemberRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs {@link MemberCleanupScheduler} and the member writes it relies on against H2
+ * without a test-managed transaction, as the scheduler runs them: a bulk UPDATE that
+ * is not covered by a real transaction fails with {@code TransactionRequiredException}.
+ */
+@DataJpaTest(properties = "ecclesiaflow.members.cache.enabled=false")
+@Import({MemberRepositoryImpl.class, MemberPersistenceMapperImpl.class, MemberLookupCache.class,
+        MemberStatusCache.class, MemberCleanupSchedulerJpaTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberCleanupSchedulerJpaTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        MemberSearchIndex memberSearchIndex() {
+            return mock(MemberSearchIndex.class);
+        }
+    }
+
+    @Autowired
+    private MemberRepositoryImpl memberRepository;
+
+    @Autowired
+    private SpringDataMemberRepository springDataRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final AsyncAuthClient authClient = mock(AsyncAuthClient.class);
+
+    @AfterEach
+    void tearDown() {
+        springDataRepository.deleteAll();
+    }
+
+    @Test
+    void anonymizeExpiredDeactivatedMembers_shouldCommitAnonymizationWithoutCallerTransaction() {
+        MemberEntity expired = persist("expired@example.com", "kc-expired", MemberStatus.DEACTIVATED);
+        when(authClient.deleteKeycloakUserAsync("kc-expired")).thenReturn(CompletableFuture.completedFuture(null));
+
+        scheduler().anonymizeExpiredDeactivatedMembers();
+
+        MemberEntity reloaded = springDataRepository.findById(expired.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(MemberStatus.INACTIVE);
+        assertThat(reloaded.getFirstName()).isEqualTo("DELETED");
+        assertThat(reloaded.getKeycloakUserId()).isNull();
+        assertThat(reloaded.getAnonymizedAt()).isNotNull();
+    }
+
+    @Test
+    void update_shouldCommitWithoutCallerTransaction() {
+        MemberEntity entity = persist("alice@example.com", "kc-alice", MemberStatus.ACTIVE);
+        Member member = memberRepository.getByMemberId(entity.getMemberId()).orElseThrow();
+
+        memberRepository.update(member, member.toBuilder().firstName("Alicia").build());
+
+        assertThat(springDataRepository.findById(entity.getId()).orElseThrow().getFirstName()).isEqualTo("Alicia");
+    }
+
+    private MemberCleanupScheduler scheduler() {
+        return new MemberCleanupScheduler(memberRepository, authClient, mock(MemberStatisticsRepository.class),
+                transactionManager, new SimpleMeterRegistry(), "node-test", 30, 200, 8, Duration.ofMinutes(15));
+    }
+
+    private MemberEntity persist(String email, String keycloakUserId, MemberStatus status) {
+        return springDataRepository.save(MemberEntity.builder()
+                .memberId(UUID.randomUUID())
+                .firstName("Bob")
+                .lastName("Martin")
+                .email(email)
+                .keycloakUserId(keycloakUserId)
+                .status(status)
+                .deactivatedAt(status == MemberStatus.DEACTIVATED ? LocalDateTime.now().minusDays(40) : null)
+                .build());
+    }
+}
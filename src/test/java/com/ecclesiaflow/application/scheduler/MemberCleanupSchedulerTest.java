@@ -1,38 +1,66 @@
 package com.ecclesiaflow.application.scheduler;
 
-import com.ecclesiaflow.business.domain.auth.AuthClient;
+import com.ecclesiaflow.business.domain.auth.AsyncAuthClient;
 import com.ecclesiaflow.business.domain.member.Member;
 import com.ecclesiaflow.business.domain.member.MemberRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsRepository;
 import com.ecclesiaflow.business.domain.member.MemberStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class MemberCleanupSchedulerTest {
 
+    private static final int CHUNK_SIZE = 2;
+    private static final String NODE = "node-1";
+    private static final Duration LEASE = Duration.ofMinutes(15);
+
     @Mock
     private MemberRepository memberRepository;
 
     @Mock
-    private AuthClient authClient;
+    private AsyncAuthClient authClient;
+
+    @Mock
+    private MemberStatisticsRepository statisticsRepository;
 
-    @InjectMocks
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
     private MemberCleanupScheduler scheduler;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new MemberCleanupScheduler(memberRepository, authClient, statisticsRepository, transactionManager,
+                meterRegistry, NODE, 30, CHUNK_SIZE, 4, LEASE);
+        lenient().when(memberRepository.anonymizeDeactivated(anyList(), any(LocalDateTime.class)))
+                .thenAnswer(inv -> inv.getArgument(0));
+        lenient().when(authClient.deleteKeycloakUserAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+    }
+
     private Member buildDeactivatedMember(String keycloakUserId) {
         return Member.builder()
                 .id(UUID.randomUUID())
@@ -40,8 +68,6 @@ class MemberCleanupSchedulerTest {
                 .firstName("John")
                 .lastName("Doe")
                 .email("john@example.com")
-                .address("123 Main St")
-                .phoneNumber("+1234567890")
                 .keycloakUserId(keycloakUserId)
                 .status(MemberStatus.DEACTIVATED)
                 .deactivatedAt(LocalDateTime.now().minusDays(31))
@@ -49,125 +75,208 @@ class MemberCleanupSchedulerTest {
     }
 
     @Test
-    void shouldAnonymizePiiFields() {
-        ReflectionTestUtils.setField(scheduler, "gracePeriodDays", 30);
-        Member member = buildDeactivatedMember("kc-123");
+    void shouldAnonymizeChunkBeforeDeletingKeycloakUsers() {
+        Member member = buildDeactivatedMember("kc-456");
+        when(memberRepository.claimDeactivatedBefore(any(LocalDateTime.class), eq(NODE), eq(LEASE), eq(CHUNK_SIZE)))
+                .thenReturn(List.of(member));
+
+        scheduler.anonymizeExpiredDeactivatedMembers();
+
+        var inOrder = inOrder(authClient, memberRepository, statisticsRepository);
+        inOrder.verify(memberRepository).anonymizeDeactivated(eq(List.of(member)), any(LocalDateTime.class));
+        inOrder.verify(statisticsRepository).apply(argThat(delta -> delta.byStatus().equals(
+                Map.of(MemberStatus.DEACTIVATED, -1L, MemberStatus.INACTIVE, 1L))));
+        inOrder.verify(authClient).deleteKeycloakUserAsync("kc-456");
+        inOrder.verify(memberRepository).clearKeycloakUserIds(List.of(member));
+    }
 
-        when(memberRepository.findDeactivatedBefore(any(LocalDateTime.class)))
+    @Test
+    void shouldKeepKeycloakUserOfMemberReactivatedConcurrently() {
+        Member member = buildDeactivatedMember("kc-456");
+        when(memberRepository.claimDeactivatedBefore(any(LocalDateTime.class), eq(NODE), eq(LEASE), eq(CHUNK_SIZE)))
                 .thenReturn(List.of(member));
-        when(memberRepository.save(any(Member.class))).thenAnswer(inv -> inv.getArgument(0));
+        // Reactivated between the claim and the anonymization UPDATE
+        when(memberRepository.anonymizeDeactivated(anyList(), any(LocalDateTime.class))).thenReturn(List.of());
 
         scheduler.anonymizeExpiredDeactivatedMembers();
 
-        ArgumentCaptor<Member> captor = ArgumentCaptor.forClass(Member.class);
-        verify(memberRepository).save(captor.capture());
+        verify(authClient, never()).deleteKeycloakUserAsync(any());
+        verify(memberRepository).clearKeycloakUserIds(List.of());
+        assertThat(members("anonymized")).isZero();
+    }
+
+    @Test
+    void shouldRetryKeycloakDeletionOfMemberAlreadyAnonymized() {
+        Member leftover = buildDeactivatedMember("kc-left").toBuilder().status(MemberStatus.INACTIVE).build();
+        when(memberRepository.claimDeactivatedBefore(any(LocalDateTime.class), eq(NODE), eq(LEASE), eq(CHUNK_SIZE)))
+                .thenReturn(List.of(leftover));
+        when(memberRepository.anonymizeDeactivated(anyList(), any(LocalDateTime.class))).thenReturn(List.of());
 
-        Member anonymized = captor.getValue();
-        assertThat(anonymized.getFirstName()).isEqualTo("DELETED");
-        assertThat(anonymized.getLastName()).isEqualTo("DELETED");
-        assertThat(anonymized.getEmail()).startsWith("deleted+").endsWith("@anonymized.local");
-        assertThat(anonymized.getAddress()).isNull();
-        assertThat(anonymized.getPhoneNumber()).isNull();
-        assertThat(anonymized.getKeycloakUserId()).isNull();
-        assertThat(anonymized.getStatus()).isEqualTo(MemberStatus.INACTIVE);
-        assertThat(anonymized.getAnonymizedAt()).isNotNull();
+        scheduler.anonymizeExpiredDeactivatedMembers();
+
+        verify(authClient).deleteKeycloakUserAsync("kc-left");
+        verify(memberRepository).clearKeycloakUserIds(List.of(leftover));
+        assertThat(members("anonymized")).isZero();
     }
 
     @Test
-    void shouldDeleteKeycloakUserBeforeAnonymizing() {
-        ReflectionTestUtils.setField(scheduler, "gracePeriodDays", 30);
-        String keycloakUserId = "kc-456";
-        Member member = buildDeactivatedMember(keycloakUserId);
+    void shouldFinishInterruptedMemberDeletion() {
+        Member deleting = buildDeactivatedMember("kc-del").toBuilder().status(MemberStatus.DELETING).build();
+        when(memberRepository.claimDeactivatedBefore(any(LocalDateTime.class), eq(NODE), eq(LEASE), eq(CHUNK_SIZE)))
+                .thenReturn(List.of(deleting));
+        when(memberRepository.anonymizeDeactivated(anyList(), any(LocalDateTime.class))).thenReturn(List.of());
 
-        when(memberRepository.findDeactivatedBefore(any(LocalDateTime.class)))
-                .thenReturn(List.of(member));
-        when(memberRepository.save(any(Member.class))).thenAnswer(inv -> inv.getArgument(0));
+        scheduler.anonymizeExpiredDeactivatedMembers();
+
+        var inOrder = inOrder(authClient, memberRepository, statisticsRepository);
+        inOrder.verify(authClient).deleteKeycloakUserAsync("kc-del");
+        inOrder.verify(memberRepository).clearKeycloakUserIds(List.of());
+        inOrder.verify(memberRepository).delete(deleting);
+        inOrder.verify(statisticsRepository).apply(argThat(delta ->
+                delta.byStatus().equals(Map.of(MemberStatus.DELETING, -1L))));
+        assertThat(members("deleted")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepDeletingMemberWhoseKeycloakDeletionFailed() {
+        Member deleting = buildDeactivatedMember("kc-del").toBuilder().status(MemberStatus.DELETING).build();
+        when(memberRepository.claimDeactivatedBefore(any(LocalDateTime.class), eq(NODE), eq(LEASE), eq(CHUNK_SIZE)))
+                .thenReturn(List.of(deleting));
+        when(memberRepository.anonymizeDeactivated(anyList(), any(LocalDateTime.class))).thenReturn(List.of());
+        when(authClient.deleteKeycloakUserAsync("kc-del"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Keycloak down")));
 
         scheduler.anonymizeExpiredDeactivatedMembers();
 
-        var inOrder = inOrder(authClient, memberRepository);
-        inOrder.verify(authClient).deleteKeycloakUser(keycloakUserId);
-        inOrder.verify(memberRepository).save(any(Member.class));
+        verify(memberRepository, never()).delete(any());
+        assertThat(members("deleted")).isZero();
+        assertThat(members("failed")).isEqualTo(1);
     }
 
     @Test
     void shouldSkipKeycloakDeletionWhenUserIdIsNull() {
-        ReflectionTestUtils.setField(scheduler, "gracePeriodDays", 30);
         Member member = buildDeactivatedMember(null);
-
-        when(memberRepository.findDeactivatedBefore(any(LocalDateTime.class)))
+        when(memberRepository.claimDeactivatedBefore(any(LocalDateTime.class), eq(NODE), eq(LEASE), eq(CHUNK_SIZE)))
                 .thenReturn(List.of(member));
-        when(memberRepository.save(any(Member.class))).thenAnswer(inv -> inv.getArgument(0));
 
         scheduler.anonymizeExpiredDeactivatedMembers();
 
-        verify(authClient, never()).deleteKeycloakUser(any());
-        verify(memberRepository).save(any(Member.class));
+        verify(authClient, never()).deleteKeycloakUserAsync(any());
+        verify(memberRepository).anonymizeDeactivated(eq(List.of(member)), any(LocalDateTime.class));
+        assertThat(members("anonymized")).isEqualTo(1);
     }
 
     @Test
     void shouldDoNothingWhenNoExpiredMembers() {
-        ReflectionTestUtils.setField(scheduler, "gracePeriodDays", 30);
-
-        when(memberRepository.findDeactivatedBefore(any(LocalDateTime.class)))
-                .thenReturn(Collections.emptyList());
+        when(memberRepository.claimDeactivatedBefore(any(LocalDateTime.class), eq(NODE), eq(LEASE), eq(CHUNK_SIZE)))
+                .thenReturn(List.of());
 
         scheduler.anonymizeExpiredDeactivatedMembers();
 
-        verify(authClient, never()).deleteKeycloakUser(any());
-        verify(memberRepository, never()).save(any());
+        verify(authClient, never()).deleteKeycloakUserAsync(any());
+        verify(memberRepository, never()).anonymizeDeactivated(anyList(), any());
     }
 
     @Test
-    void shouldContinueProcessingOnFailure() {
-        ReflectionTestUtils.setField(scheduler, "gracePeriodDays", 30);
-        Member member1 = buildDeactivatedMember("kc-fail");
-        Member member2 = buildDeactivatedMember("kc-success");
-
-        when(memberRepository.findDeactivatedBefore(any(LocalDateTime.class)))
-                .thenReturn(List.of(member1, member2));
-        doThrow(new RuntimeException("Keycloak down"))
-                .when(authClient).deleteKeycloakUser("kc-fail");
-        when(memberRepository.save(any(Member.class))).thenAnswer(inv -> inv.getArgument(0));
+    void shouldKeepKeycloakUserIdOfMembersWhoseKeycloakDeletionFailed() {
+        Member failing = buildDeactivatedMember("kc-fail");
+        Member succeeding = buildDeactivatedMember("kc-success");
+        when(memberRepository.claimDeactivatedBefore(any(LocalDateTime.class), eq(NODE), eq(LEASE), eq(CHUNK_SIZE)))
+                .thenReturn(List.of(failing, succeeding), List.of());
+        when(authClient.deleteKeycloakUserAsync("kc-fail"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Keycloak down")));
 
         scheduler.anonymizeExpiredDeactivatedMembers();
 
-        // Second member should still be processed despite first failure
-        verify(authClient).deleteKeycloakUser("kc-success");
-        verify(memberRepository).save(any(Member.class));
+        verify(authClient).deleteKeycloakUserAsync("kc-success");
+        verify(memberRepository).anonymizeDeactivated(eq(List.of(failing, succeeding)), any(LocalDateTime.class));
+        verify(memberRepository).clearKeycloakUserIds(List.of(succeeding));
+        assertThat(members("failed")).isEqualTo(1);
+        assertThat(members("anonymized")).isEqualTo(2);
     }
 
     @Test
-    void shouldSetStatusToInactive() {
-        ReflectionTestUtils.setField(scheduler, "gracePeriodDays", 30);
-        Member member = buildDeactivatedMember("kc-789");
-
-        when(memberRepository.findDeactivatedBefore(any(LocalDateTime.class)))
-                .thenReturn(List.of(member));
-        when(memberRepository.save(any(Member.class))).thenAnswer(inv -> inv.getArgument(0));
+    void shouldClaimChunksUntilOneComesBackPartial() {
+        Member m1 = buildDeactivatedMember("kc-1");
+        Member m2 = buildDeactivatedMember("kc-2");
+        Member m3 = buildDeactivatedMember("kc-3");
+        when(memberRepository.claimDeactivatedBefore(any(LocalDateTime.class), eq(NODE), eq(LEASE), eq(CHUNK_SIZE)))
+                .thenReturn(List.of(m1, m2), List.of(m3));
 
         scheduler.anonymizeExpiredDeactivatedMembers();
 
-        ArgumentCaptor<Member> captor = ArgumentCaptor.forClass(Member.class);
-        verify(memberRepository).save(captor.capture());
-
-        assertThat(captor.getValue().getStatus()).isEqualTo(MemberStatus.INACTIVE);
+        verify(memberRepository, times(2))
+                .claimDeactivatedBefore(any(LocalDateTime.class), eq(NODE), eq(LEASE), eq(CHUNK_SIZE));
+        verify(authClient, times(3)).deleteKeycloakUserAsync(any());
+        verify(memberRepository, times(2)).anonymizeDeactivated(anyList(), any(LocalDateTime.class));
+        assertThat(members("anonymized")).isEqualTo(3);
+        assertThat(meterRegistry.get("ecclesiaflow.cleanup.chunk").tag("node", NODE).timer().count()).isEqualTo(2);
     }
 
     @Test
-    void shouldProcessMultipleMembers() {
-        ReflectionTestUtils.setField(scheduler, "gracePeriodDays", 30);
-        Member member1 = buildDeactivatedMember("kc-1");
-        Member member2 = buildDeactivatedMember("kc-2");
-        Member member3 = buildDeactivatedMember("kc-3");
+    void shouldStopWhenClaimFails() {
+        Member m1 = buildDeactivatedMember("kc-1");
+        Member m2 = buildDeactivatedMember("kc-2");
+        when(memberRepository.claimDeactivatedBefore(any(LocalDateTime.class), eq(NODE), eq(LEASE), eq(CHUNK_SIZE)))
+                .thenReturn(List.of(m1, m2))
+                .thenThrow(new RuntimeException("DB down"));
 
-        when(memberRepository.findDeactivatedBefore(any(LocalDateTime.class)))
-                .thenReturn(List.of(member1, member2, member3));
-        when(memberRepository.save(any(Member.class))).thenAnswer(inv -> inv.getArgument(0));
+        scheduler.anonymizeExpiredDeactivatedMembers();
+
+        verify(memberRepository, times(1)).anonymizeDeactivated(anyList(), any(LocalDateTime.class));
+        assertThat(members("anonymized")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDeleteKeycloakUsersConcurrently() {
+        Member m1 = buildDeactivatedMember("kc-1");
+        Member m2 = buildDeactivatedMember("kc-2");
+        when(memberRepository.claimDeactivatedBefore(any(LocalDateTime.class), eq(NODE), eq(LEASE), eq(CHUNK_SIZE)))
+                .thenReturn(List.of(m1, m2), List.of());
+        CompletableFuture<Void> first = new CompletableFuture<>();
+        when(authClient.deleteKeycloakUserAsync("kc-1")).thenReturn(first);
+        when(authClient.deleteKeycloakUserAsync("kc-2")).thenAnswer(inv -> {
+            // Issued while the first deletion is still in flight
+            assertThat(first).isNotDone();
+            first.complete(null);
+            return CompletableFuture.completedFuture(null);
+        });
 
         scheduler.anonymizeExpiredDeactivatedMembers();
 
-        verify(authClient, times(3)).deleteKeycloakUser(any());
-        verify(memberRepository, times(3)).save(any(Member.class));
+        verify(memberRepository).clearKeycloakUserIds(List.of(m1, m2));
+        assertThat(members("anonymized")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldWaitForAPermitBeforeIssuingMoreDeletionsThanTheConcurrency() {
+        MemberCleanupScheduler oneAtATime = new MemberCleanupScheduler(memberRepository, authClient,
+                statisticsRepository, transactionManager, meterRegistry, NODE, 30, CHUNK_SIZE, 1, LEASE);
+        Member m1 = buildDeactivatedMember("kc-1");
+        Member m2 = buildDeactivatedMember("kc-2");
+        when(memberRepository.claimDeactivatedBefore(any(LocalDateTime.class), eq(NODE), eq(LEASE), eq(CHUNK_SIZE)))
+                .thenReturn(List.of(m1, m2), List.of());
+        CompletableFuture<Void> first = new CompletableFuture<>();
+        when(authClient.deleteKeycloakUserAsync("kc-1")).thenReturn(first);
+
+        CompletableFuture<Void> run = CompletableFuture.runAsync(oneAtATime::anonymizeExpiredDeactivatedMembers);
+
+        verify(authClient, timeout(5000)).deleteKeycloakUserAsync("kc-1");
+        verify(authClient, after(200).never()).deleteKeycloakUserAsync("kc-2");
+        first.complete(null);
+        assertThat(run).succeedsWithin(Duration.ofSeconds(5));
+        verify(authClient).deleteKeycloakUserAsync("kc-2");
+        verify(memberRepository).clearKeycloakUserIds(List.of(m1, m2));
+    }
+
+    @Test
+    void shouldRejectNonPositiveChunkSize() {
+        assertThatThrownBy(() -> new MemberCleanupScheduler(memberRepository, authClient, statisticsRepository,
+                transactionManager, meterRegistry, NODE, 30, 0, 4, LEASE)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private double members(String outcome) {
+        return meterRegistry.get("ecclesiaflow.cleanup.members")
+                .tags("node", NODE, "outcome", outcome).counter().count();
     }
 }
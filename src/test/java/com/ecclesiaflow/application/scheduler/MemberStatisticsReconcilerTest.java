@@ -0,0 +1,70 @@
+package com.ecclesiaflow.application.scheduler;
+
+import com.ecclesiaflow.business.domain.member.MemberStatistics;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatus;
+import com.ecclesiaflow.business.domain.member.SocialProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberStatisticsReconcilerTest {
+
+    @Mock
+    private MemberStatisticsRepository statisticsRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemberStatisticsReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new MemberStatisticsReconciler(statisticsRepository, meterRegistry, "node-1");
+    }
+
+    @Test
+    void shouldRecordDriftBetweenCountersAndRecount() {
+        when(statisticsRepository.get()).thenReturn(new MemberStatistics(
+                Map.of(MemberStatus.ACTIVE, 10L), Map.of(SocialProvider.GOOGLE, 2L), 4L));
+        when(statisticsRepository.reconcile()).thenReturn(new MemberStatistics(
+                Map.of(MemberStatus.ACTIVE, 9L, MemberStatus.INACTIVE, 1L), Map.of(SocialProvider.GOOGLE, 2L), 5L));
+
+        reconciler.reconcile();
+
+        verify(statisticsRepository).reconcile();
+        assertThat(drift()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRecordNoDriftWhenCountersMatch() {
+        MemberStatistics statistics = new MemberStatistics(Map.of(MemberStatus.ACTIVE, 10L), Map.of(), 0L);
+        when(statisticsRepository.get()).thenReturn(statistics);
+        when(statisticsRepository.reconcile()).thenReturn(statistics);
+
+        reconciler.run(null);
+
+        assertThat(drift()).isZero();
+    }
+
+    @Test
+    void shouldNotPropagateReconciliationFailure() {
+        when(statisticsRepository.get()).thenThrow(new RuntimeException("DB down"));
+
+        assertThatCode(() -> reconciler.reconcile()).doesNotThrowAnyException();
+        verify(statisticsRepository, never()).reconcile();
+    }
+
+    private double drift() {
+        return meterRegistry.get("ecclesiaflow.stats.drift").tag("node", "node-1").counter().count();
+    }
+}
@@ -0,0 +1,96 @@
+package com.ecclesiaflow.business.domain.identity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    @Test
+    void generate_shouldSetVersionVariantAndCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, after + 1);
+    }
+
+    @Test
+    void generate_shouldBeStrictlyIncreasingWithinSameMillisecond() {
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            uuids.add(UuidV7.generate());
+        }
+
+        List<UUID> sorted = new ArrayList<>(uuids);
+        Collections.sort(sorted);
+        assertThat(uuids).isEqualTo(sorted).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void generate_shouldStayMonotonicWhenClockStepsBack() {
+        AtomicLong state = new AtomicLong();
+        long now = System.currentTimeMillis();
+        UUID first = UuidV7.of(UuidV7.nextTimestamp(state, now), 0L);
+        UUID second = UuidV7.of(UuidV7.nextTimestamp(state, now - 1_000), 0L);
+
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    void generate_shouldCarryCounterOverflowIntoTimestamp() {
+        AtomicLong state = new AtomicLong();
+        long millis = System.currentTimeMillis();
+        UUID last = null;
+        for (int i = 0; i <= 4096; i++) {
+            last = UuidV7.of(UuidV7.nextTimestamp(state, millis), 0L);
+        }
+
+        assertThat(last.getMostSignificantBits() >>> 16).isEqualTo(millis + 1);
+        assertThat(last.version()).isEqualTo(7);
+    }
+
+    @Test
+    void generate_shouldNotCollideAcrossThreads() throws InterruptedException {
+        Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                Set<UUID> local = new HashSet<>();
+                UUID previous = null;
+                for (int i = 0; i < perThread; i++) {
+                    UUID uuid = UuidV7.generate();
+                    assertThat(previous == null || uuid.compareTo(previous) > 0).isTrue();
+                    previous = uuid;
+                    local.add(uuid);
+                }
+                uuids.addAll(local);
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(uuids).hasSize(threads * perThread);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ecclesiaflow.business.domain.member;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberStatisticsDeltaTest {
+
+    @Test
+    void added_ShouldCountStatusProviderAndLocalCredentials() {
+        Member member = Member.builder()
+                .status(MemberStatus.ACTIVE)
+                .socialProvider(SocialProvider.GOOGLE)
+                .hasLocalCredentials(true)
+                .build();
+
+        MemberStatisticsDelta delta = MemberStatisticsDelta.added(member);
+
+        assertEquals(Map.of(MemberStatus.ACTIVE, 1L), delta.byStatus());
+        assertEquals(Map.of(SocialProvider.GOOGLE, 1L), delta.bySocialProvider());
+        assertEquals(1, delta.withLocalCredentials());
+    }
+
+    @Test
+    void changed_ShouldKeepOnlyCountersThatMove() {
+        Member before = Member.builder().status(MemberStatus.CONFIRMED).socialProvider(SocialProvider.FACEBOOK).build();
+        Member after = before.toBuilder().status(MemberStatus.ACTIVE).build();
+
+        MemberStatisticsDelta delta = MemberStatisticsDelta.changed(before, after);
+
+        assertEquals(Map.of(MemberStatus.CONFIRMED, -1L, MemberStatus.ACTIVE, 1L), delta.byStatus());
+        assertTrue(delta.bySocialProvider().isEmpty());
+        assertEquals(0, delta.withLocalCredentials());
+    }
+
+    @Test
+    void changed_ShouldBeEmptyWhenNothingCountedChanged() {
+        Member before = Member.builder().status(MemberStatus.ACTIVE).firstName("John").build();
+        Member after = before.toBuilder().firstName("Johnny").build();
+
+        assertTrue(MemberStatisticsDelta.changed(before, after).isEmpty());
+    }
+
+    @Test
+    void removed_ShouldDecrementEveryCounter() {
+        Member member = Member.builder()
+                .status(MemberStatus.DEACTIVATED)
+                .socialProvider(SocialProvider.MICROSOFT)
+                .hasLocalCredentials(true)
+                .build();
+
+        MemberStatisticsDelta delta = MemberStatisticsDelta.removed(member);
+
+        assertEquals(Map.of(MemberStatus.DEACTIVATED, -1L), delta.byStatus());
+        assertEquals(Map.of(SocialProvider.MICROSOFT, -1L), delta.bySocialProvider());
+        assertEquals(-1, delta.withLocalCredentials());
+    }
+
+    @Test
+    void addedCollection_ShouldSumMembers() {
+        MemberStatisticsDelta delta = MemberStatisticsDelta.added(List.of(
+                Member.builder().build(), Member.builder().build()));
+
+        assertEquals(Map.of(MemberStatus.PENDING, 2L), delta.byStatus());
+    }
+
+    @Test
+    void statusChanged_ShouldMoveCount() {
+        MemberStatisticsDelta delta = MemberStatisticsDelta.statusChanged(MemberStatus.DEACTIVATED, MemberStatus.INACTIVE, 3);
+
+        assertEquals(Map.of(MemberStatus.DEACTIVATED, -3L, MemberStatus.INACTIVE, 3L), delta.byStatus());
+        assertTrue(MemberStatisticsDelta.statusChanged(MemberStatus.DEACTIVATED, MemberStatus.INACTIVE, 0).isEmpty());
+    }
+}
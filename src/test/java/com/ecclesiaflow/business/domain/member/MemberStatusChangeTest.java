@@ -0,0 +1,80 @@
+package com.ecclesiaflow.business.domain.member;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberStatusChangeTest {
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = Member.builder()
+                .id(UUID.randomUUID())
+                .memberId(UUID.randomUUID())
+                .firstName("John")
+                .email("john.doe@test.com")
+                .keycloakUserId("kc-old")
+                .confirmedAt(LocalDateTime.now().minusDays(3))
+                .deactivatedAt(LocalDateTime.now().minusDays(1))
+                .status(MemberStatus.DEACTIVATED)
+                .build();
+    }
+
+    @Test
+    void confirm_ShouldMovePendingToConfirmedWithTimestamp() {
+        LocalDateTime at = LocalDateTime.now();
+
+        Member confirmed = MemberStatusChange.confirm(at).applyTo(member);
+
+        assertEquals(MemberStatus.CONFIRMED, confirmed.getStatus());
+        assertEquals(at, confirmed.getConfirmedAt());
+        assertEquals(MemberStatus.PENDING, MemberStatusChange.confirm(at).from());
+    }
+
+    @Test
+    void activate_ShouldLinkKeycloakAccountAndKeepConfirmation() {
+        Member activated = MemberStatusChange.activate("kc-new").applyTo(member);
+
+        assertEquals(MemberStatus.ACTIVE, activated.getStatus());
+        assertEquals("kc-new", activated.getKeycloakUserId());
+        assertEquals(member.getConfirmedAt(), activated.getConfirmedAt());
+    }
+
+    @Test
+    void deactivate_ShouldExpectGivenStatusAndRecordTimestamp() {
+        LocalDateTime at = LocalDateTime.now();
+        MemberStatusChange change = MemberStatusChange.deactivate(MemberStatus.ACTIVE, at);
+
+        assertEquals(MemberStatus.ACTIVE, change.from());
+        assertEquals(at, change.applyTo(member).getDeactivatedAt());
+    }
+
+    @Test
+    void startAndCancelDeletion_ShouldRestoreStatusAndKeepKeycloakUserAndDeactivation() {
+        MemberStatusChange start = MemberStatusChange.startDeletion(member);
+        Member deleting = start.applyTo(member);
+        Member restored = MemberStatusChange.cancelDeletion(member).applyTo(deleting);
+
+        assertEquals(MemberStatus.DEACTIVATED, start.from());
+        assertEquals(MemberStatus.DELETING, deleting.getStatus());
+        assertEquals("kc-old", deleting.getKeycloakUserId());
+        assertEquals(MemberStatus.DEACTIVATED, restored.getStatus());
+        assertEquals(member.getDeactivatedAt(), restored.getDeactivatedAt());
+    }
+
+    @Test
+    void reactivate_ShouldClearDeactivationAndKeepOtherFields() {
+        Member reactivated = MemberStatusChange.reactivate().applyTo(member);
+
+        assertEquals(MemberStatus.ACTIVE, reactivated.getStatus());
+        assertNull(reactivated.getDeactivatedAt());
+        assertEquals("kc-old", reactivated.getKeycloakUserId());
+        assertEquals(member.getId(), reactivated.getId());
+    }
+}
@@ -0,0 +1,59 @@
+package com.ecclesiaflow.business.security;
+
+import com.ecclesiaflow.web.delegate.MembersManagementDelegate;
+import com.ecclesiaflow.web.delegate.MembersTemporaryDelegate;
+import com.ecclesiaflow.web.delegate.SocialOnboardingDelegate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequireScopesVerifierTest {
+
+    static class ValidEndpoints {
+        @RequireScopes({ScopeRegistry.MEMBERS_READ_OWN, ScopeRegistry.MEMBERS_READ_ALL})
+        public void read() {}
+
+        public void unannotated() {}
+    }
+
+    static class InvalidEndpoints {
+        @RequireScopes({ScopeRegistry.MEMBERS_READ_OWN, "ef:admin"})
+        public void unknownScope() {}
+
+        @RequireScopes({})
+        public void noScope() {}
+    }
+
+    @Test
+    void afterSingletonsInstantiated_shouldAcceptTheApplicationDelegates() {
+        DefaultListableBeanFactory beanFactory = beanFactory(MembersManagementDelegate.class,
+                MembersTemporaryDelegate.class, SocialOnboardingDelegate.class, ValidEndpoints.class);
+
+        assertThatCode(() -> new RequireScopesVerifier(beanFactory).afterSingletonsInstantiated())
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void afterSingletonsInstantiated_shouldFailOnUnknownOrMissingScopes() {
+        DefaultListableBeanFactory beanFactory = beanFactory(ValidEndpoints.class, InvalidEndpoints.class);
+
+        assertThatThrownBy(() -> new RequireScopesVerifier(beanFactory).afterSingletonsInstantiated())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("unknownScope()")
+                .hasMessageContaining("Unknown scope: ef:admin")
+                .hasMessageContaining("noScope()")
+                .hasMessageContaining("no scope declared");
+    }
+
+    /** Registers the definitions only: the verifier reads bean types without creating the beans. */
+    private static DefaultListableBeanFactory beanFactory(Class<?>... types) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        for (Class<?> type : types) {
+            beanFactory.registerBeanDefinition(type.getSimpleName(), new RootBeanDefinition(type));
+        }
+        return beanFactory;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ecclesiaflow.business.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScopeRegistryTest {
+
+    @Test
+    void bitOf_shouldGiveEachRegisteredScopeItsOwnBit() {
+        List<String> scopes = List.of(
+                ScopeRegistry.MEMBERS_READ_OWN, ScopeRegistry.MEMBERS_READ_ALL,
+                ScopeRegistry.MEMBERS_WRITE_OWN, ScopeRegistry.MEMBERS_WRITE_ALL,
+                ScopeRegistry.MEMBERS_DELETE_OWN, ScopeRegistry.MEMBERS_DELETE_ALL);
+
+        long mask = ScopeRegistry.maskOf(scopes);
+
+        assertThat(Long.bitCount(mask)).isEqualTo(scopes.size());
+        scopes.forEach(scope -> assertThat(Long.bitCount(ScopeRegistry.bitOf(scope))).isEqualTo(1));
+    }
+
+    @Test
+    void maskOf_shouldIgnoreUnregisteredScopes() {
+        long mask = ScopeRegistry.maskOf(List.of("openid", "profile", "ef:members:read:own"));
+
+        assertThat(mask).isEqualTo(ScopeRegistry.bitOf("ef:members:read:own"));
+        assertThat(ScopeRegistry.bitOf("openid")).isZero();
+    }
+
+    @Test
+    void requiredMaskOf_shouldRejectUnregisteredScope() {
+        assertThatThrownBy(() -> ScopeRegistry.requiredMaskOf("ef:members:read:own", "ef:admin"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown scope: ef:admin");
+    }
+
+    @Test
+    void namesOf_shouldListScopesInRegistryOrder() {
+        long mask = ScopeRegistry.requiredMaskOf("ef:members:delete:all", "ef:members:read:own");
+
+        assertThat(ScopeRegistry.namesOf(mask)).containsExactly("ef:members:read:own", "ef:members:delete:all");
+        assertThat(ScopeRegistry.namesOf(0L)).isEmpty();
+    }
+}
@@ -13,8 +13,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.lang.reflect.Method;
-import java.util.Set;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
@@ -22,15 +23,15 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ScopeValidationAspectTest {
 
+    private static final long USER_MASK = ScopeRegistry.requiredMaskOf(
+            "ef:members:read:own", "ef:members:write:own", "ef:members:delete:own");
+
     @Mock
     private ScopeValidator scopeValidator;
 
     @Mock
     private AuthenticatedUserService authenticatedUserService;
 
-    @Mock
-    private RoleToScopeMapper roleToScopeMapper;
-
     @Mock
     private JoinPoint joinPoint;
 
@@ -51,17 +52,15 @@ class ScopeValidationAspectTest {
         // Given
         Method method = TestClass.class.getMethod("methodWithScopes");
         when(methodSignature.getMethod()).thenReturn(method);
-        when(authenticatedUserService.getScopes()).thenReturn(Set.of("ef:members:read:own"));
-        when(authenticatedUserService.getRoles()).thenReturn(Set.of("USER"));
-        when(roleToScopeMapper.getScopesForRoles(Set.of("USER")))
-                .thenReturn(Set.of("ef:members:read:own", "ef:members:write:own", "ef:members:delete:own"));
+        when(authenticatedUserService.getScopeMask()).thenReturn(USER_MASK);
 
         // When & Then
         assertThatCode(() -> aspect.validateScopes(joinPoint))
                 .doesNotThrowAnyException();
 
         verify(scopeValidator).validateScopes(
-                anyList(),
+                eq(USER_MASK),
+                eq(ScopeRegistry.bitOf("ef:members:read:own")),
                 eq(new String[]{"ef:members:read:own"}),
                 eq(false)
         );
@@ -72,12 +71,10 @@ class ScopeValidationAspectTest {
         // Given
         Method method = TestClass.class.getMethod("methodWithScopes");
         when(methodSignature.getMethod()).thenReturn(method);
-        when(authenticatedUserService.getScopes()).thenReturn(Set.of());
-        when(authenticatedUserService.getRoles()).thenReturn(Set.of());
-        when(roleToScopeMapper.getScopesForRoles(Set.of())).thenReturn(Set.of());
+        when(authenticatedUserService.getScopeMask()).thenReturn(0L);
 
         doThrow(new InsufficientPermissionsException("Insufficient permissions"))
-                .when(scopeValidator).validateScopes(any(), any(), anyBoolean());
+                .when(scopeValidator).validateScopes(anyLong(), anyLong(), any(), anyBoolean());
 
         // When & Then
         assertThatThrownBy(() -> aspect.validateScopes(joinPoint))
@@ -90,23 +87,52 @@ class ScopeValidationAspectTest {
         // Given
         Method method = TestClass.class.getMethod("methodWithRequireAll");
         when(methodSignature.getMethod()).thenReturn(method);
-        when(authenticatedUserService.getScopes())
-                .thenReturn(Set.of("ef:members:read:own", "ef:members:write:own"));
-        when(authenticatedUserService.getRoles()).thenReturn(Set.of("USER"));
-        when(roleToScopeMapper.getScopesForRoles(Set.of("USER")))
-                .thenReturn(Set.of("ef:members:read:own", "ef:members:write:own", "ef:members:delete:own"));
+        when(authenticatedUserService.getScopeMask()).thenReturn(USER_MASK);
 
         // When
         aspect.validateScopes(joinPoint);
 
         // Then
         verify(scopeValidator).validateScopes(
-                anyList(),
+                eq(USER_MASK),
+                eq(ScopeRegistry.requiredMaskOf("ef:members:read:own", "ef:members:write:own")),
                 eq(new String[]{"ef:members:read:own", "ef:members:write:own"}),
                 eq(true)
         );
     }
 
+    @Test
+    void validateScopes_shouldResolveRequiredMaskOncePerMethod() throws NoSuchMethodException {
+        // Given
+        Method method = TestClass.class.getMethod("methodWithScopes");
+        when(methodSignature.getMethod()).thenReturn(method);
+        when(authenticatedUserService.getScopeMask()).thenReturn(USER_MASK);
+
+        // When
+        aspect.validateScopes(joinPoint);
+        aspect.validateScopes(joinPoint);
+
+        // Then
+        verify(scopeValidator, times(2)).validateScopes(
+                eq(USER_MASK), eq(ScopeRegistry.bitOf("ef:members:read:own")), any(), eq(false));
+        @SuppressWarnings("unchecked")
+        Map<Method, ?> requiredMasks = (Map<Method, ?>) ReflectionTestUtils.getField(aspect, "requiredMasks");
+        assertThat(requiredMasks).containsOnlyKeys(method);
+    }
+
+    @Test
+    void validateScopes_shouldRejectUnknownScope() throws NoSuchMethodException {
+        // Given
+        Method method = TestClass.class.getMethod("methodWithUnknownScope");
+        when(methodSignature.getMethod()).thenReturn(method);
+
+        // When & Then
+        assertThatThrownBy(() -> aspect.validateScopes(joinPoint))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ef:admin");
+        verifyNoInteractions(scopeValidator);
+    }
+
     @Test
     void validateScopes_shouldReturnEarly_whenAnnotationNotFound() throws NoSuchMethodException {
         // Given
@@ -117,8 +143,8 @@ class ScopeValidationAspectTest {
         aspect.validateScopes(joinPoint);
 
         // Then
-        verify(scopeValidator, never()).validateScopes(any(), any(), anyBoolean());
-        verifyNoInteractions(authenticatedUserService, roleToScopeMapper);
+        verify(scopeValidator, never()).validateScopes(anyLong(), anyLong(), any(), anyBoolean());
+        verifyNoInteractions(authenticatedUserService);
     }
 
     // Test class with annotated methods
@@ -131,6 +157,10 @@ class ScopeValidationAspectTest {
         public void methodWithRequireAll() {
         }
 
+        @RequireScopes("ef:admin")
+        public void methodWithUnknownScope() {
+        }
+
         public void methodWithoutAnnotation() {
         }
     }
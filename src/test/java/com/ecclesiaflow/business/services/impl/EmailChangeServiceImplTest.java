@@ -23,6 +23,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -42,6 +44,7 @@ class EmailChangeServiceImplTest {
     @Mock private ConfirmationTokenGenerator tokenGenerator;
     @Mock private AuthClient authClient;
     @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private EmailChangeServiceImpl service;
@@ -172,14 +175,23 @@ class EmailChangeServiceImplTest {
 
         when(pendingEmailChangeRepository.getByToken(TOKEN)).thenReturn(Optional.of(pending));
         when(memberRepository.existsByEmail(NEW_EMAIL)).thenReturn(false);
+        when(pendingEmailChangeRepository.claimForConfirmation(pending.getId(), EmailChangeServiceImpl.CONFIRMATION_LEASE))
+                .thenReturn(true);
         when(memberService.findByMemberId(MEMBER_ID)).thenReturn(member);
-        when(memberRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(memberRepository.update(any(), any())).thenAnswer(i -> i.getArgument(1));
 
         Member result = service.confirmEmailChange(TOKEN);
 
         assertThat(result.getEmail()).isEqualTo(NEW_EMAIL);
-        verify(authClient).updateKeycloakUserEmail("kc-123", NEW_EMAIL);
+        // Keycloak is called between the claim and the update, each in its own transaction
+        var inOrder = inOrder(transactionManager, pendingEmailChangeRepository, authClient, memberRepository);
+        inOrder.verify(pendingEmailChangeRepository).claimForConfirmation(any(), any());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(authClient).updateKeycloakUserEmail("kc-123", NEW_EMAIL);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(memberRepository).update(any(), any());
         verify(pendingEmailChangeRepository).delete(pending);
+        verify(pendingEmailChangeRepository, never()).releaseConfirmationClaim(any());
 
         ArgumentCaptor<EmailChangedEvent> eventCaptor = ArgumentCaptor.forClass(EmailChangedEvent.class);
         verify(eventPublisher).publishEvent(eventCaptor.capture());
@@ -218,11 +230,59 @@ class EmailChangeServiceImplTest {
 
         when(pendingEmailChangeRepository.getByToken(TOKEN)).thenReturn(Optional.of(pending));
         when(memberRepository.existsByEmail(NEW_EMAIL)).thenReturn(false);
+        when(pendingEmailChangeRepository.claimForConfirmation(any(), any())).thenReturn(true);
         when(memberService.findByMemberId(MEMBER_ID)).thenReturn(memberNoKc);
-        when(memberRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(memberRepository.update(any(), any())).thenAnswer(i -> i.getArgument(1));
 
         service.confirmEmailChange(TOKEN);
 
         verify(authClient, never()).updateKeycloakUserEmail(any(), any());
     }
+
+    @Test
+    void confirmEmailChange_alreadyBeingConfirmed_throwsWithoutCallingKeycloak() {
+        when(pendingEmailChangeRepository.getByToken(TOKEN)).thenReturn(Optional.of(buildPendingChange(false)));
+        when(memberRepository.existsByEmail(NEW_EMAIL)).thenReturn(false);
+        when(pendingEmailChangeRepository.claimForConfirmation(any(), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> service.confirmEmailChange(TOKEN))
+                .isInstanceOf(InvalidConfirmationCodeException.class);
+        verifyNoInteractions(authClient);
+    }
+
+    @Test
+    void confirmEmailChange_keycloakFails_releasesClaimAndKeepsEmail() {
+        PendingEmailChange pending = buildPendingChange(false);
+        when(pendingEmailChangeRepository.getByToken(TOKEN)).thenReturn(Optional.of(pending));
+        when(memberRepository.existsByEmail(NEW_EMAIL)).thenReturn(false);
+        when(pendingEmailChangeRepository.claimForConfirmation(any(), any())).thenReturn(true);
+        when(memberService.findByMemberId(MEMBER_ID)).thenReturn(buildMember());
+        doThrow(new RuntimeException("Keycloak unavailable"))
+                .when(authClient).updateKeycloakUserEmail("kc-123", NEW_EMAIL);
+
+        assertThatThrownBy(() -> service.confirmEmailChange(TOKEN))
+                .hasMessage("Keycloak unavailable");
+        verify(pendingEmailChangeRepository).releaseConfirmationClaim(pending.getId());
+        verify(memberRepository, never()).update(any(), any());
+        verify(pendingEmailChangeRepository, never()).delete(any());
+    }
+
+    @Test
+    void confirmEmailChange_updateFails_restoresKeycloakEmailAndReleasesClaim() {
+        PendingEmailChange pending = buildPendingChange(false);
+        when(pendingEmailChangeRepository.getByToken(TOKEN)).thenReturn(Optional.of(pending));
+        when(memberRepository.existsByEmail(NEW_EMAIL)).thenReturn(false);
+        when(pendingEmailChangeRepository.claimForConfirmation(any(), any())).thenReturn(true);
+        when(memberService.findByMemberId(MEMBER_ID)).thenReturn(buildMember());
+        when(memberRepository.update(any(), any()))
+                .thenThrow(new OptimisticLockingFailureException("Member was modified concurrently"));
+
+        assertThatThrownBy(() -> service.confirmEmailChange(TOKEN))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        var inOrder = inOrder(authClient);
+        inOrder.verify(authClient).updateKeycloakUserEmail("kc-123", NEW_EMAIL);
+        inOrder.verify(authClient).updateKeycloakUserEmail("kc-123", OLD_EMAIL);
+        verify(pendingEmailChangeRepository).releaseConfirmationClaim(pending.getId());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
 }
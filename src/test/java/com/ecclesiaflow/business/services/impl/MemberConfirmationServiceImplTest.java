@@ -5,6 +5,9 @@ import com.ecclesiaflow.business.domain.confirmation.*;
 import com.ecclesiaflow.business.domain.events.MemberRegisteredEvent;
 import com.ecclesiaflow.business.domain.member.Member;
 import com.ecclesiaflow.business.domain.member.MemberRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatus;
+import com.ecclesiaflow.business.domain.member.MemberStatusChange;
 import com.ecclesiaflow.business.domain.auth.AuthClient;
 import com.ecclesiaflow.business.exceptions.ExpiredConfirmationCodeException;
 import com.ecclesiaflow.business.exceptions.InvalidConfirmationCodeException;
@@ -14,8 +17,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,6 +34,8 @@ class MemberConfirmationServiceImplTest {
     private AuthClient authClient;
     private ApplicationEventPublisher eventPublisher;
     private ConfirmationTokenGenerator tokenGenerator;
+    private MemberStatisticsRepository statisticsRepository;
+    private PlatformTransactionManager transactionManager;
 
     private MemberConfirmationServiceImpl service;
 
@@ -43,9 +50,12 @@ class MemberConfirmationServiceImplTest {
         authClient = mock(AuthClient.class);
         eventPublisher = mock(ApplicationEventPublisher.class);
         tokenGenerator = mock(ConfirmationTokenGenerator.class);
+        statisticsRepository = mock(MemberStatisticsRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
 
         service = new MemberConfirmationServiceImpl(
-                memberRepository, confirmationRepository, authClient, eventPublisher, tokenGenerator);
+                memberRepository, confirmationRepository, authClient, eventPublisher, tokenGenerator,
+                statisticsRepository, transactionManager);
 
         memberId = UUID.randomUUID();
         token = UUID.randomUUID();
@@ -71,7 +81,10 @@ class MemberConfirmationServiceImplTest {
 
         when(confirmationRepository.getByToken(token)).thenReturn(Optional.of(confirmation));
         when(memberRepository.getByMemberId(memberId)).thenReturn(Optional.of(member));
-        when(authClient.retrievePostActivationToken(member.getEmail(), member.getMemberId())).thenReturn(tokenResponse);
+        when(memberRepository.transitionStatus(eq(member), any(MemberStatusChange.class)))
+                .thenAnswer(inv -> Optional.of(inv.<MemberStatusChange>getArgument(1).applyTo(member)));
+        when(authClient.retrievePostActivationToken(member.getEmail(), member.getMemberId()))
+                .thenReturn(tokenResponse);
 
         // when
         MembershipConfirmationResult result = service.confirmMemberByToken(token);
@@ -85,12 +98,44 @@ class MemberConfirmationServiceImplTest {
         
         verify(confirmationRepository).getByToken(token);
         verify(memberRepository).getByMemberId(memberId);
-        verify(memberRepository).save(argThat(savedMember -> 
-            savedMember.isConfirmed() && 
-            savedMember.getMemberId().equals(member.getMemberId())
+        verify(memberRepository).transitionStatus(eq(member), argThat(change ->
+            change.from() == MemberStatus.PENDING &&
+            change.to() == MemberStatus.CONFIRMED &&
+            change.confirmedAt() != null
         ));
         verify(confirmationRepository).delete(confirmation);
-        verify(authClient).retrievePostActivationToken(member.getEmail(), member.getMemberId());
+        // The Auth call happens between two committed transactions, never inside one
+        var inOrder = inOrder(transactionManager, authClient, memberRepository);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(authClient).retrievePostActivationToken(member.getEmail(), member.getMemberId());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(memberRepository).transitionStatus(eq(member), any());
+        inOrder.verify(transactionManager).commit(any());
+        verify(statisticsRepository).apply(argThat(delta -> delta.byStatus().equals(
+                java.util.Map.of(MemberStatus.PENDING, -1L, MemberStatus.CONFIRMED, 1L))));
+    }
+
+    @Test
+    void confirmMemberByToken_ShouldRethrowAuthFailure_WhenTokenRetrievalFails() {
+        // given
+        MemberConfirmation confirmation = MemberConfirmation.builder()
+                .memberId(memberId)
+                .token(token)
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
+                .build();
+        IllegalStateException failure = new IllegalStateException("Auth unavailable");
+
+        when(confirmationRepository.getByToken(token)).thenReturn(Optional.of(confirmation));
+        when(memberRepository.getByMemberId(memberId)).thenReturn(Optional.of(member));
+        when(authClient.retrievePostActivationToken(member.getEmail(), member.getMemberId()))
+                .thenThrow(failure);
+
+        // when/then — the failure is rethrown as is and nothing is written
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> service.confirmMemberByToken(token));
+        assertSame(failure, exception);
+        verify(memberRepository, never()).transitionStatus(any(), any());
+        verify(confirmationRepository, never()).delete(any());
     }
 
     @Test
@@ -139,7 +184,7 @@ class MemberConfirmationServiceImplTest {
         assertEquals("Token de confirmation expiré", exception.getMessage());
         verify(confirmationRepository).getByToken(token);
         verify(memberRepository, never()).getByMemberId(any());
-        verify(memberRepository, never()).save(any());
+        verify(memberRepository, never()).transitionStatus(any(), any());
         verify(confirmationRepository, never()).delete(any());
     }
 
@@ -162,11 +207,32 @@ class MemberConfirmationServiceImplTest {
         assertEquals("Membre non trouvé", exception.getMessage());
         verify(confirmationRepository).getByToken(token);
         verify(memberRepository).getByMemberId(memberId);
-        verify(memberRepository, never()).save(any());
+        verify(memberRepository, never()).transitionStatus(any(), any());
         verify(confirmationRepository, never()).delete(any());
         verify(authClient, never()).retrievePostActivationToken(any(), any());
     }
 
+    @Test
+    void confirmMemberByToken_ShouldThrow_WhenConfirmedConcurrently() {
+        // given
+        MemberConfirmation confirmation = MemberConfirmation.builder()
+                .memberId(memberId)
+                .token(token)
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
+                .build();
+
+        when(confirmationRepository.getByToken(token)).thenReturn(Optional.of(confirmation));
+        when(memberRepository.getByMemberId(memberId)).thenReturn(Optional.of(member));
+        when(memberRepository.transitionStatus(eq(member), any(MemberStatusChange.class))).thenReturn(Optional.empty());
+        when(authClient.retrievePostActivationToken(member.getEmail(), member.getMemberId()))
+                .thenReturn(new PasswordSetupTokenResponse("TEMP_TOKEN", 900, "/ecclesiaflow/auth/password"));
+
+        // when/then — the token obtained meanwhile is discarded
+        assertThrows(MemberAlreadyConfirmedException.class, () -> service.confirmMemberByToken(token));
+        verify(confirmationRepository, never()).delete(any());
+        verify(statisticsRepository, never()).apply(any());
+    }
+
     @Test
     void confirmMemberByToken_ShouldThrow_WhenMemberAlreadyConfirmed() {
         // given
@@ -187,7 +253,7 @@ class MemberConfirmationServiceImplTest {
         assertEquals("Le compte est déjà confirmé", exception.getMessage());
         verify(confirmationRepository).getByToken(token);
         verify(memberRepository).getByMemberId(memberId);
-        verify(memberRepository, never()).save(any());
+        verify(memberRepository, never()).transitionStatus(any(), any());
         verify(confirmationRepository, never()).delete(any());
         verify(authClient, never()).retrievePostActivationToken(any(), any());
     }
@@ -373,4 +439,49 @@ class MemberConfirmationServiceImplTest {
         assertEquals(newToken, publishedEvent.confirmationToken());
         assertEquals("John", publishedEvent.firstName());
     }
+
+    @Test
+    void sendConfirmationLinks_ShouldSaveAllTokensAndPublishOneEventPerMember() {
+        // given
+        UUID otherId = UUID.randomUUID();
+        Member other = Member.builder()
+                .id(otherId)
+                .memberId(otherId)
+                .firstName("Jane")
+                .email("jane@test.com")
+                .build();
+        UUID firstToken = UUID.randomUUID();
+        UUID secondToken = UUID.randomUUID();
+        when(tokenGenerator.generateToken()).thenReturn(firstToken, secondToken);
+
+        // when
+        service.sendConfirmationLinks(List.of(member, other));
+
+        // then
+        verify(confirmationRepository).saveAll(argThat(confirmations ->
+            confirmations.size() == 2 &&
+            confirmations.get(0).getMemberId().equals(memberId) &&
+            confirmations.get(0).getToken().equals(firstToken) &&
+            confirmations.get(1).getMemberId().equals(otherId) &&
+            confirmations.get(1).getToken().equals(secondToken) &&
+            confirmations.get(1).getExpiresAt() != null
+        ));
+        verify(confirmationRepository, never()).getByMemberId(any());
+
+        ArgumentCaptor<MemberRegisteredEvent> eventCaptor = ArgumentCaptor.forClass(MemberRegisteredEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        assertEquals("john@test.com", eventCaptor.getAllValues().get(0).email());
+        assertEquals(firstToken, eventCaptor.getAllValues().get(0).confirmationToken());
+        assertEquals("jane@test.com", eventCaptor.getAllValues().get(1).email());
+        assertEquals(secondToken, eventCaptor.getAllValues().get(1).confirmationToken());
+    }
+
+    @Test
+    void sendConfirmationLinks_ShouldDoNothing_WhenNoMembers() {
+        // when
+        service.sendConfirmationLinks(List.of());
+
+        // then
+        verifyNoInteractions(confirmationRepository, eventPublisher, tokenGenerator);
+    }
 }
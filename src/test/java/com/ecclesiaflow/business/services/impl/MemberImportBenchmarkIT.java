@@ -0,0 +1,133 @@
+package com.ecclesiaflow.business.services.impl;
+
+import com.ecclesiaflow.application.handlers.MemberRegistrationEventHandler;
+import com.ecclesiaflow.business.domain.auth.AuthClient;
+import com.ecclesiaflow.business.domain.confirmation.ConfirmationTokenGenerator;
+import com.ecclesiaflow.business.domain.member.MemberImportReport;
+import com.ecclesiaflow.business.domain.member.MemberImportRow;
+import com.ecclesiaflow.business.domain.member.MemberSearchIndex;
+import com.ecclesiaflow.business.domain.member.MembershipRegistration;
+import com.ecclesiaflow.io.persistence.cache.MemberLookupCache;
+import com.ecclesiaflow.io.persistence.cache.MemberStatusCache;
+import com.ecclesiaflow.io.persistence.mappers.EmailOutboxPersistenceMapper;
+import com.ecclesiaflow.io.persistence.mappers.MemberConfirmationPersistenceMapper;
+import com.ecclesiaflow.io.persistence.mappers.MemberPersistenceMapperImpl;
+import com.ecclesiaflow.io.persistence.repositories.impl.EmailOutboxRepositoryImpl;
+import com.ecclesiaflow.io.persistence.repositories.impl.MemberConfirmationRepositoryImpl;
+import com.ecclesiaflow.io.persistence.repositories.impl.MemberRepositoryImpl;
+import com.ecclesiaflow.io.persistence.repositories.impl.MemberStatisticsRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Rows per second of {@link MemberImportServiceImpl} against MySQL, with the production
+ * insert settings: Hibernate JDBC batches ({@code batch_size=50}, {@code order_inserts})
+ * and {@code rewriteBatchedStatements} on the driver, which turns each batch into one
+ * multi-row INSERT.
+ *
+ * <p>Needs a MySQL server, so it only runs when one is given. The member tables are
+ * created in that schema and dropped afterwards:</p>
+ * <pre>
+ * mvn verify -Dit.test=MemberImportBenchmarkIT \
+ *     -Dbenchmark.mysql.url=jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true \
+ *     -Dbenchmark.mysql.username=root -Dbenchmark.mysql.password=secret \
+ *     [-Dbenchmark.rows=100000]
+ * </pre>
+ * <p>Each row writes a member, its confirmation token and its outbox email, plus the
+ * statistics journal of each batch. Hibernate statistics confirm that these inserts were
+ * batched: far fewer statements are prepared than entities inserted.</p>
+ */
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "ecclesiaflow.members.cache.enabled=false",
+        "ecclesiaflow.members.import.batch-size=500"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MemberImportServiceImpl.class, MemberConfirmationServiceImpl.class, ConfirmationTokenGenerator.class,
+        MemberRepositoryImpl.class, MemberPersistenceMapperImpl.class, MemberConfirmationRepositoryImpl.class,
+        MemberConfirmationPersistenceMapper.class, MemberStatisticsRepositoryImpl.class,
+        MemberRegistrationEventHandler.class, EmailOutboxRepositoryImpl.class, EmailOutboxPersistenceMapper.class,
+        MemberLookupCache.class, MemberStatusCache.class, MemberImportBenchmarkIT.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberImportBenchmarkIT {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        MemberSearchIndex memberSearchIndex() {
+            return mock(MemberSearchIndex.class);
+        }
+
+        @Bean
+        AuthClient authClient() {
+            return mock(AuthClient.class);
+        }
+    }
+
+    @DynamicPropertySource
+    static void mysql(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("benchmark.mysql.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("benchmark.mysql.username"));
+        registry.add("spring.datasource.password", () -> System.getProperty("benchmark.mysql.password"));
+    }
+
+    private final int rows = Integer.getInteger("benchmark.rows", 100_000);
+
+    @Autowired
+    private MemberImportServiceImpl importService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void importShouldBatchInsertsAndReportThroughput() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        MemberImportReport report = importService.importMembers(rows(rows));
+
+        System.out.printf("%d rows imported in %d ms: %.0f rows/s, %d statements prepared for %d inserts%n",
+                report.importedRows(), report.durationMillis(), report.rowsPerSecond(),
+                statistics.getPrepareStatementCount(), statistics.getEntityInsertCount());
+        assertThat(report.importedRows()).isEqualTo(rows);
+        assertThat(statistics.getEntityInsertCount()).isGreaterThanOrEqualTo(3L * rows);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(statistics.getEntityInsertCount() / 10);
+    }
+
+    private static Iterator<MemberImportRow> rows(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(row -> MemberImportRow.valid(row, new MembershipRegistration(
+                        "Jean", "Tremblay", "import" + row + "@example.com", null, null)))
+                .iterator();
+    }
+}
@@ -0,0 +1,162 @@
+package com.ecclesiaflow.business.services.impl;
+
+import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberImportReport;
+import com.ecclesiaflow.business.domain.member.MemberImportRow;
+import com.ecclesiaflow.business.domain.member.MemberRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatus;
+import com.ecclesiaflow.business.domain.member.MembershipRegistration;
+import com.ecclesiaflow.business.services.MemberConfirmationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberImportServiceImplTest {
+
+    @Mock private MemberRepository memberRepository;
+    @Mock private MemberConfirmationService confirmationService;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private MemberStatisticsRepository statisticsRepository;
+
+    @InjectMocks
+    private MemberImportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+    }
+
+    @Test
+    void importMembers_shouldSaveInBatchesAndSendConfirmationLinks() {
+        when(memberRepository.findExistingEmails(anyList())).thenReturn(Set.of());
+        when(memberRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        MemberImportReport report = service.importMembers(rows(
+                valid(1, "a@mail.com"), valid(2, "b@mail.com"), valid(3, "c@mail.com")));
+
+        assertThat(report.totalRows()).isEqualTo(3);
+        assertThat(report.importedRows()).isEqualTo(3);
+        assertThat(report.rejectedRows()).isZero();
+        assertThat(report.errors()).isEmpty();
+        verify(memberRepository, times(2)).findExistingEmails(anyList());
+        verify(memberRepository).saveAll(argThat(members -> members.size() == 2));
+        verify(memberRepository).saveAll(argThat(members -> members.size() == 1
+                && members.get(0).getEmail().equals("c@mail.com")
+                && members.get(0).getMemberId() != null));
+        verify(confirmationService, times(2)).sendConfirmationLinks(anyList());
+        verify(transactionManager, times(2)).commit(any());
+        verify(statisticsRepository).apply(argThat(delta ->
+                delta.byStatus().getOrDefault(MemberStatus.PENDING, 0L) == 2));
+        verify(statisticsRepository).apply(argThat(delta ->
+                delta.byStatus().getOrDefault(MemberStatus.PENDING, 0L) == 1));
+    }
+
+    @Test
+    void importMembers_shouldRejectInvalidRowsDuplicatesAndExistingEmails() {
+        when(memberRepository.findExistingEmails(anyList())).thenReturn(Set.of("Taken@Mail.com"));
+        when(memberRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        MemberImportReport report = service.importMembers(rows(
+                valid(1, "a@mail.com"),
+                MemberImportRow.invalid(2, "bad", "email: must be a well-formed email address"),
+                valid(3, "A@mail.com"),
+                valid(4, "taken@mail.com")));
+
+        assertThat(report.totalRows()).isEqualTo(4);
+        assertThat(report.importedRows()).isEqualTo(1);
+        assertThat(report.rejectedRows()).isEqualTo(3);
+        assertThat(report.errors()).extracting(MemberImportReport.RowError::rowNumber).containsExactly(2L, 3L, 4L);
+        assertThat(report.errors()).extracting(MemberImportReport.RowError::message).containsExactly(
+                "email: must be a well-formed email address",
+                MemberImportServiceImpl.DUPLICATE_IN_FILE,
+                MemberImportServiceImpl.EMAIL_ALREADY_USED);
+        verify(memberRepository).saveAll(argThat(members -> members.size() == 1));
+    }
+
+    @Test
+    void importMembers_shouldRetryFailedBatchRowByRow() {
+        when(memberRepository.findExistingEmails(anyList())).thenReturn(Set.of());
+        when(memberRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Member> members = invocation.getArgument(0);
+            if (members.stream().anyMatch(member -> member.getEmail().equals("race@mail.com"))) {
+                throw new DataIntegrityViolationException("Duplicate entry");
+            }
+            return members;
+        });
+
+        when(memberRepository.existsByEmail("race@mail.com")).thenReturn(true);
+
+        MemberImportReport report = service.importMembers(rows(valid(1, "a@mail.com"), valid(2, "race@mail.com")));
+
+        assertThat(report.importedRows()).isEqualTo(1);
+        assertThat(report.rejectedRows()).isEqualTo(1);
+        assertThat(report.errors()).singleElement().satisfies(error -> {
+            assertThat(error.rowNumber()).isEqualTo(2);
+            assertThat(error.message()).isEqualTo(MemberImportServiceImpl.EMAIL_ALREADY_USED);
+        });
+        verify(transactionManager, times(2)).rollback(any());
+        verify(confirmationService, times(1)).sendConfirmationLinks(anyList());
+    }
+
+    @Test
+    void importMembers_shouldReportOtherConstraintFailuresAsGenericErrors() {
+        when(memberRepository.findExistingEmails(anyList())).thenReturn(Set.of());
+        when(memberRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Member> members = invocation.getArgument(0);
+            if (members.stream().anyMatch(member -> member.getEmail().equals("long@mail.com"))) {
+                throw new DataIntegrityViolationException("Data too long for column 'address'");
+            }
+            return members;
+        });
+        when(memberRepository.existsByEmail("long@mail.com")).thenReturn(false);
+
+        MemberImportReport report = service.importMembers(rows(valid(1, "a@mail.com"), valid(2, "long@mail.com")));
+
+        assertThat(report.importedRows()).isEqualTo(1);
+        assertThat(report.errors()).singleElement().satisfies(error -> {
+            assertThat(error.rowNumber()).isEqualTo(2);
+            assertThat(error.message()).isEqualTo(MemberImportServiceImpl.ROW_REJECTED);
+        });
+    }
+
+    @Test
+    void importMembers_shouldCapReportedErrorsButCountAllRejections() {
+        int invalid = MemberImportServiceImpl.MAX_REPORTED_ERRORS + 5;
+        List<MemberImportRow> rows = new ArrayList<>();
+        IntStream.rangeClosed(1, invalid).forEach(i -> rows.add(MemberImportRow.invalid(i, null, "bad row")));
+
+        MemberImportReport report = service.importMembers(rows.iterator());
+
+        assertThat(report.rejectedRows()).isEqualTo(invalid);
+        assertThat(report.errors()).hasSize(MemberImportServiceImpl.MAX_REPORTED_ERRORS);
+        verifyNoInteractions(memberRepository, confirmationService);
+    }
+
+    private static Iterator<MemberImportRow> rows(MemberImportRow... rows) {
+        return List.of(rows).iterator();
+    }
+
+    private static MemberImportRow valid(long rowNumber, String email) {
+        return MemberImportRow.valid(rowNumber, new MembershipRegistration("Jean", "Tremblay", email, null, null));
+    }
+}
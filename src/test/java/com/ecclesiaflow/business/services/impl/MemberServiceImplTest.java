@@ -15,12 +15,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -40,6 +47,15 @@ class MemberServiceImplTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private MemberSearchIndex searchIndex;
+
+    @Mock
+    private MemberStatisticsRepository statisticsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private MemberServiceImpl memberService;
 
@@ -143,12 +159,12 @@ class MemberServiceImplTest {
                 .build();
 
         when(memberRepository.getByMemberId(id)).thenReturn(Optional.of(existing));
-        when(memberRepository.save(any(Member.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(memberRepository.update(any(Member.class), any(Member.class))).thenAnswer(inv -> inv.getArgument(1));
 
         Member result = memberService.updateMember(update);
 
         assertEquals("NewName", result.getFirstName());
-        verify(memberRepository).save(any(Member.class));
+        verify(memberRepository).update(any(Member.class), any(Member.class));
     }
 
     @Test
@@ -163,7 +179,7 @@ class MemberServiceImplTest {
 
         assertThrows(MemberNotFoundException.class, () -> memberService.updateMember(update));
 
-        verify(memberRepository, never()).save(any());
+        verify(memberRepository, never()).update(any(), any());
     }
 
     @Test
@@ -176,12 +192,19 @@ class MemberServiceImplTest {
                 .build();
 
         when(memberRepository.getByMemberId(id)).thenReturn(Optional.of(existing));
+        when(memberRepository.transitionStatus(any(), any()))
+                .thenAnswer(inv -> Optional.of(inv.<MemberStatusChange>getArgument(1).applyTo(inv.getArgument(0))));
 
         memberService.deleteMember(id);
 
-        var inOrder = inOrder(authClient, memberRepository);
+        // Keycloak is called between two committed transactions, never inside one
+        var inOrder = inOrder(authClient, memberRepository, transactionManager);
+        inOrder.verify(memberRepository).transitionStatus(existing, MemberStatusChange.startDeletion(existing));
+        inOrder.verify(transactionManager).commit(any());
         inOrder.verify(authClient).deleteKeycloakUser(keycloakUserId);
-        inOrder.verify(memberRepository).delete(existing);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(memberRepository).delete(argThat(m -> m.getStatus() == MemberStatus.DELETING));
+        verify(statisticsRepository, times(2)).apply(any());
     }
 
     @Test
@@ -197,121 +220,245 @@ class MemberServiceImplTest {
         memberService.deleteMember(id);
 
         verify(authClient, never()).deleteKeycloakUser(any());
+        verify(memberRepository, never()).transitionStatus(any(), any());
         verify(memberRepository).delete(existing);
     }
 
     @Test
-    void deleteMember_shouldNotDeleteDbWhenKeycloakFails() {
+    void deleteMember_shouldRestoreStatusWhenKeycloakFails() {
         UUID id = UUID.randomUUID();
         String keycloakUserId = "kc-user-456";
         Member existing = Member.builder()
                 .memberId(id).firstName("ToDelete").email("del@mail.com")
-                .keycloakUserId(keycloakUserId).status(MemberStatus.ACTIVE)
+                .keycloakUserId(keycloakUserId).status(MemberStatus.SUSPENDED)
                 .build();
 
         when(memberRepository.getByMemberId(id)).thenReturn(Optional.of(existing));
+        when(memberRepository.transitionStatus(any(), any()))
+                .thenAnswer(inv -> Optional.of(inv.<MemberStatusChange>getArgument(1).applyTo(inv.getArgument(0))));
         doThrow(new RuntimeException("Keycloak unavailable"))
                 .when(authClient).deleteKeycloakUser(keycloakUserId);
 
         assertThrows(RuntimeException.class, () -> memberService.deleteMember(id));
 
         verify(memberRepository, never()).delete(any());
+        // Compensation: DELETING → SUSPENDED, the Keycloak user id was never detached
+        verify(memberRepository).transitionStatus(
+                argThat(m -> m.getStatus() == MemberStatus.DELETING && keycloakUserId.equals(m.getKeycloakUserId())),
+                eq(MemberStatusChange.cancelDeletion(existing)));
     }
 
     @Test
-    void getAllMembers_shouldReturnAllMembersWithPagination() {
+    void deleteMember_shouldStayDeletingWithKeycloakUserIdWhenCompensationFails() {
+        UUID id = UUID.randomUUID();
+        String keycloakUserId = "kc-user-789";
+        Member existing = Member.builder()
+                .memberId(id).firstName("ToDelete").email("del@mail.com")
+                .keycloakUserId(keycloakUserId).status(MemberStatus.ACTIVE)
+                .build();
+
+        when(memberRepository.getByMemberId(id)).thenReturn(Optional.of(existing));
+        when(memberRepository.transitionStatus(any(), any()))
+                .thenAnswer(inv -> Optional.of(inv.<MemberStatusChange>getArgument(1).applyTo(inv.getArgument(0))))
+                .thenThrow(new RuntimeException("DB down"));
+        doThrow(new RuntimeException("Keycloak unavailable"))
+                .when(authClient).deleteKeycloakUser(keycloakUserId);
+
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> memberService.deleteMember(id));
+
+        assertEquals("Keycloak unavailable", thrown.getMessage());
+        assertEquals("DB down", thrown.getSuppressed()[0].getMessage());
+        // Left DELETING with its Keycloak user id: refused by the status filter, finished by the cleanup job
+        verify(memberRepository, never()).update(any(), any());
+        verify(memberRepository, never()).delete(any());
+    }
+
+    @Test
+    void deleteMember_shouldFailWhenMemberChangedConcurrently() {
+        UUID id = UUID.randomUUID();
+        Member existing = Member.builder()
+                .memberId(id).firstName("ToDelete").email("del@mail.com")
+                .keycloakUserId("kc-user-000").status(MemberStatus.ACTIVE)
+                .build();
+
+        when(memberRepository.getByMemberId(id)).thenReturn(Optional.of(existing));
+        when(memberRepository.transitionStatus(any(), any())).thenReturn(Optional.empty());
+
+        assertThrows(OptimisticLockingFailureException.class, () -> memberService.deleteMember(id));
+
+        verify(authClient, never()).deleteKeycloakUser(any());
+        verify(memberRepository, never()).delete(any());
+    }
+
+    @Test
+    void getAllMembers_shouldReturnAllProfilesWithPagination() {
         // Given
         Pageable pageable = PageRequest.of(0, 20);
-        List<Member> members = List.of(
-                Member.builder().memberId(UUID.randomUUID()).firstName("A").email("a@mail.com").build(),
-                Member.builder().memberId(UUID.randomUUID()).firstName("B").email("b@mail.com").build()
-        );
-        Page<Member> memberPage = new PageImpl<>(members, pageable, 2);
+        Page<MemberProfile> profilePage = new PageImpl<>(List.of(
+                profile("A", "a@mail.com", MemberStatus.PENDING),
+                profile("B", "b@mail.com", MemberStatus.PENDING)), pageable, 2);
 
-        when(memberRepository.getAll(pageable)).thenReturn(memberPage);
+        when(memberRepository.getProfiles(null, null, pageable)).thenReturn(profilePage);
 
         // When
-        Page<Member> result = memberService.getAllMembers(pageable, null, null);
+        Page<MemberProfile> result = memberService.getAllMembers(pageable, null, null);
 
         // Then
         assertEquals(2, result.getContent().size());
         assertEquals(2, result.getTotalElements());
         assertEquals(1, result.getTotalPages());
-        verify(memberRepository, times(1)).getAll(pageable);
+        verify(memberRepository, times(1)).getProfiles(null, null, pageable);
     }
 
     @Test
-    void getAllMembers_shouldReturnMembersWithSearchTerm() {
+    void getAllMembers_shouldPassSearchTermAndStatusToProfileQuery() {
         // Given
         Pageable pageable = PageRequest.of(0, 20);
-        String searchTerm = "john";
-        List<Member> members = List.of(
-                Member.builder().memberId(UUID.randomUUID()).firstName("John").email("john@mail.com").build()
-        );
-        Page<Member> memberPage = new PageImpl<>(members, pageable, 1);
+        Page<MemberProfile> profilePage = new PageImpl<>(List.of(
+                profile("John", "john@mail.com", MemberStatus.PENDING)), pageable, 1);
 
-        when(memberRepository.getMembersBySearchTerm(searchTerm, pageable)).thenReturn(memberPage);
+        when(memberRepository.getProfiles("john", MemberStatus.PENDING, pageable)).thenReturn(profilePage);
 
         // When
-        Page<Member> result = memberService.getAllMembers(pageable, searchTerm, null);
+        Page<MemberProfile> result = memberService.getAllMembers(pageable, "john", MemberStatus.PENDING);
 
         // Then
-        assertEquals(1, result.getContent().size());
-        assertEquals("John", result.getContent().getFirst().getFirstName());
-        verify(memberRepository, times(1)).getMembersBySearchTerm(searchTerm, pageable);
+        assertEquals("John", result.getContent().getFirst().firstName());
+        assertFalse(result.getContent().getFirst().isConfirmed());
+        verify(memberRepository, never()).getMembersBySearchTermAndStatus(any(), any(), any());
     }
 
     @Test
-    void getAllMembers_shouldReturnMembersWithStatus() {
+    void getAllMembers_shouldThrowExceptionWhenPageableIsNull() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, 
+                () -> memberService.getAllMembers(null, null, null));
+        
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void getAllMembers_withFullTextEnabled_shouldUseRelevanceSearch() {
         // Given
+        ReflectionTestUtils.setField(memberService, "fullTextSearchEnabled", true);
         Pageable pageable = PageRequest.of(0, 20);
-        MemberStatus status = MemberStatus.ACTIVE;
-        List<Member> members = List.of(
-                Member.builder().memberId(UUID.randomUUID()).firstName("A").email("a@mail.com").status(MemberStatus.ACTIVE).build()
-        );
-        Page<Member> memberPage = new PageImpl<>(members, pageable, 1);
+        Member john = Member.builder().id(UUID.randomUUID()).firstName("John").email("john@mail.com")
+                .status(MemberStatus.ACTIVE).build();
+        when(memberRepository.searchMembersByRelevance("john", MemberStatus.ACTIVE, pageable))
+                .thenReturn(new PageImpl<>(List.of(john), pageable, 1));
+
+        // When
+        Page<MemberProfile> result = memberService.getAllMembers(pageable, " john ", MemberStatus.ACTIVE);
 
-        when(memberRepository.getByStatus(status, pageable)).thenReturn(memberPage);
+        // Then
+        assertEquals(List.of(MemberProfile.of(john)), result.getContent());
+        verify(memberRepository, never()).getProfiles(any(), any(), any());
+    }
+
+    @Test
+    void getAllMembers_whenSearchIndexAnswers_shouldLoadProfilesByIds() {
+        // Given
+        ReflectionTestUtils.setField(memberService, "fullTextSearchEnabled", true);
+        Pageable pageable = PageRequest.of(1, 2, Sort.by("lastName"));
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<MemberProfile> profiles = List.of(
+                profile("John", "john@mail.com", MemberStatus.ACTIVE),
+                profile("Johnny", "johnny@mail.com", MemberStatus.ACTIVE));
+        when(searchIndex.search("john", MemberStatus.ACTIVE, pageable))
+                .thenReturn(Optional.of(new PageImpl<>(ids, pageable, 5)));
+        when(memberRepository.getProfilesByIds(ids)).thenReturn(profiles);
 
         // When
-        Page<Member> result = memberService.getAllMembers(pageable, null, status);
+        Page<MemberProfile> result = memberService.getAllMembers(pageable, " john ", MemberStatus.ACTIVE);
 
         // Then
-        assertEquals(1, result.getContent().size());
-        assertTrue(result.getContent().getFirst().isConfirmed());
-        verify(memberRepository, times(1)).getByStatus(status, pageable);
+        assertEquals(profiles, result.getContent());
+        assertEquals(5, result.getTotalElements());
+        assertEquals(1, result.getNumber());
+        verify(memberRepository, never()).searchMembersByRelevance(any(), any(), any());
+        verify(memberRepository, never()).getProfiles(any(), any(), any());
     }
 
     @Test
-    void getAllMembers_shouldReturnMembersWithSearchTermAndStatus() {
+    void getAllMembers_whenSearchIndexCannotAnswer_shouldFallBackToDatabaseSearch() {
         // Given
         Pageable pageable = PageRequest.of(0, 20);
-        String searchTerm = "john";
-        MemberStatus status = MemberStatus.PENDING;
-        List<Member> members = List.of(
-                Member.builder().memberId(UUID.randomUUID()).firstName("John").email("john@mail.com").status(MemberStatus.PENDING).build()
-        );
-        Page<Member> memberPage = new PageImpl<>(members, pageable, 1);
+        Page<MemberProfile> profilePage = new PageImpl<>(List.of(), pageable, 0);
+        when(searchIndex.search("jo", null, pageable)).thenReturn(Optional.empty());
+        when(memberRepository.getProfiles("jo", null, pageable)).thenReturn(profilePage);
 
-        when(memberRepository.getMembersBySearchTermAndStatus(searchTerm, status, pageable))
-                .thenReturn(memberPage);
+        // When
+        Page<MemberProfile> result = memberService.getAllMembers(pageable, "jo", null);
+
+        // Then
+        assertSame(profilePage, result);
+        verify(memberRepository, never()).getProfilesByIds(any());
+    }
+
+    @Test
+    void getAllMembers_withFullTextEnabledAndNoSearch_shouldKeepPlainListing() {
+        // Given
+        ReflectionTestUtils.setField(memberService, "fullTextSearchEnabled", true);
+        Pageable pageable = PageRequest.of(0, 20);
+        when(memberRepository.getProfiles(null, null, pageable)).thenReturn(new PageImpl<>(List.of(), pageable, 0));
 
         // When
-        Page<Member> result = memberService.getAllMembers(pageable, searchTerm, status);
+        memberService.getAllMembers(pageable, "   ", null);
 
         // Then
-        assertEquals(1, result.getContent().size());
-        assertEquals("John", result.getContent().getFirst().getFirstName());
-        assertFalse(result.getContent().getFirst().isConfirmed());
-        verify(memberRepository, times(1)).getMembersBySearchTermAndStatus(searchTerm, status, pageable);
+        verify(memberRepository).getProfiles(null, null, pageable);
+        verify(memberRepository, never()).searchMembersByRelevance(any(), any(), any());
     }
 
     @Test
-    void getAllMembers_shouldThrowExceptionWhenPageableIsNull() {
-        // When & Then
-        assertThrows(IllegalArgumentException.class, 
-                () -> memberService.getAllMembers(null, null, null));
-        
+    void exportMembers_shouldStreamThroughRepository() {
+        // Given
+        java.util.function.Consumer<Member> consumer = member -> { };
+        when(memberRepository.forEachMember(MemberStatus.ACTIVE, consumer)).thenReturn(42L);
+
+        // When
+        long exported = memberService.exportMembers(MemberStatus.ACTIVE, consumer);
+
+        // Then
+        assertEquals(42L, exported);
+    }
+
+    @Test
+    void exportMembers_withNullConsumer_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> memberService.exportMembers(null, null));
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void getAllMembersByKeyset_shouldDelegateToScrollWithNormalizedSearch() {
+        // Given
+        Sort sort = Sort.by("lastName");
+        Window<Member> window = Window.from(
+                List.of(Member.builder().memberId(UUID.randomUUID()).firstName("John").email("john@mail.com").build()),
+                i -> ScrollPosition.keyset(), false);
+
+        when(memberRepository.scrollMembers("john", MemberStatus.ACTIVE, ScrollPosition.keyset(), sort, 10))
+                .thenReturn(window);
+
+        // When
+        Window<Member> result = memberService.getAllMembers(ScrollPosition.keyset(), sort, 10, "  john  ", MemberStatus.ACTIVE);
+
+        // Then
+        assertSame(window, result);
+        verify(memberRepository).scrollMembers("john", MemberStatus.ACTIVE, ScrollPosition.keyset(), sort, 10);
+    }
+
+    @Test
+    void getAllMembersByKeyset_shouldRejectInvalidArguments() {
+        Sort sort = Sort.by("lastName");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> memberService.getAllMembers(null, sort, 10, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> memberService.getAllMembers(ScrollPosition.keyset(), null, 10, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> memberService.getAllMembers(ScrollPosition.keyset(), sort, 0, null, null));
+
         verifyNoInteractions(memberRepository);
     }
 
@@ -319,108 +466,87 @@ class MemberServiceImplTest {
     void getAllMembers_shouldNormalizeEmptySearchToNull() {
         // Given - Empty search string should be normalized to null
         Pageable pageable = PageRequest.of(0, 20);
-        List<Member> members = List.of(
-                Member.builder().memberId(UUID.randomUUID()).firstName("A").email("a@mail.com").build()
-        );
-        Page<Member> memberPage = new PageImpl<>(members, pageable, 1);
-
-        when(memberRepository.getAll(pageable)).thenReturn(memberPage);
+        when(memberRepository.getProfiles(null, null, pageable)).thenReturn(new PageImpl<>(List.of(
+                profile("A", "a@mail.com", MemberStatus.PENDING)), pageable, 1));
 
         // When - Empty string should be normalized to null
-        Page<Member> result = memberService.getAllMembers(pageable, "", null);
+        Page<MemberProfile> result = memberService.getAllMembers(pageable, "", null);
 
-        // Then - Should call getAll (no search criteria)
+        // Then - Should query without search criteria
         assertEquals(1, result.getContent().size());
-        verify(memberRepository, times(1)).getAll(pageable);
-        verify(memberRepository, never()).getMembersBySearchTerm(anyString(), any());
+        verify(memberRepository, times(1)).getProfiles(null, null, pageable);
+        verifyNoInteractions(searchIndex);
     }
 
     @Test
     void getAllMembers_shouldNormalizeWhitespaceSearchToNull() {
         // Given - Whitespace-only search should be normalized to null
         Pageable pageable = PageRequest.of(0, 20);
-        List<Member> members = List.of(
-                Member.builder().memberId(UUID.randomUUID()).firstName("A").email("a@mail.com").build()
-        );
-        Page<Member> memberPage = new PageImpl<>(members, pageable, 1);
-
-        when(memberRepository.getAll(pageable)).thenReturn(memberPage);
+        when(memberRepository.getProfiles(null, MemberStatus.PENDING, pageable)).thenReturn(new PageImpl<>(List.of(
+                profile("A", "a@mail.com", MemberStatus.PENDING)), pageable, 1));
 
         // When - Whitespace-only string should be normalized to null
-        Page<Member> result = memberService.getAllMembers(pageable, "   ", null);
+        Page<MemberProfile> result = memberService.getAllMembers(pageable, "   ", MemberStatus.PENDING);
 
-        // Then - Should call getAll (no search criteria)
+        // Then - Should only filter by status
         assertEquals(1, result.getContent().size());
-        verify(memberRepository, times(1)).getAll(pageable);
-        verify(memberRepository, never()).getMembersBySearchTerm(anyString(), any());
+        verify(memberRepository, times(1)).getProfiles(null, MemberStatus.PENDING, pageable);
     }
 
     @Test
     void getAllMembers_shouldTrimSearchTerm() {
         // Given - Search with leading/trailing spaces should be trimmed
         Pageable pageable = PageRequest.of(0, 20);
-        String searchTermWithSpaces = "  john  ";
-        String trimmedSearchTerm = "john";
-        List<Member> members = List.of(
-                Member.builder().memberId(UUID.randomUUID()).firstName("John").email("john@mail.com").build()
-        );
-        Page<Member> memberPage = new PageImpl<>(members, pageable, 1);
+        when(searchIndex.search("jane", MemberStatus.ACTIVE, pageable)).thenReturn(Optional.empty());
+        when(memberRepository.getProfiles("jane", MemberStatus.ACTIVE, pageable)).thenReturn(new PageImpl<>(List.of(
+                profile("Jane", "jane@mail.com", MemberStatus.ACTIVE)), pageable, 1));
 
-        when(memberRepository.getMembersBySearchTerm(trimmedSearchTerm, pageable)).thenReturn(memberPage);
-
-        // When - Search term should be trimmed
-        Page<Member> result = memberService.getAllMembers(pageable, searchTermWithSpaces, null);
+        // When
+        Page<MemberProfile> result = memberService.getAllMembers(pageable, "  jane  ", MemberStatus.ACTIVE);
 
         // Then - Should call with trimmed search term
         assertEquals(1, result.getContent().size());
-        assertEquals("John", result.getContent().getFirst().getFirstName());
-        verify(memberRepository, times(1)).getMembersBySearchTerm(trimmedSearchTerm, pageable);
-        verify(memberRepository, never()).getMembersBySearchTerm(searchTermWithSpaces, pageable);
+        assertTrue(result.getContent().getFirst().isConfirmed());
+        verify(memberRepository, times(1)).getProfiles("jane", MemberStatus.ACTIVE, pageable);
     }
 
     @Test
-    void getAllMembers_shouldTrimSearchTermWithStatus() {
-        // Given - Search with spaces and status filter
-        Pageable pageable = PageRequest.of(0, 20);
-        String searchTermWithSpaces = "  jane  ";
-        String trimmedSearchTerm = "jane";
-        MemberStatus status = MemberStatus.ACTIVE;
-        List<Member> members = List.of(
-                Member.builder().memberId(UUID.randomUUID()).firstName("Jane").email("jane@mail.com").status(MemberStatus.ACTIVE).build()
-        );
-        Page<Member> memberPage = new PageImpl<>(members, pageable, 1);
+    void findProfileByMemberId_shouldReturnProfile() {
+        UUID memberId = UUID.randomUUID();
+        MemberProfile profile = profile("John", "john@mail.com", MemberStatus.ACTIVE);
+        when(memberRepository.getProfileByMemberId(memberId)).thenReturn(Optional.of(profile));
 
-        when(memberRepository.getMembersBySearchTermAndStatus(trimmedSearchTerm, status, pageable))
-                .thenReturn(memberPage);
+        assertSame(profile, memberService.findProfileByMemberId(memberId));
+        verify(memberRepository, never()).getByMemberId(any());
+    }
 
-        // When
-        Page<Member> result = memberService.getAllMembers(pageable, searchTermWithSpaces, status);
+    @Test
+    void findProfileByMemberId_shouldThrowWhenNotFound() {
+        UUID memberId = UUID.randomUUID();
+        when(memberRepository.getProfileByMemberId(memberId)).thenReturn(Optional.empty());
 
-        // Then - Should call with trimmed search term
-        assertEquals(1, result.getContent().size());
-        assertTrue(result.getContent().getFirst().isConfirmed());
-        verify(memberRepository, times(1)).getMembersBySearchTermAndStatus(trimmedSearchTerm, status, pageable);
+        assertThrows(MemberNotFoundException.class, () -> memberService.findProfileByMemberId(memberId));
     }
 
     @Test
-    void getAllMembers_shouldHandleEmptySearchWithStatus() {
-        // Given - Empty search with status should ignore search
-        Pageable pageable = PageRequest.of(0, 20);
-        MemberStatus status = MemberStatus.PENDING;
-        List<Member> members = List.of(
-                Member.builder().memberId(UUID.randomUUID()).firstName("A").email("a@mail.com").status(MemberStatus.PENDING).build()
-        );
-        Page<Member> memberPage = new PageImpl<>(members, pageable, 1);
+    void getProfileByKeycloakUserId_shouldReturnProfile() {
+        MemberProfile profile = profile("John", "john@mail.com", MemberStatus.ACTIVE);
+        when(memberRepository.getProfileByKeycloakUserId("kc-1")).thenReturn(Optional.of(profile));
 
-        when(memberRepository.getByStatus(status, pageable)).thenReturn(memberPage);
+        assertSame(profile, memberService.getProfileByKeycloakUserId("kc-1"));
+    }
 
-        // When - Empty search should be normalized to null
-        Page<Member> result = memberService.getAllMembers(pageable, "  ", status);
+    @Test
+    void getProfileByKeycloakUserId_shouldRejectBlankIdAndThrowWhenNotFound() {
+        when(memberRepository.getProfileByKeycloakUserId("kc-unknown")).thenReturn(Optional.empty());
 
-        // Then - Should only filter by status
-        assertEquals(1, result.getContent().size());
-        verify(memberRepository, times(1)).getByStatus(status, pageable);
-        verify(memberRepository, never()).getMembersBySearchTermAndStatus(anyString(), any(), any());
+        assertThrows(IllegalArgumentException.class, () -> memberService.getProfileByKeycloakUserId(" "));
+        assertThrows(MemberNotFoundException.class, () -> memberService.getProfileByKeycloakUserId("kc-unknown"));
+    }
+
+    private static MemberProfile profile(String firstName, String email, MemberStatus status) {
+        return new MemberProfile(UUID.randomUUID(), firstName, "Doe", email, null, null, status,
+                true, null, LocalDateTime.now(), null);
     }
 
     // --- deactivateMember tests ---
@@ -434,14 +560,34 @@ class MemberServiceImplTest {
                 .build();
 
         when(memberRepository.getByMemberId(id)).thenReturn(Optional.of(existing));
-        when(memberRepository.save(any(Member.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(memberRepository.transitionStatus(eq(existing), any(MemberStatusChange.class)))
+                .thenAnswer(inv -> Optional.of(inv.<MemberStatusChange>getArgument(1).applyTo(existing)));
 
         memberService.deactivateMember(id);
 
-        verify(memberRepository).save(argThat(member ->
-                member.getStatus() == MemberStatus.DEACTIVATED
-                        && member.getDeactivatedAt() != null));
+        verify(memberRepository).transitionStatus(eq(existing), argThat(change ->
+                change.from() == MemberStatus.ACTIVE
+                        && change.to() == MemberStatus.DEACTIVATED
+                        && change.deactivatedAt() != null));
+        verify(memberRepository, never()).update(any(), any());
         verifyNoInteractions(authClient);
+        verify(statisticsRepository).apply(argThat(delta ->
+                delta.byStatus().equals(Map.of(MemberStatus.ACTIVE, -1L, MemberStatus.DEACTIVATED, 1L))));
+    }
+
+    @Test
+    void deactivateMember_shouldThrowWhenStatusChangedConcurrently() {
+        UUID id = UUID.randomUUID();
+        Member existing = Member.builder()
+                .memberId(id).firstName("ToDeactivate").email("deact@mail.com")
+                .status(MemberStatus.ACTIVE)
+                .build();
+
+        when(memberRepository.getByMemberId(id)).thenReturn(Optional.of(existing));
+        when(memberRepository.transitionStatus(eq(existing), any(MemberStatusChange.class))).thenReturn(Optional.empty());
+
+        assertThrows(OptimisticLockingFailureException.class, () -> memberService.deactivateMember(id));
+        verifyNoInteractions(statisticsRepository);
     }
 
     @Test
@@ -451,7 +597,7 @@ class MemberServiceImplTest {
 
         assertThrows(MemberNotFoundException.class, () -> memberService.deactivateMember(id));
 
-        verify(memberRepository, never()).save(any());
+        verify(memberRepository, never()).transitionStatus(any(), any());
     }
 
     // --- reactivateMember tests ---
@@ -466,15 +612,28 @@ class MemberServiceImplTest {
                 .build();
 
         when(memberRepository.getByMemberId(id)).thenReturn(Optional.of(existing));
-        when(memberRepository.save(any(Member.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(memberRepository.transitionStatus(eq(existing), any(MemberStatusChange.class)))
+                .thenAnswer(inv -> Optional.of(inv.<MemberStatusChange>getArgument(1).applyTo(existing)));
 
         Member result = memberService.reactivateMember(id);
 
         assertEquals(MemberStatus.ACTIVE, result.getStatus());
         assertNull(result.getDeactivatedAt());
-        verify(memberRepository).save(argThat(member ->
-                member.getStatus() == MemberStatus.ACTIVE
-                        && member.getDeactivatedAt() == null));
+        verify(memberRepository).transitionStatus(eq(existing), eq(MemberStatusChange.reactivate()));
+    }
+
+    @Test
+    void reactivateMember_shouldThrowWhenStatusChangedConcurrently() {
+        UUID id = UUID.randomUUID();
+        Member existing = Member.builder()
+                .memberId(id).firstName("Deactivated").email("deact@mail.com")
+                .status(MemberStatus.DEACTIVATED)
+                .build();
+
+        when(memberRepository.getByMemberId(id)).thenReturn(Optional.of(existing));
+        when(memberRepository.transitionStatus(eq(existing), any(MemberStatusChange.class))).thenReturn(Optional.empty());
+
+        assertThrows(IllegalStateException.class, () -> memberService.reactivateMember(id));
     }
 
     @Test
@@ -489,7 +648,7 @@ class MemberServiceImplTest {
 
         assertThrows(IllegalStateException.class, () -> memberService.reactivateMember(id));
 
-        verify(memberRepository, never()).save(any());
+        verify(memberRepository, never()).transitionStatus(any(), any());
     }
 
     @Test
@@ -499,7 +658,7 @@ class MemberServiceImplTest {
 
         assertThrows(MemberNotFoundException.class, () -> memberService.reactivateMember(id));
 
-        verify(memberRepository, never()).save(any());
+        verify(memberRepository, never()).update(any(), any());
     }
 
     // --- registerSocialMember tests ---
@@ -559,7 +718,7 @@ class MemberServiceImplTest {
 
         when(memberRepository.getByKeycloakUserId(keycloakUserId)).thenReturn(Optional.empty());
         when(memberRepository.getByEmail(socialRegistration.email())).thenReturn(Optional.of(existingMember));
-        when(memberRepository.save(any(Member.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(memberRepository.update(any(Member.class), any(Member.class))).thenAnswer(inv -> inv.getArgument(1));
 
         // When
         Member result = memberService.registerSocialMember(keycloakUserId, SocialProvider.GOOGLE, socialRegistration);
@@ -568,7 +727,7 @@ class MemberServiceImplTest {
         assertNotNull(result);
         assertEquals(keycloakUserId, result.getKeycloakUserId());
         assertEquals(SocialProvider.GOOGLE, result.getSocialProvider());
-        verify(memberRepository).save(any(Member.class));
+        verify(memberRepository).update(any(Member.class), any(Member.class));
         verify(eventPublisher, never()).publishEvent(any());
     }
 
@@ -599,4 +758,31 @@ class MemberServiceImplTest {
         verify(memberRepository, never()).save(any());
         verify(eventPublisher, never()).publishEvent(any());
     }
+
+    // --- statistics tests ---
+
+    @Test
+    void registerMember_shouldCountNewPendingMember() {
+        Member member = Member.builder()
+                .memberId(UUID.randomUUID()).firstName("John").email("john.doe@mail.com")
+                .build();
+        when(memberRepository.existsByEmail(registration.email())).thenReturn(false);
+        when(memberRepository.save(any(Member.class))).thenReturn(member);
+
+        memberService.registerMember(registration);
+
+        verify(statisticsRepository).apply(argThat(delta ->
+                delta.byStatus().equals(Map.of(MemberStatus.PENDING, 1L))
+                        && delta.bySocialProvider().isEmpty()));
+    }
+
+    @Test
+    void getStatistics_shouldReadAggregateCounters() {
+        MemberStatistics statistics = new MemberStatistics(
+                Map.of(MemberStatus.ACTIVE, 3L), Map.of(SocialProvider.GOOGLE, 1L), 2L);
+        when(statisticsRepository.get()).thenReturn(statistics);
+
+        assertSame(statistics, memberService.getStatistics());
+        verifyNoInteractions(memberRepository);
+    }
 }
@@ -0,0 +1,249 @@
+package com.ecclesiaflow.business.services.impl;
+
+import com.ecclesiaflow.business.domain.auth.AuthClient;
+import com.ecclesiaflow.business.domain.auth.PasswordSetupTokenResponse;
+import com.ecclesiaflow.business.domain.confirmation.ConfirmationTokenGenerator;
+import com.ecclesiaflow.business.domain.confirmation.MemberConfirmation;
+import com.ecclesiaflow.business.domain.confirmation.MemberConfirmationRepository;
+import com.ecclesiaflow.business.domain.emailchange.PendingEmailChange;
+import com.ecclesiaflow.business.domain.emailchange.PendingEmailChangeRepository;
+import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberRepository;
+import com.ecclesiaflow.business.domain.member.MemberSearchIndex;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatus;
+import com.ecclesiaflow.business.domain.member.MemberStatusChange;
+import com.ecclesiaflow.business.services.MemberConfirmationService;
+import com.ecclesiaflow.business.services.MemberService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Connection pool usage of the member workflows that call the Auth module (account
+ * confirmation, email change confirmation, member deletion) as the Auth latency rises.
+ *
+ * <p>Each workflow runs {@code benchmark.calls} times from 32 threads against a Hikari pool
+ * of 4 connections (H2 in memory). The repositories are mocks that run a query on the
+ * connection of the current transaction, so the pool sees the transactions of the services
+ * as they are. The Auth client answers after the given latency. The figure reported is the
+ * mean time a connection stays borrowed ({@code hikaricp.connections.usage}); the same
+ * confirmation run inside one enclosing transaction, the former shape, is the baseline.</p>
+ *
+ * <p>Run with:</p>
+ * <pre>
+ * mvn verify -Dit.test=MemberWorkflowConnectionPoolIT -Dbenchmark.pool=true [-Dbenchmark.calls=200]
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark.pool", matches = "true")
+class MemberWorkflowConnectionPoolIT {
+
+    private static final int POOL_SIZE = 4;
+    private static final int CALLER_THREADS = 32;
+    private static final long[] AUTH_LATENCIES_MS = {0, 100, 300};
+
+    private final int calls = Integer.getInteger("benchmark.calls", 200);
+
+    @Test
+    void connectionUsageShouldStayFlatWhenAuthLatencyRises() throws Exception {
+        List<Double> usageMs = new ArrayList<>();
+        for (long latency : AUTH_LATENCIES_MS) {
+            double confirmation = measure("confirmMemberByToken", latency, false, this::confirmMember);
+            double emailChange = measure("confirmEmailChange", latency, false, this::confirmEmailChange);
+            double deletion = measure("deleteMember", latency, false, this::deleteMember);
+            double enclosing = measure("confirmMemberByToken in one transaction", latency, true, this::confirmMember);
+
+            assertThat(enclosing).isGreaterThanOrEqualTo(latency);
+            usageMs.addAll(List.of(confirmation, emailChange, deletion));
+        }
+
+        // Borrowed time does not follow the Auth latency (300 ms at most)
+        assertThat(usageMs).allSatisfy(usage -> assertThat(usage).isLessThan(50));
+    }
+
+    /**
+     * @return mean connection usage, in milliseconds
+     */
+    private double measure(String workflow, long authLatencyMs, boolean enclosingTransaction,
+                           Function<Workflow, Runnable> scenario) throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (HikariDataSource dataSource = dataSource(registry)) {
+            Workflow context = new Workflow(dataSource, authLatencyMs);
+            Runnable call = scenario.apply(context);
+            Runnable task = enclosingTransaction
+                    ? () -> new TransactionTemplate(context.transactionManager).executeWithoutResult(status -> call.run())
+                    : call;
+
+            long start = System.nanoTime();
+            ExecutorService callers = Executors.newFixedThreadPool(CALLER_THREADS);
+            try {
+                List<Future<?>> results = new ArrayList<>(calls);
+                for (int i = 0; i < calls; i++) {
+                    results.add(callers.submit(task));
+                }
+                for (Future<?> result : results) {
+                    result.get(5, TimeUnit.MINUTES);
+                }
+            } finally {
+                callers.shutdownNow();
+            }
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            Timer usage = registry.get("hikaricp.connections.usage").timer();
+            double meanMs = usage.mean(TimeUnit.MILLISECONDS);
+            System.out.printf("%-42s auth %3d ms: connection usage mean %6.1f ms, max %6.1f ms, %d calls in %d ms%n",
+                    workflow, authLatencyMs, meanMs, usage.max(TimeUnit.MILLISECONDS), calls, elapsedMs);
+            return meanMs;
+        }
+    }
+
+    private HikariDataSource dataSource(SimpleMeterRegistry registry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:pool-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(POOL_SIZE);
+        dataSource.setConnectionTimeout(30_000);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return dataSource;
+    }
+
+    private Runnable confirmMember(Workflow workflow) {
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        MemberConfirmationRepository confirmationRepository = mock(MemberConfirmationRepository.class);
+        AuthClient authClient = mock(AuthClient.class);
+        UUID token = UUID.randomUUID();
+        Member member = member();
+
+        when(confirmationRepository.getByToken(token)).thenAnswer(workflow.query(Optional.of(
+                MemberConfirmation.builder().memberId(member.getMemberId()).token(token)
+                        .expiresAt(LocalDateTime.now().plusHours(1)).build())));
+        when(memberRepository.getByMemberId(member.getMemberId())).thenAnswer(workflow.query(Optional.of(member)));
+        when(memberRepository.transitionStatus(any(), any())).thenAnswer(inv -> {
+            workflow.query();
+            return Optional.of(inv.<MemberStatusChange>getArgument(1).applyTo(member));
+        });
+        doAnswer(workflow.query(null)).when(confirmationRepository).delete(any());
+        when(authClient.retrievePostActivationToken(any(), any())).thenAnswer(inv -> {
+            workflow.authCall().answer(inv);
+            return new PasswordSetupTokenResponse("token", 900, "/ecclesiaflow/auth/password");
+        });
+
+        MemberConfirmationServiceImpl service = new MemberConfirmationServiceImpl(memberRepository,
+                confirmationRepository, authClient, mock(ApplicationEventPublisher.class),
+                mock(ConfirmationTokenGenerator.class), mock(MemberStatisticsRepository.class),
+                workflow.transactionManager);
+        return () -> service.confirmMemberByToken(token);
+    }
+
+    private Runnable confirmEmailChange(Workflow workflow) {
+        MemberService memberService = mock(MemberService.class);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        PendingEmailChangeRepository pendingRepository = mock(PendingEmailChangeRepository.class);
+        AuthClient authClient = mock(AuthClient.class);
+        UUID token = UUID.randomUUID();
+        Member member = member();
+        PendingEmailChange pendingChange = PendingEmailChange.builder().id(UUID.randomUUID())
+                .memberId(member.getMemberId()).newEmail("new@example.com").token(token)
+                .expiresAt(LocalDateTime.now().plusHours(1)).build();
+
+        when(pendingRepository.getByToken(token)).thenAnswer(workflow.query(Optional.of(pendingChange)));
+        when(memberRepository.existsByEmail(any())).thenAnswer(workflow.query(false));
+        when(pendingRepository.claimForConfirmation(any(), any())).thenAnswer(workflow.query(true));
+        when(memberService.findByMemberId(member.getMemberId())).thenAnswer(workflow.query(member));
+        when(memberRepository.update(any(), any())).thenAnswer(inv -> {
+            workflow.query();
+            return inv.getArgument(1);
+        });
+        doAnswer(workflow.query(null)).when(pendingRepository).delete(any());
+        doAnswer(workflow.authCall()).when(authClient).updateKeycloakUserEmail(any(), any());
+
+        EmailChangeServiceImpl service = new EmailChangeServiceImpl(memberService, memberRepository,
+                pendingRepository, mock(ConfirmationTokenGenerator.class), authClient,
+                mock(ApplicationEventPublisher.class), workflow.transactionManager);
+        return () -> service.confirmEmailChange(token);
+    }
+
+    private Runnable deleteMember(Workflow workflow) {
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        AuthClient authClient = mock(AuthClient.class);
+        Member member = member();
+
+        when(memberRepository.getByMemberId(member.getMemberId())).thenAnswer(workflow.query(Optional.of(member)));
+        when(memberRepository.transitionStatus(any(), any())).thenAnswer(inv -> {
+            workflow.query();
+            return Optional.of(inv.<MemberStatusChange>getArgument(1).applyTo(inv.getArgument(0)));
+        });
+        doAnswer(workflow.query(null)).when(memberRepository).delete(any());
+        doAnswer(workflow.authCall()).when(authClient).deleteKeycloakUser(any());
+
+        MemberServiceImpl service = new MemberServiceImpl(memberRepository, mock(MemberConfirmationService.class),
+                authClient, mock(ApplicationEventPublisher.class), mock(MemberSearchIndex.class),
+                mock(MemberStatisticsRepository.class), workflow.transactionManager);
+        return () -> service.deleteMember(member.getMemberId());
+    }
+
+    private static Member member() {
+        UUID memberId = UUID.randomUUID();
+        return Member.builder().id(memberId).memberId(memberId).firstName("Jean").email("jean@example.com")
+                .keycloakUserId("kc-" + memberId).status(MemberStatus.PENDING).build();
+    }
+
+    /** Transaction manager and JDBC access on the measured pool, and the simulated Auth latency. */
+    private static final class Workflow {
+
+        private final PlatformTransactionManager transactionManager;
+        private final JdbcTemplate jdbc;
+        private final long authLatencyMs;
+
+        Workflow(HikariDataSource dataSource, long authLatencyMs) {
+            this.transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbc = new JdbcTemplate(dataSource);
+            this.authLatencyMs = authLatencyMs;
+        }
+
+        /** One statement on the connection of the current transaction. */
+        void query() {
+            jdbc.queryForObject("SELECT 1", Integer.class);
+        }
+
+        <T> Answer<T> query(T result) {
+            return inv -> {
+                query();
+                return result;
+            };
+        }
+
+        Answer<Void> authCall() {
+            return inv -> {
+                Thread.sleep(authLatencyMs);
+                return null;
+            };
+        }
+    }
+}
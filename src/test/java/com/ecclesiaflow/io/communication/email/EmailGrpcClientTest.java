@@ -1,7 +1,15 @@
 package com.ecclesiaflow.io.communication.email;
 
+import com.ecclesiaflow.business.domain.communication.EmailSendResult;
+import com.ecclesiaflow.business.domain.communication.OutboundEmail;
 import com.ecclesiaflow.business.exceptions.EmailServiceException;
+import com.ecclesiaflow.business.exceptions.EmailServiceUnavailableException;
 import com.ecclesiaflow.grpc.email.*;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
 import io.grpc.ManagedChannel;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
@@ -10,12 +18,18 @@ import io.grpc.inprocess.InProcessServerBuilder;
 import io.grpc.stub.StreamObserver;
 import io.grpc.testing.GrpcCleanupRule;
 import org.junit.Rule;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -24,8 +38,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
  * Unit tests for {@link EmailGrpcClient}.
  *
  * <p>Tests gRPC communication with the Email service including success
- * scenarios and error handling. Circuit breaker behavior is tested
- * separately in integration tests.</p>
+ * scenarios, error handling, the async API with its deadline and bulkhead,
+ * and the per-batch circuit breaker.</p>
  *
  * @author EcclesiaFlow Team
  * @since 1.0.0
@@ -57,177 +71,170 @@ class EmailGrpcClientTest {
                 .directExecutor()
                 .build());
 
-        emailGrpcClient = new EmailGrpcClient(channel);
+        emailGrpcClient = client(CircuitBreakerRegistry.ofDefaults());
     }
 
-    @Nested
-    @DisplayName("sendConfirmationEmail")
-    class SendConfirmationEmail {
-
-        @Test
-        @DisplayName("should return email ID on successful send")
-        void shouldReturnEmailIdOnSuccess() {
-            // Given
-            String email = "test@example.com";
-            String confirmationUrl = "https://ecclesiaflow.com/confirm?token=abc123";
-            UUID expectedId = UUID.randomUUID();
-            testService.setResponseEmailId(expectedId.toString());
+    @AfterEach
+    void tearDown() {
+        emailGrpcClient.close();
+    }
 
-            String firstName = "John";
+    private EmailGrpcClient client(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return new EmailGrpcClient(channel, circuitBreakerRegistry, BulkheadRegistry.ofDefaults(),
+                TimeLimiterRegistry.ofDefaults(), Duration.ofMillis(500));
+    }
 
-            // When
-            UUID result = emailGrpcClient.sendConfirmationEmail(email, confirmationUrl, firstName);
+    @Nested
+    @DisplayName("sendBatch")
+    class SendBatch {
 
-            // Then
-            assertThat(result).isEqualTo(expectedId);
-            assertThat(testService.getLastRequest()).isNotNull();
-            assertThat(testService.getLastRequest().getToList()).contains(email);
-            assertThat(testService.getLastRequest().getTemplateType())
+        @Test
+        @DisplayName("should send all emails in one bulk call and map results by position")
+        void shouldSendOneBulkCall() {
+            UUID acceptedId = UUID.randomUUID();
+            testService.setBulkResults(List.of(
+                    SendEmailResponse.newBuilder()
+                            .setEmailId(acceptedId.toString())
+                            .setStatus(com.ecclesiaflow.grpc.email.Status.STATUS_QUEUED)
+                            .build(),
+                    SendEmailResponse.newBuilder()
+                            .setStatus(com.ecclesiaflow.grpc.email.Status.STATUS_FAILED)
+                            .setMessage("Invalid recipient")
+                            .build()));
+
+            List<EmailSendResult> results = emailGrpcClient.sendBatch(List.of(
+                    OutboundEmail.confirmation("a@example.com", "https://ecclesiaflow.com/confirm?token=t", "Anne"),
+                    OutboundEmail.welcome("b@example.com", null)));
+
+            assertThat(results).containsExactly(
+                    EmailSendResult.accepted(acceptedId),
+                    EmailSendResult.rejected("Invalid recipient"));
+            SendBulkEmailsRequest request = testService.getLastBulkRequest();
+            assertThat(request.getEmailsCount()).isEqualTo(2);
+            assertThat(request.getEmails(0).getTemplateType())
                     .isEqualTo(EmailTemplateType.EMAIL_TEMPLATE_EMAIL_CONFIRMATION);
+            assertThat(request.getEmails(0).getVariablesMap())
+                    .containsEntry("confirmationLink", "https://ecclesiaflow.com/confirm?token=t");
+            assertThat(request.getEmails(1).getVariablesMap()).containsEntry("firstName", "Membre");
         }
 
         @Test
-        @DisplayName("should throw EmailServiceException on UNAVAILABLE status")
-        void shouldThrowExceptionOnUnavailable() {
-            // Given
-            String email = "test@example.com";
-            String confirmationUrl = "https://ecclesiaflow.com/confirm?token=abc123";
-            testService.setErrorToThrow(Status.UNAVAILABLE.withDescription("Service down"));
+        @DisplayName("should reject emails the response has no result for")
+        void shouldRejectEmailsWithoutResult() {
+            testService.setBulkResults(List.of());
 
-            String firstName = "John";
+            List<EmailSendResult> results = emailGrpcClient.sendBatch(
+                    List.of(OutboundEmail.emailChanged("old@example.com", "John")));
 
-            // When/Then
-            assertThatThrownBy(() -> emailGrpcClient.sendConfirmationEmail(email, confirmationUrl, firstName))
-                    .isInstanceOf(EmailServiceException.class)
-                    .hasMessageContaining("UNAVAILABLE");
+            assertThat(results).singleElement().satisfies(result -> assertThat(result.isAccepted()).isFalse());
         }
 
         @Test
-        @DisplayName("should throw EmailServiceException on DEADLINE_EXCEEDED status")
-        void shouldThrowExceptionOnDeadlineExceeded() {
-            // Given
-            String email = "test@example.com";
-            String confirmationUrl = "https://ecclesiaflow.com/confirm?token=abc123";
-            testService.setErrorToThrow(Status.DEADLINE_EXCEEDED.withDescription("Timeout"));
-
-            String firstName = "John";
-
-            // When/Then
-            assertThatThrownBy(() -> emailGrpcClient.sendConfirmationEmail(email, confirmationUrl, firstName))
-                    .isInstanceOf(EmailServiceException.class)
-                    .hasMessageContaining("DEADLINE_EXCEEDED");
+        @DisplayName("should pick the template of each email operation")
+        void shouldMapOperationsToTemplates() {
+            emailGrpcClient.sendBatch(List.of(
+                    OutboundEmail.welcome("a@example.com", "Anne"),
+                    OutboundEmail.emailChanged("old@example.com", "Paul")));
+
+            SendBulkEmailsRequest request = testService.getLastBulkRequest();
+            assertThat(request.getEmails(0).getTemplateType()).isEqualTo(EmailTemplateType.EMAIL_TEMPLATE_WELCOME);
+            assertThat(request.getEmails(1).getTemplateType())
+                    .isEqualTo(EmailTemplateType.EMAIL_TEMPLATE_PROFILE_UPDATED);
+            assertThat(request.getEmails(1).getToList()).containsExactly("old@example.com");
         }
 
         @Test
-        @DisplayName("should throw EmailServiceException on INTERNAL status")
-        void shouldThrowExceptionOnInternalError() {
-            // Given
-            String email = "test@example.com";
-            String confirmationUrl = "https://ecclesiaflow.com/confirm?token=abc123";
-            testService.setErrorToThrow(Status.INTERNAL.withDescription("Internal error"));
-
-            String firstName = "John";
+        @DisplayName("should throw EmailServiceException when the bulk call fails")
+        void shouldThrowOnError() {
+            testService.setErrorToThrow(Status.UNAVAILABLE.withDescription("Down"));
 
-            // When/Then
-            assertThatThrownBy(() -> emailGrpcClient.sendConfirmationEmail(email, confirmationUrl, firstName))
+            assertThatThrownBy(() -> emailGrpcClient.sendBatch(
+                    List.of(OutboundEmail.welcome("test@example.com", "John"))))
                     .isInstanceOf(EmailServiceException.class)
-                    .hasMessageContaining("INTERNAL");
+                    .hasMessageContaining("Bulk email sending failed (1 emails)")
+                    .hasMessageContaining("UNAVAILABLE");
         }
 
         @Test
-        @DisplayName("should include email operation type in exception")
-        void shouldIncludeOperationTypeInException() {
-            // Given
-            String email = "test@example.com";
-            String confirmationUrl = "https://ecclesiaflow.com/confirm?token=abc123";
+        @DisplayName("should count one circuit breaker call per batch and fail fast once open")
+        void shouldOpenCircuitPerBatch() {
+            CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                    .slidingWindowSize(2)
+                    .minimumNumberOfCalls(2)
+                    .waitDurationInOpenState(Duration.ofMinutes(1))
+                    .build());
+            EmailGrpcClient client = client(registry);
             testService.setErrorToThrow(Status.UNAVAILABLE);
-
-            String firstName = "John";
-
-            // When/Then
-            assertThatThrownBy(() -> emailGrpcClient.sendConfirmationEmail(email, confirmationUrl, firstName))
-                    .isInstanceOf(EmailServiceException.class)
-                    .hasMessageContaining("CONFIRMATION");
+            try {
+                for (int i = 0; i < 2; i++) {
+                    assertThatThrownBy(() -> client.sendBatch(
+                            List.of(OutboundEmail.welcome("a@example.com", "Anne"),
+                                    OutboundEmail.welcome("b@example.com", "Paul"))))
+                            .isInstanceOf(EmailServiceException.class);
+                }
+
+                assertThatThrownBy(() -> client.sendBatch(List.of(OutboundEmail.welcome("c@example.com", "Marc"))))
+                        .isInstanceOf(EmailServiceUnavailableException.class);
+                assertThat(testService.getBulkCalls()).isEqualTo(2);
+            } finally {
+                client.close();
+            }
         }
     }
 
     @Nested
-    @DisplayName("sendWelcomeEmail")
-    class SendWelcomeEmail {
+    @DisplayName("async API")
+    class AsyncApi {
 
         @Test
-        @DisplayName("should return email ID on successful send")
-        void shouldReturnEmailIdOnSuccess() {
+        @DisplayName("should complete the future with the results")
+        void shouldCompleteWithResults() {
             UUID expectedId = UUID.randomUUID();
             testService.setResponseEmailId(expectedId.toString());
 
-            UUID result = emailGrpcClient.sendWelcomeEmail("test@example.com", "John");
+            CompletableFuture<List<EmailSendResult>> result = emailGrpcClient.sendBatchAsync(
+                    List.of(OutboundEmail.welcome("test@example.com", "John")));
 
-            assertThat(result).isEqualTo(expectedId);
-            assertThat(testService.getLastRequest().getTemplateType())
-                    .isEqualTo(EmailTemplateType.EMAIL_TEMPLATE_WELCOME);
+            assertThat(result).succeedsWithin(Duration.ofSeconds(5))
+                    .isEqualTo(List.of(EmailSendResult.accepted(expectedId)));
         }
 
         @Test
-        @DisplayName("should handle null firstName")
-        void shouldHandleNullFirstName() {
-            UUID expectedId = UUID.randomUUID();
-            testService.setResponseEmailId(expectedId.toString());
-
-            UUID result = emailGrpcClient.sendWelcomeEmail("test@example.com", null);
+        @DisplayName("should fail with DEADLINE_EXCEEDED when the service does not answer in time")
+        void shouldFailPastDeadline() {
+            testService.setAnswer(false);
 
-            assertThat(result).isEqualTo(expectedId);
-            assertThat(testService.getLastRequest().getVariablesMap().get("firstName")).isEqualTo("Membre");
-        }
+            CompletableFuture<List<EmailSendResult>> result = emailGrpcClient.sendBatchAsync(
+                    List.of(OutboundEmail.welcome("test@example.com", "John")));
 
-        @Test
-        @DisplayName("should throw EmailServiceException on error")
-        void shouldThrowOnError() {
-            testService.setErrorToThrow(Status.UNAVAILABLE.withDescription("Down"));
-
-            assertThatThrownBy(() -> emailGrpcClient.sendWelcomeEmail("test@example.com", "John"))
+            assertThat(result).failsWithin(Duration.ofSeconds(5))
+                    .withThrowableThat()
+                    .havingCause()
                     .isInstanceOf(EmailServiceException.class)
-                    .hasMessageContaining("WELCOME");
-        }
-    }
-
-    @Nested
-    @DisplayName("sendEmailChangedNotification")
-    class SendEmailChangedNotification {
-
-        @Test
-        @DisplayName("should return email ID on successful send")
-        void shouldReturnEmailIdOnSuccess() {
-            UUID expectedId = UUID.randomUUID();
-            testService.setResponseEmailId(expectedId.toString());
-
-            UUID result = emailGrpcClient.sendEmailChangedNotification("old@example.com", "John");
-
-            assertThat(result).isEqualTo(expectedId);
-            assertThat(testService.getLastRequest().getTemplateType())
-                    .isEqualTo(EmailTemplateType.EMAIL_TEMPLATE_PROFILE_UPDATED);
+                    .withMessageContaining("DEADLINE_EXCEEDED");
         }
 
         @Test
-        @DisplayName("should handle null firstName")
-        void shouldHandleNullFirstName() {
-            UUID expectedId = UUID.randomUUID();
-            testService.setResponseEmailId(expectedId.toString());
-
-            UUID result = emailGrpcClient.sendEmailChangedNotification("old@example.com", null);
-
-            assertThat(result).isEqualTo(expectedId);
-            assertThat(testService.getLastRequest().getVariablesMap().get("firstName")).isEqualTo("Membre");
-        }
-
-        @Test
-        @DisplayName("should throw EmailServiceException on error")
-        void shouldThrowOnError() {
-            testService.setErrorToThrow(Status.INTERNAL.withDescription("Error"));
-
-            assertThatThrownBy(() -> emailGrpcClient.sendEmailChangedNotification("old@example.com", "John"))
-                    .isInstanceOf(EmailServiceException.class)
-                    .hasMessageContaining("EMAIL_CHANGED");
+        @DisplayName("should fail fast when the bulkhead is full")
+        void shouldFailFastWhenBulkheadIsFull() {
+            testService.setAnswer(false);
+            EmailGrpcClient client = new EmailGrpcClient(channel, CircuitBreakerRegistry.ofDefaults(),
+                    BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build()),
+                    TimeLimiterRegistry.ofDefaults(), Duration.ofSeconds(2));
+            try {
+                CompletableFuture<List<EmailSendResult>> inFlight = client.sendBatchAsync(
+                        List.of(OutboundEmail.welcome("a@example.com", "Anne")));
+
+                assertThat(client.sendBatchAsync(List.of(OutboundEmail.welcome("b@example.com", "Paul"))))
+                        .isCompletedExceptionally()
+                        .failsWithin(Duration.ZERO)
+                        .withThrowableThat()
+                        .havingCause()
+                        .isInstanceOf(EmailServiceUnavailableException.class);
+                assertThat(inFlight).isNotDone();
+            } finally {
+                client.close();
+            }
         }
     }
 
@@ -238,7 +245,11 @@ class EmailGrpcClientTest {
 
         private String responseEmailId = UUID.randomUUID().toString();
         private Status errorToThrow = null;
-        private SendEmailRequest lastRequest = null;
+        private volatile boolean answer = true;
+        private volatile SendEmailRequest lastRequest = null;
+        private List<SendEmailResponse> bulkResults = null;
+        private volatile SendBulkEmailsRequest lastBulkRequest = null;
+        private final List<SendBulkEmailsRequest> bulkRequests = Collections.synchronizedList(new ArrayList<>());
 
         public void setResponseEmailId(String emailId) {
             this.responseEmailId = emailId;
@@ -248,10 +259,61 @@ class EmailGrpcClientTest {
             this.errorToThrow = status;
         }
 
+        /** When false, calls are accepted but never answered, so the client deadline applies. */
+        public void setAnswer(boolean answer) {
+            this.answer = answer;
+        }
+
         public SendEmailRequest getLastRequest() {
             return lastRequest;
         }
 
+        public void setBulkResults(List<SendEmailResponse> results) {
+            this.bulkResults = results;
+        }
+
+        public SendBulkEmailsRequest getLastBulkRequest() {
+            return lastBulkRequest;
+        }
+
+        public int getBulkCalls() {
+            return bulkRequests.size();
+        }
+
+        @Override
+        public void sendBulkEmails(SendBulkEmailsRequest request,
+                                   StreamObserver<SendBulkEmailsResponse> responseObserver) {
+            lastBulkRequest = request;
+            bulkRequests.add(request);
+            if (request.getEmailsCount() > 0) {
+                lastRequest = request.getEmails(request.getEmailsCount() - 1);
+            }
+            if (!answer) {
+                return;
+            }
+
+            if (errorToThrow != null) {
+                responseObserver.onError(new StatusRuntimeException(errorToThrow));
+                return;
+            }
+
+            List<SendEmailResponse> results = bulkResults;
+            if (results == null) {
+                results = request.getEmailsList().stream()
+                        .map(email -> SendEmailResponse.newBuilder()
+                                .setEmailId(responseEmailId)
+                                .setStatus(com.ecclesiaflow.grpc.email.Status.STATUS_QUEUED)
+                                .build())
+                        .toList();
+            }
+
+            responseObserver.onNext(SendBulkEmailsResponse.newBuilder()
+                    .addAllResults(results)
+                    .setTotal(request.getEmailsCount())
+                    .build());
+            responseObserver.onCompleted();
+        }
+
         @Override
         public void sendEmail(SendEmailRequest request, StreamObserver<SendEmailResponse> responseObserver) {
             lastRequest = request;
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -107,6 +108,27 @@ class AuthGrpcClientIntegrationTest {
         assertEquals("/ecclesiaflow/auth/password", response.passwordEndpoint());
     }
 
+    @Test
+    @DisplayName("Should complete the async call with the generated token")
+    void retrievePostActivationTokenAsync_Success() {
+        PasswordSetupTokenResponse response =
+                client.retrievePostActivationTokenAsync(EMAIL, MEMBER_ID).join();
+
+        assertEquals(GENERATED_TOKEN, response.token());
+        assertEquals(900, response.expiresInSeconds());
+    }
+
+    @Test
+    @DisplayName("Should fail the async call with the mapped business exception")
+    void retrievePostActivationTokenAsync_InvalidArgument() {
+        CompletionException exception = assertThrows(CompletionException.class, () ->
+            client.retrievePostActivationTokenAsync("", MEMBER_ID).join()
+        );
+
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertTrue(exception.getCause().getMessage().contains("Email cannot be null or empty"));
+    }
+
     @Test
     @DisplayName("Should throw exception for empty email")
     void retrievePostActivationToken_EmptyEmail() {
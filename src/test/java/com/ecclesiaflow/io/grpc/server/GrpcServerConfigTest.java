@@ -2,6 +2,7 @@ package com.ecclesiaflow.io.grpc.server;
 
 import io.grpc.Server;
 import io.grpc.protobuf.services.HealthStatusManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,7 +39,7 @@ class GrpcServerConfigTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        config = new GrpcServerConfig(membersGrpcService);
+        config = new GrpcServerConfig(membersGrpcService, new SimpleMeterRegistry());
         
         // Configuration des valeurs par défaut
         ReflectionTestUtils.setField(config, "grpcServerPort", 9091);
@@ -228,8 +229,8 @@ class GrpcServerConfigTest {
     @DisplayName("Start doit initialiser le serveur gRPC")
     void startShouldInitializeGrpcServer() throws Exception {
         // Given - Créer une vraie config avec un vrai service
-        MembersGrpcServiceImpl realService = new MembersGrpcServiceImpl(null, null);
-        GrpcServerConfig realConfig = new GrpcServerConfig(realService);
+        MembersGrpcServiceImpl realService = new MembersGrpcServiceImpl(null, null, null);
+        GrpcServerConfig realConfig = new GrpcServerConfig(realService, new SimpleMeterRegistry());
         ReflectionTestUtils.setField(realConfig, "grpcServerPort", 0); // Port auto
         ReflectionTestUtils.setField(realConfig, "shutdownTimeoutSeconds", 5);
 
@@ -253,8 +254,8 @@ class GrpcServerConfigTest {
     @DisplayName("Start doit permettre l'accès au bean grpcServer")
     void startShouldExposeGrpcServerBean() throws Exception {
         // Given
-        MembersGrpcServiceImpl realService = new MembersGrpcServiceImpl(null, null);
-        GrpcServerConfig realConfig = new GrpcServerConfig(realService);
+        MembersGrpcServiceImpl realService = new MembersGrpcServiceImpl(null, null, null);
+        GrpcServerConfig realConfig = new GrpcServerConfig(realService, new SimpleMeterRegistry());
         ReflectionTestUtils.setField(realConfig, "grpcServerPort", 0);
         ReflectionTestUtils.setField(realConfig, "shutdownTimeoutSeconds", 5);
 
@@ -3,11 +3,17 @@ package com.ecclesiaflow.io.grpc.server;
 import com.ecclesiaflow.business.domain.events.MemberActivatedEvent;
 import com.ecclesiaflow.business.domain.member.Member;
 import com.ecclesiaflow.business.domain.member.MemberRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsRepository;
 import com.ecclesiaflow.business.domain.member.MemberStatus;
+import com.ecclesiaflow.business.domain.member.MemberStatusChange;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import com.ecclesiaflow.grpc.members.*;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,11 +27,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -44,6 +55,9 @@ class MembersGrpcServiceImplTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private MemberStatisticsRepository statisticsRepository;
+
     @Mock
     private StreamObserver<ConfirmationStatusResponse> responseObserver;
 
@@ -379,14 +393,44 @@ class MembersGrpcServiceImplTest {
                     .build();
 
             when(memberRepository.getByMemberId(MEMBER_ID)).thenReturn(Optional.of(confirmed));
+            when(memberRepository.transitionStatus(confirmed, MemberStatusChange.activate("kc-user-123")))
+                    .thenReturn(Optional.of(confirmed.toBuilder().status(MemberStatus.ACTIVE).build()));
 
             service.notifyAccountActivated(request, activatedObserver);
 
             verify(activatedObserver).onNext(activatedCaptor.capture());
             verify(activatedObserver).onCompleted();
             assertThat(activatedCaptor.getValue().getSuccess()).isTrue();
-            verify(memberRepository).save(any(Member.class));
             verify(eventPublisher).publishEvent(any(MemberActivatedEvent.class));
+            verify(statisticsRepository).apply(argThat(delta -> delta.byStatus().equals(
+                    Map.of(MemberStatus.CONFIRMED, -1L, MemberStatus.ACTIVE, 1L))));
+        }
+
+        @Test
+        @DisplayName("should fail when the member was activated concurrently")
+        void shouldFailWhenActivatedConcurrently() {
+            Member confirmed = Member.builder()
+                    .memberId(MEMBER_ID)
+                    .email(VALID_EMAIL)
+                    .firstName("John")
+                    .status(MemberStatus.CONFIRMED)
+                    .build();
+
+            AccountActivatedRequest request = AccountActivatedRequest.newBuilder()
+                    .setMemberId(MEMBER_ID.toString())
+                    .setKeycloakUserId("kc-user-123")
+                    .build();
+
+            when(memberRepository.getByMemberId(MEMBER_ID)).thenReturn(Optional.of(confirmed));
+            when(memberRepository.transitionStatus(eq(confirmed), any(MemberStatusChange.class)))
+                    .thenReturn(Optional.empty());
+
+            service.notifyAccountActivated(request, activatedObserver);
+
+            verify(activatedObserver).onNext(activatedCaptor.capture());
+            assertThat(activatedCaptor.getValue().getSuccess()).isFalse();
+            assertThat(activatedCaptor.getValue().getMessage()).contains("not in CONFIRMED status");
+            verify(eventPublisher, never()).publishEvent(any());
         }
 
         @Test
@@ -509,7 +553,7 @@ class MembersGrpcServiceImplTest {
             verify(credentialsObserver).onNext(credentialsCaptor.capture());
             verify(credentialsObserver).onCompleted();
             assertThat(credentialsCaptor.getValue().getSuccess()).isTrue();
-            verify(memberRepository).save(any(Member.class));
+            verify(memberRepository).update(any(Member.class), any(Member.class));
         }
 
         @Test
@@ -554,4 +598,138 @@ class MembersGrpcServiceImplTest {
             verify(credentialsObserver).onError(any(StatusRuntimeException.class));
         }
     }
+
+    // ========================================================================
+    // Tests - exportMembers
+    // ========================================================================
+
+    @Nested
+    @DisplayName("exportMembers")
+    class ExportMembers {
+
+        @Mock
+        private StreamObserver<MemberRecord> exportObserver;
+
+        @Mock
+        private ServerCallStreamObserver<MemberRecord> serverCallObserver;
+
+        @Captor
+        private ArgumentCaptor<MemberRecord> recordCaptor;
+
+        private final Member member = Member.builder()
+                .memberId(MEMBER_ID)
+                .firstName("John")
+                .lastName("Doe")
+                .email(VALID_EMAIL)
+                .status(MemberStatus.ACTIVE)
+                .confirmedAt(LocalDateTime.of(2024, 3, 1, 9, 30))
+                .createdAt(LocalDateTime.of(2024, 2, 1, 9, 30))
+                .build();
+
+        @Captor
+        private ArgumentCaptor<Runnable> onReadyCaptor;
+
+        @Captor
+        private ArgumentCaptor<Runnable> onCancelCaptor;
+
+        private Window<Member> page(boolean hasNext, Member... members) {
+            KeysetScrollPosition position = ScrollPosition.forward(Map.of("id", UUID.randomUUID()));
+            return Window.from(List.of(members), index -> position, hasNext);
+        }
+
+        private Runnable startOnServerCall() {
+            service.exportMembers(ExportMembersRequest.getDefaultInstance(), serverCallObserver);
+            verify(serverCallObserver).setOnCancelHandler(onCancelCaptor.capture());
+            verify(serverCallObserver).setOnReadyHandler(onReadyCaptor.capture());
+            return onReadyCaptor.getValue();
+        }
+
+        @Test
+        @DisplayName("should stream one record per member, page after page, then complete")
+        void shouldStreamMembers() {
+            Window<Member> first = page(true, member);
+            when(memberRepository.scrollMembers(isNull(), eq(MemberStatus.ACTIVE), any(), any(), anyInt()))
+                    .thenReturn(first, page(false, member));
+
+            service.exportMembers(ExportMembersRequest.newBuilder().setStatus("active").build(), exportObserver);
+
+            verify(exportObserver, times(2)).onNext(recordCaptor.capture());
+            verify(exportObserver).onCompleted();
+            verify(memberRepository).scrollMembers(isNull(), eq(MemberStatus.ACTIVE),
+                    eq((KeysetScrollPosition) first.positionAt(0)), any(), eq(MembersGrpcServiceImpl.EXPORT_PAGE_SIZE));
+            MemberRecord record = recordCaptor.getValue();
+            assertThat(record.getMemberId()).isEqualTo(MEMBER_ID.toString());
+            assertThat(record.getEmail()).isEqualTo(VALID_EMAIL);
+            assertThat(record.getStatus()).isEqualTo("ACTIVE");
+            assertThat(record.getAddress()).isEmpty();
+            assertThat(record.getCreatedAt()).isEqualTo("2024-02-01T09:30");
+        }
+
+        @Test
+        @DisplayName("should export all members when no status is given")
+        void shouldExportAllWithoutStatus() {
+            when(memberRepository.scrollMembers(isNull(), isNull(), any(), any(), anyInt())).thenReturn(page(false));
+
+            service.exportMembers(ExportMembersRequest.getDefaultInstance(), exportObserver);
+
+            verify(exportObserver, never()).onNext(any());
+            verify(exportObserver).onCompleted();
+        }
+
+        @Test
+        @DisplayName("should reject an unknown status with INVALID_ARGUMENT")
+        void shouldRejectUnknownStatus() {
+            service.exportMembers(ExportMembersRequest.newBuilder().setStatus("BANNED").build(), exportObserver);
+
+            verify(exportObserver).onError(errorCaptor.capture());
+            assertThat(errorCaptor.getValue().getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+            verifyNoInteractions(memberRepository);
+        }
+
+        @Test
+        @DisplayName("should send only while the call is ready and resume on the next ready signal")
+        void shouldFollowFlowControl() {
+            when(memberRepository.scrollMembers(isNull(), isNull(), any(), any(), anyInt()))
+                    .thenReturn(page(false, member, member));
+            Runnable onReady = startOnServerCall();
+            verifyNoInteractions(memberRepository);
+
+            // ready for the page read and one message, then the window is full
+            when(serverCallObserver.isReady()).thenReturn(true, true, false);
+            onReady.run();
+            verify(serverCallObserver, times(1)).onNext(any());
+
+            when(serverCallObserver.isReady()).thenReturn(true);
+            onReady.run();
+            verify(serverCallObserver, times(2)).onNext(any());
+            verify(serverCallObserver).onCompleted();
+            verify(memberRepository, times(1)).scrollMembers(any(), any(), any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("should stop streaming when the client cancels")
+        void shouldStopWhenCancelled() {
+            Runnable onReady = startOnServerCall();
+
+            onCancelCaptor.getValue().run();
+            onReady.run();
+
+            verifyNoInteractions(memberRepository);
+            verify(serverCallObserver, never()).onNext(any());
+            verify(serverCallObserver, never()).onCompleted();
+            verify(serverCallObserver, never()).onError(any());
+        }
+
+        @Test
+        @DisplayName("should report repository failures as INTERNAL")
+        void shouldReportInternalError() {
+            when(memberRepository.scrollMembers(isNull(), isNull(), any(), any(), anyInt()))
+                    .thenThrow(new IllegalStateException("db down"));
+
+            service.exportMembers(ExportMembersRequest.getDefaultInstance(), exportObserver);
+
+            verify(exportObserver).onError(errorCaptor.capture());
+            assertThat(errorCaptor.getValue().getStatus().getCode()).isEqualTo(Status.Code.INTERNAL);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.ecclesiaflow.io.grpc.service;
 
 import com.ecclesiaflow.business.domain.member.Member;
 import com.ecclesiaflow.business.domain.member.MemberRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsRepository;
 import com.ecclesiaflow.grpc.members.ConfirmationStatusRequest;
 import com.ecclesiaflow.grpc.members.ConfirmationStatusResponse;
 import com.ecclesiaflow.grpc.members.MembersServiceGrpc;
@@ -56,7 +57,8 @@ class MembersServiceImplIntegrationTest {
         eventPublisher = mock(ApplicationEventPublisher.class);
 
         // Créer le service gRPC
-        MembersGrpcServiceImpl service = new MembersGrpcServiceImpl(memberRepository, eventPublisher);
+        MembersGrpcServiceImpl service = new MembersGrpcServiceImpl(memberRepository, eventPublisher,
+                mock(MemberStatisticsRepository.class));
 
         // Démarrer le serveur in-memory
         server = InProcessServerBuilder
@@ -0,0 +1,150 @@
+package com.ecclesiaflow.io.persistence.cache;
+
+import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberStatus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberLookupCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemberLookupCache cache;
+    private Member member;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new MemberLookupCache(true, 100, Duration.ofMinutes(1), meterRegistry);
+        member = Member.builder()
+                .id(UUID.randomUUID())
+                .memberId(UUID.randomUUID())
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@mail.com")
+                .keycloakUserId("kc-123")
+                .status(MemberStatus.ACTIVE)
+                .build();
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(cache);
+    }
+
+    @Test
+    void lookups_shouldLoadOnceAndServeEveryNaturalKeyFromCache() {
+        assertThat(cache.getByMemberId(member.getMemberId(), loader(member))).contains(member);
+
+        assertThat(cache.getByMemberId(member.getMemberId(), loader(member))).contains(member);
+        assertThat(cache.getByEmail("John.Doe@MAIL.com", loader(member))).contains(member);
+        assertThat(cache.getByKeycloakUserId("kc-123", loader(member))).contains(member);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void lookups_shouldNotCacheAbsentMembers() {
+        cache.getByEmail("unknown@mail.com", loader(null));
+        cache.getByEmail("unknown@mail.com", loader(null));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void lookups_shouldIgnoreAliasWhoseMemberNoLongerCarriesTheKey() {
+        cache.getByEmail(member.getEmail(), loader(member));
+        Member updated = member.toBuilder().email("john@new-mail.com").build();
+        cache.evict(updated);
+        cache.getByMemberId(member.getMemberId(), loader(updated));
+
+        assertThat(cache.getByEmail(member.getEmail(), loader(null))).isEmpty();
+        assertThat(cache.getByEmail("john@new-mail.com", loader(updated))).contains(updated);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void evict_shouldDropMemberForEveryKey() {
+        cache.getByMemberId(member.getMemberId(), loader(member));
+
+        cache.evict(member);
+
+        cache.getByKeycloakUserId("kc-123", loader(member));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evict_shouldBypassCacheUntilTransactionCompletes() {
+        cache.getByMemberId(member.getMemberId(), loader(member));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict(member);
+        cache.getByMemberId(member.getMemberId(), loader(member));
+        cache.getByMemberId(member.getMemberId(), loader(member));
+        assertThat(loads).hasValue(3);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        cache.getByMemberId(member.getMemberId(), loader(member));
+        cache.getByMemberId(member.getMemberId(), loader(member));
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void disabledCache_shouldAlwaysLoadAndRegisterNoMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MemberLookupCache disabled = new MemberLookupCache(false, 100, Duration.ofMinutes(1), registry);
+
+        disabled.getByMemberId(member.getMemberId(), loader(member));
+        disabled.getByMemberId(member.getMemberId(), loader(member));
+
+        assertThat(loads).hasValue(2);
+        assertThat(registry.getMeters()).isEmpty();
+    }
+
+    @Test
+    void metrics_shouldCountOneHitOrMissPerLookup() {
+        cache.getByEmail(member.getEmail(), loader(member));
+        cache.getByEmail(member.getEmail(), loader(member));
+        cache.getByKeycloakUserId("kc-123", loader(member));
+        cache.getByMemberId(UUID.randomUUID(), loader(null));
+
+        assertThat(gets("hit")).isEqualTo(2);
+        assertThat(gets("miss")).isEqualTo(2);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", MemberLookupCache.CACHE_NAME).meters())
+                .isNotEmpty();
+    }
+
+    private double gets(String result) {
+        FunctionCounter counter = meterRegistry.get("cache.gets")
+                .tag("cache", MemberLookupCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter();
+        return counter.count();
+    }
+
+    private <K> Function<K, Optional<Member>> loader(Member result) {
+        return key -> {
+            loads.incrementAndGet();
+            return Optional.ofNullable(result);
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package com.ecclesiaflow.io.persistence.cache;
+
+import com.ecclesiaflow.business.domain.member.MemberStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberStatusCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemberStatusCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new MemberStatusCache(true, 100, Duration.ofMinutes(1), meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(cache);
+    }
+
+    @Test
+    void get_shouldLoadOnceThenServeFromCache() {
+        assertThat(cache.get("kc-123", loader(MemberStatus.ACTIVE))).contains(MemberStatus.ACTIVE);
+        assertThat(cache.get("kc-123", loader(MemberStatus.ACTIVE))).contains(MemberStatus.ACTIVE);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_shouldNotCacheUnknownUsers() {
+        assertThat(cache.get("kc-new", loader(null))).isEmpty();
+        assertThat(cache.get("kc-new", loader(null))).isEmpty();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evict_shouldExposeNewStatusOnNextLookup() {
+        cache.get("kc-123", loader(MemberStatus.ACTIVE));
+
+        cache.evict("kc-123");
+
+        assertThat(cache.get("kc-123", loader(MemberStatus.DEACTIVATED))).contains(MemberStatus.DEACTIVATED);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evict_shouldBypassCacheUntilTransactionCompletes() {
+        cache.get("kc-123", loader(MemberStatus.ACTIVE));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict("kc-123");
+        cache.get("kc-123", loader(MemberStatus.DEACTIVATED));
+        cache.get("kc-123", loader(MemberStatus.DEACTIVATED));
+        assertThat(loads).hasValue(3);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        cache.get("kc-123", loader(MemberStatus.DEACTIVATED));
+        cache.get("kc-123", loader(MemberStatus.DEACTIVATED));
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void disabledCache_shouldAlwaysLoadAndRegisterNoMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MemberStatusCache disabled = new MemberStatusCache(false, 100, Duration.ofMinutes(1), registry);
+
+        disabled.get("kc-123", loader(MemberStatus.ACTIVE));
+        disabled.get("kc-123", loader(MemberStatus.ACTIVE));
+
+        assertThat(loads).hasValue(2);
+        assertThat(registry.getMeters()).isEmpty();
+    }
+
+    @Test
+    void metrics_shouldCountHitsAndMisses() {
+        cache.get("kc-123", loader(MemberStatus.ACTIVE));
+        cache.get("kc-123", loader(MemberStatus.ACTIVE));
+        cache.get("kc-123", loader(MemberStatus.ACTIVE));
+
+        assertThat(gets("hit")).isEqualTo(2);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", MemberStatusCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private Function<String, Optional<MemberStatus>> loader(MemberStatus result) {
+        return key -> {
+            loads.incrementAndGet();
+            return Optional.ofNullable(result);
+        };
+    }
+}
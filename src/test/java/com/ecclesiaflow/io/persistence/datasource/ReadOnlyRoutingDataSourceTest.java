@@ -0,0 +1,144 @@
+package com.ecclesiaflow.io.persistence.datasource;
+
+import com.ecclesiaflow.business.domain.member.MemberRepository;
+import com.ecclesiaflow.business.domain.member.MemberSearchIndex;
+import com.ecclesiaflow.business.transaction.ReadFromPrimary;
+import com.ecclesiaflow.io.persistence.cache.MemberLookupCache;
+import com.ecclesiaflow.io.persistence.cache.MemberStatusCache;
+import com.ecclesiaflow.io.persistence.jpa.SpringDataMemberRepository;
+import com.ecclesiaflow.io.persistence.mappers.MemberPersistenceMapper;
+import com.ecclesiaflow.io.persistence.repositories.impl.MemberRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadOnlyRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private LazyConnectionDataSourceProxy dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mockDataSource();
+        replica = mockDataSource();
+        dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReadOnlyRoutingDataSource(primary, replica));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadOnlyRoutingDataSource.forcePrimary(false);
+    }
+
+    @Test
+    void readOnlyConnection_shouldUseReplica() throws SQLException {
+        useConnection(true);
+
+        verify(replica).getConnection();
+    }
+
+    @Test
+    void readWriteConnection_shouldUsePrimary() throws SQLException {
+        ignoreDefaultsCheck();
+
+        useConnection(false);
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void readFromPrimary_shouldRouteReadOnlyConnectionsToPrimaryForTheMethodOnly() throws SQLException {
+        ignoreDefaultsCheck();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Reads(this));
+        factory.addAspect(new ReadFromPrimaryAspect());
+        Reads reads = factory.getProxy();
+
+        reads.fromPrimary();
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+
+        reads.fromReplica();
+        verify(replica).getConnection();
+    }
+
+    @Test
+    void memberLookups_shouldReadFromPrimarySoTheyNeverCacheReplicaRows() throws SQLException {
+        ignoreDefaultsCheck();
+        SpringDataMemberRepository springDataRepo = mock(SpringDataMemberRepository.class);
+        when(springDataRepo.findByMemberId(any())).thenAnswer(invocation -> {
+            useConnection(true);
+            return Optional.empty();
+        });
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new MemberRepositoryImpl(springDataRepo,
+                mock(MemberPersistenceMapper.class), mock(MemberSearchIndex.class), mock(EntityManager.class),
+                new MemberLookupCache(true, 100, Duration.ofMinutes(1), meterRegistry),
+                new MemberStatusCache(true, 100, Duration.ofMinutes(1), meterRegistry)));
+        factory.addAspect(new ReadFromPrimaryAspect());
+        MemberRepository memberRepository = factory.getProxy();
+
+        memberRepository.getByMemberId(UUID.randomUUID());
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    private void useConnection(boolean readOnly) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(readOnly);
+            connection.createStatement();
+        }
+    }
+
+    /** The proxy checks the primary's connection defaults once; ignore that call. */
+    private void ignoreDefaultsCheck() throws SQLException {
+        dataSource.getConnection().close();
+        clearInvocations(primary, replica);
+    }
+
+    private static DataSource mockDataSource() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        return dataSource;
+    }
+
+    static class Reads {
+
+        private final ReadOnlyRoutingDataSourceTest test;
+
+        Reads(ReadOnlyRoutingDataSourceTest test) {
+            this.test = test;
+        }
+
+        @ReadFromPrimary
+        public void fromPrimary() throws SQLException {
+            test.useConnection(true);
+        }
+
+        public void fromReplica() throws SQLException {
+            test.useConnection(true);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ecclesiaflow.io.persistence.jpa;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberFullTextIndexInitializerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private MemberFullTextIndexInitializer initializer;
+
+    @Test
+    void run_shouldCreateNgramIndexWhenMissing() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(MemberFullTextIndexInitializer.INDEX_NAME)))
+                .thenReturn(0);
+
+        initializer.run(null);
+
+        verify(jdbcTemplate).execute(contains("FULLTEXT INDEX ft_member_search (first_name, last_name, email) WITH PARSER ngram"));
+    }
+
+    @Test
+    void run_shouldSkipCreationWhenIndexExists() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(MemberFullTextIndexInitializer.INDEX_NAME)))
+                .thenReturn(3);
+
+        initializer.run(null);
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -76,6 +77,14 @@ class SpringDataMemberConfirmationRepositoryTest {
         entityManager.clear();
     }
 
+    @Test
+    void persist_shouldAssignTimeOrderedIds() {
+        assertThat(testMember.getId().version()).isEqualTo(7);
+        assertThat(confirmation1.getId().version()).isEqualTo(7);
+        assertThat(confirmation2.getId()).isGreaterThan(confirmation1.getId());
+        assertThat(token1.version()).isEqualTo(4);
+    }
+
     @Test
     void getByMemberId_shouldReturnConfirmation() {
         Optional<MemberConfirmationEntity> found = confirmationRepository.findByMemberId(testMember.getMemberId());
@@ -158,6 +167,26 @@ class SpringDataMemberConfirmationRepositoryTest {
         assertThat(confirmationRepository.findById(confirmation2.getId())).isEmpty();
     }
 
+    @Test
+    void findExpiredForUpdate_shouldLockAtMostLimitExpiredRows() {
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(MemberConfirmationEntity.builder()
+                    .memberId(UUID.randomUUID())
+                    .token(UUID.randomUUID())
+                    .expiresAt(LocalDateTime.now().minusDays(i + 1))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(confirmationRepository.countByExpiresAtBefore(LocalDateTime.now())).isEqualTo(4);
+        List<MemberConfirmationEntity> chunk = confirmationRepository.findExpiredForUpdate(LocalDateTime.now(), Limit.of(3));
+        assertThat(chunk).hasSize(3);
+        confirmationRepository.deleteAllByIdInBatch(chunk.stream().map(MemberConfirmationEntity::getId).toList());
+        assertThat(confirmationRepository.findExpiredForUpdate(LocalDateTime.now(), Limit.of(3))).hasSize(1);
+        assertThat(confirmationRepository.findById(confirmation1.getId())).isPresent();
+    }
+
     @Test
     void deleteByMemberId_shouldDeleteConfirmationsForSpecificMember() {
         // Créer une confirmation pour un autre membre pour s'assurer que seul le testMember est affecté
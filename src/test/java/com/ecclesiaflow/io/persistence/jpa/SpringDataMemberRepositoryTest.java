@@ -1,6 +1,8 @@
 package com.ecclesiaflow.io.persistence.jpa;
 
+import com.ecclesiaflow.business.domain.member.MemberProfile;
 import com.ecclesiaflow.business.domain.member.MemberStatus;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,11 +10,16 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -100,26 +107,37 @@ class SpringDataMemberRepositoryTest {
     }
 
     @Test
-    void findByStatus_shouldReturnOnlyActiveMembersWithPagination() {
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<MemberEntity> activeMembers = memberRepository.findByStatus(MemberStatus.ACTIVE, pageable);
-
-        assertThat(activeMembers.getContent()).hasSize(2);
-        assertThat(activeMembers.getTotalElements()).isEqualTo(2);
-        assertThat(activeMembers.getTotalPages()).isEqualTo(1);
-        assertThat(activeMembers.getContent()).extracting(MemberEntity::getEmail)
-                .containsExactlyInAnyOrder("alice.smith@example.com", "charlie.brown@example.com");
+    void findEmailsIn_shouldReturnOnlyExistingEmails() {
+        List<String> found = memberRepository.findEmailsIn(
+                List.of("alice.smith@example.com", "unknown@example.com", "charlie.brown@example.com"));
+        assertThat(found).containsExactlyInAnyOrder("alice.smith@example.com", "charlie.brown@example.com");
     }
 
     @Test
-    void findByStatus_shouldReturnOnlyPendingMembersWithPagination() {
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<MemberEntity> pendingMembers = memberRepository.findByStatus(MemberStatus.PENDING, pageable);
+    void findProfiles_shouldFilterSortAndCountWithoutLoadingEntities() {
+        Page<MemberProfile> all = memberRepository.findProfiles(null, null,
+                PageRequest.of(0, 2, Sort.by("lastName")));
+        assertThat(all.getTotalElements()).isEqualTo(3);
+        assertThat(all.getContent()).extracting(MemberProfile::lastName).containsExactly("Brown", "Johnson");
+
+        Page<MemberProfile> active = memberRepository.findProfiles("SMITH", MemberStatus.ACTIVE, PageRequest.of(0, 10));
+        assertThat(active.getContent()).singleElement().satisfies(profile -> {
+            assertThat(profile.email()).isEqualTo("alice.smith@example.com");
+            assertThat(profile.isConfirmed()).isTrue();
+            assertThat(profile.id()).isEqualTo(member1.getId());
+        });
+
+        assertThat(memberRepository.findProfiles("smith", MemberStatus.PENDING, PageRequest.of(0, 10))).isEmpty();
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
 
-        assertThat(pendingMembers.getContent()).hasSize(1);
-        assertThat(pendingMembers.getTotalElements()).isEqualTo(1);
-        assertThat(pendingMembers.getTotalPages()).isEqualTo(1);
-        assertThat(pendingMembers.getContent().get(0).getEmail()).isEqualTo("bob.johnson@example.com");
+    @Test
+    void findProfileByMemberIdAndByIdIn_shouldReturnProjectedProfiles() {
+        assertThat(memberRepository.findProfileByMemberId(member1.getMemberId()))
+                .map(MemberProfile::firstName).contains("Alice");
+        assertThat(memberRepository.findProfileByMemberId(UUID.randomUUID())).isEmpty();
+        assertThat(memberRepository.findProfilesByIdIn(List.of(member1.getId(), UUID.randomUUID())))
+                .extracting(MemberProfile::email).containsExactly("alice.smith@example.com");
     }
 
     @Test
@@ -239,4 +257,48 @@ class SpringDataMemberRepositoryTest {
         assertThat(deletedMember).isEmpty();
         assertThat(memberRepository.findAll()).hasSize(2);
     }
+
+    @Test
+    void findBySpecification_keysetScroll_shouldWalkAllMembersWithoutGapsOrDuplicates() {
+        Sort sort = Sort.by(Sort.Direction.ASC, "firstName").and(Sort.by(Sort.Direction.ASC, "id"));
+
+        Window<MemberEntity> firstWindow = memberRepository.findBy(MemberSpecifications.matching(null, null),
+                query -> query.sortBy(sort).limit(2).scroll(ScrollPosition.keyset()));
+
+        assertThat(firstWindow.getContent()).extracting(MemberEntity::getFirstName).containsExactly("Alice", "Bob");
+        assertThat(firstWindow.hasNext()).isTrue();
+
+        Window<MemberEntity> secondWindow = memberRepository.findBy(MemberSpecifications.matching(null, null),
+                query -> query.sortBy(sort).limit(2).scroll(firstWindow.positionAt(firstWindow.size() - 1)));
+
+        assertThat(secondWindow.getContent()).extracting(MemberEntity::getFirstName).containsExactly("Charlie");
+        assertThat(secondWindow.hasNext()).isFalse();
+    }
+
+    @Test
+    void findBySpecification_keysetScroll_shouldApplySearchAndStatusFilters() {
+        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+
+        Window<MemberEntity> window = memberRepository.findBy(MemberSpecifications.matching("CH", MemberStatus.ACTIVE),
+                query -> query.sortBy(sort).limit(10).scroll(ScrollPosition.keyset()));
+
+        assertThat(window.getContent()).extracting(MemberEntity::getEmail)
+                .containsExactly("charlie.brown@example.com");
+        assertThat(window.hasNext()).isFalse();
+    }
+
+    @Test
+    void streamByStatus_shouldStreamFilteredMembers() {
+        try (Stream<MemberEntity> stream = memberRepository.streamByStatus(MemberStatus.ACTIVE)) {
+            assertThat(stream.map(MemberEntity::getEmail))
+                    .containsExactlyInAnyOrder("alice.smith@example.com", "charlie.brown@example.com");
+        }
+    }
+
+    @Test
+    void streamByStatus_withNullStatus_shouldStreamAllMembers() {
+        try (Stream<MemberEntity> stream = memberRepository.streamByStatus(null)) {
+            assertThat(stream.count()).isEqualTo(3);
+        }
+    }
 }
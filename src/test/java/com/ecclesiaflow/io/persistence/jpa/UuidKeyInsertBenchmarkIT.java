@@ -0,0 +1,101 @@
+package com.ecclesiaflow.io.persistence.jpa;
+
+import com.ecclesiaflow.business.domain.identity.UuidV7;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert throughput of random (v4) versus time-ordered ({@link UuidV7}) keys into an
+ * InnoDB table shaped like {@code member}: {@code BINARY(16)} clustered primary key.
+ *
+ * <p>Needs a MySQL server, so it only runs when one is given:</p>
+ * <pre>
+ * mvn verify -Dit.test=UuidKeyInsertBenchmarkIT \
+ *     -Dbenchmark.mysql.url=jdbc:mysql://localhost:3306/bench \
+ *     -Dbenchmark.mysql.username=root -Dbenchmark.mysql.password=secret \
+ *     [-Dbenchmark.rows=1000000]
+ * </pre>
+ * <p>The gap widens once the table outgrows the buffer pool: random keys then read
+ * and split a different leaf page for almost every insert.</p>
+ */
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+class UuidKeyInsertBenchmarkIT {
+
+    private static final String TABLE = "uuid_key_benchmark";
+    private static final int BATCH_SIZE = 1_000;
+
+    private final int rows = Integer.getInteger("benchmark.rows", 500_000);
+    private Connection connection;
+
+    @BeforeEach
+    void connect() throws SQLException {
+        connection = DriverManager.getConnection(System.getProperty("benchmark.mysql.url"),
+                System.getProperty("benchmark.mysql.username"), System.getProperty("benchmark.mysql.password"));
+        connection.setAutoCommit(false);
+    }
+
+    @AfterEach
+    void dropTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Test
+    void timeOrderedKeysShouldInsertFasterThanRandomKeys() throws SQLException {
+        double random = insertsPerSecond(UUID::randomUUID);
+        double timeOrdered = insertsPerSecond(UuidV7::generate);
+
+        System.out.printf("%d rows: v4 %.0f inserts/s, v7 %.0f inserts/s (x%.2f)%n",
+                rows, random, timeOrdered, timeOrdered / random);
+        assertThat(timeOrdered).isGreaterThan(random);
+    }
+
+    private double insertsPerSecond(Supplier<UUID> keys) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id BINARY(16) NOT NULL PRIMARY KEY, "
+                    + "email VARCHAR(255) NOT NULL, created_at DATETIME(6) NOT NULL) ENGINE=InnoDB");
+        }
+        connection.commit();
+
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + TABLE + " (id, email, created_at) VALUES (?, ?, NOW(6))")) {
+            for (int i = 1; i <= rows; i++) {
+                insert.setBytes(1, toBytes(keys.get()));
+                insert.setString(2, "member" + i + "@example.com");
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        return rows / ((System.nanoTime() - start) / 1e9);
+    }
+
+    /** Same byte order as Hibernate's {@code BINARY(16)} mapping of {@link UUID}. */
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
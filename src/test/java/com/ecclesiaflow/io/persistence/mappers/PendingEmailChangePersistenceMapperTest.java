@@ -38,6 +38,7 @@ class PendingEmailChangePersistenceMapperTest {
                     .token(TOKEN)
                     .createdAt(CREATED_AT)
                     .expiresAt(EXPIRES_AT)
+                    .confirmingUntil(CREATED_AT)
                     .build();
 
             PendingEmailChange domain = mapper.toDomain(entity);
@@ -48,6 +49,7 @@ class PendingEmailChangePersistenceMapperTest {
             assertThat(domain.getToken()).isEqualTo(TOKEN);
             assertThat(domain.getCreatedAt()).isEqualTo(CREATED_AT);
             assertThat(domain.getExpiresAt()).isEqualTo(EXPIRES_AT);
+            assertThat(domain.getConfirmingUntil()).isEqualTo(CREATED_AT);
         }
 
         @Test
@@ -73,6 +75,7 @@ class PendingEmailChangePersistenceMapperTest {
                     .token(TOKEN)
                     .createdAt(CREATED_AT)
                     .expiresAt(EXPIRES_AT)
+                    .confirmingUntil(CREATED_AT)
                     .build();
 
             PendingEmailChangeEntity entity = mapper.toEntity(domain);
@@ -83,6 +86,7 @@ class PendingEmailChangePersistenceMapperTest {
             assertThat(entity.getToken()).isEqualTo(TOKEN);
             assertThat(entity.getCreatedAt()).isEqualTo(CREATED_AT);
             assertThat(entity.getExpiresAt()).isEqualTo(EXPIRES_AT);
+            assertThat(entity.getConfirmingUntil()).isEqualTo(CREATED_AT);
         }
 
         @Test
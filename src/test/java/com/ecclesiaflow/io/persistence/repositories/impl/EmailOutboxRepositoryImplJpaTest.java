@@ -0,0 +1,116 @@
+package com.ecclesiaflow.io.persistence.repositories.impl;
+
+import com.ecclesiaflow.business.domain.communication.OutboundEmail;
+import com.ecclesiaflow.business.domain.communication.OutboxEntry;
+import com.ecclesiaflow.business.domain.communication.OutboxOutcome;
+import com.ecclesiaflow.business.domain.communication.OutboxStatus;
+import com.ecclesiaflow.io.persistence.jpa.EmailOutboxEntity;
+import com.ecclesiaflow.io.persistence.mappers.EmailOutboxPersistenceMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks {@link EmailOutboxRepositoryImpl} against an H2 database: claims count the attempt
+ * and hide the row for the lease, outcomes update the claimed rows, sent rows are purged.
+ */
+@DataJpaTest
+@Import({EmailOutboxRepositoryImpl.class, EmailOutboxPersistenceMapper.class})
+class EmailOutboxRepositoryImplJpaTest {
+
+    @Autowired
+    private EmailOutboxRepositoryImpl emailOutbox;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void claimDue_shouldClaimOldestFirstAndHideClaimedRowsForTheLease() {
+        emailOutbox.enqueue(OutboundEmail.welcome("first@example.com", "Anne"));
+        emailOutbox.enqueue(OutboundEmail.confirmation("second@example.com", "https://app/confirm?token=t", "Paul"));
+        emailOutbox.enqueue(OutboundEmail.emailChanged("third@example.com", null));
+        entityManager.flush();
+
+        List<OutboxEntry> claimed = emailOutbox.claimDue(2, Duration.ofMinutes(2));
+        List<OutboxEntry> next = emailOutbox.claimDue(2, Duration.ofMinutes(2));
+        entityManager.flush();
+
+        assertThat(claimed).extracting(entry -> entry.email().recipient())
+                .containsExactly("first@example.com", "second@example.com");
+        assertThat(claimed).extracting(OutboxEntry::attempts).containsOnly(1);
+        assertThat(claimed.get(1).email().link()).isEqualTo("https://app/confirm?token=t");
+        assertThat(next).extracting(entry -> entry.email().recipient()).containsExactly("third@example.com");
+        assertThat(emailOutbox.claimDue(2, Duration.ofMinutes(2))).isEmpty();
+    }
+
+    @Test
+    void claimDue_shouldReclaimRowsWhoseLeaseExpired() {
+        emailOutbox.enqueue(OutboundEmail.welcome("member@example.com", "Anne"));
+        entityManager.flush();
+
+        emailOutbox.claimDue(10, Duration.ofMinutes(-1));
+        List<OutboxEntry> reclaimed = emailOutbox.claimDue(10, Duration.ofMinutes(2));
+
+        assertThat(reclaimed).singleElement().satisfies(entry -> assertThat(entry.attempts()).isEqualTo(2));
+    }
+
+    @Test
+    void recordOutcomes_shouldMarkSentRetriedAndFailedRows() {
+        emailOutbox.enqueue(OutboundEmail.welcome("sent@example.com", "Anne"));
+        emailOutbox.enqueue(OutboundEmail.welcome("retried@example.com", "Paul"));
+        emailOutbox.enqueue(OutboundEmail.welcome("failed@example.com", "Marc"));
+        entityManager.flush();
+        List<OutboxEntry> claimed = emailOutbox.claimDue(3, Duration.ofMinutes(2));
+        UUID emailId = UUID.randomUUID();
+        LocalDateTime retryAt = LocalDateTime.now().plusMinutes(5).truncatedTo(ChronoUnit.SECONDS);
+
+        emailOutbox.recordOutcomes(List.of(
+                OutboxOutcome.sent(claimed.get(0).id(), emailId),
+                OutboxOutcome.retry(claimed.get(1).id(), retryAt, "mailbox full"),
+                OutboxOutcome.failed(claimed.get(2).id(), "x".repeat(600))));
+        entityManager.flush();
+        entityManager.clear();
+
+        EmailOutboxEntity sent = entityManager.find(EmailOutboxEntity.class, claimed.get(0).id());
+        assertThat(sent.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(sent.getEmailId()).isEqualTo(emailId);
+        assertThat(sent.getSentAt()).isNotNull();
+        EmailOutboxEntity retried = entityManager.find(EmailOutboxEntity.class, claimed.get(1).id());
+        assertThat(retried.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(retried.getNextAttemptAt()).isEqualTo(retryAt);
+        assertThat(retried.getLastError()).isEqualTo("mailbox full");
+        EmailOutboxEntity failed = entityManager.find(EmailOutboxEntity.class, claimed.get(2).id());
+        assertThat(failed.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(failed.getLastError()).hasSize(500);
+        assertThat(emailOutbox.countPending()).isEqualTo(1);
+        assertThat(emailOutbox.oldestPendingCreatedAt()).isPresent();
+    }
+
+    @Test
+    void deleteSentBefore_shouldOnlyDeleteRowsSentBeforeCutoff() {
+        emailOutbox.enqueue(OutboundEmail.welcome("sent@example.com", "Anne"));
+        emailOutbox.enqueue(OutboundEmail.welcome("pending@example.com", "Paul"));
+        entityManager.flush();
+        OutboxEntry claimed = emailOutbox.claimDue(1, Duration.ofMinutes(2)).getFirst();
+        emailOutbox.recordOutcomes(List.of(OutboxOutcome.sent(claimed.id(), UUID.randomUUID())));
+        entityManager.flush();
+        LocalDateTime cutoff = LocalDateTime.now().plusMinutes(1);
+
+        assertThat(emailOutbox.countSentBefore(cutoff)).isEqualTo(1);
+        assertThat(emailOutbox.deleteSentBefore(cutoff, 10)).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(emailOutbox.countSentBefore(cutoff)).isZero();
+        assertThat(emailOutbox.countPending()).isEqualTo(1);
+    }
+}
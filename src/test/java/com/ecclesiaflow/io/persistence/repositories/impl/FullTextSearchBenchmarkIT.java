@@ -0,0 +1,183 @@
+package com.ecclesiaflow.io.persistence.repositories.impl;
+
+import com.ecclesiaflow.business.domain.identity.UuidV7;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of a member search page (20 rows plus the count query) through
+ * {@code LOWER(col) LIKE '%term%'} versus the FULLTEXT ngram index, on a table shaped
+ * like {@code member} and grown to each size in turn (100k, then 1M rows by default).
+ *
+ * <p>Needs a MySQL server, so it only runs when one is given:</p>
+ * <pre>
+ * mvn verify -Dit.test=FullTextSearchBenchmarkIT \
+ *     -Dbenchmark.mysql.url=jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true \
+ *     -Dbenchmark.mysql.username=root -Dbenchmark.mysql.password=secret \
+ *     [-Dbenchmark.search.sizes=100000,1000000]
+ * </pre>
+ * <p>The FULLTEXT queries are the ones {@code findMembersByFullTextSearch} sends, with the
+ * term quoted by {@link MemberRepositoryImpl#toBooleanModePhrase}. LIKE reads every row for
+ * both queries, so its latency grows with the table; the index lookup follows the number
+ * of matches instead.</p>
+ */
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+class FullTextSearchBenchmarkIT {
+
+    private static final String TABLE = "fulltext_search_benchmark";
+    private static final int BATCH_SIZE = 1_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 10;
+    private static final String[] FIRST_NAMES = {"Jean", "Marie", "Pierre", "Sophie", "Luc", "Claire", "Paul",
+            "Anne", "Marc", "Julie", "Thomas", "Camille", "Nicolas", "Emma", "Louis", "Chloé"};
+    private static final String[] LAST_NAMES = {"Martin", "Bernard", "Dubois", "Thomas", "Robert", "Richard",
+            "Petit", "Durand", "Leroy", "Moreau", "Simon", "Laurent", "Lefebvre", "Michel", "Garcia", "David"};
+    /** A common name, a rarer substring and an email fragment. */
+    private static final List<String> TERMS = List.of("martin", "ferr", "user4242");
+
+    private static final String LIKE_FILTER = "WHERE LOWER(first_name) LIKE LOWER(CONCAT('%', ?, '%')) "
+            + "OR LOWER(last_name) LIKE LOWER(CONCAT('%', ?, '%')) OR LOWER(email) LIKE LOWER(CONCAT('%', ?, '%'))";
+    private static final String MATCH = "MATCH(first_name, last_name, email) AGAINST (? IN BOOLEAN MODE)";
+
+    private final int[] sizes = Arrays.stream(System.getProperty("benchmark.search.sizes", "100000,1000000")
+            .split(",")).mapToInt(size -> Integer.parseInt(size.trim())).sorted().toArray();
+    private final Random random = new Random(42);
+    private Connection connection;
+
+    @BeforeEach
+    void createTable() throws SQLException {
+        connection = DriverManager.getConnection(System.getProperty("benchmark.mysql.url"),
+                System.getProperty("benchmark.mysql.username"), System.getProperty("benchmark.mysql.password"));
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id BINARY(16) NOT NULL PRIMARY KEY, "
+                    + "first_name VARCHAR(255) NOT NULL, last_name VARCHAR(255) NOT NULL, "
+                    + "email VARCHAR(255) NOT NULL, status VARCHAR(20) NOT NULL) ENGINE=InnoDB");
+            statement.execute("ALTER TABLE " + TABLE + " ADD FULLTEXT INDEX ft_member_search "
+                    + "(first_name, last_name, email) WITH PARSER ngram");
+        }
+        connection.commit();
+    }
+
+    @AfterEach
+    void dropTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Test
+    void fullTextSearchShouldBeatLikeOnTheLargestTable() throws SQLException {
+        int seeded = 0;
+        double like = 0;
+        double fullText = 0;
+        for (int size : sizes) {
+            seed(seeded, size);
+            seeded = size;
+            like = 0;
+            fullText = 0;
+            for (String term : TERMS) {
+                double likeMs = medianMs(() -> searchPage(LIKE_FILTER, "ORDER BY id", term));
+                String phrase = MemberRepositoryImpl.toBooleanModePhrase(term);
+                double fullTextMs = medianMs(() -> searchPage("WHERE " + MATCH, "ORDER BY " + MATCH + " DESC, id",
+                        phrase));
+                System.out.printf("%,9d rows, term %-10s: LIKE %8.1f ms, FULLTEXT %8.1f ms (x%.1f)%n",
+                        size, "'" + term + "'", likeMs, fullTextMs, likeMs / fullTextMs);
+                like += likeMs;
+                fullText += fullTextMs;
+            }
+        }
+        assertThat(fullText).isLessThan(like);
+    }
+
+    /** Inserts rows {@code from} to {@code to}, with the names and emails the terms look for. */
+    private void seed(int from, int to) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + TABLE + " (id, first_name, last_name, email, status) VALUES (?, ?, ?, ?, 'ACTIVE')")) {
+            for (int i = from + 1; i <= to; i++) {
+                String lastName = i % 97 == 0 ? "Ferrand" : LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                insert.setBytes(1, toBytes(UuidV7.generate()));
+                insert.setString(2, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+                insert.setString(3, lastName);
+                insert.setString(4, "user" + i + "@example.com");
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + TABLE);
+        }
+    }
+
+    /** One page and its count, as a paginated search request runs them. */
+    private void searchPage(String filter, String order, String term) throws SQLException {
+        run("SELECT * FROM " + TABLE + " " + filter + " " + order + " LIMIT " + PAGE_SIZE, term);
+        run("SELECT COUNT(*) FROM " + TABLE + " " + filter, term);
+    }
+
+    /** Runs {@code sql} with {@code term} bound to every placeholder. */
+    private void run(String sql, String term) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(sql)) {
+            int placeholders = query.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= placeholders; i++) {
+                query.setString(i, term);
+            }
+            try (ResultSet rows = query.executeQuery()) {
+                while (rows.next()) {
+                    rows.getBytes(1);
+                }
+            }
+        }
+    }
+
+    private double medianMs(SqlRun search) throws SQLException {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            search.run();
+        }
+        double[] latencies = new double[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            search.run();
+            latencies[i] = (System.nanoTime() - start) / 1e6;
+        }
+        Arrays.sort(latencies);
+        return latencies[MEASURED_RUNS / 2];
+    }
+
+    /** Same byte order as Hibernate's {@code BINARY(16)} mapping of {@link UUID}. */
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    @FunctionalInterface
+    private interface SqlRun {
+        void run() throws SQLException;
+    }
+}
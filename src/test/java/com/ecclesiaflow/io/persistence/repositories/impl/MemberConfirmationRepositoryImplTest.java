@@ -10,6 +10,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.ArgumentMatchers;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -215,6 +216,19 @@ class MemberConfirmationRepositoryImplTest {
         verify(mapper, times(1)).toDomain(testEntity);
     }
 
+    @Test
+    void saveAll_shouldMapAndSaveInOneCall() {
+        when(mapper.toEntity(testDomain)).thenReturn(testEntity);
+        when(springDataRepo.saveAll(List.of(testEntity))).thenReturn(List.of(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testDomain);
+
+        List<MemberConfirmation> result = memberConfirmationRepository.saveAll(List.of(testDomain));
+
+        assertThat(result).containsExactly(testDomain);
+        verify(springDataRepo, times(1)).saveAll(List.of(testEntity));
+        verify(springDataRepo, never()).save(any());
+    }
+
     @Test
     void delete_shouldMapAndDelegateToDelete() {
         when(mapper.toEntity(testDomain)).thenReturn(testEntity);
@@ -240,4 +254,22 @@ class MemberConfirmationRepositoryImplTest {
         verify(springDataRepo, times(1)).deleteExpiredConfirmations(ArgumentMatchers.any(LocalDateTime.class));
         verifyNoInteractions(mapper);
     }
-}
\ No newline at end of file
+
+    @Test
+    void deleteExpiredConfirmations_withLimit_shouldDeleteOneChunk() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        MemberConfirmationEntity expired = MemberConfirmationEntity.builder().id(UUID.randomUUID()).build();
+        when(springDataRepo.findExpiredForUpdate(cutoff, Limit.of(500))).thenReturn(List.of(expired));
+
+        assertThat(memberConfirmationRepository.deleteExpiredConfirmations(cutoff, 500)).isEqualTo(1);
+        verify(springDataRepo).deleteAllByIdInBatch(List.of(expired.getId()));
+    }
+
+    @Test
+    void countExpiredConfirmations_shouldDelegate() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        when(springDataRepo.countByExpiresAtBefore(cutoff)).thenReturn(42L);
+
+        assertThat(memberConfirmationRepository.countExpiredConfirmations(cutoff)).isEqualTo(42L);
+    }
+}
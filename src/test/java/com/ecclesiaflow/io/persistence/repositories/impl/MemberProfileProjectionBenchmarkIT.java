@@ -0,0 +1,209 @@
+package com.ecclesiaflow.io.persistence.repositories.impl;
+
+import com.ecclesiaflow.business.domain.member.MemberProfile;
+import com.ecclesiaflow.business.domain.member.MemberSearchIndex;
+import com.ecclesiaflow.business.domain.member.MemberStatus;
+import com.ecclesiaflow.io.persistence.cache.MemberLookupCache;
+import com.ecclesiaflow.io.persistence.cache.MemberStatusCache;
+import com.ecclesiaflow.io.persistence.jpa.MemberEntity;
+import com.ecclesiaflow.io.persistence.jpa.SpringDataMemberRepository;
+import com.ecclesiaflow.io.persistence.mappers.MemberPersistenceMapperImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Latency and heap allocation of the member reads behind {@code getAllMembers} and
+ * {@code getMemberById}: the {@link MemberProfile} projection queries against the entity
+ * path they replaced (entity, then {@code Member}, then the view).
+ *
+ * <p>Needs a MySQL server, so it only runs when one is given. The member table is
+ * created in that schema and dropped afterwards:</p>
+ * <pre>
+ * mvn verify -Dit.test=MemberProfileProjectionBenchmarkIT \
+ *     -Dbenchmark.mysql.url=jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true \
+ *     -Dbenchmark.mysql.username=root -Dbenchmark.mysql.password=secret \
+ *     [-Dbenchmark.rows=20000]
+ * </pre>
+ * <p>Every read runs in a read-only transaction, as in {@code MemberServiceImpl}, with the
+ * lookup cache disabled. Allocation is measured on the calling thread, so it covers
+ * result set decoding, the persistence context and the mapping, but not the server.</p>
+ */
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.show-sql=false",
+        "ecclesiaflow.members.cache.enabled=false"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MemberRepositoryImpl.class, MemberPersistenceMapperImpl.class, MemberLookupCache.class,
+        MemberStatusCache.class, MemberProfileProjectionBenchmarkIT.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberProfileProjectionBenchmarkIT {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int PAGES = 20;
+    private static final int LOOKUPS = 1_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 10;
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        MemberSearchIndex memberSearchIndex() {
+            return mock(MemberSearchIndex.class);
+        }
+    }
+
+    @DynamicPropertySource
+    static void mysql(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("benchmark.mysql.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("benchmark.mysql.username"));
+        registry.add("spring.datasource.password", () -> System.getProperty("benchmark.mysql.password"));
+    }
+
+    private final int rows = Integer.getInteger("benchmark.rows", 20_000);
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private MemberRepositoryImpl memberRepository;
+
+    @Autowired
+    private SpringDataMemberRepository springDataRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+    private final List<UUID> memberIds = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int from = 0; from < rows; from += BATCH_SIZE) {
+            int first = from;
+            int last = Math.min(from + BATCH_SIZE, rows);
+            transaction.executeWithoutResult(status -> {
+                List<MemberEntity> batch = new ArrayList<>(last - first);
+                for (int i = first; i < last; i++) {
+                    UUID memberId = UUID.randomUUID();
+                    batch.add(MemberEntity.builder()
+                            .memberId(memberId)
+                            .firstName("Jean")
+                            .lastName("Tremblay")
+                            .email("member" + i + "@example.com")
+                            .address(i + " rue Sainte-Catherine, Montréal")
+                            .phoneNumber("+15145550100")
+                            .status(MemberStatus.ACTIVE)
+                            .keycloakUserId("kc-" + i)
+                            .hasLocalCredentials(true)
+                            .build());
+                    if (i % (rows / LOOKUPS + 1) == 0) {
+                        memberIds.add(memberId);
+                    }
+                }
+                springDataRepo.saveAll(batch);
+            });
+        }
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        springDataRepo.deleteAllInBatch();
+    }
+
+    @Test
+    void projectionShouldAllocateLessThanEntityMapping() {
+        Result entityPage = measure(PAGES, page -> memberRepository
+                .getMembersBySearchTermAndStatus(null, null, page(page)).map(MemberProfile::of).getContent());
+        Result projectionPage = measure(PAGES, page -> memberRepository
+                .getProfiles(null, null, page(page)).getContent());
+        Result entityById = measure(memberIds.size(), i -> memberRepository
+                .getByMemberId(memberIds.get(i)).map(MemberProfile::of).orElseThrow());
+        Result projectionById = measure(memberIds.size(), i -> memberRepository
+                .getProfileByMemberId(memberIds.get(i)).orElseThrow());
+
+        print("getAllMembers (page of " + PAGE_SIZE + ")", entityPage, projectionPage);
+        print("getMemberById", entityById, projectionById);
+        assertThat(projectionPage.bytesPerCall()).isLessThan(entityPage.bytesPerCall());
+        assertThat(projectionById.bytesPerCall()).isLessThan(entityById.bytesPerCall());
+    }
+
+    private Pageable page(int page) {
+        return PageRequest.of(page, PAGE_SIZE, Sort.by("createdAt"));
+    }
+
+    /** Runs {@code read(0..calls-1)}, each in its own read-only transaction, and keeps the median pass. */
+    private Result measure(int calls, IntConsumer read) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            pass(calls, read);
+        }
+        double[] millis = new double[MEASURED_RUNS];
+        long allocated = 0;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            pass(calls, read);
+            millis[i] = (System.nanoTime() - start) / 1e6 / calls;
+            allocated += threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+        }
+        Arrays.sort(millis);
+        return new Result(millis[MEASURED_RUNS / 2], allocated / ((double) MEASURED_RUNS * calls));
+    }
+
+    private void pass(int calls, IntConsumer read) {
+        for (int i = 0; i < calls; i++) {
+            int call = i;
+            readOnly.executeWithoutResult(status -> read.accept(call));
+        }
+    }
+
+    private void print(String read, Result entity, Result projection) {
+        System.out.printf("%,d rows, %-26s: entity %6.3f ms %,9.0f B, projection %6.3f ms %,9.0f B "
+                        + "(latency x%.2f, allocation x%.2f)%n",
+                rows, read, entity.millisPerCall(), entity.bytesPerCall(), projection.millisPerCall(),
+                projection.bytesPerCall(), entity.millisPerCall() / projection.millisPerCall(),
+                entity.bytesPerCall() / projection.bytesPerCall());
+    }
+
+    private record Result(double millisPerCall, double bytesPerCall) {
+    }
+}
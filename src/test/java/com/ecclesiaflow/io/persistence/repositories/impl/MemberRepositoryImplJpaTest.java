@@ -0,0 +1,377 @@
+package com.ecclesiaflow.io.persistence.repositories.impl;
+
+import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberSearchIndex;
+import com.ecclesiaflow.business.domain.member.MemberStatus;
+import com.ecclesiaflow.business.domain.member.MemberStatusChange;
+import com.ecclesiaflow.business.exceptions.MemberNotFoundException;
+import com.ecclesiaflow.io.persistence.cache.MemberLookupCache;
+import com.ecclesiaflow.io.persistence.cache.MemberStatusCache;
+import com.ecclesiaflow.io.persistence.jpa.MemberEntity;
+import com.ecclesiaflow.io.persistence.mappers.MemberPersistenceMapperImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Checks the SQL issued by {@link MemberRepositoryImpl#update},
+ * {@link MemberRepositoryImpl#transitionStatus} and {@link MemberRepositoryImpl#anonymizeDeactivated} against an H2 database, counting JDBC
+ * statements through Hibernate statistics.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "ecclesiaflow.members.cache.enabled=false"
+})
+@Import({MemberRepositoryImpl.class, MemberPersistenceMapperImpl.class, MemberLookupCache.class,
+        MemberStatusCache.class, MemberRepositoryImplJpaTest.Config.class})
+class MemberRepositoryImplJpaTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        MemberSearchIndex memberSearchIndex() {
+            return mock(MemberSearchIndex.class);
+        }
+    }
+
+    @Autowired
+    private MemberRepositoryImpl memberRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        MemberEntity entity = entityManager.persistFlushFind(MemberEntity.builder()
+                .memberId(UUID.randomUUID())
+                .firstName("Alice")
+                .lastName("Smith")
+                .email("alice.smith@example.com")
+                .address("101 Pine St")
+                .phoneNumber("0600000000")
+                .status(MemberStatus.ACTIVE)
+                .createdAt(LocalDateTime.now().minusDays(10))
+                .updatedAt(LocalDateTime.now().minusDays(10))
+                .build());
+        member = memberRepository.getByMemberId(entity.getMemberId()).orElseThrow();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void update_shouldIssueSingleStatementWhenMemberIsNotLoaded() {
+        Member deactivated = member.toBuilder()
+                .status(MemberStatus.DEACTIVATED)
+                .deactivatedAt(LocalDateTime.now())
+                .address(null)
+                .build();
+
+        memberRepository.update(member, deactivated);
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        MemberEntity reloaded = entityManager.find(MemberEntity.class, member.getId());
+        assertThat(reloaded.getStatus()).isEqualTo(MemberStatus.DEACTIVATED);
+        assertThat(reloaded.getDeactivatedAt()).isNotNull();
+        assertThat(reloaded.getAddress()).isNull();
+        assertThat(reloaded.getFirstName()).isEqualTo("Alice");
+        assertThat(reloaded.getUpdatedAt()).isAfter(member.getUpdatedAt());
+    }
+
+    @Test
+    void save_shouldReadRowBeforeUpdatingWhenMemberIsNotLoaded() {
+        memberRepository.save(member.toBuilder().status(MemberStatus.DEACTIVATED).build());
+        entityManager.flush();
+
+        // merge: SELECT + UPDATE, the round trip update() avoids
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void update_shouldRelyOnDirtyCheckingWhenEntityIsAlreadyManaged() {
+        MemberEntity managed = entityManager.find(MemberEntity.class, member.getId());
+        statistics.clear();
+
+        memberRepository.update(member, member.toBuilder().firstName("Alicia").build());
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(managed.getFirstName()).isEqualTo("Alicia");
+        entityManager.clear();
+        assertThat(entityManager.find(MemberEntity.class, member.getId()).getFirstName()).isEqualTo("Alicia");
+    }
+
+    @Test
+    void update_shouldNotTouchDatabaseWhenNothingChanged() {
+        Member result = memberRepository.update(member, member.toBuilder().build());
+        entityManager.flush();
+
+        assertThat(result.getFirstName()).isEqualTo("Alice");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void update_shouldThrowWhenRowNoLongerExists() {
+        Member missing = member.toBuilder().id(UUID.randomUUID()).build();
+
+        assertThatThrownBy(() -> memberRepository.update(missing, missing.toBuilder().firstName("Ghost").build()))
+                .isInstanceOf(MemberNotFoundException.class);
+    }
+
+    @Test
+    void update_shouldRejectDifferentMembers() {
+        Member other = member.toBuilder().id(UUID.randomUUID()).build();
+
+        assertThatThrownBy(() -> memberRepository.update(member, other))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void update_shouldIncrementVersion() {
+        Member updated = memberRepository.update(member, member.toBuilder().firstName("Alicia").build());
+        entityManager.flush();
+
+        assertThat(updated.getVersion()).isEqualTo(member.getVersion() + 1);
+        assertThat(entityManager.find(MemberEntity.class, member.getId()).getVersion()).isEqualTo(updated.getVersion());
+    }
+
+    @Test
+    void update_shouldRejectStaleReadWithoutOverwritingNewerRow() {
+        memberRepository.update(member, member.toBuilder().firstName("Alicia").build());
+
+        assertThatThrownBy(() -> memberRepository.update(member, member.toBuilder().lastName("Jones").build()))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        entityManager.clear();
+        MemberEntity reloaded = entityManager.find(MemberEntity.class, member.getId());
+        assertThat(reloaded.getFirstName()).isEqualTo("Alicia");
+        assertThat(reloaded.getLastName()).isEqualTo("Smith");
+    }
+
+    @Test
+    void update_shouldRejectStaleReadWhenEntityIsAlreadyManaged() {
+        memberRepository.update(member, member.toBuilder().firstName("Alicia").build());
+        entityManager.find(MemberEntity.class, member.getId());
+
+        assertThatThrownBy(() -> memberRepository.update(member, member.toBuilder().lastName("Jones").build()))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void transitionStatus_shouldIssueSingleConditionalStatement() {
+        LocalDateTime deactivatedAt = LocalDateTime.now();
+
+        Member result = memberRepository.transitionStatus(member,
+                MemberStatusChange.deactivate(MemberStatus.ACTIVE, deactivatedAt)).orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(result.getStatus()).isEqualTo(MemberStatus.DEACTIVATED);
+        assertThat(result.getVersion()).isEqualTo(member.getVersion() + 1);
+        MemberEntity reloaded = entityManager.find(MemberEntity.class, member.getId());
+        assertThat(reloaded.getStatus()).isEqualTo(MemberStatus.DEACTIVATED);
+        assertThat(reloaded.getDeactivatedAt()).isNotNull();
+        assertThat(reloaded.getVersion()).isEqualTo(result.getVersion());
+    }
+
+    @Test
+    void transitionStatus_shouldSucceedOnlyOnceForConcurrentTransitions() {
+        MemberStatusChange deactivate = MemberStatusChange.deactivate(MemberStatus.ACTIVE, LocalDateTime.now());
+
+        assertThat(memberRepository.transitionStatus(member, deactivate)).isPresent();
+        assertThat(memberRepository.transitionStatus(member, deactivate)).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void transitionStatus_shouldClearDeactivationOnReactivate() {
+        Member deactivated = memberRepository.transitionStatus(member,
+                MemberStatusChange.deactivate(MemberStatus.ACTIVE, LocalDateTime.now())).orElseThrow();
+
+        memberRepository.transitionStatus(deactivated, MemberStatusChange.reactivate()).orElseThrow();
+
+        MemberEntity reloaded = entityManager.find(MemberEntity.class, member.getId());
+        assertThat(reloaded.getStatus()).isEqualTo(MemberStatus.ACTIVE);
+        assertThat(reloaded.getDeactivatedAt()).isNull();
+    }
+
+    @Test
+    void transitionStatus_shouldDetachStaleManagedEntity() {
+        MemberEntity managed = entityManager.find(MemberEntity.class, member.getId());
+
+        memberRepository.transitionStatus(member, MemberStatusChange.deactivate(MemberStatus.ACTIVE, LocalDateTime.now()));
+
+        assertThat(entityManager.getEntityManager().contains(managed)).isFalse();
+        assertThat(entityManager.find(MemberEntity.class, member.getId()).getStatus())
+                .isEqualTo(MemberStatus.DEACTIVATED);
+    }
+
+    @Test
+    void anonymizeDeactivated_shouldScrubChunkWithSingleUpdate() {
+        Member deactivated = memberRepository.transitionStatus(member,
+                MemberStatusChange.deactivate(MemberStatus.ACTIVE, LocalDateTime.now().minusDays(40))).orElseThrow();
+        Member other = persistMember("bob@example.com", MemberStatus.DEACTIVATED);
+        statistics.clear();
+
+        List<Member> anonymized = memberRepository.anonymizeDeactivated(List.of(deactivated, other), LocalDateTime.now());
+
+        assertThat(anonymized).containsExactly(deactivated, other);
+        // rows locked, one bulk UPDATE, then the rows are read back for the search index
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        entityManager.clear();
+        MemberEntity first = entityManager.find(MemberEntity.class, member.getId());
+        MemberEntity second = entityManager.find(MemberEntity.class, other.getId());
+        assertThat(first.getFirstName()).isEqualTo("DELETED");
+        assertThat(first.getLastName()).isEqualTo("DELETED");
+        assertThat(first.getEmail()).startsWith("deleted+").endsWith("@anonymized.local");
+        assertThat(first.getEmail()).isNotEqualTo(second.getEmail());
+        assertThat(first.getAddress()).isNull();
+        assertThat(first.getPhoneNumber()).isNull();
+        assertThat(first.getStatus()).isEqualTo(MemberStatus.INACTIVE);
+        assertThat(first.getAnonymizedAt()).isNotNull();
+        assertThat(first.getVersion()).isEqualTo(deactivated.getVersion() + 1);
+    }
+
+    @Test
+    void anonymizeDeactivated_shouldSkipMembersNoLongerDeactivated() {
+        List<Member> anonymized = memberRepository.anonymizeDeactivated(List.of(member), LocalDateTime.now());
+
+        assertThat(anonymized).isEmpty();
+        entityManager.clear();
+        MemberEntity reloaded = entityManager.find(MemberEntity.class, member.getId());
+        assertThat(reloaded.getFirstName()).isEqualTo("Alice");
+        assertThat(reloaded.getStatus()).isEqualTo(MemberStatus.ACTIVE);
+    }
+
+    @Test
+    void anonymizeDeactivated_shouldKeepKeycloakUserIdUntilCleared() {
+        Member deactivated = persistMember("bob@example.com", MemberStatus.DEACTIVATED, "kc-bob");
+
+        memberRepository.anonymizeDeactivated(List.of(deactivated), LocalDateTime.now());
+        entityManager.clear();
+        assertThat(entityManager.find(MemberEntity.class, deactivated.getId()).getKeycloakUserId()).isEqualTo("kc-bob");
+
+        memberRepository.clearKeycloakUserIds(List.of(deactivated));
+        entityManager.clear();
+        MemberEntity cleared = entityManager.find(MemberEntity.class, deactivated.getId());
+        assertThat(cleared.getKeycloakUserId()).isNull();
+        assertThat(cleared.getStatus()).isEqualTo(MemberStatus.INACTIVE);
+    }
+
+    @Test
+    void claimDeactivatedBefore_shouldReclaimAnonymizedMembersStillHoldingKeycloakUser() {
+        Member leftover = persistMember("m1@example.com", MemberStatus.DEACTIVATED, "kc-left");
+        Member done = persistMember("m2@example.com", MemberStatus.DEACTIVATED, null);
+        memberRepository.anonymizeDeactivated(List.of(leftover, done), LocalDateTime.now());
+        entityManager.clear();
+
+        assertThat(memberRepository.claimDeactivatedBefore(LocalDateTime.now().minusDays(30), "node-a",
+                Duration.ofMinutes(15), 10))
+                .extracting(Member::getId).containsExactly(leftover.getId());
+    }
+
+    @Test
+    void claimDeactivatedBefore_shouldReclaimDeletingMembersUnchangedForALease() {
+        Member deleting = persistMember("m1@example.com", MemberStatus.DELETING, "kc-del");
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+
+        assertThat(memberRepository.claimDeactivatedBefore(cutoff, "node-a", Duration.ofMinutes(15), 10)).isEmpty();
+        entityManager.clear();
+        assertThat(memberRepository.claimDeactivatedBefore(cutoff, "node-a", Duration.ofMinutes(-1), 10))
+                .extracting(Member::getId).containsExactly(deleting.getId());
+    }
+
+    @Test
+    void claimDeactivatedBefore_shouldClaimInPrimaryKeyOrderAndSkipClaimedMembers() {
+        Member first = persistMember("m1@example.com", MemberStatus.DEACTIVATED);
+        Member second = persistMember("m2@example.com", MemberStatus.DEACTIVATED);
+        Member third = persistMember("m3@example.com", MemberStatus.DEACTIVATED);
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+
+        List<Member> nodeA = memberRepository.claimDeactivatedBefore(cutoff, "node-a", Duration.ofMinutes(15), 2);
+        entityManager.clear();
+        List<Member> nodeB = memberRepository.claimDeactivatedBefore(cutoff, "node-b", Duration.ofMinutes(15), 2);
+
+        assertThat(nodeA).extracting(Member::getId).containsExactly(first.getId(), second.getId());
+        assertThat(nodeB).extracting(Member::getId).containsExactly(third.getId());
+        entityManager.clear();
+        MemberEntity claimed = entityManager.find(MemberEntity.class, first.getId());
+        assertThat(claimed.getCleanupClaimedBy()).isEqualTo("node-a");
+        assertThat(claimed.getCleanupClaimedUntil()).isAfter(LocalDateTime.now());
+        assertThat(claimed.getVersion()).isEqualTo(first.getVersion());
+    }
+
+    @Test
+    void claimDeactivatedBefore_shouldReclaimMembersWhoseLeaseExpired() {
+        Member deactivated = persistMember("m1@example.com", MemberStatus.DEACTIVATED);
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+
+        memberRepository.claimDeactivatedBefore(cutoff, "node-a", Duration.ofMinutes(-1), 10);
+        entityManager.clear();
+
+        assertThat(memberRepository.claimDeactivatedBefore(cutoff, "node-b", Duration.ofMinutes(15), 10))
+                .extracting(Member::getId).containsExactly(deactivated.getId());
+    }
+
+    @Test
+    void getStatusByKeycloakUserId_shouldReadStatusColumnOnly() {
+        entityManager.persistAndFlush(MemberEntity.builder()
+                .memberId(UUID.randomUUID())
+                .firstName("Carol")
+                .lastName("Doe")
+                .email("carol@example.com")
+                .keycloakUserId("kc-carol")
+                .status(MemberStatus.SUSPENDED)
+                .build());
+        entityManager.clear();
+        statistics.clear();
+
+        assertThat(memberRepository.getStatusByKeycloakUserId("kc-carol")).contains(MemberStatus.SUSPENDED);
+        assertThat(memberRepository.getStatusByKeycloakUserId("kc-unknown")).isEmpty();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private Member persistMember(String email, MemberStatus status) {
+        return persistMember(email, status, null);
+    }
+
+    private Member persistMember(String email, MemberStatus status, String keycloakUserId) {
+        MemberEntity entity = entityManager.persistFlushFind(MemberEntity.builder()
+                .memberId(UUID.randomUUID())
+                .firstName("Bob")
+                .lastName("Martin")
+                .email(email)
+                .keycloakUserId(keycloakUserId)
+                .status(status)
+                .deactivatedAt(LocalDateTime.now().minusDays(40))
+                .build());
+        return memberRepository.getByMemberId(entity.getMemberId()).orElseThrow();
+    }
+}
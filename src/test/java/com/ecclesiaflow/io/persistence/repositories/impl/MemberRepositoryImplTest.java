@@ -1,26 +1,43 @@
 package com.ecclesiaflow.io.persistence.repositories.impl;
 
 import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberProfile;
+import com.ecclesiaflow.business.domain.member.MemberSearchIndex;
 import com.ecclesiaflow.business.domain.member.MemberStatus;
+import com.ecclesiaflow.io.persistence.cache.MemberLookupCache;
+import com.ecclesiaflow.io.persistence.cache.MemberStatusCache;
 import com.ecclesiaflow.io.persistence.jpa.MemberEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import com.ecclesiaflow.io.persistence.jpa.SpringDataMemberRepository;
 import com.ecclesiaflow.io.persistence.mappers.MemberPersistenceMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -34,7 +51,12 @@ class MemberRepositoryImplTest {
     @Mock
     private MemberPersistenceMapper mapper;
 
-    @InjectMocks
+    @Mock
+    private MemberSearchIndex searchIndex;
+
+    @Mock
+    private EntityManager entityManager;
+
     private MemberRepositoryImpl memberRepository;
 
     private UUID testId;
@@ -46,6 +68,10 @@ class MemberRepositoryImplTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        MemberLookupCache lookupCache = new MemberLookupCache(true, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        MemberStatusCache statusCache = new MemberStatusCache(true, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        memberRepository = new MemberRepositoryImpl(springDataRepo, mapper, searchIndex, entityManager, lookupCache,
+                statusCache);
 
         testId = UUID.randomUUID();
         testMemberId = UUID.randomUUID();
@@ -101,6 +127,23 @@ class MemberRepositoryImplTest {
         verifyNoInteractions(mapper);
     }
 
+    @Test
+    void update_withStaleVersion_shouldEvictCachedMemberBeforeThrowing() {
+        Member cached = testDomain.toBuilder().version(4L).build();
+        when(springDataRepo.findByMemberId(testMemberId)).thenReturn(Optional.of(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(cached);
+        memberRepository.getByMemberId(testMemberId);
+        testEntity.setVersion(5L);
+        when(entityManager.getReference(MemberEntity.class, testId)).thenReturn(testEntity);
+
+        assertThatThrownBy(() -> memberRepository.update(cached, cached.toBuilder().firstName("Jack").build()))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        memberRepository.getByMemberId(testMemberId);
+
+        // the retry reads the row again instead of the stale cached copy
+        verify(springDataRepo, times(2)).findByMemberId(testMemberId);
+    }
+
     @Test
     void getByEmail_shouldReturnMappedDomainObject() {
         when(springDataRepo.findByEmail(testEmail)).thenReturn(Optional.of(testEntity));
@@ -147,75 +190,6 @@ class MemberRepositoryImplTest {
         verifyNoInteractions(mapper);
     }
 
-    @Test
-    void getByStatus_shouldReturnEmptyPageWhenNoneFound() {
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<MemberEntity> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
-        when(springDataRepo.findByStatus(MemberStatus.ACTIVE, pageable)).thenReturn(emptyPage);
-
-        Page<Member> result = memberRepository.getByStatus(MemberStatus.ACTIVE, pageable);
-
-        assertThat(result).isEmpty();
-        assertThat(result.getTotalElements()).isEqualTo(0);
-        assertThat(result.getTotalPages()).isEqualTo(0);
-        verify(springDataRepo, times(1)).findByStatus(MemberStatus.ACTIVE, pageable);
-    }
-
-    @Test
-    void getByStatus_shouldReturnPagedResults() {
-        // Given
-        Pageable pageable = PageRequest.of(0, 2);
-        MemberEntity entity1 = createTestEntity();
-        entity1.setEmail("john@test.com");
-        entity1.setStatus(MemberStatus.ACTIVE);
-        MemberEntity entity2 = createTestEntity();
-        entity2.setEmail("jane@test.com");
-        entity2.setStatus(MemberStatus.ACTIVE);
-
-        List<MemberEntity> entities = List.of(entity1, entity2);
-        Page<MemberEntity> entityPage = new PageImpl<>(entities, pageable, 5);
-
-        Member member1 = Member.builder()
-                .memberId(UUID.randomUUID())
-                .firstName("John")
-                .lastName("Doe")
-                .email("john@test.com")
-                .address("123 Test St")
-                .status(MemberStatus.ACTIVE)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-        Member member2 = Member.builder()
-                .memberId(UUID.randomUUID())
-                .firstName("Jane")
-                .lastName("Doe")
-                .email("jane@test.com")
-                .address("456 Test Ave")
-                .status(MemberStatus.ACTIVE)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        when(springDataRepo.findByStatus(MemberStatus.ACTIVE, pageable)).thenReturn(entityPage);
-        when(mapper.toDomain(entity1)).thenReturn(member1);
-        when(mapper.toDomain(entity2)).thenReturn(member2);
-
-        // When
-        Page<Member> result = memberRepository.getByStatus(MemberStatus.ACTIVE, pageable);
-
-        // Then
-        assertThat(result.getContent()).hasSize(2);
-        assertThat(result.getContent()).containsExactly(member1, member2);
-        assertThat(result.getTotalElements()).isEqualTo(5);
-        assertThat(result.getTotalPages()).isEqualTo(3);
-        assertThat(result.getNumber()).isEqualTo(0);
-        assertThat(result.getSize()).isEqualTo(2);
-
-        verify(springDataRepo, times(1)).findByStatus(MemberStatus.ACTIVE, pageable);
-        verify(mapper, times(1)).toDomain(entity1);
-        verify(mapper, times(1)).toDomain(entity2);
-    }
-
     @Test
     void getMembersBySearchTerm_shouldReturnPagedResults() {
         // Given
@@ -355,6 +329,35 @@ class MemberRepositoryImplTest {
         verify(mapper, times(1)).toEntity(testDomain);
         verify(springDataRepo, times(1)).save(testEntity);
         verify(mapper, times(1)).toDomain(testEntity);
+        verify(searchIndex).index(testDomain);
+    }
+
+    @Test
+    void saveAll_shouldSaveInOneCallAndIndexEverySavedMember() {
+        when(mapper.toEntity(testDomain)).thenReturn(testEntity);
+        when(springDataRepo.saveAll(List.of(testEntity))).thenReturn(List.of(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testDomain);
+
+        List<Member> result = memberRepository.saveAll(List.of(testDomain));
+
+        assertThat(result).containsExactly(testDomain);
+        verify(springDataRepo).saveAll(List.of(testEntity));
+        verify(springDataRepo, never()).save(any());
+        verify(searchIndex).index(testDomain);
+    }
+
+    @Test
+    void findExistingEmails_shouldReturnEmailsFoundByOneQuery() {
+        List<String> emails = List.of(testEmail, "new@example.com");
+        when(springDataRepo.findEmailsIn(emails)).thenReturn(List.of(testEmail));
+
+        assertThat(memberRepository.findExistingEmails(emails)).containsExactly(testEmail);
+    }
+
+    @Test
+    void findExistingEmails_shouldNotQueryForEmptyCollection() {
+        assertThat(memberRepository.findExistingEmails(List.of())).isEmpty();
+        verifyNoInteractions(springDataRepo);
     }
 
     @Test
@@ -366,6 +369,125 @@ class MemberRepositoryImplTest {
 
         verify(mapper, times(1)).toEntity(testDomain);
         verify(springDataRepo, times(1)).delete(testEntity);
+        verify(searchIndex).remove(testDomain.getId());
+    }
+
+    @Test
+    void naturalKeyLookups_shouldBeServedFromCacheAfterFirstLoad() {
+        when(springDataRepo.findByMemberId(testMemberId)).thenReturn(Optional.of(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testDomain);
+
+        memberRepository.getByMemberId(testMemberId);
+
+        assertThat(memberRepository.getByMemberId(testMemberId)).contains(testDomain);
+        assertThat(memberRepository.getByEmail("TEST@example.com")).contains(testDomain);
+        verify(springDataRepo, times(1)).findByMemberId(testMemberId);
+        verify(springDataRepo, never()).findByEmail(any());
+    }
+
+    @Test
+    void save_shouldEvictCachedMember() {
+        Member renamed = testDomain.toBuilder().firstName("Johnny").build();
+        when(springDataRepo.findByMemberId(testMemberId)).thenReturn(Optional.of(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testDomain, renamed);
+        when(mapper.toEntity(renamed)).thenReturn(testEntity);
+        when(springDataRepo.save(testEntity)).thenReturn(testEntity);
+        memberRepository.getByMemberId(testMemberId);
+
+        memberRepository.save(renamed);
+
+        assertThat(memberRepository.getByMemberId(testMemberId)).contains(renamed);
+        verify(springDataRepo, times(2)).findByMemberId(testMemberId);
+    }
+
+    @Test
+    void delete_shouldEvictCachedMember() {
+        when(springDataRepo.findByEmail(testEmail)).thenReturn(Optional.of(testEntity), Optional.empty());
+        when(mapper.toDomain(testEntity)).thenReturn(testDomain);
+        when(mapper.toEntity(testDomain)).thenReturn(testEntity);
+        memberRepository.getByEmail(testEmail);
+
+        memberRepository.delete(testDomain);
+
+        assertThat(memberRepository.getByEmail(testEmail)).isEmpty();
+        verify(springDataRepo, times(2)).findByEmail(testEmail);
+    }
+
+    @Test
+    void forEachMember_shouldStreamMappedMembersAndClearContextPeriodically() {
+        int total = MemberRepositoryImpl.STREAM_CLEAR_INTERVAL * 2 + 3;
+        when(springDataRepo.streamByStatus(MemberStatus.ACTIVE))
+                .thenReturn(Stream.generate(() -> testEntity).limit(total));
+        when(mapper.toDomain(testEntity)).thenReturn(testDomain);
+        List<Member> received = new ArrayList<>();
+
+        long count = memberRepository.forEachMember(MemberStatus.ACTIVE, received::add);
+
+        assertThat(count).isEqualTo(total);
+        assertThat(received).hasSize(total).containsOnly(testDomain);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void forEachMember_shouldCloseStreamWhenActionFails() {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(springDataRepo.streamByStatus(null))
+                .thenReturn(Stream.of(testEntity).onClose(() -> closed.set(true)));
+        when(mapper.toDomain(testEntity)).thenReturn(testDomain);
+
+        assertThatThrownBy(() -> memberRepository.forEachMember(null, member -> {
+            throw new IllegalStateException("client gone");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void getProfilesByIds_shouldPreserveRequestedOrderAndSkipMissing() {
+        UUID otherId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        MemberProfile testProfile = MemberProfile.of(testDomain);
+        MemberProfile otherProfile = MemberProfile.of(Member.builder().id(otherId).build());
+        List<UUID> ids = List.of(otherId, missingId, testId);
+
+        when(springDataRepo.findProfilesByIdIn(ids)).thenReturn(List.of(testProfile, otherProfile));
+
+        List<MemberProfile> result = memberRepository.getProfilesByIds(ids);
+
+        assertThat(result).containsExactly(otherProfile, testProfile);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void getProfilesByIds_shouldNotQueryForEmptyList() {
+        assertThat(memberRepository.getProfilesByIds(List.of())).isEmpty();
+        verifyNoInteractions(springDataRepo);
+    }
+
+    @Test
+    void getProfiles_shouldDelegateToProjectionQuery() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<MemberProfile> page = new PageImpl<>(List.of(MemberProfile.of(testDomain)), pageable, 1);
+        when(springDataRepo.findProfiles("john", MemberStatus.PENDING, pageable)).thenReturn(page);
+
+        assertThat(memberRepository.getProfiles("john", MemberStatus.PENDING, pageable)).isSameAs(page);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void getProfiles_shouldThrowExceptionWhenPageableIsNull() {
+        assertThatThrownBy(() -> memberRepository.getProfiles(null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getProfileByMemberIdAndKeycloakUserId_shouldDelegateToProjectionQueries() {
+        MemberProfile profile = MemberProfile.of(testDomain);
+        when(springDataRepo.findProfileByMemberId(testMemberId)).thenReturn(Optional.of(profile));
+        when(springDataRepo.findProfileByKeycloakUserId("kc-1")).thenReturn(Optional.empty());
+
+        assertThat(memberRepository.getProfileByMemberId(testMemberId)).contains(profile);
+        assertThat(memberRepository.getProfileByKeycloakUserId("kc-1")).isEmpty();
+        verifyNoInteractions(mapper);
     }
 
     @Test
@@ -422,43 +544,110 @@ class MemberRepositoryImplTest {
     }
 
     @Test
-    void getAll_shouldReturnPagedResults() {
-        Pageable pageable = PageRequest.of(0, 5);
+    @SuppressWarnings("unchecked")
+    void scrollMembers_shouldSeekWithIdTieBreakerAndMapToDomain() {
         MemberEntity entity = createTestEntity();
         Member member = createTestDomain();
+        Window<MemberEntity> entityWindow = Window.from(List.of(entity), i -> ScrollPosition.keyset(), false);
+        ArgumentCaptor<Function<JpaSpecificationExecutor.SpecificationFluentQuery<MemberEntity>, Window<MemberEntity>>> queryCaptor =
+                ArgumentCaptor.forClass(Function.class);
 
-        Page<MemberEntity> entityPage = new PageImpl<>(List.of(entity), pageable, 1);
-
-        when(springDataRepo.findAll(pageable)).thenReturn(entityPage);
+        when(springDataRepo.findBy(any(Specification.class), queryCaptor.capture())).thenReturn(entityWindow);
         when(mapper.toDomain(entity)).thenReturn(member);
 
-        Page<Member> result = memberRepository.getAll(pageable);
+        Window<Member> result = memberRepository.scrollMembers("jo", MemberStatus.ACTIVE,
+                ScrollPosition.keyset(), Sort.by(Sort.Direction.DESC, "createdAt"), 2);
 
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0)).isEqualTo(member);
-        assertThat(result.getTotalElements()).isEqualTo(1);
-        assertThat(result.getNumber()).isEqualTo(0);
-        assertThat(result.getSize()).isEqualTo(5);
+        assertThat(result.getContent()).containsExactly(member);
 
-        verify(springDataRepo, times(1)).findAll(pageable);
-        verify(mapper, times(1)).toDomain(entity);
+        JpaSpecificationExecutor.SpecificationFluentQuery<MemberEntity> fluentQuery =
+                mock(JpaSpecificationExecutor.SpecificationFluentQuery.class, RETURNS_SELF);
+        queryCaptor.getValue().apply(fluentQuery);
+        verify(fluentQuery).sortBy(Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
+        verify(fluentQuery).limit(2);
+        verify(fluentQuery).scroll(ScrollPosition.keyset());
     }
 
     @Test
-    void getAll_shouldThrowExceptionWhenPageableIsNull() {
-        assertThatThrownBy(() -> memberRepository.getAll(null))
-                .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("Pageable cannot be null");
+    @SuppressWarnings("unchecked")
+    void scrollMembers_shouldKeepExplicitIdOrder() {
+        Sort sort = Sort.by("lastName").and(Sort.by(Sort.Direction.ASC, "id"));
+        ArgumentCaptor<Function<JpaSpecificationExecutor.SpecificationFluentQuery<MemberEntity>, Window<MemberEntity>>> queryCaptor =
+                ArgumentCaptor.forClass(Function.class);
+        when(springDataRepo.findBy(any(Specification.class), queryCaptor.capture()))
+                .thenReturn(Window.from(List.of(), i -> ScrollPosition.keyset(), false));
+
+        memberRepository.scrollMembers(null, null, ScrollPosition.keyset(), sort, 10);
+
+        JpaSpecificationExecutor.SpecificationFluentQuery<MemberEntity> fluentQuery =
+                mock(JpaSpecificationExecutor.SpecificationFluentQuery.class, RETURNS_SELF);
+        queryCaptor.getValue().apply(fluentQuery);
+        verify(fluentQuery).sortBy(sort);
+    }
+
+    @Test
+    void scrollMembers_shouldThrowExceptionWhenPositionOrSortIsNull() {
+        assertThatThrownBy(() -> memberRepository.scrollMembers(null, null, null, Sort.by("email"), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> memberRepository.scrollMembers(null, null, ScrollPosition.keyset(), null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
 
         verifyNoInteractions(springDataRepo, mapper);
     }
 
     @Test
-    void getByStatus_shouldThrowExceptionWhenPageableIsNull() {
-        assertThatThrownBy(() -> memberRepository.getByStatus(MemberStatus.ACTIVE, null))
+    void searchMembersByRelevance_shouldQueryFullTextIndexWithoutSort() {
+        Pageable pageable = PageRequest.of(1, 10, org.springframework.data.domain.Sort.by("firstName"));
+        MemberEntity entity = createTestEntity();
+        Member member = createTestDomain();
+        when(springDataRepo.findMembersByFullTextSearch("\"jean dupont\"", "ACTIVE", PageRequest.of(1, 10)))
+                .thenReturn(new PageImpl<>(List.of(entity), PageRequest.of(1, 10), 11));
+        when(mapper.toDomain(entity)).thenReturn(member);
+
+        Page<Member> result = memberRepository.searchMembersByRelevance("jean  +dupont*", MemberStatus.ACTIVE, pageable);
+
+        assertThat(result.getContent()).containsExactly(member);
+        assertThat(result.getTotalElements()).isEqualTo(11);
+        verify(springDataRepo, never()).findMembersBySearchTermAndStatus(any(), any(), any());
+    }
+
+    @Test
+    void searchMembersByRelevance_shouldPassNullStatusWhenUnfiltered() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(springDataRepo.findMembersByFullTextSearch("\"doe\"", null, pageable))
+                .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        Page<Member> result = memberRepository.searchMembersByRelevance("doe", null, pageable);
+
+        assertThat(result.getContent()).isEmpty();
+    }
+
+    @Test
+    void searchMembersByRelevance_shouldFallBackToLikeBelowNgramSize() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(springDataRepo.findMembersBySearchTerm("j", pageable)).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+        when(springDataRepo.findMembersBySearchTermAndStatus("(", MemberStatus.ACTIVE, pageable))
+                .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        memberRepository.searchMembersByRelevance("j", null, pageable);
+        memberRepository.searchMembersByRelevance("(", MemberStatus.ACTIVE, pageable);
+
+        verify(springDataRepo).findMembersBySearchTerm("j", pageable);
+        verify(springDataRepo).findMembersBySearchTermAndStatus("(", MemberStatus.ACTIVE, pageable);
+        verify(springDataRepo, never()).findMembersByFullTextSearch(any(), any(), any());
+    }
+
+    @Test
+    void searchMembersByRelevance_shouldThrowExceptionWhenPageableIsNull() {
+        assertThatThrownBy(() -> memberRepository.searchMembersByRelevance("doe", null, null))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Pageable cannot be null");
+    }
 
-        verifyNoInteractions(springDataRepo, mapper);
+    @Test
+    void toBooleanModePhrase_shouldStripOperatorsAndQuote() {
+        assertThat(MemberRepositoryImpl.toBooleanModePhrase("  \"jean\" -(tremblay)@2 ")).isEqualTo("\"jean tremblay 2\"");
+        assertThat(MemberRepositoryImpl.toBooleanModePhrase(null)).isNull();
+        assertThat(MemberRepositoryImpl.toBooleanModePhrase("~*")).isNull();
     }
 }
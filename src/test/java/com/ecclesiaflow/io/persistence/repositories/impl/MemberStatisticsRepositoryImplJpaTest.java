@@ -0,0 +1,208 @@
+package com.ecclesiaflow.io.persistence.repositories.impl;
+
+import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberStatistics;
+import com.ecclesiaflow.business.domain.member.MemberStatisticsDelta;
+import com.ecclesiaflow.business.domain.member.MemberStatus;
+import com.ecclesiaflow.business.domain.member.SocialProvider;
+import com.ecclesiaflow.io.persistence.jpa.MemberEntity;
+import com.ecclesiaflow.io.persistence.jpa.MemberStatsEntity;
+import com.ecclesiaflow.io.persistence.jpa.SpringDataMemberRepository;
+import com.ecclesiaflow.io.persistence.jpa.SpringDataMemberStatsDeltaRepository;
+import com.ecclesiaflow.io.persistence.jpa.SpringDataMemberStatsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks {@link MemberStatisticsRepositoryImpl} against an H2 database: reconciliation
+ * recounts the member table, deltas are journaled with the caller's transaction.
+ * Runs without a test-managed transaction, so that concurrent transactions see each other.
+ */
+@DataJpaTest
+@Import(MemberStatisticsRepositoryImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberStatisticsRepositoryImplJpaTest {
+
+    @Autowired
+    private MemberStatisticsRepositoryImpl statisticsRepository;
+
+    @Autowired
+    private SpringDataMemberRepository memberRepository;
+
+    @Autowired
+    private SpringDataMemberStatsRepository statsRepository;
+
+    @Autowired
+    private SpringDataMemberStatsDeltaRepository deltaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+        statsRepository.deleteAll();
+        deltaRepository.deleteAll();
+    }
+
+    @Test
+    void reconcile_shouldCountMembersPerStatusProviderAndLocalCredentials() {
+        persistMember("a@example.com", MemberStatus.ACTIVE, SocialProvider.GOOGLE, true);
+        persistMember("b@example.com", MemberStatus.ACTIVE, null, true);
+        persistMember("c@example.com", MemberStatus.PENDING, null, false);
+
+        MemberStatistics reconciled = statisticsRepository.reconcile();
+
+        assertThat(reconciled.total()).isEqualTo(3);
+        assertThat(statisticsRepository.get()).isEqualTo(reconciled);
+        assertThat(reconciled.byStatus())
+                .containsEntry(MemberStatus.ACTIVE, 2L)
+                .containsEntry(MemberStatus.PENDING, 1L)
+                .containsEntry(MemberStatus.SUSPENDED, 0L);
+        assertThat(reconciled.bySocialProvider())
+                .containsEntry(SocialProvider.GOOGLE, 1L)
+                .containsEntry(SocialProvider.FACEBOOK, 0L);
+        assertThat(reconciled.withLocalCredentials()).isEqualTo(2);
+    }
+
+    @Test
+    void apply_shouldMoveCountersInPlace() {
+        persistMember("a@example.com", MemberStatus.PENDING, null, false);
+        statisticsRepository.reconcile();
+        Member pending = Member.builder().status(MemberStatus.PENDING).build();
+        Member confirmed = Member.builder().status(MemberStatus.CONFIRMED).build();
+
+        statisticsRepository.apply(MemberStatisticsDelta.changed(pending, confirmed));
+        statisticsRepository.apply(MemberStatisticsDelta.added(
+                Member.builder().status(MemberStatus.ACTIVE).socialProvider(SocialProvider.MICROSOFT).build()));
+
+        MemberStatistics statistics = statisticsRepository.get();
+        assertThat(statistics.byStatus())
+                .containsEntry(MemberStatus.PENDING, 0L)
+                .containsEntry(MemberStatus.CONFIRMED, 1L)
+                .containsEntry(MemberStatus.ACTIVE, 1L);
+        assertThat(statistics.bySocialProvider()).containsEntry(SocialProvider.MICROSOFT, 1L);
+    }
+
+    @Test
+    void apply_shouldJournalDeltaWithoutTouchingTheCounterRows() {
+        statisticsRepository.reconcile();
+
+        statisticsRepository.apply(MemberStatisticsDelta.added(Member.builder().status(MemberStatus.ACTIVE).build()));
+
+        assertThat(statsRepository.findById("status:ACTIVE").orElseThrow().getMemberCount()).isZero();
+        assertThat(deltaRepository.count()).isEqualTo(1);
+        assertThat(statisticsRepository.get().byStatus()).containsEntry(MemberStatus.ACTIVE, 1L);
+    }
+
+    @Test
+    void apply_shouldWaitForRunningReconciliationAndKeepCountersExact() {
+        persistMember("a@example.com", MemberStatus.ACTIVE, null, false);
+        statisticsRepository.reconcile();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CompletableFuture<Void> writer = new CompletableFuture<>();
+
+        transaction.executeWithoutResult(reconciliation -> {
+            // The counter rows stay locked until this transaction commits
+            statisticsRepository.reconcile();
+            CompletableFuture.runAsync(() -> transaction.executeWithoutResult(write -> {
+                persistMember("b@example.com", MemberStatus.ACTIVE, null, false);
+                statisticsRepository.apply(MemberStatisticsDelta.added(
+                        Member.builder().status(MemberStatus.ACTIVE).build()));
+            })).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    writer.completeExceptionally(error);
+                } else {
+                    writer.complete(null);
+                }
+            });
+            sleep(Duration.ofMillis(200));
+            assertThat(writer).isNotDone();
+        });
+
+        assertThat(writer).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(statisticsRepository.get().byStatus()).containsEntry(MemberStatus.ACTIVE, 2L);
+        assertThat(statisticsRepository.reconcile().byStatus()).containsEntry(MemberStatus.ACTIVE, 2L);
+    }
+
+    @Test
+    void apply_shouldDropDeltaWhenTheCallerRollsBack() {
+        statisticsRepository.reconcile();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            statisticsRepository.apply(MemberStatisticsDelta.added(Member.builder().status(MemberStatus.ACTIVE).build()));
+            status.setRollbackOnly();
+        });
+
+        assertThat(statisticsRepository.get().byStatus()).containsEntry(MemberStatus.ACTIVE, 0L);
+    }
+
+    @Test
+    void reconcile_shouldFoldTheJournal() {
+        statisticsRepository.reconcile();
+        persistMember("a@example.com", MemberStatus.PENDING, null, false);
+        statisticsRepository.apply(MemberStatisticsDelta.added(Member.builder().status(MemberStatus.PENDING).build()));
+
+        statisticsRepository.reconcile();
+
+        assertThat(deltaRepository.count()).isZero();
+        assertThat(statsRepository.findById("status:PENDING").orElseThrow().getMemberCount()).isEqualTo(1);
+        assertThat(statisticsRepository.get().byStatus()).containsEntry(MemberStatus.PENDING, 1L);
+    }
+
+    @Test
+    void reconcile_shouldOverwriteDriftedCounters() {
+        persistMember("a@example.com", MemberStatus.ACTIVE, null, false);
+        statisticsRepository.reconcile();
+        statisticsRepository.apply(MemberStatisticsDelta.statusChanged(MemberStatus.ACTIVE, MemberStatus.SUSPENDED, 5));
+
+        statisticsRepository.reconcile();
+
+        MemberStatsEntity suspended = statsRepository.findById("status:SUSPENDED").orElseThrow();
+        assertThat(suspended.getMemberCount()).isZero();
+        assertThat(suspended.getReconciledAt()).isNotNull();
+        assertThat(statisticsRepository.get().byStatus()).containsEntry(MemberStatus.ACTIVE, 1L);
+    }
+
+    @Test
+    void get_shouldReturnZerosBeforeFirstReconciliation() {
+        MemberStatistics statistics = statisticsRepository.get();
+
+        assertThat(statistics.total()).isZero();
+        assertThat(statistics.byStatus()).hasSize(MemberStatus.values().length);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void persistMember(String email, MemberStatus status, SocialProvider provider, boolean localCredentials) {
+        memberRepository.save(MemberEntity.builder()
+                .memberId(UUID.randomUUID())
+                .firstName("Bob")
+                .lastName("Martin")
+                .email(email)
+                .status(status)
+                .socialProvider(provider)
+                .hasLocalCredentials(localCredentials)
+                .build());
+    }
+}
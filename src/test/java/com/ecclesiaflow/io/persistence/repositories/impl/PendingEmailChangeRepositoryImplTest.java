@@ -10,13 +10,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -143,4 +148,52 @@ class PendingEmailChangeRepositoryImplTest {
 
         verify(springDataRepo).deleteByMemberId(MEMBER_ID);
     }
+
+    @Test
+    @DisplayName("claimForConfirmation should claim for the lease when no claim is held")
+    void claimForConfirmation_shouldClaimForLease() {
+        when(springDataRepo.claimForConfirmation(eq(ID), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        assertThat(repository.claimForConfirmation(ID, Duration.ofMinutes(1))).isTrue();
+        verify(springDataRepo).claimForConfirmation(eq(ID), any(LocalDateTime.class),
+                argThat(until -> until.isAfter(LocalDateTime.now().plusSeconds(50))));
+    }
+
+    @Test
+    @DisplayName("claimForConfirmation should fail when another confirmation holds the claim")
+    void claimForConfirmation_shouldFailWhenAlreadyClaimed() {
+        when(springDataRepo.claimForConfirmation(eq(ID), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        assertThat(repository.claimForConfirmation(ID, Duration.ofMinutes(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("releaseConfirmationClaim should delegate")
+    void releaseConfirmationClaim_shouldDelegate() {
+        repository.releaseConfirmationClaim(ID);
+
+        verify(springDataRepo).releaseConfirmationClaim(ID);
+    }
+
+    @Test
+    @DisplayName("deleteExpired should delete one chunk")
+    void deleteExpired_shouldDeleteOneChunk() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        PendingEmailChangeEntity expired = PendingEmailChangeEntity.builder().id(UUID.randomUUID()).build();
+        when(springDataRepo.findExpiredForUpdate(cutoff, Limit.of(100))).thenReturn(List.of(expired));
+
+        assertThat(repository.deleteExpired(cutoff, 100)).isEqualTo(1);
+        verify(springDataRepo).deleteAllByIdInBatch(List.of(expired.getId()));
+    }
+
+    @Test
+    @DisplayName("countExpired should delegate")
+    void countExpired_shouldDelegate() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        when(springDataRepo.countByExpiresAtBefore(cutoff)).thenReturn(3L);
+
+        assertThat(repository.countExpired(cutoff)).isEqualTo(3L);
+    }
 }
@@ -0,0 +1,39 @@
+package com.ecclesiaflow.io.persistence.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntPostingListTest {
+
+    @Test
+    void add_shouldKeepIdsSortedAndDistinct() {
+        IntPostingList list = new IntPostingList();
+        list.add(10);
+        list.add(3);
+        list.add(7);
+        list.add(7);
+        list.add(12);
+        list.add(1);
+
+        assertThat(list.toArray()).containsExactly(1, 3, 7, 10, 12);
+        assertThat(list.size()).isEqualTo(5);
+    }
+
+    @Test
+    void remove_shouldDropPresentIdsOnly() {
+        IntPostingList list = new IntPostingList();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+
+        assertThat(list.remove(2)).isTrue();
+        assertThat(list.remove(5)).isFalse();
+        assertThat(list.contains(2)).isFalse();
+        assertThat(list.toArray()).containsExactly(1, 3);
+
+        list.remove(1);
+        list.remove(3);
+        assertThat(list.isEmpty()).isTrue();
+    }
+}
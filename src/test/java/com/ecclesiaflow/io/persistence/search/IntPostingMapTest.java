@@ -0,0 +1,66 @@
+package com.ecclesiaflow.io.persistence.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntPostingMapTest {
+
+    @Test
+    void getOrCreate_shouldReturnTheSameListForAKey() {
+        IntPostingMap map = new IntPostingMap();
+        IntPostingList list = map.getOrCreate(42);
+        list.add(7);
+
+        assertThat(map.getOrCreate(42)).isSameAs(list);
+        assertThat(map.get(42).toArray()).containsExactly(7);
+        assertThat(map.get(43)).isNull();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBehaveLikeAHashMapAcrossGrowthAndRemovals() {
+        IntPostingMap map = new IntPostingMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(20_000) - 10_000;
+            if (random.nextInt(3) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                map.getOrCreate(key).add(i);
+                expected.putIfAbsent(key, i);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (int key = -10_000; key < 10_000; key++) {
+            IntPostingList list = map.get(key);
+            if (expected.containsKey(key)) {
+                assertThat(list).isNotNull();
+                assertThat(list.toArray()[0]).isEqualTo(expected.get(key));
+            } else {
+                assertThat(list).isNull();
+            }
+        }
+    }
+
+    @Test
+    void clear_shouldDropAllEntries() {
+        IntPostingMap map = new IntPostingMap();
+        for (int key = 0; key < 10_000; key++) {
+            map.getOrCreate(key);
+        }
+
+        map.clear();
+
+        assertThat(map.size()).isZero();
+        assertThat(map.get(1)).isNull();
+    }
+}
@@ -0,0 +1,69 @@
+package com.ecclesiaflow.io.persistence.search;
+
+import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberRepository;
+import com.ecclesiaflow.business.domain.member.MemberStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberSearchIndexLoaderTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MemberTrigramIndex index;
+    private MemberSearchIndexLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        index = new MemberTrigramIndex();
+        loader = new MemberSearchIndexLoader(index, memberRepository);
+    }
+
+    @Test
+    void run_shouldLoadEveryMemberAndMakeIndexReady() {
+        when(memberRepository.forEachMember(isNull(), any())).thenAnswer(invocation -> {
+            Consumer<Member> action = invocation.getArgument(1);
+            for (int i = 0; i < 25; i++) {
+                action.accept(Member.builder()
+                        .id(UUID.randomUUID())
+                        .firstName("Member")
+                        .lastName("Doe" + i)
+                        .email("member" + i + "@mail.com")
+                        .status(MemberStatus.ACTIVE)
+                        .build());
+            }
+            return 25L;
+        });
+
+        loader.run(null);
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.size()).isEqualTo(25);
+        assertThat(index.search("member", null, PageRequest.of(0, 10)).orElseThrow().getTotalElements())
+                .isEqualTo(25);
+    }
+
+    @Test
+    void run_shouldLeaveIndexUnavailableWhenLoadFails() {
+        when(memberRepository.forEachMember(isNull(), any())).thenThrow(new IllegalStateException("connection lost"));
+
+        loader.run(null);
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.size()).isZero();
+    }
+}
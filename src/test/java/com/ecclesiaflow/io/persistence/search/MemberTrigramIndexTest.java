@@ -0,0 +1,212 @@
+package com.ecclesiaflow.io.persistence.search;
+
+import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberTrigramIndexTest {
+
+    private static final Pageable BY_LAST_NAME = PageRequest.of(0, 10, Sort.by("lastName"));
+
+    private MemberTrigramIndex index;
+    private Member alice;
+    private Member bob;
+    private Member carol;
+
+    @BeforeEach
+    void setUp() {
+        index = new MemberTrigramIndex();
+        alice = member("Alice", "Martin", "alice.martin@mail.com", MemberStatus.ACTIVE, 1);
+        bob = member("Bob", "Martinez", "bob@mail.com", MemberStatus.PENDING, 2);
+        carol = member("Carol", "Dupont", "carol@example.org", MemberStatus.ACTIVE, 3);
+
+        index.beginLoad();
+        index.load(alice);
+        index.load(bob);
+        index.load(carol);
+        index.completeLoad();
+    }
+
+    @Test
+    void search_shouldReturnEmptyBeforeLoadCompletes() {
+        MemberTrigramIndex fresh = new MemberTrigramIndex();
+        fresh.beginLoad();
+        fresh.load(alice);
+
+        assertThat(fresh.isReady()).isFalse();
+        assertThat(fresh.search("alice", null, BY_LAST_NAME)).isEmpty();
+    }
+
+    @Test
+    void search_shouldMatchSubstringsCaseInsensitively() {
+        assertThat(ids(index.search("MARTIN", null, BY_LAST_NAME))).containsExactly(alice.getId(), bob.getId());
+        assertThat(ids(index.search("example.o", null, BY_LAST_NAME))).containsExactly(carol.getId());
+    }
+
+    @Test
+    void search_shouldRejectCandidatesWhoseTrigramsAreNotContiguous() {
+        // "abcde" shares all its trigrams with first name "abcd" + last name "bcde", but is in neither
+        Member split = member("Abcd", "Bcde", "split@mail.com", MemberStatus.ACTIVE, 5);
+        index.index(split);
+
+        assertThat(ids(index.search("abcde", null, BY_LAST_NAME))).isEmpty();
+        assertThat(ids(index.search("abcd", null, BY_LAST_NAME))).containsExactly(split.getId());
+        assertThat(ids(index.search("zzz", null, BY_LAST_NAME))).isEmpty();
+    }
+
+    @Test
+    void search_shouldFilterByStatus() {
+        assertThat(ids(index.search("martin", MemberStatus.PENDING, BY_LAST_NAME))).containsExactly(bob.getId());
+    }
+
+    @Test
+    void search_shouldSortAndPage() {
+        Pageable secondPage = PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        Page<UUID> page = index.search("mail", null, secondPage).orElseThrow();
+
+        assertThat(page.getContent()).containsExactly(alice.getId());
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getNumber()).isEqualTo(1);
+    }
+
+    @Test
+    void search_shouldSortLargeResultSetsBySeveralProperties() {
+        List<Member> durands = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Member member = member("Paul" + (i % 7), "Durand", "paul" + i + "@mail.com", MemberStatus.ACTIVE, 1 + i % 28);
+            durands.add(member);
+            index.index(member);
+        }
+        Pageable byFirstNameThenEmailDesc = PageRequest.of(0, 100,
+                Sort.by(Sort.Order.asc("firstName"), Sort.Order.desc("email")));
+
+        Page<UUID> page = index.search("durand", null, byFirstNameThenEmailDesc).orElseThrow();
+
+        List<UUID> expected = durands.stream()
+                .sorted(Comparator.comparing((Member m) -> m.getFirstName().toLowerCase(Locale.ROOT))
+                        .thenComparing(Member::getEmail, Comparator.reverseOrder()))
+                .map(Member::getId)
+                .toList();
+        assertThat(page.getContent()).isEqualTo(expected);
+        assertThat(page.getTotalElements()).isEqualTo(100);
+    }
+
+    @Test
+    void search_shouldDeclineShortTermsAndUnsupportedSorts() {
+        assertThat(index.search("al", null, BY_LAST_NAME)).isEmpty();
+        assertThat(index.search("alice", null, PageRequest.of(0, 10, Sort.by("address")))).isEmpty();
+    }
+
+    @Test
+    void index_shouldReplaceExistingEntry() {
+        index.index(alice.toBuilder().lastName("Bernard").email("alice.bernard@mail.com").build());
+
+        assertThat(ids(index.search("martin", null, BY_LAST_NAME))).containsExactly(bob.getId());
+        assertThat(ids(index.search("bernard", null, BY_LAST_NAME))).containsExactly(alice.getId());
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void remove_shouldDropEntry() {
+        index.remove(bob.getId());
+
+        assertThat(ids(index.search("martin", null, BY_LAST_NAME))).containsExactly(alice.getId());
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void index_shouldWaitForTransactionCommit() {
+        Member dave = member("Dave", "Martineau", "dave@mail.com", MemberStatus.ACTIVE, 4);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.index(dave);
+            assertThat(ids(index.search("martineau", null, BY_LAST_NAME))).isEmpty();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(ids(index.search("martineau", null, BY_LAST_NAME))).containsExactly(dave.getId());
+    }
+
+    @Test
+    void load_shouldNotOverrideWritesAppliedDuringLoad() {
+        MemberTrigramIndex loading = new MemberTrigramIndex();
+        loading.beginLoad();
+        loading.index(alice.toBuilder().firstName("Alicia").build());
+        loading.remove(bob.getId());
+
+        loading.load(alice);
+        loading.load(bob);
+        loading.completeLoad();
+
+        assertThat(ids(loading.search("alicia", null, BY_LAST_NAME))).containsExactly(alice.getId());
+        assertThat(ids(loading.search("bob", null, BY_LAST_NAME))).isEmpty();
+    }
+
+    @Test
+    void writes_shouldBeIgnoredUntilLoadStarts() {
+        MemberTrigramIndex fresh = new MemberTrigramIndex();
+
+        fresh.index(alice);
+
+        assertThat(fresh.size()).isZero();
+    }
+
+    @Test
+    void updates_shouldCompactDocumentTable() {
+        Member updated = alice;
+        for (int i = 0; i < 5_000; i++) {
+            updated = updated.toBuilder().firstName("Alice" + i).build();
+            index.index(updated);
+        }
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(ids(index.search("alice4999", null, BY_LAST_NAME))).containsExactly(alice.getId());
+        assertThat(ids(index.search("alice4998", null, BY_LAST_NAME))).isEmpty();
+        assertThat(ids(index.search("martin", null, BY_LAST_NAME))).containsExactly(alice.getId(), bob.getId());
+    }
+
+    @Test
+    void reset_shouldMakeIndexUnavailable() {
+        index.reset();
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.search("alice", null, BY_LAST_NAME)).isEmpty();
+    }
+
+    private static List<UUID> ids(Optional<Page<UUID>> page) {
+        return page.orElseThrow().getContent();
+    }
+
+    private static Member member(String firstName, String lastName, String email, MemberStatus status, int day) {
+        return Member.builder()
+                .id(UUID.randomUUID())
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .status(status)
+                .createdAt(LocalDateTime.of(2024, 1, day, 10, 0))
+                .build();
+    }
+}
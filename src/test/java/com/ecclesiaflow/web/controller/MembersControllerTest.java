@@ -10,7 +10,10 @@ import com.ecclesiaflow.web.model.SignUpRequestPayload;
 import com.ecclesiaflow.web.model.SignUpResponse;
 import com.ecclesiaflow.web.model.UpdateMemberRequestPayload;
 import com.ecclesiaflow.web.exception.advices.GlobalExceptionHandler;
+import com.ecclesiaflow.web.model.MemberImportError;
+import com.ecclesiaflow.web.model.MemberImportResponse;
 import com.ecclesiaflow.web.model.MemberPageResponse;
+import com.ecclesiaflow.web.model.MemberStatisticsResponse;
 import com.ecclesiaflow.web.delegate.EmailChangeDelegate;
 import com.ecclesiaflow.web.delegate.MembersManagementDelegate;
 import com.ecclesiaflow.web.delegate.MembersTemporaryDelegate;
@@ -27,11 +30,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
@@ -297,6 +304,63 @@ class MembersControllerTest {
     }
 
 
+    // --- Tests for GET /ecclesiaflow/members/export ---
+    @Test
+    void exportMembers_shouldStreamBodyReturnedByDelegate() throws Exception {
+        StreamingResponseBody body = out -> out.write("{\"email\":\"alice@mail.com\"}\n".getBytes(StandardCharsets.UTF_8));
+        when(membersManagementDelegate.exportMembers("ndjson", "ACTIVE"))
+                .thenReturn(ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body));
+
+        MvcResult result = mockMvc.perform(get("/ecclesiaflow/members/export")
+                        .param("status", "ACTIVE"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"email\":\"alice@mail.com\"}\n"));
+    }
+
+    // --- Tests for POST /ecclesiaflow/members/import ---
+    @Test
+    void importMembers_shouldPassUploadedFileAndFormatToDelegate() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "members.csv", "text/csv",
+                "firstName,lastName,email\r\n".getBytes(StandardCharsets.UTF_8));
+        MemberImportResponse report = new MemberImportResponse()
+                .totalRows(3L).importedRows(2L).rejectedRows(1L).durationMillis(5L).rowsPerSecond(600.0)
+                .errors(List.of(new MemberImportError().rowNumber(2L).email("bob@mail.com").message("Duplicate email in file")));
+        when(membersManagementDelegate.importMembers(eq("csv"), any())).thenReturn(ResponseEntity.ok(report));
+
+        mockMvc.perform(multipart("/ecclesiaflow/members/import").file(file).param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(2))
+                .andExpect(jsonPath("$.errors[0].rowNumber").value(2))
+                .andExpect(jsonPath("$.errors[0].message").value("Duplicate email in file"));
+
+        verify(membersManagementDelegate).importMembers(eq("csv"), argThat(uploaded ->
+                "members.csv".equals(uploaded.getOriginalFilename())));
+    }
+
+    // --- Tests for GET /ecclesiaflow/members/statistics ---
+    @Test
+    void getStatistics_shouldReturnCountsFromDelegate() throws Exception {
+        MemberStatisticsResponse statistics = new MemberStatisticsResponse()
+                .totalMembers(5L).byStatus(java.util.Map.of("ACTIVE", 4L, "PENDING", 1L))
+                .bySocialProvider(java.util.Map.of("GOOGLE", 2L)).withLocalCredentials(3L);
+        when(membersManagementDelegate.getStatistics()).thenReturn(ResponseEntity.ok(statistics));
+
+        mockMvc.perform(get("/ecclesiaflow/members/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalMembers").value(5))
+                .andExpect(jsonPath("$.byStatus.ACTIVE").value(4))
+                .andExpect(jsonPath("$.bySocialProvider.GOOGLE").value(2))
+                .andExpect(jsonPath("$.withLocalCredentials").value(3));
+
+        verify(membersManagementDelegate).getStatistics();
+        verify(membersManagementDelegate, never()).getMemberById(any());
+    }
+
     // --- Tests for GET /ecclesiaflow/members (getAllMembers) with pagination ---
     @Test
     void getAllMembers_shouldReturnPageOfMembers() throws Exception {
@@ -313,7 +377,7 @@ class MembersControllerTest {
                 .number(0)
                 .page(0);
 
-        when(membersManagementDelegate.getAllMembers(eq(0), eq(20), eq(null), eq(null), any(), any()))
+        when(membersManagementDelegate.getAllMembers(eq(0), eq(20), eq(null), eq(null), any(), any(), any(), any()))
                 .thenReturn(ResponseEntity.ok(pageResponse));
 
         mockMvc.perform(get("/ecclesiaflow/members")
@@ -328,7 +392,7 @@ class MembersControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(2))
                 .andExpect(jsonPath("$.totalPages").value(1));
 
-        verify(membersManagementDelegate).getAllMembers(eq(0), eq(20), eq(null), eq(null), any(), any());
+        verify(membersManagementDelegate).getAllMembers(eq(0), eq(20), eq(null), eq(null), any(), any(), any(), any());
     }
 
     @Test
@@ -340,7 +404,7 @@ class MembersControllerTest {
                 .size(20)
                 .number(0);
 
-        when(membersManagementDelegate.getAllMembers(eq(0), eq(20), eq(null), eq(null), any(), any()))
+        when(membersManagementDelegate.getAllMembers(eq(0), eq(20), eq(null), eq(null), any(), any(), any(), any()))
                 .thenReturn(ResponseEntity.ok(emptyPageResponse));
 
         mockMvc.perform(get("/ecclesiaflow/members")
@@ -353,7 +417,7 @@ class MembersControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(0))
                 .andExpect(jsonPath("$.totalPages").value(0));
 
-        verify(membersManagementDelegate).getAllMembers(eq(0), eq(20), eq(null), eq(null), any(), any());
+        verify(membersManagementDelegate).getAllMembers(eq(0), eq(20), eq(null), eq(null), any(), any(), any(), any());
     }
 
     @Test
@@ -369,7 +433,7 @@ class MembersControllerTest {
                 .size(20)
                 .number(0);
 
-        when(membersManagementDelegate.getAllMembers(eq(0), eq(20), eq("alice"), eq(null), any(), any()))
+        when(membersManagementDelegate.getAllMembers(eq(0), eq(20), eq("alice"), eq(null), any(), any(), any(), any()))
                 .thenReturn(ResponseEntity.ok(pageResponse));
 
         mockMvc.perform(get("/ecclesiaflow/members")
@@ -382,7 +446,7 @@ class MembersControllerTest {
                 .andExpect(jsonPath("$.content[0].firstName").value("Alice"))
                 .andExpect(jsonPath("$.totalElements").value(1));
 
-        verify(membersManagementDelegate).getAllMembers(eq(0), eq(20), eq("alice"), eq(null), any(), any());
+        verify(membersManagementDelegate).getAllMembers(eq(0), eq(20), eq("alice"), eq(null), any(), any(), any(), any());
     }
 
     @Test
@@ -398,7 +462,7 @@ class MembersControllerTest {
                 .size(20)
                 .number(0);
 
-        when(membersManagementDelegate.getAllMembers(eq(0), eq(20), eq(null), eq("ACTIVE"), any(), any()))
+        when(membersManagementDelegate.getAllMembers(eq(0), eq(20), eq(null), eq("ACTIVE"), any(), any(), any(), any()))
                 .thenReturn(ResponseEntity.ok(pageResponse));
 
         mockMvc.perform(get("/ecclesiaflow/members")
@@ -411,7 +475,36 @@ class MembersControllerTest {
                 .andExpect(jsonPath("$.content[0].firstName").value("Alice"))
                 .andExpect(jsonPath("$.totalElements").value(1));
 
-        verify(membersManagementDelegate).getAllMembers(eq(0), eq(20), eq(null), eq("ACTIVE"), any(), any());
+        verify(membersManagementDelegate).getAllMembers(eq(0), eq(20), eq(null), eq("ACTIVE"), any(), any(), any(), any());
+    }
+
+    @Test
+    void getAllMembers_shouldForwardKeysetParametersAndReturnNextCursor() throws Exception {
+        MemberPageResponse pageResponse = new MemberPageResponse()
+                .content(List.of(new SignUpResponse().email("bob@mail.com").firstName("Bob")))
+                .size(1)
+                .first(false)
+                .last(false)
+                .nextCursor("next-token");
+
+        when(membersManagementDelegate.getAllMembers(any(), eq(1), eq(null), eq(null), eq("lastName"), eq("asc"),
+                eq("keyset"), eq("prev-token")))
+                .thenReturn(ResponseEntity.ok(pageResponse));
+
+        mockMvc.perform(get("/ecclesiaflow/members")
+                        .param("size", "1")
+                        .param("sort", "lastName")
+                        .param("direction", "asc")
+                        .param("pagination", "keyset")
+                        .param("cursor", "prev-token")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].firstName").value("Bob"))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(membersManagementDelegate).getAllMembers(any(), eq(1), eq(null), eq(null), eq("lastName"), eq("asc"),
+                eq("keyset"), eq("prev-token"));
     }
 
 
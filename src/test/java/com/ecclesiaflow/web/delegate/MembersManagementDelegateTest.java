@@ -1,34 +1,61 @@
 package com.ecclesiaflow.web.delegate;
 
 import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberImportReport;
+import com.ecclesiaflow.business.domain.member.MemberImportRow;
+import com.ecclesiaflow.business.domain.member.MemberProfile;
+import com.ecclesiaflow.business.domain.member.MemberStatistics;
 import com.ecclesiaflow.business.domain.member.MemberStatus;
 import com.ecclesiaflow.business.domain.member.MembershipRegistration;
 import com.ecclesiaflow.business.domain.member.MembershipUpdate;
 import com.ecclesiaflow.business.exceptions.MemberNotFoundException;
+import com.ecclesiaflow.business.services.MemberImportService;
 import com.ecclesiaflow.business.services.MemberService;
+import com.ecclesiaflow.web.exception.InvalidRequestException;
+import com.ecclesiaflow.web.mappers.MemberCsvMapper;
+import com.ecclesiaflow.web.mappers.MemberCursorMapper;
 import com.ecclesiaflow.web.mappers.OpenApiModelMapper;
 import com.ecclesiaflow.web.mappers.UpdateRequestMapper;
+import com.ecclesiaflow.web.model.MemberImportResponse;
 import com.ecclesiaflow.web.model.MemberPageResponse;
+import com.ecclesiaflow.web.model.MemberStatisticsResponse;
 import com.ecclesiaflow.web.model.SignUpRequestPayload;
 import com.ecclesiaflow.web.model.SignUpResponse;
 import com.ecclesiaflow.web.model.UpdateMemberRequestPayload;
 import com.ecclesiaflow.web.security.AuthenticatedUserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -51,6 +78,15 @@ class MembersManagementDelegateTest {
     @Mock
     private AuthenticatedUserService authenticatedUserService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private MemberImportService memberImportService;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private MembersManagementDelegate membersManagementDelegate;
 
@@ -108,7 +144,7 @@ class MembersManagementDelegateTest {
                 Member.builder().memberId(UUID.randomUUID()).firstName("Bob").email("bob@example.com").status(MemberStatus.PENDING).createdAt(LocalDateTime.now()).build()
         );
 
-        Page<Member> memberPage = new PageImpl<>(members, PageRequest.of(0, 20), 2);
+        Page<MemberProfile> memberPage = new PageImpl<>(members.stream().map(MemberProfile::of).toList(), PageRequest.of(0, 20), 2);
 
         MemberPageResponse expectedResponse = new MemberPageResponse()
                 .content(List.of(
@@ -126,7 +162,7 @@ class MembersManagementDelegateTest {
                 .thenReturn(expectedResponse);
 
         // When
-        ResponseEntity<MemberPageResponse> response = membersManagementDelegate.getAllMembers(0, 20, null, null, "firstName", "asc");
+        ResponseEntity<MemberPageResponse> response = membersManagementDelegate.getAllMembers(0, 20, null, null, "firstName", "asc", "offset", null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -141,7 +177,7 @@ class MembersManagementDelegateTest {
     @Test
     void getAllMembers_shouldHandleSearchParameter() {
         // Given
-        Page<Member> memberPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0);
+        Page<MemberProfile> memberPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0);
         MemberPageResponse expectedResponse = new MemberPageResponse()
                 .content(Collections.emptyList())
                 .totalElements(0L);
@@ -152,7 +188,7 @@ class MembersManagementDelegateTest {
                 .thenReturn(expectedResponse);
 
         // When
-        membersManagementDelegate.getAllMembers(0, 20, "alice", null, "firstName", "asc");
+        membersManagementDelegate.getAllMembers(0, 20, "alice", null, "firstName", "asc", "offset", null);
 
         // Then
         verify(memberService).getAllMembers(any(Pageable.class), eq("alice"), (MemberStatus) isNull());
@@ -161,7 +197,7 @@ class MembersManagementDelegateTest {
     @Test
     void getAllMembers_shouldHandleStatusFilter() {
         // Given
-        Page<Member> memberPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0);
+        Page<MemberProfile> memberPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0);
         MemberPageResponse expectedResponse = new MemberPageResponse()
                 .content(Collections.emptyList())
                 .totalElements(0L);
@@ -172,7 +208,7 @@ class MembersManagementDelegateTest {
                 .thenReturn(expectedResponse);
 
         // When
-        membersManagementDelegate.getAllMembers(0, 20, null, "ACTIVE", "firstName", "asc");
+        membersManagementDelegate.getAllMembers(0, 20, null, "ACTIVE", "firstName", "asc", "offset", null);
 
         // Then
         verify(memberService).getAllMembers(any(Pageable.class), eq(null), eq(MemberStatus.ACTIVE));
@@ -181,7 +217,7 @@ class MembersManagementDelegateTest {
     @Test
     void getAllMembers_shouldHandleDescendingSort() {
         // Given
-        Page<Member> memberPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0);
+        Page<MemberProfile> memberPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0);
         when(memberService.getAllMembers(any(Pageable.class), eq(null), (MemberStatus) isNull()))
                 .thenReturn(memberPage);
         when(openApiModelMapper.createMemberPageResponse(memberPage))
@@ -189,7 +225,7 @@ class MembersManagementDelegateTest {
 
         // When
         ResponseEntity<MemberPageResponse> response = membersManagementDelegate.getAllMembers(
-                0, 20, null, null, "lastName", "desc");
+                0, 20, null, null, "lastName", "desc", "offset", null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -199,7 +235,7 @@ class MembersManagementDelegateTest {
     @Test
     void getAllMembers_shouldHandleCustomPageSize() {
         // Given
-        Page<Member> memberPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(2, 50), 0);
+        Page<MemberProfile> memberPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(2, 50), 0);
         when(memberService.getAllMembers(any(Pageable.class), eq(null), (MemberStatus) isNull()))
                 .thenReturn(memberPage);
         when(openApiModelMapper.createMemberPageResponse(memberPage))
@@ -207,7 +243,7 @@ class MembersManagementDelegateTest {
 
         // When
         ResponseEntity<MemberPageResponse> response = membersManagementDelegate.getAllMembers(
-                2, 50, null, null, "email", "asc");
+                2, 50, null, null, "email", "asc", "offset", null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -217,7 +253,7 @@ class MembersManagementDelegateTest {
     @Test
     void getAllMembers_shouldHandleAllNullParameters() {
         // Given
-        Page<Member> memberPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0);
+        Page<MemberProfile> memberPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0);
         when(memberService.getAllMembers(any(Pageable.class), eq(null), (MemberStatus) isNull()))
                 .thenReturn(memberPage);
         when(openApiModelMapper.createMemberPageResponse(memberPage))
@@ -225,14 +261,222 @@ class MembersManagementDelegateTest {
 
         // When
         ResponseEntity<MemberPageResponse> response = membersManagementDelegate.getAllMembers(
-                null, null, null, null, null, null);
+                null, null, null, null, null, null, null, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         verify(memberService).getAllMembers(any(Pageable.class), eq(null), (MemberStatus) isNull());
     }
 
+    // --- Tests for getAllMembers (keyset pagination) ---
+    @Test
+    void getAllMembers_keysetFirstPage_shouldReturnNextCursorWithoutCounting() {
+        // Given
+        UUID lastId = UUID.randomUUID();
+        Member alice = Member.builder().id(UUID.randomUUID()).firstName("Alice").email("alice@example.com").build();
+        Member bob = Member.builder().id(lastId).firstName("Bob").email("bob@example.com").build();
+        Window<Member> window = Window.from(List.of(alice, bob),
+                i -> ScrollPosition.forward(Map.of("firstName", i == 0 ? "Alice" : "Bob", "id", i == 0 ? alice.getId() : lastId)),
+                true);
+        MemberPageResponse expectedResponse = new MemberPageResponse().size(2);
+
+        when(memberService.getAllMembers(eq(ScrollPosition.keyset()), eq(Sort.by(Sort.Direction.ASC, "firstName")),
+                eq(2), eq(null), (MemberStatus) isNull()))
+                .thenReturn(window);
+        when(openApiModelMapper.createMemberPageResponse(eq(window), eq(2), anyString(), eq(true)))
+                .thenReturn(expectedResponse);
+
+        // When
+        ResponseEntity<MemberPageResponse> response = membersManagementDelegate.getAllMembers(
+                null, 2, null, null, "firstName", "asc", "keyset", null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(openApiModelMapper).createMemberPageResponse(eq(window), eq(2),
+                eq(MemberCursorMapper.toCursor(ScrollPosition.forward(Map.of("firstName", "Bob", "id", lastId)),
+                        "firstName", Sort.Direction.ASC)),
+                eq(true));
+        verify(memberService, never()).getAllMembers(any(Pageable.class), any(), any());
+    }
+
+    @Test
+    void getAllMembers_withCursor_shouldResumeAfterDecodedPosition() {
+        // Given
+        UUID lastId = UUID.randomUUID();
+        String cursor = MemberCursorMapper.toCursor(
+                ScrollPosition.forward(Map.of("lastName", "Doe", "id", lastId)), "lastName", Sort.Direction.DESC);
+        Window<Member> lastWindow = Window.from(Collections.emptyList(), i -> ScrollPosition.keyset(), false);
+
+        when(memberService.getAllMembers(any(KeysetScrollPosition.class), eq(Sort.by(Sort.Direction.DESC, "lastName")),
+                eq(20), eq("jo"), eq(MemberStatus.ACTIVE)))
+                .thenReturn(lastWindow);
+        when(openApiModelMapper.createMemberPageResponse(lastWindow, 20, null, false))
+                .thenReturn(new MemberPageResponse());
+
+        // When — no explicit pagination mode: the cursor alone selects keyset mode
+        membersManagementDelegate.getAllMembers(null, null, "jo", "ACTIVE", "lastName", "desc", null, cursor);
+
+        // Then
+        verify(memberService).getAllMembers(
+                eq(ScrollPosition.forward(Map.of("lastName", "Doe", "id", lastId))),
+                any(Sort.class), eq(20), eq("jo"), eq(MemberStatus.ACTIVE));
+        verify(openApiModelMapper).createMemberPageResponse(lastWindow, 20, null, false);
+    }
+
+    @Test
+    void getAllMembers_keysetWithUnsupportedSort_shouldThrowInvalidRequest() {
+        assertThatThrownBy(() -> membersManagementDelegate.getAllMembers(
+                null, 20, null, null, "address", "asc", "keyset", null))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("address");
+
+        verifyNoInteractions(memberService);
+    }
+
+    @Test
+    void getAllMembers_withCursorForAnotherSort_shouldThrowInvalidRequest() {
+        String cursor = MemberCursorMapper.toCursor(
+                ScrollPosition.forward(Map.of("email", "a@example.com", "id", UUID.randomUUID())),
+                "email", Sort.Direction.ASC);
+
+        assertThatThrownBy(() -> membersManagementDelegate.getAllMembers(
+                null, 20, null, null, "firstName", "asc", null, cursor))
+                .isInstanceOf(InvalidRequestException.class);
+
+        verifyNoInteractions(memberService);
+    }
+
     // --- Tests for getMemberById ---
+    @Test
+    void exportMembers_ndjson_shouldStreamOneJsonObjectPerLine() throws Exception {
+        Member member = Member.builder().memberId(UUID.randomUUID()).email("john@mail.com").build();
+        SignUpResponse dto = new SignUpResponse();
+        dto.setEmail("john@mail.com");
+        dto.setFirstName("John");
+        when(openApiModelMapper.toMemberResponse(member)).thenReturn(dto);
+        stubExport(MemberStatus.ACTIVE, member, member);
+
+        ResponseEntity<StreamingResponseBody> response = membersManagementDelegate.exportMembers(null, "ACTIVE");
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("members.ndjson");
+        String[] lines = writeBody(response).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("email").asText()).isEqualTo("john@mail.com");
+    }
+
+    @Test
+    void exportMembers_csv_shouldWriteHeaderThenRows() throws Exception {
+        Member member = Member.builder().memberId(UUID.randomUUID()).build();
+        SignUpResponse dto = new SignUpResponse();
+        dto.setFirstName("Jean");
+        dto.setLastName("Tremblay");
+        dto.setAddress("123 Rue, Montréal");
+        when(openApiModelMapper.toMemberResponse(member)).thenReturn(dto);
+        stubExport(null, member);
+
+        ResponseEntity<StreamingResponseBody> response = membersManagementDelegate.exportMembers("csv", null);
+
+        assertThat(response.getHeaders().getContentType().toString()).isEqualTo("text/csv;charset=UTF-8");
+        assertThat(writeBody(response)).isEqualTo(MemberCsvMapper.HEADER_LINE
+                + "Jean,Tremblay,,\"123 Rue, Montréal\",,,,,,\r\n");
+    }
+
+    @Test
+    void exportMembers_withUnknownFormat_shouldThrowInvalidRequest() {
+        assertThatThrownBy(() -> membersManagementDelegate.exportMembers("xml", null))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(memberService);
+    }
+
+    // --- Tests for getStatistics ---
+    @Test
+    void getStatistics_shouldMapServiceStatistics() {
+        MemberStatistics statistics = new MemberStatistics(java.util.Map.of(MemberStatus.ACTIVE, 2L), null, 1L);
+        MemberStatisticsResponse expected = new MemberStatisticsResponse().totalMembers(2L);
+        when(memberService.getStatistics()).thenReturn(statistics);
+        when(openApiModelMapper.createMemberStatisticsResponse(statistics)).thenReturn(expected);
+
+        ResponseEntity<MemberStatisticsResponse> response = membersManagementDelegate.getStatistics();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(expected);
+    }
+
+    // --- Tests for importMembers ---
+    @Test
+    void importMembers_withCsv_shouldStreamRowsToServiceAndReturnReport() {
+        String csv = "email,firstName,lastName,confirmed\r\n"
+                + "jean@example.com,Jean,Tremblay,false\r\n"
+                + "bad-email,Marie,Roy,false\r\n";
+        MockMultipartFile file = new MockMultipartFile("file", "members.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8));
+        MemberImportReport report = new MemberImportReport(2, 1, 1, 10, List.of());
+        MemberImportResponse expected = new MemberImportResponse().totalRows(2L).importedRows(1L);
+        List<MemberImportRow> received = new ArrayList<>();
+        when(memberImportService.importMembers(any())).thenAnswer(invocation -> {
+            Iterator<MemberImportRow> rows = invocation.getArgument(0);
+            rows.forEachRemaining(received::add);
+            return report;
+        });
+        when(openApiModelMapper.createMemberImportResponse(report)).thenReturn(expected);
+
+        ResponseEntity<MemberImportResponse> response = membersManagementDelegate.importMembers("csv", file);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(expected);
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0).registration())
+                .isEqualTo(new MembershipRegistration("Jean", "Tremblay", "jean@example.com", null, null));
+        assertThat(received.get(1).isValid()).isFalse();
+        assertThat(received.get(1).error()).contains("email");
+    }
+
+    @Test
+    void importMembers_withEmptyFile_shouldThrowInvalidRequest() {
+        MockMultipartFile file = new MockMultipartFile("file", new byte[0]);
+
+        assertThatThrownBy(() -> membersManagementDelegate.importMembers("ndjson", file))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(memberImportService);
+    }
+
+    @Test
+    void importMembers_withCsvMissingRequiredColumn_shouldThrowInvalidRequest() {
+        MockMultipartFile file = new MockMultipartFile("file", "firstName,lastName\nJean,Tremblay\n"
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> membersManagementDelegate.importMembers("csv", file))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("email");
+        verifyNoInteractions(memberImportService);
+    }
+
+    @Test
+    void importMembers_withUnknownFormat_shouldThrowInvalidRequest() {
+        MockMultipartFile file = new MockMultipartFile("file", "{}".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> membersManagementDelegate.importMembers("xml", file))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(memberImportService);
+    }
+
+    private void stubExport(MemberStatus status, Member... members) {
+        when(memberService.exportMembers(eq(status), any())).thenAnswer(invocation -> {
+            Consumer<Member> consumer = invocation.getArgument(1);
+            for (Member member : members) {
+                consumer.accept(member);
+            }
+            return (long) members.length;
+        });
+    }
+
+    private static String writeBody(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
     @Test
     void getMemberById_shouldReturnMember() {
         // Given
@@ -245,6 +489,7 @@ class MembersManagementDelegateTest {
                 .status(MemberStatus.ACTIVE)
                 .createdAt(LocalDateTime.now())
                 .build();
+        MemberProfile profile = MemberProfile.of(member);
 
         SignUpResponse expectedResponse = new SignUpResponse()
                 .email("jane.doe@example.com")
@@ -253,8 +498,8 @@ class MembersManagementDelegateTest {
                 .confirmed(true)
                 .message("Member found");
 
-        when(memberService.findByMemberId(memberId)).thenReturn(member);
-        when(openApiModelMapper.createSignUpResponse(member, "Member found"))
+        when(memberService.findProfileByMemberId(memberId)).thenReturn(profile);
+        when(openApiModelMapper.createSignUpResponse(profile, "Member found"))
                 .thenReturn(expectedResponse);
 
         // When
@@ -266,15 +511,15 @@ class MembersManagementDelegateTest {
         assertThat(response.getBody().getEmail()).isEqualTo("jane.doe@example.com");
         assertThat(response.getBody().getConfirmed()).isTrue();
 
-        verify(memberService).findByMemberId(memberId);
-        verify(openApiModelMapper).createSignUpResponse(member, "Member found");
+        verify(memberService).findProfileByMemberId(memberId);
+        verify(openApiModelMapper).createSignUpResponse(profile, "Member found");
     }
 
     @Test
     void getMemberById_shouldPropagateMemberNotFoundException() {
         // Given
         UUID memberId = UUID.randomUUID();
-        when(memberService.findByMemberId(memberId))
+        when(memberService.findProfileByMemberId(memberId))
                 .thenThrow(new MemberNotFoundException("Member not found"));
 
         // When/Then
@@ -282,7 +527,7 @@ class MembersManagementDelegateTest {
                 .isInstanceOf(MemberNotFoundException.class)
                 .hasMessage("Member not found");
 
-        verify(memberService).findByMemberId(memberId);
+        verify(memberService).findProfileByMemberId(memberId);
         verifyNoInteractions(openApiModelMapper);
     }
 
@@ -409,6 +654,7 @@ class MembersManagementDelegateTest {
                 .status(MemberStatus.ACTIVE)
                 .createdAt(LocalDateTime.now())
                 .build();
+        MemberProfile profile = MemberProfile.of(member);
 
         SignUpResponse response = new SignUpResponse();
         response.setEmail("test@example.com");
@@ -416,8 +662,8 @@ class MembersManagementDelegateTest {
         response.setLastName("User");
 
         when(authenticatedUserService.getKeycloakUserId()).thenReturn(keycloakUserId);
-        when(memberService.getByKeycloakUserId(keycloakUserId)).thenReturn(member);
-        when(openApiModelMapper.createSignUpResponse(member, "Profile retrieved")).thenReturn(response);
+        when(memberService.getProfileByKeycloakUserId(keycloakUserId)).thenReturn(profile);
+        when(openApiModelMapper.createSignUpResponse(profile, "Profile retrieved")).thenReturn(response);
 
         // When
         ResponseEntity<SignUpResponse> result = membersManagementDelegate.getMyProfile();
@@ -428,8 +674,8 @@ class MembersManagementDelegateTest {
         assertThat(result.getBody().getEmail()).isEqualTo("test@example.com");
 
         verify(authenticatedUserService).getKeycloakUserId();
-        verify(memberService).getByKeycloakUserId(keycloakUserId);
-        verify(openApiModelMapper).createSignUpResponse(member, "Profile retrieved");
+        verify(memberService).getProfileByKeycloakUserId(keycloakUserId);
+        verify(openApiModelMapper).createSignUpResponse(profile, "Profile retrieved");
     }
 
     @Test
@@ -21,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -346,6 +347,23 @@ class GlobalExceptionHandlerTest {
         assertThat(errorResponse.message()).isEqualTo("Membre déjà confirmé");
     }
 
+    @Test
+    @DisplayName("Devrait gérer OptimisticLockingFailureException avec statut 409")
+    void handleOptimisticLockingFailure_ShouldReturnConflict() {
+        // Given
+        OptimisticLockingFailureException exception = new OptimisticLockingFailureException("stale member");
+
+        // When
+        ResponseEntity<ApiErrorResponse> response = globalExceptionHandler
+                .handleOptimisticLockingFailure(exception, webRequest);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().status()).isEqualTo(409);
+        assertThat(response.getBody().message()).doesNotContain("stale member");
+    }
+
     @Test
     @DisplayName("Devrait gérer InvalidRequestException avec statut 400")
     void handleInvalidRequest_ShouldReturnBadRequest() {
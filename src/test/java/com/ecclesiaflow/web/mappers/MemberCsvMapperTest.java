@@ -0,0 +1,55 @@
+package com.ecclesiaflow.web.mappers;
+
+import com.ecclesiaflow.web.model.SignUpResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberCsvMapperTest {
+
+    @Test
+    void headerLine_shouldListColumnsInRowOrder() {
+        assertThat(MemberCsvMapper.HEADER_LINE).isEqualTo(
+                "firstName,lastName,email,address,phoneNumber,confirmed,hasLocalCredentials,"
+                        + "socialProvider,createdAt,confirmedAt\r\n");
+    }
+
+    @Test
+    void toCsvLine_shouldWriteEmptyFieldsForNullValues() {
+        SignUpResponse member = new SignUpResponse()
+                .firstName("Jean")
+                .lastName("Tremblay")
+                .email("jean@example.com")
+                .confirmed(true)
+                .hasLocalCredentials(false)
+                .socialProvider(SignUpResponse.SocialProviderEnum.GOOGLE)
+                .createdAt("2024-01-01T10:00");
+
+        assertThat(MemberCsvMapper.toCsvLine(member))
+                .isEqualTo("Jean,Tremblay,jean@example.com,,,true,false,GOOGLE,2024-01-01T10:00,\r\n");
+    }
+
+    @Test
+    void toCsvLine_shouldQuoteFieldsWithSeparatorsQuotesOrLineBreaks() {
+        SignUpResponse member = new SignUpResponse()
+                .firstName("Marie \"Mimi\"")
+                .lastName("Martin")
+                .address("456 Avenue, Québec\nG1R 2S3");
+
+        assertThat(MemberCsvMapper.toCsvLine(member))
+                .startsWith("\"Marie \"\"Mimi\"\"\",Martin,,\"456 Avenue, Québec\nG1R 2S3\",");
+    }
+
+    @Test
+    void toCsvLine_shouldNeutralizeValuesThatSpreadsheetsEvaluate() {
+        SignUpResponse member = new SignUpResponse()
+                .firstName("=HYPERLINK(\"http://evil\",\"x\")")
+                .lastName("@SUM(A1)")
+                .email("-1+1@example.com")
+                .address("\t=1")
+                .phoneNumber("+33 1 23 45 67 89");
+
+        assertThat(MemberCsvMapper.toCsvLine(member))
+                .startsWith("\"'=HYPERLINK(\"\"http://evil\"\",\"\"x\"\")\",'@SUM(A1),'-1+1@example.com,'\t=1,'+33 1 23 45 67 89,");
+    }
+}
@@ -0,0 +1,85 @@
+package com.ecclesiaflow.web.mappers;
+
+import com.ecclesiaflow.web.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemberCursorMapperTest {
+
+    @Test
+    void roundTrip_shouldPreserveStringSortKeyAndId() {
+        UUID id = UUID.randomUUID();
+        KeysetScrollPosition position = ScrollPosition.forward(Map.of("lastName", "O'Brien|Smith", "id", id));
+
+        String cursor = MemberCursorMapper.toCursor(position, "lastName", Sort.Direction.ASC);
+        KeysetScrollPosition decoded = MemberCursorMapper.fromCursor(cursor, "lastName", Sort.Direction.ASC);
+
+        assertThat(cursor).doesNotContain("=", "+", "/");
+        assertThat(decoded.getKeys()).containsEntry("lastName", "O'Brien|Smith").containsEntry("id", id);
+        assertThat(decoded.scrollsForward()).isTrue();
+    }
+
+    @Test
+    void roundTrip_shouldRestoreCreatedAtAsLocalDateTime() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000);
+        KeysetScrollPosition position = ScrollPosition.forward(Map.of("createdAt", createdAt, "id", id));
+
+        String cursor = MemberCursorMapper.toCursor(position, "createdAt", Sort.Direction.DESC);
+        KeysetScrollPosition decoded = MemberCursorMapper.fromCursor(cursor, "createdAt", Sort.Direction.DESC);
+
+        assertThat(decoded.getKeys()).containsEntry("createdAt", createdAt).containsEntry("id", id);
+    }
+
+    @Test
+    void toCursor_shouldRejectPositionWithoutSortKey() {
+        KeysetScrollPosition position = ScrollPosition.forward(Map.of("id", UUID.randomUUID()));
+
+        assertThatThrownBy(() -> MemberCursorMapper.toCursor(position, "email", Sort.Direction.ASC))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void fromCursor_shouldRejectMismatchedSortOrDirection() {
+        String cursor = MemberCursorMapper.toCursor(
+                ScrollPosition.forward(Map.of("email", "a@example.com", "id", UUID.randomUUID())),
+                "email", Sort.Direction.ASC);
+
+        assertThatThrownBy(() -> MemberCursorMapper.fromCursor(cursor, "firstName", Sort.Direction.ASC))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> MemberCursorMapper.fromCursor(cursor, "email", Sort.Direction.DESC))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void fromCursor_shouldRejectMalformedTokens() {
+        String notBase64 = "***";
+        String tooFewParts = encode("email|ASC");
+        String badUuid = encode("email|ASC|not-a-uuid|a@example.com");
+        String badDate = encode("createdAt|ASC|" + UUID.randomUUID() + "|yesterday");
+
+        assertThatThrownBy(() -> MemberCursorMapper.fromCursor(notBase64, "email", Sort.Direction.ASC))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> MemberCursorMapper.fromCursor(tooFewParts, "email", Sort.Direction.ASC))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> MemberCursorMapper.fromCursor(badUuid, "email", Sort.Direction.ASC))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> MemberCursorMapper.fromCursor(badDate, "createdAt", Sort.Direction.ASC))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,146 @@
+package com.ecclesiaflow.web.mappers;
+
+import com.ecclesiaflow.business.domain.member.MemberImportRow;
+import com.ecclesiaflow.business.domain.member.MembershipRegistration;
+import com.ecclesiaflow.web.exception.InvalidRequestException;
+import com.ecclesiaflow.web.model.SignUpResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemberImportReaderTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void csv_shouldMapColumnsByNameAndIgnoreUnknownOnes() {
+        List<MemberImportRow> rows = readCsv("""
+                email,lastName,firstName,confirmed,phoneNumber\r
+                jean@example.com,Tremblay,Jean,false,+15141234567\r
+                marie@example.com,Roy,Marie,true,\r
+                """);
+
+        assertThat(rows).extracting(MemberImportRow::rowNumber).containsExactly(1L, 2L);
+        assertThat(rows.get(0).registration()).isEqualTo(
+                new MembershipRegistration("Jean", "Tremblay", "jean@example.com", null, "+15141234567"));
+        assertThat(rows.get(1).registration().phoneNumber()).isNull();
+    }
+
+    @Test
+    void csv_shouldHandleQuotedFieldsWithSeparatorsQuotesAndLineBreaks() {
+        List<MemberImportRow> rows = readCsv("firstName,lastName,email,address\n"
+                + "Jean,\"O\"\"Neil\",jean@example.com,\"12 Rue Sainte-Catherine,\nMontréal H3B 1A7\"\n"
+                + "\n"
+                + "Marie,Roy,marie@example.com,");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).registration().lastName()).isEqualTo("O\"Neil");
+        assertThat(rows.get(0).registration().address()).isEqualTo("12 Rue Sainte-Catherine,\nMontréal H3B 1A7");
+        assertThat(rows.get(1).rowNumber()).isEqualTo(2);
+        assertThat(rows.get(1).registration().address()).isNull();
+    }
+
+    @Test
+    void csv_shouldReadItsOwnExportFormat() {
+        SignUpResponse exported = new SignUpResponse()
+                .firstName("Jean")
+                .lastName("Tremblay")
+                .email("jean@example.com")
+                .address("123 Rue Sainte-Catherine, Montréal")
+                .confirmed(true);
+
+        List<MemberImportRow> rows = readCsv(MemberCsvMapper.HEADER_LINE + MemberCsvMapper.toCsvLine(exported));
+
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.isValid()).isTrue();
+            assertThat(row.registration().address()).isEqualTo("123 Rue Sainte-Catherine, Montréal");
+        });
+    }
+
+    @Test
+    void csv_shouldReportInvalidRowsWithoutStopping() {
+        List<MemberImportRow> rows = readCsv("""
+                firstName,lastName,email
+                J,Tremblay,not-an-email
+                Marie,Roy,marie@example.com
+                """);
+
+        assertThat(rows.get(0).isValid()).isFalse();
+        assertThat(rows.get(0).email()).isEqualTo("not-an-email");
+        assertThat(rows.get(0).error()).contains("email:").contains("firstName:");
+        assertThat(rows.get(1).isValid()).isTrue();
+    }
+
+    @Test
+    void csv_shouldReportUnterminatedQuoteAsInvalidRow() {
+        List<MemberImportRow> rows = readCsv("firstName,lastName,email\nJean,\"Tremblay,jean@example.com\n");
+
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.isValid()).isFalse();
+            assertThat(row.error()).isEqualTo("Unterminated quoted field");
+        });
+    }
+
+    @Test
+    void csv_shouldRejectMissingOrIncompleteHeader() {
+        assertThatThrownBy(() -> MemberImportReader.csv(new StringReader(""), OBJECT_MAPPER, VALIDATOR))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> MemberImportReader.csv(new StringReader("firstName,email\n"), OBJECT_MAPPER, VALIDATOR))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("lastName");
+    }
+
+    @Test
+    void ndjson_shouldParseOneObjectPerLineAndIgnoreUnknownProperties() {
+        List<MemberImportRow> rows = read(MemberImportReader.ndjson(new StringReader("""
+                {"firstName":"Jean","lastName":"Tremblay","email":"jean@example.com","confirmed":true}
+
+                {"firstName":"Marie","lastName":"Roy","email":"marie@example.com"}
+                """), OBJECT_MAPPER, VALIDATOR));
+
+        assertThat(rows).extracting(MemberImportRow::email).containsExactly("jean@example.com", "marie@example.com");
+        assertThat(rows).extracting(MemberImportRow::rowNumber).containsExactly(1L, 2L);
+        assertThat(rows).allMatch(MemberImportRow::isValid);
+    }
+
+    @Test
+    void ndjson_shouldReportMalformedLines() {
+        List<MemberImportRow> rows = read(MemberImportReader.ndjson(new StringReader("""
+                {"firstName":"Jean",
+                {"firstName":"Marie","lastName":"Roy","email":"marie@example.com"}
+                """), OBJECT_MAPPER, VALIDATOR));
+
+        assertThat(rows.get(0).isValid()).isFalse();
+        assertThat(rows.get(0).error()).startsWith("Malformed JSON");
+        assertThat(rows.get(1).isValid()).isTrue();
+    }
+
+    @Test
+    void next_shouldThrowWhenExhausted() {
+        Iterator<MemberImportRow> reader = MemberImportReader.ndjson(new StringReader(""), OBJECT_MAPPER, VALIDATOR);
+
+        assertThat(reader.hasNext()).isFalse();
+        assertThatThrownBy(reader::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    private static List<MemberImportRow> readCsv(String content) {
+        return read(MemberImportReader.csv(new StringReader(content), OBJECT_MAPPER, VALIDATOR));
+    }
+
+    private static List<MemberImportRow> read(Iterator<MemberImportRow> reader) {
+        List<MemberImportRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -2,20 +2,29 @@ package com.ecclesiaflow.web.mappers;
 
 import com.ecclesiaflow.business.domain.confirmation.MembershipConfirmationResult;
 import com.ecclesiaflow.business.domain.member.Member;
+import com.ecclesiaflow.business.domain.member.MemberImportReport;
+import com.ecclesiaflow.business.domain.member.MemberProfile;
+import com.ecclesiaflow.business.domain.member.MemberStatistics;
 import com.ecclesiaflow.business.domain.member.MemberStatus;
+import com.ecclesiaflow.business.domain.member.SocialProvider;
 import com.ecclesiaflow.web.model.ConfirmationResponse;
+import com.ecclesiaflow.web.model.MemberImportResponse;
 import com.ecclesiaflow.web.model.MemberPageResponse;
+import com.ecclesiaflow.web.model.MemberStatisticsResponse;
 import com.ecclesiaflow.web.model.SignUpResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -131,6 +140,33 @@ class OpenApiModelMapperTest {
         assertThat(response.getConfirmedAt()).isNull();
     }
 
+    @Test
+    void createSignUpResponse_fromProfile_shouldMapSameFieldsAsFromMember() {
+        // Given
+        Member member = Member.builder()
+                .id(UUID.randomUUID())
+                .memberId(UUID.randomUUID())
+                .email("jane@example.com")
+                .firstName("Jane")
+                .lastName("Doe")
+                .address("123 Main Street")
+                .phoneNumber("+15141234567")
+                .status(MemberStatus.ACTIVE)
+                .hasLocalCredentials(false)
+                .socialProvider(SocialProvider.GOOGLE)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .confirmedAt(LocalDateTime.of(2024, 1, 2, 10, 0))
+                .build();
+
+        // When
+        SignUpResponse fromProfile = mapper.createSignUpResponse(MemberProfile.of(member), "Member found");
+
+        // Then
+        assertThat(fromProfile).isEqualTo(mapper.createSignUpResponse(member, "Member found"));
+        assertThat(fromProfile.getSocialProvider()).isEqualTo(SignUpResponse.SocialProviderEnum.GOOGLE);
+        assertThat(fromProfile.getConfirmedAt()).isEqualTo("2024-01-02T10:00");
+    }
+
     // --- Tests for createMemberPageResponse ---
     @Test
     void createMemberPageResponse_shouldMapPageCorrectly() {
@@ -140,7 +176,7 @@ class OpenApiModelMapperTest {
                 Member.builder().memberId(UUID.randomUUID()).email("bob@example.com").firstName("Bob").lastName("B").status(MemberStatus.PENDING).createdAt(LocalDateTime.now()).build()
         );
 
-        Page<Member> memberPage = new PageImpl<>(members, PageRequest.of(0, 20), 2);
+        Page<MemberProfile> memberPage = new PageImpl<>(members.stream().map(MemberProfile::of).toList(), PageRequest.of(0, 20), 2);
 
         // When
         MemberPageResponse response = mapper.createMemberPageResponse(memberPage);
@@ -169,10 +205,89 @@ class OpenApiModelMapperTest {
         assertThat(secondMember.getConfirmed()).isFalse();
     }
 
+    @Test
+    void createMemberPageResponse_fromWindow_shouldMapCursorAndOmitTotals() {
+        // Given
+        List<Member> members = List.of(
+                Member.builder().memberId(UUID.randomUUID()).email("alice@example.com").firstName("Alice").status(MemberStatus.ACTIVE).build(),
+                Member.builder().memberId(UUID.randomUUID()).email("bob@example.com").firstName("Bob").status(MemberStatus.PENDING).build()
+        );
+        Window<Member> window = Window.from(members, i -> ScrollPosition.keyset(), true);
+
+        // When
+        MemberPageResponse response = mapper.createMemberPageResponse(window, 2, "next-token", false);
+
+        // Then
+        assertThat(response.getContent()).extracting(SignUpResponse::getEmail)
+                .containsExactly("alice@example.com", "bob@example.com");
+        assertThat(response.getNextCursor()).isEqualTo("next-token");
+        assertThat(response.getSize()).isEqualTo(2);
+        assertThat(response.getNumberOfElements()).isEqualTo(2);
+        assertThat(response.getFirst()).isFalse();
+        assertThat(response.getLast()).isFalse();
+        assertThat(response.getEmpty()).isFalse();
+        assertThat(response.getTotalElements()).isNull();
+        assertThat(response.getTotalPages()).isNull();
+        assertThat(response.getPage()).isNull();
+    }
+
+    @Test
+    void createMemberPageResponse_fromLastWindow_shouldHaveNoCursor() {
+        Window<Member> window = Window.from(Collections.emptyList(), i -> ScrollPosition.keyset(), false);
+
+        MemberPageResponse response = mapper.createMemberPageResponse(window, 20, null, true);
+
+        assertThat(response.getContent()).isEmpty();
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.getFirst()).isTrue();
+        assertThat(response.getLast()).isTrue();
+        assertThat(response.getEmpty()).isTrue();
+    }
+
+    @Test
+    void createMemberImportResponse_shouldMapCountsThroughputAndErrors() {
+        // Given
+        MemberImportReport report = new MemberImportReport(4, 3, 1, 2_000,
+                List.of(new MemberImportReport.RowError(2, "bob@mail.com", "Duplicate email in file")));
+
+        // When
+        MemberImportResponse response = mapper.createMemberImportResponse(report);
+
+        // Then
+        assertThat(response.getTotalRows()).isEqualTo(4);
+        assertThat(response.getImportedRows()).isEqualTo(3);
+        assertThat(response.getRejectedRows()).isEqualTo(1);
+        assertThat(response.getDurationMillis()).isEqualTo(2_000);
+        assertThat(response.getRowsPerSecond()).isEqualTo(2.0);
+        assertThat(response.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getRowNumber()).isEqualTo(2);
+            assertThat(error.getEmail()).isEqualTo("bob@mail.com");
+            assertThat(error.getMessage()).isEqualTo("Duplicate email in file");
+        });
+    }
+
+    @Test
+    void createMemberStatisticsResponse_shouldListEveryStatusAndProviderInDeclarationOrder() {
+        MemberStatistics statistics = new MemberStatistics(
+                Map.of(MemberStatus.ACTIVE, 7L, MemberStatus.PENDING, 3L),
+                Map.of(SocialProvider.GOOGLE, 2L), 5L);
+
+        MemberStatisticsResponse response = mapper.createMemberStatisticsResponse(statistics);
+
+        assertThat(response.getTotalMembers()).isEqualTo(10);
+        assertThat(response.getByStatus()).containsExactly(
+                Map.entry("PENDING", 3L), Map.entry("CONFIRMED", 0L), Map.entry("ACTIVE", 7L),
+                Map.entry("DEACTIVATED", 0L), Map.entry("SUSPENDED", 0L), Map.entry("INACTIVE", 0L),
+                Map.entry("DELETING", 0L));
+        assertThat(response.getBySocialProvider()).containsExactly(
+                Map.entry("GOOGLE", 2L), Map.entry("MICROSOFT", 0L), Map.entry("FACEBOOK", 0L));
+        assertThat(response.getWithLocalCredentials()).isEqualTo(5);
+    }
+
     @Test
     void createMemberPageResponse_shouldHandleEmptyPage() {
         // Given
-        Page<Member> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0);
+        Page<MemberProfile> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0);
 
         // When
         MemberPageResponse response = mapper.createMemberPageResponse(emptyPage);
@@ -192,7 +307,7 @@ class OpenApiModelMapperTest {
                 Member.builder().memberId(UUID.randomUUID()).email("charlie@example.com").firstName("Charlie").status(MemberStatus.ACTIVE).createdAt(LocalDateTime.now()).build()
         );
 
-        Page<Member> secondPage = new PageImpl<>(members, PageRequest.of(1, 20), 21);
+        Page<MemberProfile> secondPage = new PageImpl<>(members.stream().map(MemberProfile::of).toList(), PageRequest.of(1, 20), 21);
 
         // When
         MemberPageResponse response = mapper.createMemberPageResponse(secondPage);
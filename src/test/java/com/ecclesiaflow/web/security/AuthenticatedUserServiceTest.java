@@ -1,5 +1,6 @@
 package com.ecclesiaflow.web.security;
 
+import com.ecclesiaflow.business.security.ScopeRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -187,6 +188,39 @@ class AuthenticatedUserServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getScopeMask")
+    class GetScopeMask {
+
+        @Test
+        @DisplayName("should return the mask resolved when the token was authenticated")
+        void shouldReturnResolvedMask() {
+            long mask = ScopeRegistry.bitOf("ef:members:read:all");
+            ScopedJwtAuthenticationToken auth = new ScopedJwtAuthenticationToken(
+                    buildJwt(Map.of()), List.of(), "user-123", mask);
+            SecurityContext ctx = SecurityContextHolder.createEmptyContext();
+            ctx.setAuthentication(auth);
+            SecurityContextHolder.setContext(ctx);
+
+            assertThat(service.getScopeMask()).isEqualTo(mask);
+        }
+
+        @Test
+        @DisplayName("should resolve scope claim and roles for other JWT authentications")
+        void shouldResolveMaskForPlainJwtAuthentication() {
+            setAuthentication(buildJwt(Map.of("scope", "openid ef:members:write:all")), "USER");
+
+            assertThat(ScopeRegistry.namesOf(service.getScopeMask())).containsExactly(
+                    "ef:members:read:own", "ef:members:write:own", "ef:members:write:all", "ef:members:delete:own");
+        }
+
+        @Test
+        @DisplayName("should return an empty mask when not authenticated")
+        void shouldReturnEmptyMaskWithoutAuthentication() {
+            assertThat(service.getScopeMask()).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("getIdentityProvider")
     class GetIdentityProvider {
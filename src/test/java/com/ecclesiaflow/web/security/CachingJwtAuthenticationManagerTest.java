@@ -0,0 +1,211 @@
+package com.ecclesiaflow.web.security;
+
+import com.ecclesiaflow.business.security.ScopeRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingJwtAuthenticationManager - verified token cache")
+class CachingJwtAuthenticationManagerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+    private static final Duration MAX_TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private JwtDecoder jwtDecoder;
+
+    private final KeycloakJwtConverter converter = new KeycloakJwtConverter();
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private CachingJwtAuthenticationManager manager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        manager = createManager(true);
+    }
+
+    private CachingJwtAuthenticationManager createManager(boolean enabled) {
+        return new CachingJwtAuthenticationManager(jwtDecoder, converter, enabled, 100, MAX_TTL, meterRegistry,
+                nanos::get, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private Jwt jwt(String tokenValue, Duration expiresIn) {
+        return Jwt.withTokenValue(tokenValue)
+                .header("alg", "RS256")
+                .subject("kc-123")
+                .claim("email", "john@example.com")
+                .claim("realm_access", Map.of("roles", List.of("member", "USER")))
+                .issuedAt(NOW)
+                .expiresAt(NOW.plus(expiresIn))
+                .build();
+    }
+
+    private Authentication authenticate(String token) {
+        BearerTokenAuthenticationToken bearer = new BearerTokenAuthenticationToken(token);
+        bearer.setDetails("details-" + token);
+        return manager.authenticate(bearer);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    @DisplayName("should verify a token once and serve later requests from the cache")
+    void shouldVerifyTokenOnce() {
+        when(jwtDecoder.decode("token-a")).thenReturn(jwt("token-a", Duration.ofMinutes(2)));
+
+        Authentication first = authenticate("token-a");
+        Authentication second = authenticate("token-a");
+
+        verify(jwtDecoder, times(1)).decode("token-a");
+        assertThat(second).isInstanceOf(JwtAuthenticationToken.class);
+        assertThat(second.getName()).isEqualTo("john@example.com");
+        assertThat(second.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_member", "ROLE_USER");
+        assertThat(((JwtAuthenticationToken) second).getToken()).isSameAs(((JwtAuthenticationToken) first).getToken());
+        assertThat(((ScopedJwtAuthenticationToken) second).getScopeMask())
+                .isEqualTo(((ScopedJwtAuthenticationToken) first).getScopeMask())
+                .isEqualTo(ScopeRegistry.maskOf(List.of(
+                        "ef:members:read:own", "ef:members:write:own", "ef:members:delete:own")));
+        assertThat(second.isAuthenticated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should give each request its own authentication and details")
+    void shouldNotShareAuthenticationInstances() {
+        when(jwtDecoder.decode("token-a")).thenReturn(jwt("token-a", Duration.ofMinutes(2)));
+
+        Authentication first = authenticate("token-a");
+        first.setAuthenticated(false);
+        BearerTokenAuthenticationToken bearer = new BearerTokenAuthenticationToken("token-a");
+        bearer.setDetails("other-request");
+        Authentication second = manager.authenticate(bearer);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.isAuthenticated()).isTrue();
+        assertThat(second.getDetails()).isEqualTo("other-request");
+    }
+
+    @Test
+    @DisplayName("should verify distinct tokens separately")
+    void shouldVerifyDistinctTokens() {
+        when(jwtDecoder.decode("token-a")).thenReturn(jwt("token-a", Duration.ofMinutes(2)));
+        when(jwtDecoder.decode("token-b")).thenReturn(jwt("token-b", Duration.ofMinutes(2)));
+
+        authenticate("token-a");
+        authenticate("token-b");
+
+        verify(jwtDecoder).decode("token-a");
+        verify(jwtDecoder).decode("token-b");
+    }
+
+    @Test
+    @DisplayName("should expire an entry when its token expires")
+    void shouldExpireAtTokenExpiry() {
+        when(jwtDecoder.decode("token-a")).thenReturn(jwt("token-a", Duration.ofSeconds(30)));
+        authenticate("token-a");
+
+        advance(Duration.ofSeconds(29));
+        authenticate("token-a");
+        verify(jwtDecoder, times(1)).decode("token-a");
+
+        advance(Duration.ofSeconds(2));
+        authenticate("token-a");
+        verify(jwtDecoder, times(2)).decode("token-a");
+    }
+
+    @Test
+    @DisplayName("should not keep a long-lived token beyond max-ttl")
+    void shouldCapEntriesAtMaxTtl() {
+        when(jwtDecoder.decode("token-a")).thenReturn(jwt("token-a", Duration.ofHours(1)));
+        authenticate("token-a");
+
+        advance(MAX_TTL.plusSeconds(1));
+        authenticate("token-a");
+
+        verify(jwtDecoder, times(2)).decode("token-a");
+    }
+
+    @Test
+    @DisplayName("should reject an invalid token and verify it again on the next request")
+    void shouldNotCacheInvalidTokens() {
+        when(jwtDecoder.decode("bad")).thenThrow(new BadJwtException("Signed JWT rejected"));
+
+        assertThatThrownBy(() -> authenticate("bad")).isInstanceOf(InvalidBearerTokenException.class)
+                .hasMessage("Signed JWT rejected");
+        assertThatThrownBy(() -> authenticate("bad")).isInstanceOf(InvalidBearerTokenException.class);
+
+        verify(jwtDecoder, times(2)).decode("bad");
+    }
+
+    @Test
+    @DisplayName("should report a decoder failure as an authentication service error")
+    void shouldTranslateDecoderFailure() {
+        when(jwtDecoder.decode("token-a")).thenThrow(new JwtException("JWKS unavailable"));
+
+        assertThatThrownBy(() -> authenticate("token-a")).isInstanceOf(AuthenticationServiceException.class)
+                .hasMessage("JWKS unavailable");
+    }
+
+    @Test
+    @DisplayName("should verify every request when the cache is disabled")
+    void shouldVerifyEveryRequestWhenDisabled() {
+        meterRegistry = new SimpleMeterRegistry();
+        manager = createManager(false);
+        when(jwtDecoder.decode("token-a")).thenReturn(jwt("token-a", Duration.ofMinutes(2)));
+
+        authenticate("token-a");
+        authenticate("token-a");
+
+        verify(jwtDecoder, times(2)).decode("token-a");
+        assertThat(meterRegistry.find("cache.gets").meters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should publish hit and miss counts")
+    void shouldPublishCacheMetrics() {
+        when(jwtDecoder.decode("token-a")).thenReturn(jwt("token-a", Duration.ofMinutes(2)));
+
+        authenticate("token-a");
+        authenticate("token-a");
+        authenticate("token-a");
+
+        assertThat(gets("hit")).isEqualTo(2);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", CachingJwtAuthenticationManager.CACHE_NAME, "result", result)
+                .functionCounter().count();
+    }
+}
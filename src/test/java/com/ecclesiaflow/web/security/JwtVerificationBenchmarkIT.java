@@ -0,0 +1,109 @@
+package com.ecclesiaflow.web.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput of bearer-token authentication (RS256 signature check by the Nimbus decoder,
+ * then role extraction) with and without the verified-token cache.
+ *
+ * <p>Each simulated client reuses its token for the whole run, as mobile clients do
+ * between refreshes. Runs on its own, without Keycloak:</p>
+ * <pre>
+ * mvn verify -Dit.test=JwtVerificationBenchmarkIT -Dbenchmark.jwt=true \
+ *     [-Dbenchmark.clients=200] [-Dbenchmark.requests=200000]
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark.jwt", matches = "true")
+class JwtVerificationBenchmarkIT {
+
+    private final int clients = Integer.getInteger("benchmark.clients", 200);
+    private final int requests = Integer.getInteger("benchmark.requests", 200_000);
+
+    private NimbusJwtDecoder decoder;
+    private List<String> tokens;
+
+    @BeforeEach
+    void signTokens() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        decoder = NimbusJwtDecoder.withPublicKey((RSAPublicKey) keyPair.getPublic()).build();
+
+        RSASSASigner signer = new RSASSASigner(keyPair.getPrivate());
+        tokens = IntStream.range(0, clients)
+                .mapToObj(i -> sign(signer))
+                .toList();
+    }
+
+    @Test
+    void cachedVerificationShouldOutperformVerifyingEveryRequest() {
+        double uncached = requestsPerSecond(false);
+        double cached = requestsPerSecond(true);
+
+        System.out.printf("%d requests over %d tokens: uncached %.0f req/s, cached %.0f req/s (x%.1f)%n",
+                requests, clients, uncached, cached, cached / uncached);
+        assertThat(cached).isGreaterThan(uncached);
+    }
+
+    private double requestsPerSecond(boolean cacheEnabled) {
+        CachingJwtAuthenticationManager manager = new CachingJwtAuthenticationManager(decoder,
+                new KeycloakJwtConverter(), cacheEnabled, 10_000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
+        // Warm-up: JIT, and for the cached run one miss per token
+        authenticate(manager, Math.min(requests, 10_000));
+
+        long start = System.nanoTime();
+        authenticate(manager, requests);
+        return requests / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private void authenticate(CachingJwtAuthenticationManager manager, int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(manager.authenticate(new BearerTokenAuthenticationToken(tokens.get(i % clients)))
+                    .isAuthenticated()).isTrue();
+        }
+    }
+
+    private static String sign(RSASSASigner signer) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject(UUID.randomUUID().toString())
+                .claim("email", UUID.randomUUID() + "@example.com")
+                .claim("scope", "openid ef:members:read:own ef:members:write:own")
+                .claim("realm_access", Map.of("roles", List.of("member", "offline_access")))
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(Duration.ofMinutes(15))))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+        return jwt.serialize();
+    }
+}
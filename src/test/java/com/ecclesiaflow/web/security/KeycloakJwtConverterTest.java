@@ -1,5 +1,6 @@
 package com.ecclesiaflow.web.security;
 
+import com.ecclesiaflow.business.security.ScopeRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -182,6 +183,36 @@ class KeycloakJwtConverterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Scope mask resolution")
+    class ScopeMaskResolution {
+
+        @Test
+        @DisplayName("should merge scope claim and role-derived scopes into one mask")
+        void shouldMergeScopeClaimAndRoleScopes() {
+            Jwt jwt = buildJwt(Map.of(
+                    "scope", "openid profile ef:members:read:all",
+                    "realm_access", Map.of("roles", List.of("USER"))
+            ));
+
+            ScopedJwtAuthenticationToken token = converter.convert(jwt);
+
+            assertThat(ScopeRegistry.namesOf(token.getScopeMask())).containsExactly(
+                    "ef:members:read:own", "ef:members:read:all",
+                    "ef:members:write:own", "ef:members:delete:own");
+        }
+
+        @Test
+        @DisplayName("should resolve an empty mask without scopes or known roles")
+        void shouldResolveEmptyMask() {
+            Jwt jwt = buildJwt(Map.of("scope", "openid email", "roles", List.of("offline_access")));
+
+            ScopedJwtAuthenticationToken token = converter.convert(jwt);
+
+            assertThat(token.getScopeMask()).isZero();
+        }
+    }
+
     private Collection<String> authorityStrings(AbstractAuthenticationToken token) {
         return token.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
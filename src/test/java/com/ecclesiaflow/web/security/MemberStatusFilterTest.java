@@ -1,6 +1,5 @@
 package com.ecclesiaflow.web.security;
 
-import com.ecclesiaflow.business.domain.member.Member;
 import com.ecclesiaflow.business.domain.member.MemberRepository;
 import com.ecclesiaflow.business.domain.member.MemberStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -25,7 +24,6 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -80,12 +78,7 @@ class MemberStatusFilterTest {
         setUpJwtAuthentication(keycloakUserId);
         request.setRequestURI("/ecclesiaflow/members/me");
 
-        Member member = Member.builder()
-            .memberId(UUID.randomUUID())
-            .status(MemberStatus.ACTIVE)
-            .keycloakUserId(keycloakUserId)
-            .build();
-        when(memberRepository.getByKeycloakUserId(keycloakUserId)).thenReturn(Optional.of(member));
+        when(memberRepository.getStatusByKeycloakUserId(keycloakUserId)).thenReturn(Optional.of(MemberStatus.ACTIVE));
 
         filter.doFilterInternal(request, response, filterChain);
 
@@ -100,12 +93,7 @@ class MemberStatusFilterTest {
         setUpJwtAuthentication(keycloakUserId);
         request.setRequestURI("/ecclesiaflow/members/me");
 
-        Member member = Member.builder()
-            .memberId(UUID.randomUUID())
-            .status(MemberStatus.CONFIRMED)
-            .keycloakUserId(keycloakUserId)
-            .build();
-        when(memberRepository.getByKeycloakUserId(keycloakUserId)).thenReturn(Optional.of(member));
+        when(memberRepository.getStatusByKeycloakUserId(keycloakUserId)).thenReturn(Optional.of(MemberStatus.CONFIRMED));
 
         filter.doFilterInternal(request, response, filterChain);
 
@@ -119,12 +107,7 @@ class MemberStatusFilterTest {
         setUpJwtAuthentication(keycloakUserId);
         request.setRequestURI("/ecclesiaflow/members/me");
 
-        Member member = Member.builder()
-            .memberId(UUID.randomUUID())
-            .status(MemberStatus.PENDING)
-            .keycloakUserId(keycloakUserId)
-            .build();
-        when(memberRepository.getByKeycloakUserId(keycloakUserId)).thenReturn(Optional.of(member));
+        when(memberRepository.getStatusByKeycloakUserId(keycloakUserId)).thenReturn(Optional.of(MemberStatus.PENDING));
 
         filter.doFilterInternal(request, response, filterChain);
 
@@ -138,7 +121,7 @@ class MemberStatusFilterTest {
         setUpJwtAuthentication(keycloakUserId);
         request.setRequestURI("/ecclesiaflow/members/me");
 
-        when(memberRepository.getByKeycloakUserId(keycloakUserId)).thenReturn(Optional.empty());
+        when(memberRepository.getStatusByKeycloakUserId(keycloakUserId)).thenReturn(Optional.empty());
 
         filter.doFilterInternal(request, response, filterChain);
 
@@ -154,12 +137,7 @@ class MemberStatusFilterTest {
         setUpJwtAuthentication(keycloakUserId);
         request.setRequestURI("/ecclesiaflow/members/me");
 
-        Member member = Member.builder()
-            .memberId(UUID.randomUUID())
-            .status(MemberStatus.DEACTIVATED)
-            .keycloakUserId(keycloakUserId)
-            .build();
-        when(memberRepository.getByKeycloakUserId(keycloakUserId)).thenReturn(Optional.of(member));
+        when(memberRepository.getStatusByKeycloakUserId(keycloakUserId)).thenReturn(Optional.of(MemberStatus.DEACTIVATED));
 
         filter.doFilterInternal(request, response, filterChain);
 
@@ -181,12 +159,7 @@ class MemberStatusFilterTest {
         setUpJwtAuthentication(keycloakUserId);
         request.setRequestURI("/ecclesiaflow/members/me");
 
-        Member member = Member.builder()
-            .memberId(UUID.randomUUID())
-            .status(MemberStatus.SUSPENDED)
-            .keycloakUserId(keycloakUserId)
-            .build();
-        when(memberRepository.getByKeycloakUserId(keycloakUserId)).thenReturn(Optional.of(member));
+        when(memberRepository.getStatusByKeycloakUserId(keycloakUserId)).thenReturn(Optional.of(MemberStatus.SUSPENDED));
 
         filter.doFilterInternal(request, response, filterChain);
 
@@ -203,12 +176,7 @@ class MemberStatusFilterTest {
         setUpJwtAuthentication(keycloakUserId);
         request.setRequestURI("/ecclesiaflow/members/me");
 
-        Member member = Member.builder()
-            .memberId(UUID.randomUUID())
-            .status(MemberStatus.INACTIVE)
-            .keycloakUserId(keycloakUserId)
-            .build();
-        when(memberRepository.getByKeycloakUserId(keycloakUserId)).thenReturn(Optional.of(member));
+        when(memberRepository.getStatusByKeycloakUserId(keycloakUserId)).thenReturn(Optional.of(MemberStatus.INACTIVE));
 
         filter.doFilterInternal(request, response, filterChain);
 
@@ -218,6 +186,23 @@ class MemberStatusFilterTest {
         assertThat(body).contains("\"errorCode\":\"ACCOUNT_INACTIVE\"");
     }
 
+    @Test
+    @DisplayName("Should block DELETING member with 403 and ACCOUNT_DELETING errorCode")
+    void doFilter_WhenMemberIsBeingDeleted_ShouldReturn403() throws ServletException, IOException {
+        String keycloakUserId = "kc-deleting";
+        setUpJwtAuthentication(keycloakUserId);
+        request.setRequestURI("/ecclesiaflow/members/me");
+
+        when(memberRepository.getStatusByKeycloakUserId(keycloakUserId)).thenReturn(Optional.of(MemberStatus.DELETING));
+
+        filter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain, never()).doFilter(any(), any());
+        assertThat(response.getStatus()).isEqualTo(403);
+        String body = response.getContentAsString();
+        assertThat(body).contains("\"errorCode\":\"ACCOUNT_DELETING\"");
+    }
+
     // === SHOULDNOTFILTER TESTS ===
 
     @ParameterizedTest
@@ -0,0 +1,264 @@
+package com.ecclesiaflow.web.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PrefetchingJwkSource - JWKS prefetch and background refresh")
+class PrefetchingJwkSourceTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(500);
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile String jwksBody;
+    private volatile int status = 200;
+    private volatile long delayMillis;
+
+    private HttpServer keycloak;
+    private SimpleMeterRegistry meterRegistry;
+    private RSAKey key1;
+    private RSAKey key2;
+
+    @BeforeEach
+    void startKeycloakStandIn() throws Exception {
+        key1 = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        key2 = new RSAKeyGenerator(2048).keyID("key-2").generate();
+        jwksBody = new JWKSet(key1.toPublicJWK()).toString();
+
+        keycloak = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        keycloak.createContext("/certs", exchange -> {
+            requests.incrementAndGet();
+            sleep(delayMillis);
+            byte[] body = jwksBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        keycloak.start();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void stopKeycloakStandIn() {
+        keycloak.stop(0);
+    }
+
+    private PrefetchingJwkSource createSource(Duration minRefreshInterval) {
+        String uri = "http://127.0.0.1:" + keycloak.getAddress().getPort() + "/certs";
+        return new PrefetchingJwkSource(uri, minRefreshInterval, TIMEOUT, TIMEOUT, meterRegistry, Clock.systemUTC());
+    }
+
+    private static JWKSelector byKeyId(String kid) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(kid).build());
+    }
+
+    @Test
+    @DisplayName("should load the key set at startup and serve it without further requests")
+    void shouldPrefetchAtStartup() throws Exception {
+        PrefetchingJwkSource source = createSource(Duration.ZERO);
+
+        source.run(null);
+
+        assertThat(source.isLoaded()).isTrue();
+        assertThat(source.get(byKeyId("key-1"), null)).hasSize(1);
+        assertThat(source.get(byKeyId("key-1"), null)).hasSize(1);
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(refreshCount("success")).isEqualTo(1);
+        assertThat(meterRegistry.get("ecclesiaflow.jwks.age").gauge().value()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("should keep serving the last key set while Keycloak fails")
+    void shouldServeLastGoodSetWhenRefreshFails() throws Exception {
+        PrefetchingJwkSource source = createSource(Duration.ZERO);
+        source.run(null);
+        status = 503;
+
+        boolean refreshed = source.refresh();
+
+        assertThat(refreshed).isFalse();
+        assertThat(source.get(byKeyId("key-1"), null)).hasSize(1);
+        assertThat(refreshCount("failure")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should give up on a slow Keycloak after the read timeout and keep the last key set")
+    void shouldBoundSlowRefresh() throws Exception {
+        PrefetchingJwkSource source = createSource(Duration.ZERO);
+        source.run(null);
+        delayMillis = TIMEOUT.toMillis() * 3;
+
+        long start = System.nanoTime();
+        boolean refreshed = source.refresh();
+
+        assertThat(refreshed).isFalse();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(delayMillis));
+        assertThat(source.get(byKeyId("key-1"), null)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should pick up rotated keys on the background refresh")
+    void shouldPickUpRotatedKeysOnRefresh() throws Exception {
+        PrefetchingJwkSource source = createSource(Duration.ofHours(1));
+        source.run(null);
+        jwksBody = new JWKSet(List.of(key1.toPublicJWK(), key2.toPublicJWK())).toString();
+
+        source.refresh();
+
+        assertThat(source.get(byKeyId("key-2"), null)).hasSize(1);
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should reload once when a token uses an unknown key id")
+    void shouldReloadOnUnknownKeyId() throws Exception {
+        PrefetchingJwkSource source = createSource(Duration.ZERO);
+        source.run(null);
+        jwksBody = new JWKSet(key2.toPublicJWK()).toString();
+
+        assertThat(source.get(byKeyId("key-2"), null)).hasSize(1);
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should not reload on unknown key ids more often than min-refresh-interval")
+    void shouldThrottleReloadsOnUnknownKeyId() throws Exception {
+        PrefetchingJwkSource source = createSource(Duration.ofHours(1));
+        source.run(null);
+
+        assertThat(source.get(byKeyId("forged"), null)).isEmpty();
+        assertThat(source.get(byKeyId("forged"), null)).isEmpty();
+
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should fail and report DOWN until a key set has been loaded")
+    void shouldReportNotReadyUntilLoaded() throws Exception {
+        status = 500;
+        PrefetchingJwkSource source = createSource(Duration.ZERO);
+        JwtDecoderConfig config = new JwtDecoderConfig();
+
+        source.run(null);
+
+        assertThat(source.isLoaded()).isFalse();
+        assertThat(config.jwksHealthIndicator(source).health().getStatus()).isEqualTo(Status.DOWN);
+        assertThatThrownBy(() -> source.get(byKeyId("key-1"), null)).isInstanceOf(KeySourceException.class);
+
+        status = 200;
+        assertThat(source.refresh()).isTrue();
+        assertThat(config.jwksHealthIndicator(source).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("should publish the key set and its load time together")
+    void shouldNeverReportLoadedWithoutLoadTime() {
+        String uri = "http://127.0.0.1:" + keycloak.getAddress().getPort() + "/certs";
+        List<Status> probes = new ArrayList<>();
+        JwtDecoderConfig config = new JwtDecoderConfig();
+        PrefetchingJwkSource[] holder = new PrefetchingJwkSource[1];
+        // Probes the health indicator each time the source reads the clock, including mid-load
+        Clock probingClock = new Clock() {
+            @Override
+            public Instant instant() {
+                if (holder[0] != null) {
+                    probes.add(config.jwksHealthIndicator(holder[0]).health().getStatus());
+                }
+                return Instant.now();
+            }
+
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+        };
+        holder[0] = new PrefetchingJwkSource(uri, Duration.ZERO, TIMEOUT, TIMEOUT, meterRegistry, probingClock);
+
+        holder[0].run(null);
+
+        assertThat(probes).isNotEmpty().containsOnly(Status.DOWN);
+        assertThat(config.jwksHealthIndicator(holder[0]).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("should verify tokens through the configured decoder")
+    void shouldDecodeTokensWithPrefetchedKeys() throws Exception {
+        PrefetchingJwkSource source = createSource(Duration.ZERO);
+        source.run(null);
+        JwtDecoder decoder = new JwtDecoderConfig().jwtDecoder(source, new OAuth2ResourceServerProperties());
+
+        Jwt jwt = decoder.decode(sign(key1, "kc-123"));
+
+        assertThat(jwt.getSubject()).isEqualTo("kc-123");
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    private double refreshCount(String outcome) {
+        return meterRegistry.get("ecclesiaflow.jwks.refresh").tag("outcome", outcome).timer().count();
+    }
+
+    private static String sign(RSAKey key, String subject) throws JOSEException {
+        Instant now = Instant.now();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+                new JWTClaimsSet.Builder()
+                        .subject(subject)
+                        .issueTime(Date.from(now))
+                        .expirationTime(Date.from(now.plusSeconds(300)))
+                        .build());
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+
+    private static void sleep(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+}